@@ -3,6 +3,8 @@
 -- 기존 테이블 삭제 (재실행 시 초기화)
 DROP TABLE IF EXISTS popular_products;
 DROP TABLE IF EXISTS external_integration_logs;
+DROP TABLE IF EXISTS point_balance_snapshots;
+DROP TABLE IF EXISTS point_ledger;
 DROP TABLE IF EXISTS point_histories;
 DROP TABLE IF EXISTS user_coupons;
 DROP TABLE IF EXISTS coupons;
@@ -36,12 +38,17 @@ CREATE TABLE products (
     description TEXT COMMENT '상품 설명',
     price DECIMAL(15,2) NOT NULL COMMENT '기본 상품 가격',
     image_url VARCHAR(500) COMMENT '이미지 URL',
+    sales_count BIGINT NOT NULL DEFAULT 0 COMMENT '누적 판매량',
     is_exposed TINYINT(1) NOT NULL DEFAULT 1 COMMENT '노출 여부 (1: 노출, 0: 비노출)',
     is_deleted TINYINT(1) NOT NULL DEFAULT 0 COMMENT '삭제 여부',
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    INDEX idx_exposed_deleted_category (is_exposed, is_deleted, category),
-    INDEX idx_exposed_deleted_created (is_exposed, is_deleted, created_at)
+    INDEX idx_exposed_deleted_category_latest (is_exposed, is_deleted, category, created_at, id),
+    INDEX idx_exposed_deleted_latest (is_exposed, is_deleted, created_at, id),
+    INDEX idx_exposed_deleted_price (is_exposed, is_deleted, price, id),
+    INDEX idx_exposed_deleted_sales (is_exposed, is_deleted, sales_count, id),
+    INDEX idx_exposed_deleted_category_price (is_exposed, is_deleted, category, price, id),
+    INDEX idx_exposed_deleted_category_sales (is_exposed, is_deleted, category, sales_count, id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='상품 기본 정보';
 
 -- 상품 옵션 테이블
@@ -63,8 +70,11 @@ CREATE TABLE product_options (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='상품 옵션 및 재고';
 
 -- 재고 이력 테이블
+-- created_at 월 단위 RANGE 파티션 (StockHistoryPartitionScheduler가 앞으로의 파티션 추가 / 보관 기간 지난 파티션 삭제)
+-- 파티션 테이블은 외래키를 지원하지 않고, PK에 파티션 키가 포함되어야 한다.
+-- 적재 위주 테이블이므로 보조 인덱스는 옵션별 기간 조회용 하나만 둔다.
 CREATE TABLE stock_histories (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '재고 이력 고유 ID',
+    id BIGINT AUTO_INCREMENT COMMENT '재고 이력 고유 ID',
     product_option_id BIGINT NOT NULL COMMENT '상품 옵션 ID',
     amount INT NOT NULL COMMENT '수량',
     adjustment_type VARCHAR(20) NOT NULL COMMENT '재고 조정 타입: ADD(추가), USE(사용)',
@@ -72,12 +82,15 @@ CREATE TABLE stock_histories (
     description VARCHAR(200) COMMENT '설명',
     updated_by BIGINT NOT NULL COMMENT '수정자 ID',
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (product_option_id) REFERENCES product_options(id),
-    INDEX idx_option_created (product_option_id, created_at),
-    INDEX idx_option_type_created (product_option_id, adjustment_type, created_at),
-    INDEX idx_option_updater_created (product_option_id, updated_by, created_at),
-    INDEX idx_created_at (created_at)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='재고 이력';
+    PRIMARY KEY (id, created_at),
+    INDEX idx_option_created (product_option_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='재고 이력'
+PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
 
 -- 재고 예약 테이블
 CREATE TABLE stock_reservations (
@@ -207,6 +220,31 @@ CREATE TABLE point_histories (
     INDEX idx_user_type_created (user_id, transaction_type, created_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='포인트 이력';
 
+-- 포인트 원장 테이블 (append-only, 사용자별 순번으로 INSERT만 수행)
+-- users 행 공유 락을 피하기 위해 외래키를 두지 않는다
+CREATE TABLE point_ledger (
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    seq BIGINT NOT NULL COMMENT '사용자별 원장 순번 (1부터)',
+    transaction_type VARCHAR(20) NOT NULL COMMENT '거래 타입: CHARGE(충전), USE(사용)',
+    amount DECIMAL(15,2) NOT NULL COMMENT '거래 금액',
+    balance_after DECIMAL(15,2) NOT NULL COMMENT '거래 후 잔액',
+    order_id BIGINT COMMENT '연결된 주문 ID',
+    description VARCHAR(200) COMMENT '설명',
+    ledger_ref VARCHAR(40) UNIQUE COMMENT 'Redis 포인트 원장 레코드 ID (중복 반영 방지)',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, seq),
+    INDEX idx_ledger_user_type_seq (user_id, transaction_type, seq)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='포인트 원장';
+
+-- 포인트 잔액 스냅샷 테이블 (seq 시점까지의 누적 잔액, seq 0은 기존 users.point_balance)
+CREATE TABLE point_balance_snapshots (
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    seq BIGINT NOT NULL COMMENT '스냅샷 기준 원장 순번',
+    balance DECIMAL(15,2) NOT NULL COMMENT 'seq 시점 잔액',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, seq)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='포인트 잔액 스냅샷';
+
 -- 외부 시스템 연동 로그 테이블
 CREATE TABLE external_integration_logs (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '로그 고유 ID',
@@ -236,3 +274,9 @@ CREATE TABLE popular_products (
     INDEX idx_product_id (product_id),
     INDEX idx_calculation_date (calculation_date)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='인기 상품 통계';
+
+-- 누적 판매량 반영 배치 테이블 (ProductSalesFlushScheduler 재처리 시 중복 반영 방지)
+CREATE TABLE product_sales_flush_batches (
+    batch_id VARCHAR(36) NOT NULL PRIMARY KEY COMMENT '반영 배치 ID (Redis processing 키 단위)',
+    applied_at DATETIME NOT NULL COMMENT '반영 일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='누적 판매량 반영 배치';
@@ -0,0 +1,43 @@
+package hhplus.ecommerce.cart.application.dto;
+
+import hhplus.ecommerce.cart.domain.model.Cart;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장바구니 가격 스냅샷 (Application Layer DTO)
+ * 장바구니 조회 시 계산한 단가를 가격 버전과 함께 보관하여 주문 생성 시 재사용한다.
+ *
+ * @param priceVersion 스냅샷 생성 시점의 상품 가격 버전
+ * @param items 가격이 계산된 장바구니 항목
+ */
+public record CartPriceSnapshot(long priceVersion, List<Item> items) {
+
+    public record Item(Long productId, Long productOptionId, String productName,
+                       String optionName, int quantity, BigDecimal unitPrice) {
+    }
+
+    /**
+     * 현재 장바구니와 옵션/수량이 모두 일치하는지 확인
+     */
+    public boolean matches(List<Cart> carts) {
+        if (carts.size() != items.size()) {
+            return false;
+        }
+
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (Item item : items) {
+            quantities.put(item.productOptionId(), item.quantity());
+        }
+        for (Cart cart : carts) {
+            Integer quantity = quantities.get(cart.getProductOptionId());
+            if (quantity == null || quantity != cart.getQuantity()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
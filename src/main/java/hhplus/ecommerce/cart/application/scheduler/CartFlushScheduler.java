@@ -0,0 +1,99 @@
+package hhplus.ecommerce.cart.application.scheduler;
+
+import hhplus.ecommerce.cart.application.service.CartService;
+import hhplus.ecommerce.cart.application.service.RedisCartStore;
+import hhplus.ecommerce.cart.domain.model.Cart;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 장바구니 write-behind 스케줄러
+ *
+ * cart:dirty 에 등록된 사용자의 장바구니를 batch-size 단위로 꺼내 한 트랜잭션으로 MySQL에 반영한다.
+ * 반영 중 들어온 쓰기는 dirty에 다시 등록되므로 다음 주기에 반영된다.
+ *
+ * - 분산 락으로 한 번에 한 노드만 반영한다. (노드 간 스냅샷 반영 순서가 뒤바뀌어 오래된 스냅샷이 덮어쓰는 것 방지)
+ * - 꺼낸 사용자는 MySQL 반영 후 ack 하므로, 반영 도중 프로세스가 죽어도 다음 주기에 다시 반영된다.
+ */
+@Slf4j
+@Component
+public class CartFlushScheduler {
+
+    private static final String FLUSH_LOCK_KEY = "lock:cart:flush";
+
+    private final RedisCartStore redisCartStore;
+    private final CartService cartService;
+    private final RedissonClient redissonClient;
+    private final int batchSize;
+
+    public CartFlushScheduler(RedisCartStore redisCartStore,
+                              CartService cartService,
+                              RedissonClient redissonClient,
+                              @Value("${cart.redis-store.flush-batch-size:100}") int batchSize) {
+        this.redisCartStore = redisCartStore;
+        this.cartService = cartService;
+        this.redissonClient = redissonClient;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${cart.redis-store.flush-interval-ms:1000}")
+    public void flush() {
+        if (!redisCartStore.isEnabled()) {
+            return;
+        }
+
+        // 다른 노드가 반영 중이면 이번 주기는 건너뜀 (락 보유 중에는 watchdog이 만료를 연장)
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            flushBatch();
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void flushBatch() {
+        List<Long> userIds = redisCartStore.claimDirtyUserIds(batchSize);
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<Long, Integer>> quantitiesByUser = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            Map<Long, Integer> quantities = redisCartStore.getQuantitySnapshot(userId);
+            if (quantities == null) {
+                log.warn("장바구니 Redis 데이터 만료로 MySQL 반영 생략. userId={}", userId);
+                continue;
+            }
+            quantitiesByUser.put(userId, quantities);
+        }
+
+        try {
+            List<Cart> savedCarts = cartService.syncCarts(quantitiesByUser);
+
+            // 신규 저장된 cartId를 Redis에 기록 (수정/삭제 API에서 사용)
+            savedCarts.stream()
+                    .collect(Collectors.groupingBy(Cart::getUserId))
+                    .forEach(redisCartStore::saveCartIds);
+
+            redisCartStore.ackDirtyUserIds(userIds);
+            log.debug("장바구니 MySQL 반영 완료. users={}, saved={}", quantitiesByUser.size(), savedCarts.size());
+        } catch (Exception e) {
+            redisCartStore.requeueDirtyUserIds(userIds);
+            log.error("장바구니 MySQL 반영 실패. users={}", quantitiesByUser.keySet(), e);
+        }
+    }
+}
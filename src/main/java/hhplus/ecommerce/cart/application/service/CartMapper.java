@@ -1,8 +1,10 @@
 package hhplus.ecommerce.cart.application.service;
 
+import hhplus.ecommerce.cart.application.dto.CartPriceSnapshot;
 import hhplus.ecommerce.cart.domain.model.Cart;
 import hhplus.ecommerce.cart.presentation.dto.response.CartItemResponse;
 import hhplus.ecommerce.cart.presentation.dto.response.CartResponse;
+import hhplus.ecommerce.product.application.service.ProductPriceVersion;
 import hhplus.ecommerce.product.domain.model.Product;
 import hhplus.ecommerce.product.domain.model.ProductOption;
 import hhplus.ecommerce.product.domain.repository.ProductOptionRepository;
@@ -10,32 +12,111 @@ import hhplus.ecommerce.product.domain.repository.ProductRepository;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Cart 관련 Entity와 DTO 간 변환
  * 실시간 가격 및 재고 상태 반영
+ *
+ * 장바구니 항목 수와 관계없이 옵션/상품을 각각 IN 쿼리 1회로 일괄 조회한다. (항목당 2회 조회 → 총 2회)
+ * 장바구니 조회 시 계산한 단가는 가격 버전과 함께 스냅샷으로 저장하여 장바구니 주문에서 재사용한다.
  */
 @Component
 public class CartMapper {
 
     private final ProductOptionRepository productOptionRepository;
     private final ProductRepository productRepository;
+    private final ProductPriceVersion productPriceVersion;
+    private final CartPriceSnapshotStore cartPriceSnapshotStore;
 
     public CartMapper(ProductOptionRepository productOptionRepository,
-                      ProductRepository productRepository) {
+                      ProductRepository productRepository,
+                      ProductPriceVersion productPriceVersion,
+                      CartPriceSnapshotStore cartPriceSnapshotStore) {
         this.productOptionRepository = productOptionRepository;
         this.productRepository = productRepository;
+        this.productPriceVersion = productPriceVersion;
+        this.cartPriceSnapshotStore = cartPriceSnapshotStore;
     }
 
+    /**
+     * 단건 변환 (장바구니 추가/수정 응답)
+     * 목록 조회와 동일한 일괄 조립 경로를 사용한다.
+     */
     public CartItemResponse toCartItemResponse(Cart cart) {
-        ProductOption productOption = productOptionRepository.findById(cart.getProductOptionId())
-                .orElseThrow(() -> new RuntimeException("상품 옵션을 찾을 수 없습니다."));
+        return toCartItemResponses(List.of(cart)).get(0);
+    }
+
+    public CartResponse toCartResponse(List<Cart> carts) {
+        // 조회 전에 버전을 읽어 조회 도중 가격이 바뀌면 다음 주문에서 스냅샷이 버려지도록 한다
+        long priceVersion = productPriceVersion.current();
+        List<CartItemResponse> items = toCartItemResponses(carts);
+
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        List<CartPriceSnapshot.Item> snapshotItems = new ArrayList<>(items.size());
+        for (CartItemResponse item : items) {
+            totalAmount = totalAmount.add(item.getSubtotal());
+            snapshotItems.add(new CartPriceSnapshot.Item(
+                    item.getProductId(),
+                    item.getProductOptionId(),
+                    item.getProductName(),
+                    item.getOptionName(),
+                    item.getQuantity(),
+                    item.getSubtotal().divide(BigDecimal.valueOf(item.getQuantity())) // 소계 = 단가 × 수량
+            ));
+        }
+
+        if (!carts.isEmpty()) {
+            cartPriceSnapshotStore.save(carts.get(0).getUserId(), new CartPriceSnapshot(priceVersion, snapshotItems));
+        }
+
+        return new CartResponse(items, totalAmount, priceVersion);
+    }
+
+    private List<CartItemResponse> toCartItemResponses(List<Cart> carts) {
+        if (carts.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 옵션 일괄 조회
+        List<Long> productOptionIds = carts.stream()
+                .map(Cart::getProductOptionId)
+                .distinct()
+                .toList();
+        Map<Long, ProductOption> optionMap = productOptionRepository.findAllById(productOptionIds).stream()
+                .collect(Collectors.toMap(ProductOption::getProductOptionId, Function.identity()));
+
+        // 2. 상품 일괄 조회
+        List<Long> productIds = optionMap.values().stream()
+                .map(ProductOption::getProductId)
+                .distinct()
+                .toList();
+        Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
 
-        Product product = productRepository.findById(productOption.getProductId())
-                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다."));
+        // 3. 조립
+        List<CartItemResponse> items = new ArrayList<>(carts.size());
+        for (Cart cart : carts) {
+            ProductOption productOption = optionMap.get(cart.getProductOptionId());
+            if (productOption == null) {
+                throw new RuntimeException("상품 옵션을 찾을 수 없습니다.");
+            }
 
+            Product product = productMap.get(productOption.getProductId());
+            if (product == null) {
+                throw new RuntimeException("상품을 찾을 수 없습니다.");
+            }
+
+            items.add(toCartItemResponse(cart, product, productOption));
+        }
+        return items;
+    }
+
+    private CartItemResponse toCartItemResponse(Cart cart, Product product, ProductOption productOption) {
         BigDecimal subtotal = (product.getPrice().add(productOption.getPriceAdjustment())).multiply(BigDecimal.valueOf(cart.getQuantity()));
 
         return new CartItemResponse(
@@ -50,17 +131,4 @@ public class CartMapper {
                 productOption.isSoldOut()
         );
     }
-
-    public CartResponse toCartResponse(List<Cart> carts) {
-        List<CartItemResponse> items = carts.stream()
-                .map(this::toCartItemResponse)
-                .collect(Collectors.toList());
-
-        BigDecimal totalAmount = items.stream()
-                .map(c -> c.getSubtotal())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return new CartResponse(items, totalAmount);
-    }
 }
-
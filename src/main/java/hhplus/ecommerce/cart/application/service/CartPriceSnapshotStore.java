@@ -0,0 +1,69 @@
+package hhplus.ecommerce.cart.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hhplus.ecommerce.cart.application.dto.CartPriceSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장바구니 가격 스냅샷 저장소
+ * key: cart:priced:{userId} (JSON)
+ */
+@Slf4j
+@Component
+public class CartPriceSnapshotStore {
+
+    public static final String CART_PRICED_KEY_PREFIX = "cart:priced:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlSeconds;
+
+    public CartPriceSnapshotStore(RedisTemplate<String, String> redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${cart.price-snapshot.ttl-seconds:1800}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public void save(Long userId, CartPriceSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(
+                    CART_PRICED_KEY_PREFIX + userId,
+                    objectMapper.writeValueAsString(snapshot),
+                    ttlSeconds,
+                    TimeUnit.SECONDS
+            );
+        } catch (Exception e) {
+            // 스냅샷은 최적화 용도이므로 실패해도 장바구니 조회는 계속 진행
+            log.warn("장바구니 가격 스냅샷 저장 실패. userId={}, exception={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 스냅샷 (없거나 읽을 수 없으면 null)
+     */
+    public CartPriceSnapshot find(Long userId) {
+        String json = redisTemplate.opsForValue().get(CART_PRICED_KEY_PREFIX + userId);
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(json, CartPriceSnapshot.class);
+        } catch (JsonProcessingException e) {
+            log.warn("장바구니 가격 스냅샷 역직렬화 실패. userId={}, exception={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void evict(Long userId) {
+        redisTemplate.delete(CART_PRICED_KEY_PREFIX + userId);
+    }
+}
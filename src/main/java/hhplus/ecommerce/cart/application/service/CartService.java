@@ -9,7 +9,10 @@ import hhplus.ecommerce.cart.domain.repository.CartRepository;
 import hhplus.ecommerce.product.domain.model.ProductOption;
 import hhplus.ecommerce.product.domain.repository.ProductOptionRepository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -17,11 +20,13 @@ import java.util.Optional;
 public class CartService {
     private final CartRepository cartRepository;
     private final ProductOptionRepository productOptionRepository;
+    private final RedisCartStore redisCartStore;
 
     /**
      * 장바구니 추가 (동일 옵션 시 수량 합산)
      *
      * @Transactional: 기존 항목 확인 + 수량 업데이트/신규 추가가 원자적으로 처리되어야 함 (읽기 후 쓰기)
+     * Redis 장바구니 사용 시 HINCRBY로 합산하고 MySQL 반영은 CartFlushScheduler에 위임
      */
     @Transactional
     public Cart addToCart(Long userId, Long productOptionId, Integer quantity) {
@@ -34,6 +39,10 @@ public class CartService {
             throw CartException.cartAddFailed("품절된 상품은 장바구니에 추가할 수 없습니다.");
         }
 
+        if (redisCartStore.isEnabled()) {
+            return redisCartStore.addQuantity(userId, productOptionId, quantity);
+        }
+
         // 기존 장바구니 항목 확인
         Optional<Cart> existingCart = cartRepository.findByUserIdAndProductOptionId(userId, productOptionId);
 
@@ -67,6 +76,36 @@ public class CartService {
             throw CartException.cartUpdateFailed(cartId, "수량은 1개 이상이어야 합니다.");
         }
 
+        if (redisCartStore.isEnabled()) {
+            // 영속 엔티티를 변경하지 않고 Redis에만 반영 (dirty checking UPDATE 방지)
+            redisCartStore.setQuantity(cart.getUserId(), cart.getProductOptionId(), quantity)
+                    .orElseThrow(() -> CartException.cartUpdateFailed(cartId, "장바구니에서 삭제된 항목입니다."));
+            return Cart.restore(cartId, cart.getUserId(), cart.getProductOptionId(), quantity);
+        }
+
+        cart.updateQuantity(quantity);
+        return cartRepository.save(cart);
+    }
+
+    /**
+     * 장바구니 수량 수정 (사용자 + 옵션 ID 기준)
+     * Redis 장바구니 사용 시 MySQL 반영 전(cartId 없음) 항목도 수정할 수 있다.
+     *
+     * @Transactional: Cart 조회 + 수량 변경 + 저장이 원자적으로 처리되어야 함
+     */
+    @Transactional
+    public Cart updateCartQuantityByOption(Long userId, Long productOptionId, Integer quantity) {
+        if (quantity < 1) {
+            throw CartException.invalidCartQuantity(quantity);
+        }
+
+        if (redisCartStore.isEnabled()) {
+            return redisCartStore.setQuantity(userId, productOptionId, quantity)
+                    .orElseThrow(() -> CartException.cartOptionNotFound(userId, productOptionId));
+        }
+
+        Cart cart = cartRepository.findByUserIdAndProductOptionId(userId, productOptionId)
+                .orElseThrow(() -> CartException.cartOptionNotFound(userId, productOptionId));
         cart.updateQuantity(quantity);
         return cartRepository.save(cart);
     }
@@ -75,6 +114,9 @@ public class CartService {
      * 장바구니 조회
      */
     public List<Cart> getCartItems(Long userId) {
+        if (redisCartStore.isEnabled()) {
+            return redisCartStore.getCartItems(userId);
+        }
         return cartRepository.findByUserId(userId);
     }
 
@@ -82,9 +124,15 @@ public class CartService {
      * 장바구니 항목 삭제
      */
     public void removeFromCart(Long cartId) {
-        if (cartRepository.findById(cartId).isEmpty()) {
+        Optional<Cart> cart = cartRepository.findById(cartId);
+        if (cart.isEmpty()) {
             throw CartException.cartItemNotFound(cartId);
         }
+
+        if (redisCartStore.isEnabled()) {
+            redisCartStore.remove(cart.get().getUserId(), cart.get().getProductOptionId());
+            return;
+        }
         cartRepository.deleteById(cartId);
     }
 
@@ -92,6 +140,70 @@ public class CartService {
      * 사용자의 특정 상품 전체 삭제
      */
     public void removeByUserIdAndProductId(Long userId, Long productId) {
+        if (redisCartStore.isEnabled()) {
+            redisCartStore.remove(userId, productId);
+            return;
+        }
         cartRepository.deleteByUserIdAndProductOptionId(userId, productId);
     }
+
+    /**
+     * 사용자 장바구니 비우기 (장바구니 주문 완료 후)
+     * MySQL은 단일 DELETE 문으로 삭제하고, Redis 장바구니는 비운 뒤 write-behind로 반영한다.
+     */
+    @Transactional
+    public void clearCart(Long userId) {
+        if (redisCartStore.isEnabled()) {
+            redisCartStore.clear(userId);
+            return;
+        }
+        cartRepository.bulkDeleteByUserId(userId);
+    }
+
+    /**
+     * Redis 장바구니 스냅샷을 MySQL에 일괄 반영 (write-behind)
+     * 사용자별 현재 행을 한 번에 조회한 뒤 수량 변경/신규 추가/삭제를 계산하여 반영한다.
+     *
+     * @param quantitiesByUser userId → (productOptionId → 수량)
+     * @return 저장(추가/수정)된 장바구니 아이템
+     */
+    @Transactional
+    public List<Cart> syncCarts(Map<Long, Map<Long, Integer>> quantitiesByUser) {
+        if (quantitiesByUser.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Map<Long, Cart>> existingByUser = new HashMap<>();
+        for (Cart cart : cartRepository.findByUserIdIn(quantitiesByUser.keySet())) {
+            existingByUser.computeIfAbsent(cart.getUserId(), k -> new HashMap<>())
+                    .put(cart.getProductOptionId(), cart);
+        }
+
+        List<Cart> toSave = new ArrayList<>();
+        List<Cart> toDelete = new ArrayList<>();
+        quantitiesByUser.forEach((userId, quantities) -> {
+            Map<Long, Cart> existing = existingByUser.getOrDefault(userId, new HashMap<>());
+
+            quantities.forEach((productOptionId, quantity) -> {
+                Cart cart = existing.remove(productOptionId);
+                if (quantity <= 0) {
+                    if (cart != null) {
+                        toDelete.add(cart);
+                    }
+                } else if (cart == null) {
+                    toSave.add(Cart.create(userId, productOptionId, quantity));
+                } else if (cart.getQuantity() != quantity) {
+                    cart.updateQuantity(quantity);
+                    toSave.add(cart);
+                }
+            });
+            // Redis에서 삭제된 항목
+            toDelete.addAll(existing.values());
+        });
+
+        if (!toDelete.isEmpty()) {
+            cartRepository.deleteAllInBatch(toDelete);
+        }
+        return cartRepository.saveAll(toSave);
+    }
 }
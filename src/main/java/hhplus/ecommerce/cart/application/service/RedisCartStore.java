@@ -0,0 +1,345 @@
+package hhplus.ecommerce.cart.application.service;
+
+import hhplus.ecommerce.cart.domain.model.Cart;
+import hhplus.ecommerce.cart.domain.repository.CartRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis Hash 기반 장바구니 저장소 (write-behind)
+ *
+ * key: cart:{userId}
+ * field: {productOptionId} → 수량, id:{productOptionId} → cartId (MySQL 반영 후 기록), _loaded → 적재 마커
+ *
+ * - 쓰기는 Redis에만 반영하고 userId를 cart:dirty Set에 등록한다. (CartFlushScheduler가 MySQL에 일괄 반영)
+ * - Hash가 없으면(최초 접근/만료) MySQL에서 1회 적재 후 처리한다.
+ * - 반영 대상은 cart:dirty → cart:dirty:processing 으로 옮겨 꺼내고, MySQL 반영 후 processing에서 제거(ack)한다.
+ *   반영 도중 프로세스가 죽으면 processing에 남은 사용자를 다음 주기에 먼저 다시 반영한다.
+ * - MySQL 반영 전에는 cartId가 없으므로(null) 수정/삭제는 사용자 + 옵션 ID 기준 API를 사용한다.
+ */
+@Slf4j
+@Component
+public class RedisCartStore {
+
+    public static final String CART_KEY_PREFIX = "cart:";
+    public static final String CART_DIRTY_KEY = "cart:dirty";
+    public static final String CART_DIRTY_PROCESSING_KEY = "cart:dirty:processing";
+
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String CART_ID_FIELD_PREFIX = "id:";
+    private static final long CART_MISS = -1;
+    private static final long CART_ITEM_MISS = -2;
+
+    /**
+     * 장바구니 쓰기 스크립트 (Hash 존재 확인 + 수량 변경 + TTL 갱신 + dirty 등록)
+     * KEYS[1]: cart Hash, KEYS[2]: dirty Set
+     * ARGV[1]: incr | set | del, ARGV[2]: productOptionId, ARGV[3]: 수량, ARGV[4]: TTL(초), ARGV[5]: userId
+     */
+    private static final DefaultRedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+        "    return " + CART_MISS + " " + // 미적재 → MySQL에서 적재 후 재시도
+        "end " +
+        "local result " +
+        "if ARGV[1] == 'incr' then " +
+        "    result = redis.call('HINCRBY', KEYS[1], ARGV[2], ARGV[3]) " +
+        "elseif ARGV[1] == 'set' then " +
+        "    if redis.call('HEXISTS', KEYS[1], ARGV[2]) == 0 then " +
+        "        return " + CART_ITEM_MISS + " " + // 장바구니에 없는 옵션
+        "    end " +
+        "    redis.call('HSET', KEYS[1], ARGV[2], ARGV[3]) " +
+        "    result = tonumber(ARGV[3]) " +
+        "else " +
+        "    result = redis.call('HDEL', KEYS[1], ARGV[2], '" + CART_ID_FIELD_PREFIX + "' .. ARGV[2]) " +
+        "end " +
+        "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+        "redis.call('SADD', KEYS[2], ARGV[5]) " +
+        "return result",
+        Long.class
+    );
+
+    /**
+     * MySQL 장바구니 적재 스크립트 (이미 적재된 경우 덮어쓰지 않음)
+     * KEYS[1]: cart Hash
+     * ARGV[1]: TTL(초), ARGV[2..]: field, value 쌍
+     */
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+        "    return 0 " +
+        "end " +
+        "redis.call('HSET', KEYS[1], '" + LOADED_FIELD + "', '1') " +
+        "for i = 2, #ARGV, 2 do " +
+        "    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+        "end " +
+        "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+        "return 1",
+        Long.class
+    );
+
+    /**
+     * 장바구니 비우기 스크립트 (적재 마커만 남기고 dirty 등록 → MySQL 행은 write-behind로 삭제)
+     * KEYS[1]: cart Hash, KEYS[2]: dirty Set
+     * ARGV[1]: TTL(초), ARGV[2]: userId
+     */
+    private static final DefaultRedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('DEL', KEYS[1]) " +
+        "redis.call('HSET', KEYS[1], '" + LOADED_FIELD + "', '1') " +
+        "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+        "redis.call('SADD', KEYS[2], ARGV[2]) " +
+        "return 1",
+        Long.class
+    );
+
+    /**
+     * MySQL 반영 후 cartId 기록 스크립트 (만료된 Hash는 되살리지 않음)
+     * KEYS[1]: cart Hash, ARGV: field, value 쌍
+     */
+    private static final DefaultRedisScript<Long> CART_ID_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+        "    return 0 " +
+        "end " +
+        "for i = 1, #ARGV, 2 do " +
+        "    if redis.call('HEXISTS', KEYS[1], string.sub(ARGV[i], " + (CART_ID_FIELD_PREFIX.length() + 1) + ")) == 1 then " +
+        "        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+        "    end " +
+        "end " +
+        "return 1",
+        Long.class
+    );
+
+    /**
+     * 반영 대상 사용자 꺼내기 스크립트
+     * 이전 반영이 ack 되지 않고 남아 있으면(프로세스 중단) 그 사용자들을 먼저 반환하고,
+     * 없으면 dirty에서 count명을 꺼내 processing으로 옮긴다.
+     * KEYS[1]: dirty Set, KEYS[2]: processing Set, ARGV[1]: count
+     */
+    private static final DefaultRedisScript<List> CLAIM_DIRTY_SCRIPT = new DefaultRedisScript<>(
+        "local pending = redis.call('SMEMBERS', KEYS[2]) " +
+        "if #pending > 0 then " +
+        "    return pending " +
+        "end " +
+        "local userIds = redis.call('SPOP', KEYS[1], ARGV[1]) " +
+        "for i = 1, #userIds do " +
+        "    redis.call('SADD', KEYS[2], userIds[i]) " +
+        "end " +
+        "return userIds",
+        List.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CartRepository cartRepository;
+    private final boolean enabled;
+    private final long ttlSeconds;
+
+    public RedisCartStore(RedisTemplate<String, String> redisTemplate,
+                          CartRepository cartRepository,
+                          @Value("${cart.redis-store.enabled:false}") boolean enabled,
+                          @Value("${cart.redis-store.ttl-seconds:604800}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.cartRepository = cartRepository;
+        this.enabled = enabled;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 수량 합산 (HINCRBY)
+     * @return 합산 후 장바구니 아이템
+     */
+    public Cart addQuantity(Long userId, Long productOptionId, int quantity) {
+        long result = write(userId, "incr", productOptionId, quantity);
+        return Cart.restore(getCartId(userId, productOptionId), userId, productOptionId, (int) result);
+    }
+
+    /**
+     * 수량 변경 (HSET, 장바구니에 있는 옵션만)
+     * @return 변경된 장바구니 아이템 (장바구니에 없는 옵션이면 empty)
+     */
+    public Optional<Cart> setQuantity(Long userId, Long productOptionId, int quantity) {
+        long result = write(userId, "set", productOptionId, quantity);
+        if (result == CART_ITEM_MISS) {
+            return Optional.empty();
+        }
+        return Optional.of(Cart.restore(getCartId(userId, productOptionId), userId, productOptionId, quantity));
+    }
+
+    /**
+     * 항목 삭제 (HDEL)
+     */
+    public void remove(Long userId, Long productOptionId) {
+        write(userId, "del", productOptionId, 0);
+    }
+
+    /**
+     * 장바구니 비우기
+     */
+    public void clear(Long userId) {
+        redisTemplate.execute(
+            CLEAR_SCRIPT,
+            List.of(cartKey(userId), CART_DIRTY_KEY),
+            String.valueOf(ttlSeconds),
+            String.valueOf(userId)
+        );
+    }
+
+    /**
+     * 장바구니 조회 (Hash 미적재 시 MySQL에서 적재)
+     */
+    public List<Cart> getCartItems(Long userId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(cartKey(userId));
+        if (entries.isEmpty()) {
+            load(userId);
+            entries = redisTemplate.opsForHash().entries(cartKey(userId));
+        }
+        return toCarts(userId, entries);
+    }
+
+    /**
+     * MySQL 반영 대상 userId 꺼내기 (dirty → processing, ack 전까지 processing에 유지)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> claimDirtyUserIds(int count) {
+        List<Object> userIds = redisTemplate.execute(
+            CLAIM_DIRTY_SCRIPT,
+            List.of(CART_DIRTY_KEY, CART_DIRTY_PROCESSING_KEY),
+            String.valueOf(count)
+        );
+        if (userIds == null) {
+            return List.of();
+        }
+        return userIds.stream().map(userId -> Long.valueOf(userId.toString())).toList();
+    }
+
+    /**
+     * MySQL 반영 완료 (processing에서 제거)
+     */
+    public void ackDirtyUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().remove(CART_DIRTY_PROCESSING_KEY, userIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * MySQL 반영 실패 시 dirty 재등록 후 processing에서 제거
+     */
+    public void requeueDirtyUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(CART_DIRTY_KEY, userIds.stream().map(String::valueOf).toArray(String[]::new));
+        ackDirtyUserIds(userIds);
+    }
+
+    /**
+     * MySQL 반영용 스냅샷 (productOptionId → 수량). Hash가 만료된 경우 null
+     */
+    public Map<Long, Integer> getQuantitySnapshot(Long userId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(cartKey(userId));
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (Cart cart : toCarts(userId, entries)) {
+            quantities.put(cart.getProductOptionId(), cart.getQuantity());
+        }
+        return quantities;
+    }
+
+    /**
+     * MySQL에 저장된 cartId 기록
+     */
+    public void saveCartIds(Long userId, List<Cart> carts) {
+        if (carts.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(carts.size() * 2);
+        for (Cart cart : carts) {
+            args.add(CART_ID_FIELD_PREFIX + cart.getProductOptionId());
+            args.add(String.valueOf(cart.getCartId()));
+        }
+        redisTemplate.execute(CART_ID_SCRIPT, List.of(cartKey(userId)), args.toArray());
+    }
+
+    private long write(Long userId, String operation, Long productOptionId, int quantity) {
+        Long result = executeWrite(userId, operation, productOptionId, quantity);
+        if (result != null && result == CART_MISS) {
+            load(userId);
+            result = executeWrite(userId, operation, productOptionId, quantity);
+        }
+        if (result == null || result == CART_MISS) {
+            throw new IllegalStateException("장바구니 저장 중 오류가 발생했습니다. userId=" + userId);
+        }
+        return result;
+    }
+
+    private Long executeWrite(Long userId, String operation, Long productOptionId, int quantity) {
+        return redisTemplate.execute(
+            WRITE_SCRIPT,
+            List.of(cartKey(userId), CART_DIRTY_KEY),
+            operation,
+            String.valueOf(productOptionId),
+            String.valueOf(quantity),
+            String.valueOf(ttlSeconds),
+            String.valueOf(userId)
+        );
+    }
+
+    private void load(Long userId) {
+        List<Cart> carts = cartRepository.findByUserId(userId);
+
+        List<String> args = new ArrayList<>(carts.size() * 4 + 1);
+        args.add(String.valueOf(ttlSeconds));
+        for (Cart cart : carts) {
+            args.add(String.valueOf(cart.getProductOptionId()));
+            args.add(String.valueOf(cart.getQuantity()));
+            args.add(CART_ID_FIELD_PREFIX + cart.getProductOptionId());
+            args.add(String.valueOf(cart.getCartId()));
+        }
+        redisTemplate.execute(LOAD_SCRIPT, List.of(cartKey(userId)), args.toArray());
+        log.debug("장바구니 Redis 적재. userId={}, size={}", userId, carts.size());
+    }
+
+    private Long getCartId(Long userId, Long productOptionId) {
+        Object cartId = redisTemplate.opsForHash().get(cartKey(userId), CART_ID_FIELD_PREFIX + productOptionId);
+        return cartId == null ? null : Long.valueOf(cartId.toString());
+    }
+
+    private List<Cart> toCarts(Long userId, Map<Object, Object> entries) {
+        List<Cart> carts = new ArrayList<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = entry.getKey().toString();
+            if (field.equals(LOADED_FIELD) || field.startsWith(CART_ID_FIELD_PREFIX)) {
+                continue;
+            }
+
+            Long productOptionId = Long.valueOf(field);
+            Object cartId = entries.get(CART_ID_FIELD_PREFIX + field);
+            carts.add(Cart.restore(
+                    cartId == null ? null : Long.valueOf(cartId.toString()),
+                    userId,
+                    productOptionId,
+                    Integer.parseInt(entry.getValue().toString())
+            ));
+        }
+        return carts;
+    }
+
+    private static String cartKey(Long userId) {
+        return CART_KEY_PREFIX + userId;
+    }
+}
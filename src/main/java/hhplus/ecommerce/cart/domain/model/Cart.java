@@ -63,6 +63,18 @@ public class Cart {
         return new Cart(null, userId, productOptionId, quantity);
     }
 
+    /**
+     * 외부 저장소(Redis)의 값으로 장바구니 아이템을 복원한다. (영속 상태가 아닌 조회/응답용)
+     * @param cartId 장바구니 ID (MySQL 반영 전이면 null)
+     * @param userId 사용자 ID
+     * @param productOptionId 상품 옵션 ID
+     * @param quantity 수량
+     * @return 복원된 장바구니 아이템
+     */
+    public static Cart restore(Long cartId, Long userId, Long productOptionId, int quantity) {
+        return new Cart(cartId, userId, productOptionId, quantity);
+    }
+
     /**
      * 장바구니 수량을 변경한다.
      * @param quantity 변경할 수량
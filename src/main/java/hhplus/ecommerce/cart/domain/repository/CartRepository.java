@@ -2,9 +2,11 @@ package hhplus.ecommerce.cart.domain.repository;
 
 import hhplus.ecommerce.cart.domain.model.Cart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,10 +14,18 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
 
     List<Cart> findByUserId(Long userId);
 
+    // write-behind 반영용 사용자 일괄 조회
+    List<Cart> findByUserIdIn(Collection<Long> userIds);
+
     Optional<Cart> findByUserIdAndProductOptionId(Long userId, Long productOptionId);
 
     void deleteByUserId(Long userId);
 
+    // 사용자 장바구니 전체 삭제 (단일 DELETE 문, 장바구니 주문 후 비우기)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM Cart c WHERE c.userId = :userId")
+    int bulkDeleteByUserId(@Param("userId") Long userId);
+
     // 사용자ID와 상품옵션ID로 장바구니 아이템 삭제
     void deleteByUserIdAndProductOptionId(Long userId, Long productOptionId);
 
@@ -66,6 +66,22 @@ public class CartController {
         return ApiResponse.success(response, "장바구니가 수정되었습니다.");
     }
 
+    /**
+     * 장바구니 수정 (사용자 + 옵션 ID 기준, Redis 장바구니의 MySQL 반영 전 항목 포함)
+     * PATCH /api/cart/{userId}/options/{productOptionId}
+     */
+    @PatchMapping("/{userId}/options/{productOptionId}")
+    public ApiResponse<CartItemResponse> updateCartByOption(
+            @PathVariable Long userId,
+            @PathVariable Long productOptionId,
+            @Valid @RequestBody CartUpdateRequest request) {
+
+        Cart cart = cartService.updateCartQuantityByOption(userId, productOptionId, request.getQuantity());
+        CartItemResponse response = cartMapper.toCartItemResponse(cart);
+
+        return ApiResponse.success(response, "장바구니가 수정되었습니다.");
+    }
+
     /**
      * 장바구니 항목 삭제
      * DELETE /api/cart/{userId}/{productId}
@@ -11,4 +11,5 @@ import java.util.List;
 public class CartResponse {
     private final List<CartItemResponse> items;
     private final BigDecimal totalAmount;
+    private final Long priceVersion; // 가격 버전 (주문 시 가격 스냅샷 재사용 여부 판단)
 }
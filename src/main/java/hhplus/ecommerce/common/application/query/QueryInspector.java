@@ -0,0 +1,133 @@
+package hhplus.ecommerce.common.application.query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 쿼리 검사기
+ *
+ * - 요청별 SQL 실행 수 집계
+ * - 같은 SQL이 한 요청에서 임계치 이상 반복되면 N+1 의심으로 기록
+ * - 임계 시간을 넘긴 SQL만 비동기로 기록 (show-sql 대체)
+ *
+ * 요청 범위는 QueryInspectionFilter가 begin/end 로 지정하며,
+ * 요청 밖(스케줄러, 비동기 스레드)에서 실행된 SQL은 슬로우 쿼리만 검사한다.
+ */
+@Slf4j
+@Component
+public class QueryInspector {
+
+    private final boolean enabled;
+    private final long slowQueryThresholdNanos;
+    private final int nPlusOneThreshold;
+    private final int maxQueriesPerRequest;
+    private final SlowQueryLogger slowQueryLogger;
+
+    private final ThreadLocal<RequestQueryStats> currentRequest = new ThreadLocal<>();
+
+    public QueryInspector(@Value("${query.inspection.enabled:true}") boolean enabled,
+                          @Value("${query.inspection.slow-query-threshold-ms:200}") long slowQueryThresholdMillis,
+                          @Value("${query.inspection.n-plus-one-threshold:10}") int nPlusOneThreshold,
+                          @Value("${query.inspection.max-queries-per-request:50}") int maxQueriesPerRequest,
+                          SlowQueryLogger slowQueryLogger) {
+        this.enabled = enabled;
+        this.slowQueryThresholdNanos = slowQueryThresholdMillis * 1_000_000L;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.maxQueriesPerRequest = maxQueriesPerRequest;
+        this.slowQueryLogger = slowQueryLogger;
+    }
+
+    /**
+     * 요청 시작
+     * @param request 요청 식별 문자열 (예: POST /api/order/1)
+     */
+    public void beginRequest(String request) {
+        if (!enabled) {
+            return;
+        }
+        currentRequest.set(new RequestQueryStats(request));
+    }
+
+    /**
+     * 요청 종료 - 쿼리가 과도한 요청만 기록
+     * @return 요청 동안 실행된 SQL 수 (추적 중이 아니면 0)
+     */
+    public int endRequest() {
+        RequestQueryStats stats = currentRequest.get();
+        if (stats == null) {
+            return 0;
+        }
+        currentRequest.remove();
+
+        if (stats.queryCount > maxQueriesPerRequest) {
+            submit(() -> slowQueryLogger.logRequestSummary(stats.request, stats.queryCount, stats.slowQueryCount));
+        }
+        return stats.queryCount;
+    }
+
+    /**
+     * SQL 준비 시점 (StatementInspector) - 실행 수 집계 및 N+1 감지
+     * 바인딩 파라미터가 ? 로 남아있는 SQL이므로 같은 모양의 쿼리는 같은 문자열이다.
+     */
+    public void onStatementPrepared(String sql) {
+        RequestQueryStats stats = currentRequest.get();
+        if (stats == null) {
+            return;
+        }
+        stats.queryCount++;
+
+        int executions = stats.executionsBySql.merge(sql, 1, Integer::sum);
+        if (executions == nPlusOneThreshold) {
+            submit(() -> slowQueryLogger.logNPlusOne(stats.request, sql, executions));
+        }
+    }
+
+    /**
+     * SQL 실행 완료 시점 (JDBC) - 슬로우 쿼리 감지
+     */
+    public void onStatementExecuted(String sql, long elapsedNanos) {
+        if (!enabled || elapsedNanos < slowQueryThresholdNanos) {
+            return;
+        }
+        RequestQueryStats stats = currentRequest.get();
+        String request = stats != null ? stats.request : Thread.currentThread().getName();
+        if (stats != null) {
+            stats.slowQueryCount++;
+        }
+        long elapsedMillis = elapsedNanos / 1_000_000L;
+        submit(() -> slowQueryLogger.logSlowQuery(request, sql, elapsedMillis));
+    }
+
+    /**
+     * 현재 요청에서 지금까지 실행된 SQL 수
+     */
+    public int currentQueryCount() {
+        RequestQueryStats stats = currentRequest.get();
+        return stats != null ? stats.queryCount : 0;
+    }
+
+    // 비동기 큐가 가득 찬 경우 로그는 버린다 (요청 처리에 영향 주지 않음)
+    private void submit(Runnable logTask) {
+        try {
+            logTask.run();
+        } catch (TaskRejectedException e) {
+            log.debug("쿼리 검사 로그 유실 (비동기 큐 초과)");
+        }
+    }
+
+    private static final class RequestQueryStats {
+        private final String request;
+        private final Map<String, Integer> executionsBySql = new HashMap<>();
+        private int queryCount;
+        private long slowQueryCount;
+
+        private RequestQueryStats(String request) {
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package hhplus.ecommerce.common.application.query;
+
+import hhplus.ecommerce.common.application.trace.HotPathTracer;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 SQL을 준비할 때마다 호출된다. (SessionFactory 당 하나만 등록 가능)
+ * - HotPathTracer: 추적 중인 주문/결제 요청의 SQL 수
+ * - QueryInspector: 요청별 SQL 수 및 N+1 감지
+ * SQL 문자열은 변경하지 않는다.
+ */
+@RequiredArgsConstructor
+public class QueryStatementInspector implements StatementInspector {
+
+    private final HotPathTracer hotPathTracer;
+    private final QueryInspector queryInspector;
+
+    @Override
+    public String inspect(String sql) {
+        hotPathTracer.countSql();
+        queryInspector.onStatementPrepared(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,47 @@
+package hhplus.ecommerce.common.application.query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿼리 검사 결과 로거
+ *
+ * 로그 I/O가 요청 스레드를 붙잡지 않도록 비동기로 기록하며,
+ * 수집 도구에서 파싱할 수 있도록 key=value 형식의 한 줄 로그로 남긴다.
+ */
+@Slf4j
+@Component
+// 비동기 처리는 프록시를 사용하는데, 같은 클래스의 내부 메서드 호출이면 프록시 호출이 안되어 클래스 분리함
+public class SlowQueryLogger {
+
+    private static final int MAX_SQL_LENGTH = 1000;
+
+    @Async
+    public void logSlowQuery(String request, String sql, long elapsedMillis) {
+        log.warn("event=slow_query request=\"{}\" elapsedMs={} sql=\"{}\"",
+                request, elapsedMillis, abbreviate(sql));
+    }
+
+    @Async
+    public void logNPlusOne(String request, String sql, int executionCount) {
+        log.warn("event=n_plus_one request=\"{}\" executions={} sql=\"{}\"",
+                request, executionCount, abbreviate(sql));
+    }
+
+    @Async
+    public void logRequestSummary(String request, int queryCount, long slowQueryCount) {
+        log.warn("event=query_heavy_request request=\"{}\" queries={} slowQueries={}",
+                request, queryCount, slowQueryCount);
+    }
+
+    private String abbreviate(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() > MAX_SQL_LENGTH
+                ? singleLine.substring(0, MAX_SQL_LENGTH) + "..."
+                : singleLine;
+    }
+}
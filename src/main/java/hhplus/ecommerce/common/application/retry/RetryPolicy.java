@@ -0,0 +1,206 @@
+package hhplus.ecommerce.common.application.retry;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 공용 재시도 정책 (포인트 / 쿠폰 / 재고 일괄 반영 경로)
+ *
+ * - 지연: decorrelated jitter 지수 백오프 (min(max, random(base, 직전 지연 × 3)))
+ * - 예산: 작업 + 키(사용자, 쿠폰 등)별로 시간 창 당 재시도 횟수를 제한해 핫 키 하나가 스레드를 잡아먹지 않도록 함
+ * - execute: 호출 스레드에서 대기 후 재시도 (트랜잭션 안 등 결과를 바로 돌려줘야 하는 경로)
+ * - executeAsync: 첫 시도만 호출 스레드에서 하고, 재시도는 타이머에 예약해 호출 스레드를 붙잡지 않음
+ * - 작업별 재시도 / 한도 초과 / 예산 거절 횟수를 집계 (GET /api/admin/retry)
+ */
+@Slf4j
+@Component
+public class RetryPolicy {
+
+    private static final int MAX_TRACKED_KEYS = 10_000;
+
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final int maxAttempts;
+    private final long budgetWindowMs;
+    private final int budgetPerKey;
+    private final ScheduledThreadPoolExecutor timer;
+
+    private final Map<String, BudgetWindow> budgets = new ConcurrentHashMap<>();
+    private final Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+
+    public RetryPolicy(@Value("${retry.base-delay-ms:10}") long baseDelayMs,
+                       @Value("${retry.max-delay-ms:200}") long maxDelayMs,
+                       @Value("${retry.max-attempts:10}") int maxAttempts,
+                       @Value("${retry.budget.window-ms:1000}") long budgetWindowMs,
+                       @Value("${retry.budget.per-key:20}") int budgetPerKey,
+                       @Value("${retry.async.pool-size:4}") int asyncPoolSize) {
+        this.baseDelayMs = Math.max(baseDelayMs, 1L);
+        this.maxDelayMs = Math.max(maxDelayMs, this.baseDelayMs);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.budgetWindowMs = budgetWindowMs;
+        this.budgetPerKey = budgetPerKey;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.timer = new ScheduledThreadPoolExecutor(Math.max(asyncPoolSize, 1), runnable -> {
+            Thread thread = new Thread(runnable, "retry-timer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 동기 재시도
+     *
+     * @param operation 작업 이름 (예: point.charge)
+     * @param key 예산 키 (사용자 ID, 쿠폰 ID 등)
+     * @param retryable 재시도할 예외 여부
+     * @param onExhausted 최대 시도 / 예산 초과 시 던질 예외
+     */
+    public <T> T execute(String operation, Object key, Supplier<T> action,
+                         Predicate<Throwable> retryable, Supplier<? extends RuntimeException> onExhausted) {
+        long delay = baseDelayMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (!retryable.test(e)) {
+                    throw e;
+                }
+                if (!allowRetry(operation, key, attempt)) {
+                    throw onExhausted.get();
+                }
+                delay = nextDelay(delay);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw onExhausted.get();
+                }
+            }
+        }
+    }
+
+    /**
+     * 비동기 재시도 (재시도는 타이머 스레드에서 실행)
+     * 결과 future는 성공 값, 재시도 불가 예외, 또는 onExhausted 예외로 완료된다.
+     */
+    public <T> CompletableFuture<T> executeAsync(String operation, Object key, Supplier<T> action,
+                                                 Predicate<Throwable> retryable,
+                                                 Supplier<? extends RuntimeException> onExhausted) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(operation, key, action, retryable, onExhausted, 1, baseDelayMs, result);
+        return result;
+    }
+
+    private <T> void attempt(String operation, Object key, Supplier<T> action,
+                             Predicate<Throwable> retryable, Supplier<? extends RuntimeException> onExhausted,
+                             int attempt, long previousDelay, CompletableFuture<T> result) {
+        try {
+            result.complete(action.get());
+            return;
+        } catch (RuntimeException e) {
+            if (!retryable.test(e)) {
+                result.completeExceptionally(e);
+                return;
+            }
+            if (!allowRetry(operation, key, attempt)) {
+                result.completeExceptionally(onExhausted.get());
+                return;
+            }
+        }
+
+        long delay = nextDelay(previousDelay);
+        try {
+            timer.schedule(() -> attempt(operation, key, action, retryable, onExhausted, attempt + 1, delay, result),
+                    delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(onExhausted.get());
+        }
+    }
+
+    /**
+     * 작업별 재시도 집계 (작업 이름순)
+     */
+    public List<RetryStats> getStats() {
+        return stats.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparing(RetryStats::operation))
+                .toList();
+    }
+
+    // 최대 시도 횟수와 키별 예산을 확인하고 집계한다
+    private boolean allowRetry(String operation, Object key, int attempt) {
+        OperationStats operationStats = stats.computeIfAbsent(operation, op -> new OperationStats());
+        if (attempt >= maxAttempts) {
+            operationStats.exhausted.increment();
+            log.warn("재시도 한도 초과. operation={}, key={}, attempts={}", operation, key, attempt);
+            return false;
+        }
+        if (!tryAcquireBudget(operation + ":" + key)) {
+            operationStats.budgetRejected.increment();
+            log.warn("재시도 예산 초과. operation={}, key={}, attempt={}", operation, key, attempt);
+            return false;
+        }
+        operationStats.retries.increment();
+        log.debug("재시도 예약. operation={}, key={}, attempt={}", operation, key, attempt);
+        return true;
+    }
+
+    private boolean tryAcquireBudget(String budgetKey) {
+        long now = System.currentTimeMillis();
+        if (budgets.size() > MAX_TRACKED_KEYS) {
+            budgets.values().removeIf(window -> now - window.startedAt >= budgetWindowMs);
+        }
+        BudgetWindow window = budgets.compute(budgetKey, (k, current) ->
+                current == null || now - current.startedAt >= budgetWindowMs ? new BudgetWindow(now) : current);
+        return window.used.incrementAndGet() <= budgetPerKey;
+    }
+
+    // decorrelated jitter: base ~ 직전 지연 × 3 사이 난수, 최대 지연으로 제한
+    private long nextDelay(long previousDelay) {
+        long upper = Math.max(baseDelayMs, previousDelay * 3);
+        long delay = baseDelayMs + ThreadLocalRandom.current().nextLong(upper - baseDelayMs + 1);
+        return Math.min(maxDelayMs, delay);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdown();
+    }
+
+    private static final class BudgetWindow {
+        private final long startedAt;
+        private final AtomicInteger used = new AtomicInteger();
+
+        private BudgetWindow(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+
+    private static final class OperationStats {
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final LongAdder budgetRejected = new LongAdder();
+
+        private RetryStats snapshot(String operation) {
+            return new RetryStats(operation, retries.sum(), exhausted.sum(), budgetRejected.sum());
+        }
+    }
+}
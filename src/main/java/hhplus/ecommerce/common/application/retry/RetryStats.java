@@ -0,0 +1,11 @@
+package hhplus.ecommerce.common.application.retry;
+
+/**
+ * 작업별 재시도 집계
+ *
+ * @param retries 예약된 재시도 수
+ * @param exhausted 최대 시도 횟수에 도달해 포기한 수
+ * @param budgetRejected 키별 재시도 예산 초과로 포기한 수
+ */
+public record RetryStats(String operation, long retries, long exhausted, long budgetRejected) {
+}
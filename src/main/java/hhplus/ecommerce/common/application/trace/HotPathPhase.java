@@ -0,0 +1,37 @@
+package hhplus.ecommerce.common.application.trace;
+
+/**
+ * 핫패스 추적 구간
+ *
+ * 주문 생성 / 결제 처리의 내부 단계를 나타낸다.
+ * ordinal 값을 그대로 배열 인덱스로 사용하므로 순서를 바꾸면 기존 추적 결과 해석이 달라진다.
+ */
+public enum HotPathPhase {
+    // 주문 생성
+    COLLECT_ITEMS("주문 아이템 수집"),
+    CALCULATE_DISCOUNT("쿠폰 할인 계산"),
+    SAVE_ORDER("주문 저장"),
+    RESERVE_STOCK("재고 예약"),
+    SAVE_ITEMS("주문 아이템 저장"),
+    PUBLISH_EVENT("이벤트 발행"),
+
+    // 결제
+    LOAD_ORDER("주문 조회"),
+    USE_POINT("포인트 결제"),
+    SAVE_PAYMENT("결제 상태 저장"),
+    CONFIRM_STOCK("재고 예약 확정"),
+    UPDATE_RANKING("인기상품 점수 반영"),
+
+    // 주문 생성 (기존 ordinal 유지를 위해 뒤에 추가)
+    REDEEM_COUPON("쿠폰 사용");
+
+    public final String description;
+
+    HotPathPhase(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,27 @@
+package hhplus.ecommerce.common.application.trace;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 느린 요청 버퍼에 보관되는 추적 결과 (불변)
+ *
+ * phaseNanos 는 HotPathPhase.ordinal() 순서의 구간별 소요 시간(ns)
+ */
+@Getter
+@RequiredArgsConstructor
+public class HotPathTrace {
+    private final String operation;
+    private final Long key;
+    private final long totalNanos;
+    private final long[] phaseNanos;
+    private final int sqlCount;
+    private final int redisCount;
+    private final LocalDateTime recordedAt;
+
+    public long getPhaseNanos(HotPathPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+}
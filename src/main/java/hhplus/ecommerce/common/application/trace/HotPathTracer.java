@@ -0,0 +1,204 @@
+package hhplus.ecommerce.common.application.trace;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 핫패스 구간 추적기
+ *
+ * 주문 생성 / 결제 처리의 내부 단계별 소요 시간과 SQL, Redis 호출 수를 기록하고
+ * 가장 느린 N건만 고정 크기 버퍼에 보관한다.
+ *
+ * 오버헤드 최소화:
+ * - 스레드별로 미리 할당된 Span(long[])을 재사용하므로 begin/mark/end 에서 객체를 생성하지 않는다.
+ * - 버퍼 진입 기준(현재 보관 중인 최솟값)보다 빠른 요청은 락 없이 바로 버려진다.
+ * - 버퍼에 들어가는 느린 요청만 스냅샷(HotPathTrace)을 생성한다.
+ *
+ * 같은 스레드에서 begin 이 중첩되면 가장 바깥 구간만 기록한다.
+ */
+@Slf4j
+@Component
+public class HotPathTracer {
+
+    private static final HotPathPhase[] PHASES = HotPathPhase.values();
+
+    private final boolean enabled;
+    private final HotPathTrace[] slowest;
+    private int filled;
+
+    // 버퍼가 가득 찼을 때 보관 중인 가장 빠른 요청의 소요 시간 (이보다 빠르면 기록하지 않음)
+    private volatile long admissionThresholdNanos = 0L;
+
+    private final ThreadLocal<Span> currentSpan = ThreadLocal.withInitial(Span::new);
+
+    public HotPathTracer(@Value("${hotpath.trace.enabled:true}") boolean enabled,
+                         @Value("${hotpath.trace.capacity:20}") int capacity) {
+        this.enabled = enabled;
+        this.slowest = new HotPathTrace[Math.max(capacity, 1)];
+    }
+
+    /**
+     * 추적 시작
+     * @param operation 작업 이름 (예: order.create)
+     * @param key 식별 값 (사용자 ID, 주문 ID 등)
+     */
+    public void begin(String operation, Long key) {
+        if (!enabled) {
+            return;
+        }
+        Span span = currentSpan.get();
+        if (span.depth++ > 0) {
+            return;
+        }
+        span.operation = operation;
+        span.key = key;
+        span.sqlCount = 0;
+        span.redisCount = 0;
+        Arrays.fill(span.phaseNanos, 0L);
+        span.startNanos = System.nanoTime();
+        span.lastMarkNanos = span.startNanos;
+    }
+
+    /**
+     * 직전 mark(또는 begin) 이후 경과 시간을 해당 구간에 누적한다.
+     * 반복문 안에서 같은 구간을 여러 번 mark 하면 합산된다.
+     */
+    public void mark(HotPathPhase phase) {
+        if (!enabled) {
+            return;
+        }
+        Span span = currentSpan.get();
+        if (span.depth == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        span.phaseNanos[phase.ordinal()] += now - span.lastMarkNanos;
+        span.lastMarkNanos = now;
+    }
+
+    /**
+     * 추적 종료 - 느린 요청이면 버퍼에 보관
+     * 예외가 발생해도 호출되도록 finally 블록에서 호출한다.
+     */
+    public void end() {
+        if (!enabled) {
+            return;
+        }
+        Span span = currentSpan.get();
+        if (span.depth == 0 || --span.depth > 0) {
+            return;
+        }
+        long totalNanos = System.nanoTime() - span.startNanos;
+        if (totalNanos <= admissionThresholdNanos) {
+            return;
+        }
+        admit(span, totalNanos);
+    }
+
+    /**
+     * 현재 추적 중인 요청의 SQL 실행 수 증가
+     */
+    public void countSql() {
+        if (!enabled) {
+            return;
+        }
+        Span span = currentSpan.get();
+        if (span.depth > 0) {
+            span.sqlCount++;
+        }
+    }
+
+    /**
+     * 현재 추적 중인 요청의 Redis 호출 수 증가
+     */
+    public void countRedis() {
+        if (!enabled) {
+            return;
+        }
+        Span span = currentSpan.get();
+        if (span.depth > 0) {
+            span.redisCount++;
+        }
+    }
+
+    /**
+     * 보관 중인 느린 요청 목록 (느린 순)
+     */
+    public synchronized List<HotPathTrace> getSlowest() {
+        List<HotPathTrace> traces = new ArrayList<>(filled);
+        for (int i = 0; i < filled; i++) {
+            traces.add(slowest[i]);
+        }
+        traces.sort(Comparator.comparingLong(HotPathTrace::getTotalNanos).reversed());
+        return traces;
+    }
+
+    /**
+     * 버퍼 초기화
+     */
+    public synchronized void reset() {
+        Arrays.fill(slowest, null);
+        filled = 0;
+        admissionThresholdNanos = 0L;
+    }
+
+    private synchronized void admit(Span span, long totalNanos) {
+        int target;
+        if (filled < slowest.length) {
+            target = filled++;
+        } else {
+            target = indexOfFastest();
+            if (slowest[target].getTotalNanos() >= totalNanos) {
+                return;
+            }
+        }
+
+        slowest[target] = new HotPathTrace(
+                span.operation,
+                span.key,
+                totalNanos,
+                span.phaseNanos.clone(),
+                span.sqlCount,
+                span.redisCount,
+                LocalDateTime.now()
+        );
+
+        if (filled == slowest.length) {
+            admissionThresholdNanos = slowest[indexOfFastest()].getTotalNanos();
+        }
+
+        log.debug("핫패스 느린 요청 기록 - operation: {}, key: {}, totalMs: {}, sql: {}, redis: {}",
+                span.operation, span.key, totalNanos / 1_000_000, span.sqlCount, span.redisCount);
+    }
+
+    private int indexOfFastest() {
+        int index = 0;
+        for (int i = 1; i < filled; i++) {
+            if (slowest[i].getTotalNanos() < slowest[index].getTotalNanos()) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 스레드별로 재사용되는 추적 상태
+     */
+    private static final class Span {
+        private final long[] phaseNanos = new long[PHASES.length];
+        private String operation;
+        private Long key;
+        private long startNanos;
+        private long lastMarkNanos;
+        private int sqlCount;
+        private int redisCount;
+        private int depth;
+    }
+}
@@ -0,0 +1,47 @@
+package hhplus.ecommerce.common.config;
+
+import hhplus.ecommerce.common.application.trace.HotPathTracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * 핫패스 추적기 연동 설정
+ *
+ * - SQL: QueryStatementInspector 에서 센다. (QueryInspectionConfig)
+ * - Redis: RedisTemplate 은 명령마다 커넥션을 얻으므로 getConnection 호출 수를 센다.
+ */
+@Configuration
+public class HotPathTraceConfig {
+
+    @Bean
+    public static BeanPostProcessor redisCallCountingPostProcessor(ObjectProvider<HotPathTracer> hotPathTracer) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof RedisConnectionFactory)) {
+                    return bean;
+                }
+
+                Supplier<HotPathTracer> tracer = SingletonSupplier.of(hotPathTracer::getObject);
+
+                // 대상이 구현한 인터페이스 기반 프록시 (RedisConnectionFactory 타입으로만 주입됨)
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                    if ("getConnection".equals(invocation.getMethod().getName())) {
+                        tracer.get().countRedis();
+                    }
+                    return invocation.proceed();
+                });
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+}
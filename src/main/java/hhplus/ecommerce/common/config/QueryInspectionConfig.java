@@ -0,0 +1,49 @@
+package hhplus.ecommerce.common.config;
+
+import hhplus.ecommerce.common.application.query.QueryInspector;
+import hhplus.ecommerce.common.application.query.QueryStatementInspector;
+import hhplus.ecommerce.common.application.trace.HotPathTracer;
+import hhplus.ecommerce.common.infrastructure.jdbc.QueryTimingDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 검사 설정
+ *
+ * show-sql 로 모든 SQL을 출력하는 대신
+ * - StatementInspector: 요청별 SQL 수, N+1 감지, 핫패스 추적기 SQL 수
+ * - DataSource 래퍼: 실행 시간 측정 후 슬로우 쿼리만 비동기 기록
+ */
+@Configuration
+public class QueryInspectionConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatementInspectorCustomizer(HotPathTracer hotPathTracer,
+                                                                           QueryInspector queryInspector) {
+        return properties -> properties.put(
+                AvailableSettings.STATEMENT_INSPECTOR,
+                new QueryStatementInspector(hotPathTracer, queryInspector)
+        );
+    }
+
+    @Bean
+    public static BeanPostProcessor queryTimingDataSourcePostProcessor(ObjectProvider<QueryInspector> queryInspector) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryTimingDataSource)) {
+                    // QueryInspector 는 첫 SQL 실행 시점에 조회 (BeanPostProcessor 단계의 조기 초기화 방지)
+                    return new QueryTimingDataSource(dataSource, SingletonSupplier.of(queryInspector::getObject));
+                }
+                return bean;
+            }
+        };
+    }
+}
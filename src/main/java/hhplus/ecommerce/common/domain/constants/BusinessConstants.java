@@ -31,6 +31,9 @@ public class BusinessConstants {
     public static final String REDIS_TOP_N_DAILY_KEY = REDIS_TOP_N_PREFIX + "daily";
     public static final String REDIS_TOP_N_WEEKLY_KEY = REDIS_TOP_N_PREFIX + "weekly";
     public static final String REDIS_TOP_N_MONTHLY_KEY = REDIS_TOP_N_PREFIX + "monthly";
+    public static final String REDIS_PRODUCT_SALES_PENDING_KEY = "product:sales:pending"; // DB 미반영 누적 판매량 (Hash)
+    public static final String REDIS_PRODUCT_SALES_PROCESSING_KEY = "product:sales:processing"; // DB 반영 중인 판매량 (Hash)
+    public static final String REDIS_PRODUCT_SALES_BATCH_ID_KEY = "product:sales:processing:batch-id"; // DB 반영 중인 판매량의 배치 ID
 
     private BusinessConstants() {
         throw new AssertionError("유틸리티 클래스는 인스턴스화할 수 없습니다.");
@@ -18,6 +18,8 @@ public class ErrorCode {
     public static final String STOCK_UPDATE_UNAUTHORIZED = "S004";
     public static final String STOCK_CONCURRENCY_CONFLICT = "S005";
     public static final String STOCK_RESERVATION_FAILED = "S006";
+    public static final String STOCK_LOOKUP_FAILED = "S007";
+    public static final String STOCK_IMPORT_FAILED = "S008";
 
     // ========== 유저 (U) ==========
     public static final String USER_NOT_FOUND = "U001";
@@ -57,6 +59,7 @@ public class ErrorCode {
     public static final String ORDER_ALREADY_PAID = "O012";
     public static final String ORDER_ALREADY_CANCELLED = "O013";
     public static final String INVALID_ORDER_ITEM_STATUS = "O014";
+    public static final String BULK_STATUS_LIMIT_EXCEEDED = "O015";
 
     // ========== 쿠폰 (CP) ==========
     public static final String COUPON_NOT_FOUND = "CP001";
@@ -71,6 +74,7 @@ public class ErrorCode {
     public static final String COUPON_ISSUE_RACE_FAILED = "CP010";
     public static final String COUPON_NOT_VALID_YET = "CP011";
     public static final String COUPON_CREATE_FAILED = "CP012";
+    public static final String COUPON_NOT_REDEEMABLE = "CP013";
 
     // ========== 외부연동 (I) ==========
     public static final String INTEGRATION_FAILED = "I001";
@@ -87,6 +91,7 @@ public class ErrorCode {
     public static final String UNAUTHORIZED = "E002";
     public static final String FORBIDDEN = "E003";
     public static final String NOT_FOUND = "E004";
+    public static final String DUPLICATE_REQUEST_IN_PROGRESS = "E005";
     public static final String INTERNAL_SERVER_ERROR = "E500";
     public static final String DATABASE_ERROR = "E501";
     public static final String EXTERNAL_API_ERROR = "E502";
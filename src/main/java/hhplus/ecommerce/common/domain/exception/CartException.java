@@ -17,6 +17,11 @@ public class CartException extends BusinessException {
         return new CartException(ErrorCode.CART_ITEM_NOT_FOUND, message);
     }
 
+    public static CartException cartOptionNotFound(Long userId, Long productOptionId) {
+        String message = String.format("장바구니 항목을 찾을 수 없습니다. [사용자ID: %d, 옵션ID: %d]", userId, productOptionId);
+        return new CartException(ErrorCode.CART_ITEM_NOT_FOUND, message);
+    }
+
     public static CartException cartEmpty(Long userId) {
         String message = String.format("장바구니가 비어있습니다. [사용자ID: %d]", userId);
         return new CartException(ErrorCode.CART_EMPTY, message);
@@ -74,4 +74,9 @@ public class CouponException extends BusinessException {
         String message = String.format("쿠폰 생성에 실패했습니다. [사유: %s]", reason);
         return new CouponException(ErrorCode.COUPON_CREATE_FAILED, message);
     }
+
+    public static CouponException couponNotRedeemable(Long userId, Long couponId) {
+        String message = String.format("사용 가능한 보유 쿠폰이 없습니다. [사용자ID: %d, 쿠폰ID: %d]", userId, couponId);
+        return new CouponException(ErrorCode.COUPON_NOT_REDEEMABLE, message);
+    }
 }
@@ -91,4 +91,10 @@ public class OrderException extends BusinessException {
                 currentStatus, requestedStatus);
         return new OrderException(ErrorCode.INVALID_ORDER_ITEM_STATUS, message);
     }
+
+    public static OrderException bulkStatusLimitExceeded(int requestedCount, int maxCount) {
+        String message = String.format("일괄 상태 변경 요청 건수를 초과했습니다. [요청: %d, 최대: %d]",
+                requestedCount, maxCount);
+        return new OrderException(ErrorCode.BULK_STATUS_LIMIT_EXCEEDED, message);
+    }
 }
@@ -79,4 +79,19 @@ public class StockException extends BusinessException {
         String message = String.format("재고 예약에 실패했습니다. [상품옵션ID: %d, 사유: %s]", productOptionId, reason);
         return new StockException(ErrorCode.STOCK_RESERVATION_FAILED, message);
     }
+
+    public static StockException stockLookupFailed(String reason) {
+        String message = String.format("재고 조회에 실패했습니다. [사유: %s]", reason);
+        return new StockException(ErrorCode.STOCK_LOOKUP_FAILED, message);
+    }
+
+    public static StockException stockImportFailed(String reason) {
+        String message = String.format("재고 일괄 반영에 실패했습니다. [사유: %s]", reason);
+        return new StockException(ErrorCode.STOCK_IMPORT_FAILED, message);
+    }
+
+    public static StockException stockImportFailed(String reason, Throwable cause) {
+        String message = String.format("재고 일괄 반영에 실패했습니다. [사유: %s]", reason);
+        return new StockException(ErrorCode.STOCK_IMPORT_FAILED, message, cause);
+    }
 }
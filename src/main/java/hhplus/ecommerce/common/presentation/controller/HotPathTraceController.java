@@ -0,0 +1,47 @@
+package hhplus.ecommerce.common.presentation.controller;
+
+import hhplus.ecommerce.common.application.trace.HotPathTracer;
+import hhplus.ecommerce.common.presentation.dto.response.HotPathTraceResponse;
+import hhplus.ecommerce.common.presentation.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 핫패스 추적 결과 조회 (관리자용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/hot-path")
+public class HotPathTraceController {
+
+    private final HotPathTracer hotPathTracer;
+
+    /**
+     * 가장 느린 요청 N건의 구간별 소요 시간 조회
+     * GET /api/admin/hot-path
+     */
+    @GetMapping
+    public ApiResponse<List<HotPathTraceResponse>> getSlowestTraces() {
+        List<HotPathTraceResponse> responses = hotPathTracer.getSlowest().stream()
+                .map(HotPathTraceResponse::of)
+                .collect(Collectors.toList());
+
+        return ApiResponse.success(responses);
+    }
+
+    /**
+     * 추적 버퍼 초기화
+     * DELETE /api/admin/hot-path
+     */
+    @DeleteMapping
+    public ApiResponse<Void> resetTraces() {
+        hotPathTracer.reset();
+        return ApiResponse.success(null, "핫패스 추적 버퍼가 초기화되었습니다.");
+    }
+}
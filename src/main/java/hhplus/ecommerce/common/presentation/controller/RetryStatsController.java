@@ -0,0 +1,31 @@
+package hhplus.ecommerce.common.presentation.controller;
+
+import hhplus.ecommerce.common.application.retry.RetryPolicy;
+import hhplus.ecommerce.common.application.retry.RetryStats;
+import hhplus.ecommerce.common.presentation.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 재시도 집계 조회 (관리자용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/retry")
+public class RetryStatsController {
+
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * 작업별 재시도 / 한도 초과 / 예산 거절 횟수 조회
+     * GET /api/admin/retry
+     */
+    @GetMapping
+    public ApiResponse<List<RetryStats>> getRetryStats() {
+        return ApiResponse.success(retryPolicy.getStats());
+    }
+}
@@ -0,0 +1,43 @@
+package hhplus.ecommerce.common.presentation.dto.response;
+
+import hhplus.ecommerce.common.application.trace.HotPathPhase;
+import hhplus.ecommerce.common.application.trace.HotPathTrace;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record HotPathTraceResponse(
+        String operation,
+        Long key,
+        double totalMillis,
+        Map<String, Double> phaseMillis,
+        int sqlCount,
+        int redisCount,
+        LocalDateTime recordedAt
+) {
+    // HotPathTrace -> HotPathTraceResponse 변환 팩토리 메서드 (0ns 구간은 제외)
+    public static HotPathTraceResponse of(HotPathTrace trace) {
+        Map<String, Double> phaseMillis = new LinkedHashMap<>();
+        for (HotPathPhase phase : HotPathPhase.values()) {
+            long nanos = trace.getPhaseNanos(phase);
+            if (nanos > 0) {
+                phaseMillis.put(phase.name(), toMillis(nanos));
+            }
+        }
+
+        return new HotPathTraceResponse(
+                trace.getOperation(),
+                trace.getKey(),
+                toMillis(trace.getTotalNanos()),
+                phaseMillis,
+                trace.getSqlCount(),
+                trace.getRedisCount(),
+                trace.getRecordedAt()
+        );
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,179 @@
+package hhplus.ecommerce.common.presentation.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hhplus.ecommerce.common.domain.constants.ErrorCode;
+import hhplus.ecommerce.common.presentation.response.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 헤더 기반 중복 요청 차단 필터
+ *
+ * 대상: POST /api/order/**, POST /api/payment/**
+ * (헤더가 없는 요청은 기존과 동일하게 처리)
+ *
+ * 1. 완료된 응답이 캐시되어 있으면 GET 1회로 그대로 반환 (UseCase 재실행 없음)
+ * 2. 처리 중인 동일 요청이 있으면 SET NX 락 획득 실패 → 409 즉시 반환
+ *    락 획득 후 응답 캐시를 한 번 더 확인 (1의 GET 이후 앞선 요청이 완료·해제했을 수 있으므로)
+ * 3. 처리 성공(2xx) 응답만 TTL 동안 캐시, 실패 응답은 재시도 가능하도록 캐시하지 않음
+ *    응답 저장과 락 해제는 Lua 스크립트 하나로 처리해 그 사이에 다른 요청이 끼어들지 않도록 함
+ *
+ * 키 범위: HTTP 메서드 + URI + Idempotency-Key (다른 API에서 같은 키를 써도 충돌하지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host")
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String LOCK_KEY_PREFIX = "idempotency:lock:";
+    private static final String RESPONSE_KEY_PREFIX = "idempotency:response:";
+    private static final List<String> TARGET_PATH_PREFIXES = List.of("/api/order", "/api/payment");
+
+    // 락 소유자(토큰)가 일치할 때만 해제
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "    return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    // 응답 저장 + 락 해제 (KEYS[1]: 응답 키, KEYS[2]: 락 키, ARGV[1]: 응답, ARGV[2]: 응답 TTL(ms), ARGV[3]: 락 토큰)
+    private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "if redis.call('GET', KEYS[2]) == ARGV[3] then " +
+            "    redis.call('DEL', KEYS[2]) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration lockTtl;
+    private final Duration responseTtl;
+
+    public IdempotencyFilter(RedisTemplate<String, String> redisTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${idempotency.lock-ttl-seconds:30}") long lockTtlSeconds,
+                             @Value("${idempotency.response-ttl-seconds:86400}") long responseTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+        this.responseTtl = Duration.ofSeconds(responseTtlSeconds);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+        String header = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (header == null || header.isBlank()) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return TARGET_PATH_PREFIXES.stream().noneMatch(uri::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String scope = request.getMethod() + ":" + request.getRequestURI() + ":" + request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        String responseKey = RESPONSE_KEY_PREFIX + scope;
+        String lockKey = LOCK_KEY_PREFIX + scope;
+
+        // 1. 완료된 응답 재전송
+        String cached = redisTemplate.opsForValue().get(responseKey);
+        if (cached != null) {
+            replay(response, objectMapper.readValue(cached, CachedResponse.class));
+            return;
+        }
+
+        // 2. 처리 중 락 선점 (실패 시 즉시 거절)
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("동일 Idempotency-Key 요청 처리 중 - 거절. scope: {}", scope);
+            rejectInProgress(response);
+            return;
+        }
+
+        // 락 획득 전에 앞선 요청이 응답 저장 후 락을 해제했으면 재실행하지 않고 재전송
+        cached = redisTemplate.opsForValue().get(responseKey);
+        if (cached != null) {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+            replay(response, objectMapper.readValue(cached, CachedResponse.class));
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean released = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+
+            // 3. 성공 응답만 캐시 (저장과 락 해제를 한 번에)
+            int status = responseWrapper.getStatus();
+            if (status >= 200 && status < 300) {
+                CachedResponse completed = new CachedResponse(
+                        status,
+                        responseWrapper.getContentType(),
+                        new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8)
+                );
+                redisTemplate.execute(COMPLETE_SCRIPT, List.of(responseKey, lockKey),
+                        objectMapper.writeValueAsString(completed), String.valueOf(responseTtl.toMillis()), token);
+                released = true;
+            }
+        } finally {
+            if (!released) {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, CachedResponse cached) throws IOException {
+        response.setStatus(cached.status());
+        if (cached.contentType() != null) {
+            response.setContentType(cached.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getOutputStream().write(cached.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void rejectInProgress(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.CONFLICT.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ApiResponse<Void> body = ApiResponse.error(
+                "동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.",
+                ErrorCode.DUPLICATE_REQUEST_IN_PROGRESS
+        );
+        response.getWriter().write(objectMapper.writeValueAsString(body));
+    }
+
+    record CachedResponse(int status, String contentType, String body) {
+    }
+}
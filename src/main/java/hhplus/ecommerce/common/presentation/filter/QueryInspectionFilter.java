@@ -0,0 +1,34 @@
+package hhplus.ecommerce.common.presentation.filter;
+
+import hhplus.ecommerce.common.application.query.QueryInspector;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 단위로 쿼리 검사 범위를 지정하는 필터
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryInspectionFilter extends OncePerRequestFilter {
+
+    private final QueryInspector queryInspector;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        queryInspector.beginRequest(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryInspector.endRequest();
+        }
+    }
+}
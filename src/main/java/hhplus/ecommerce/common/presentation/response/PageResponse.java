@@ -11,12 +11,18 @@ public class PageResponse<T> {
     private final int size;
     private final long totalElements;
     private final int totalPages;
+    private final String nextCursor; // 다음 페이지 커서 (keyset 페이지네이션, 마지막 페이지거나 미지원이면 null)
 
     public PageResponse(List<T> content, int page, int size, long totalElements, int totalPages) {
+        this(content, page, size, totalElements, totalPages, null);
+    }
+
+    public PageResponse(List<T> content, int page, int size, long totalElements, int totalPages, String nextCursor) {
         this.content = content;
         this.page = page;
         this.size = size;
         this.totalElements = totalElements;
         this.totalPages = (int) Math.ceil((double) totalElements / size);
+        this.nextCursor = nextCursor;
     }
 }
@@ -1,11 +1,13 @@
 package hhplus.ecommerce.coupon.application.service;
 
+import hhplus.ecommerce.common.application.retry.RetryPolicy;
 import hhplus.ecommerce.common.domain.exception.CouponException;
 import hhplus.ecommerce.coupon.domain.model.Coupon;
 import hhplus.ecommerce.coupon.domain.model.UserCoupon;
 import hhplus.ecommerce.coupon.domain.repository.UserCouponRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.annotation.Async;
@@ -26,10 +28,12 @@ public class AsyncUserCouponSaver {
     private final UserCouponRepository userCouponRepository;
     private final CouponService couponService;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RetryPolicy retryPolicy;
 
     private static final String COUPON_ISSUE_KEY_PREFIX = "coupon:issue:";
     private static final String COUPON_ISSUE_END_KEY_PREFIX = "coupon:issue:end:";
     private static final String COUPON_ISSUED_COUNT_KEY_PREFIX = "coupon:issued:count:";
+    private static final String SAVE_OPERATION = "coupon.issue.save";
 
     // SortedSet 비동기 워커 방식 - RedisCouponService.issueCouponWithRedisZset에서 Lua 스크립트 동기 방식으로 변경됨
     /*
@@ -80,16 +84,19 @@ public class AsyncUserCouponSaver {
     */
 
     // UserCoupon 테이블(DB)에 저장하는 것을 비동기로 빼서 락/IO를 오래 홀드하지 않도록 함
+    // 이미 @Async 스레드에서 실행되므로 락 대기 실패 등 일시적 오류는 같은 스레드에서 RetryPolicy로 재시도하고,
+    // 최종 실패 시에만 Redis 보상 처리 (메서드 트랜잭션 없이 save 단위 트랜잭션으로 저장)
     @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW) // 새로운 트랜잭션에서 실행
     public CompletableFuture<UserCoupon> saveUserCouponAsync(Long userId, Long couponId) {
         String setKey = COUPON_ISSUE_KEY_PREFIX + couponId;
 
         try {
-            UserCoupon userCoupon = UserCoupon.create(userId, couponId);
-            UserCoupon saved = userCouponRepository.save(userCoupon);
+            UserCoupon saved = retryPolicy.execute(SAVE_OPERATION, couponId,
+                    () -> userCouponRepository.save(UserCoupon.create(userId, couponId)),
+                    TransientDataAccessException.class::isInstance,
+                    () -> CouponException.couponIssueFailed("쿠폰 발급 저장 재시도 한도를 초과했습니다."));
             return CompletableFuture.completedFuture(saved);
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             // DB 저장 실패 시 보상 : Redis에서 제거
             redisTemplate.opsForSet().remove(setKey, userId.toString());
             log.error("쿠폰 발급 DB 저장 실패. userId={}, couponId={}", userId, couponId, e);
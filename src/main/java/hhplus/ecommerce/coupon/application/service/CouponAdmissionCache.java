@@ -0,0 +1,60 @@
+package hhplus.ecommerce.coupon.application.service;
+
+import hhplus.ecommerce.coupon.domain.model.Coupon;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * 선착순 발급 판정용 쿠폰 메타데이터 Redis Hash
+ *
+ * key: coupon:meta:{couponId}
+ * field: maxIssueCount, validFrom, validTo (epoch millis), minOrderAmount
+ *
+ * 쿠폰 생성 시 미리 적재하여 발급 Lua 스크립트가 DB 조회 없이 한도/유효기간을 판정하도록 한다.
+ * (JPA 엔티티를 직렬화하지 않고 필요한 값만 문자열로 저장)
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponAdmissionCache {
+
+    public static final String COUPON_META_KEY_PREFIX = "coupon:meta:";
+
+    public static final String FIELD_MAX_ISSUE_COUNT = "maxIssueCount";
+    public static final String FIELD_VALID_FROM = "validFrom";
+    public static final String FIELD_VALID_TO = "validTo";
+    public static final String FIELD_MIN_ORDER_AMOUNT = "minOrderAmount";
+
+    private static final long EXPIRE_MARGIN_DAYS = 1; // 유효기간 종료 후 하루 뒤 자동 삭제
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 쿠폰 메타데이터 적재 (덮어쓰기)
+     * @param coupon 저장된 쿠폰
+     */
+    public void save(Coupon coupon) {
+        String key = metaKey(coupon.getCouponId());
+
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                FIELD_MAX_ISSUE_COUNT, String.valueOf(coupon.getMaxIssueCount()),
+                FIELD_VALID_FROM, String.valueOf(toEpochMillis(coupon.getValidFrom())),
+                FIELD_VALID_TO, String.valueOf(toEpochMillis(coupon.getValidTo())),
+                FIELD_MIN_ORDER_AMOUNT, coupon.getMinOrderAmount().toPlainString()
+        ));
+        redisTemplate.expireAt(key, new Date(toEpochMillis(coupon.getValidTo().plusDays(EXPIRE_MARGIN_DAYS))));
+    }
+
+    public static String metaKey(Long couponId) {
+        return COUPON_META_KEY_PREFIX + couponId;
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,62 @@
+package hhplus.ecommerce.coupon.application.service;
+
+import hhplus.ecommerce.coupon.domain.model.Coupon;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 주문용 쿠폰 메타데이터 로컬 캐시
+ *
+ * 주문 생성 시 할인 계산에 필요한 값(할인 타입/값, 최소 주문 금액, 유효기간)은 쿠폰 생성 후 바뀌지 않으므로
+ * 조회한 쿠폰을 ttl-ms 동안 로컬에 보관해 주문마다 coupons 테이블을 조회하지 않는다.
+ * 발급 수(issuedCount)는 캐시 값이 오래되었을 수 있으므로 이 캐시로 판단하지 않는다.
+ * 쿠폰 ID 키가 계속 늘어나지 않도록 1,000개를 넘으면 비운다.
+ */
+@Component
+public class CouponMetaCache {
+
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final long ttlMs;
+    private final Map<Long, CachedCoupon> coupons = new ConcurrentHashMap<>();
+
+    public CouponMetaCache(@Value("${coupon.meta.ttl-ms:60000}") long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * 쿠폰 조회 (캐시에 없거나 만료되었으면 loader로 조회)
+     *
+     * @param couponId 쿠폰 ID
+     * @param loader 쿠폰 ID → 쿠폰 조회 (없으면 예외)
+     * @return 쿠폰 (읽기 전용으로 사용)
+     */
+    public Coupon get(Long couponId, Function<Long, Coupon> loader) {
+        long now = System.currentTimeMillis();
+        CachedCoupon cached = coupons.get(couponId);
+        if (cached != null && now - cached.loadedAt() < ttlMs) {
+            return cached.coupon();
+        }
+
+        Coupon coupon = loader.apply(couponId);
+        if (coupons.size() >= MAX_ENTRIES) {
+            coupons.clear();
+        }
+        coupons.put(couponId, new CachedCoupon(coupon, now));
+        return coupon;
+    }
+
+    /**
+     * 무효화
+     */
+    public void evict(Long couponId) {
+        coupons.remove(couponId);
+    }
+
+    private record CachedCoupon(Coupon coupon, long loadedAt) {
+    }
+}
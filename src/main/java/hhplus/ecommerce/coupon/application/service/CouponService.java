@@ -2,6 +2,7 @@ package hhplus.ecommerce.coupon.application.service;
 
 import hhplus.ecommerce.common.domain.exception.CouponException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import hhplus.ecommerce.coupon.domain.model.Coupon;
@@ -12,14 +13,19 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponService {
 
     private final CouponRepository couponRepository;
+    private final CouponAdmissionCache couponAdmissionCache;
+    private final CouponMetaCache couponMetaCache;
 
     /**
      * 쿠폰 생성
+     * 생성 후 선착순 발급 판정용 메타데이터를 Redis에 적재한다.
+     * (적재 실패 시 첫 발급 요청에서 DB 조회 후 재적재되므로 생성은 실패시키지 않음)
      */
     public Coupon createCoupon(String couponName, DiscountType discountType, BigDecimal discountValue,
                                BigDecimal minOrderAmount, Integer maxIssueCount,
@@ -46,7 +52,15 @@ public class CouponService {
                 createdBy
         );
 
-        return couponRepository.save(coupon);
+        Coupon savedCoupon = couponRepository.save(coupon);
+
+        try {
+            couponAdmissionCache.save(savedCoupon);
+        } catch (Exception e) {
+            log.warn("쿠폰 메타데이터 Redis 적재 실패. couponId={}, exception={}", savedCoupon.getCouponId(), e.getMessage());
+        }
+
+        return savedCoupon;
     }
 
     /**
@@ -68,6 +82,14 @@ public class CouponService {
                 .orElseThrow(() -> CouponException.couponCreateFail("쿠폰을 찾을 수 없습니다."));
     }
 
+    /**
+     * 주문용 쿠폰 조회 (로컬 캐시, 할인 계산 / 사용 가능 여부 판단용)
+     * 발급 수 등 변하는 값은 오래되었을 수 있으므로 읽기 전용으로만 사용한다.
+     */
+    public Coupon getCouponForOrder(Long couponId) {
+        return couponMetaCache.get(couponId, this::getCouponById);
+    }
+
     /**
      * 쿠폰 ID로 조회 (Pessimistic Lock)
      * 동시성 제어가 필요한 경우 사용
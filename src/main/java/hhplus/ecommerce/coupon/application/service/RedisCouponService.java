@@ -33,71 +33,89 @@ public class RedisCouponService {
     private final RedissonClient redissonClient;
     private final AsyncUserCouponSaver asyncUserCouponSaver; // SET 방식에서만 사용
     private final UserCouponRepository userCouponRepository;
+    private final CouponAdmissionCache couponAdmissionCache;
 
     private static final String COUPON_ISSUE_KEY_PREFIX = "coupon:issue:";
     private static final String COUPON_ISSUE_END_KEY_PREFIX = "coupon:issue:end:";
     private static final String COUPON_LOCK_KEY_PREFIX = "coupon:lock:";
+    private static final long COUPON_ISSUE_END_TTL_SECONDS = 120; // 종료 플래그 2분 캐싱
+
+    // 발급 판정 스크립트 결과 코드 (양수: 발급 후 전체 수량)
+    private static final long ADMISSION_LIMIT_EXCEEDED = 0;
+    private static final long ADMISSION_DUPLICATED = -1;
+    private static final long ADMISSION_ENDED = -2;
+    private static final long ADMISSION_META_MISSING = -3;
+    private static final long ADMISSION_NOT_VALID_YET = -4;
+    private static final long ADMISSION_EXPIRED = -5;
+
+    /**
+     * 선착순 발급 판정 Lua 스크립트 (종료 플래그 + 메타데이터 + 중복 + 한도를 한 번에 판정)
+     * KEYS[1]: 발급 ZSet, KEYS[2]: 쿠폰 메타 Hash, KEYS[3]: 종료 플래그
+     * ARGV[1]: 현재 시각(epoch millis, ZSet score), ARGV[2]: userId, ARGV[3]: 종료 플래그 TTL(초)
+     */
+    private static final DefaultRedisScript<Long> ISSUE_ADMISSION_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[3]) == 1 then " +
+        "    return " + ADMISSION_ENDED + " " + // 발급 종료
+        "end " +
+        "local meta = redis.call('HMGET', KEYS[2], 'maxIssueCount', 'validFrom', 'validTo') " +
+        "if not meta[1] then " +
+        "    return " + ADMISSION_META_MISSING + " " + // 메타데이터 미적재
+        "end " +
+        "local now = tonumber(ARGV[1]) " +
+        "if now < tonumber(meta[2]) then " +
+        "    return " + ADMISSION_NOT_VALID_YET + " " +
+        "end " +
+        "if now > tonumber(meta[3]) then " +
+        "    return " + ADMISSION_EXPIRED + " " +
+        "end " +
+        "if redis.call('ZSCORE', KEYS[1], ARGV[2]) then " +
+        "    return " + ADMISSION_DUPLICATED + " " + // 이미 발급받음 (중복)
+        "end " +
+        "local count = redis.call('ZCARD', KEYS[1]) " +
+        "if count >= tonumber(meta[1]) then " +
+        "    redis.call('SET', KEYS[3], 'true', 'EX', tonumber(ARGV[3])) " + // 한도 도달 → 종료 플래그
+        "    return " + ADMISSION_LIMIT_EXCEEDED + " " +
+        "end " +
+        "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+        "return count + 1", // 발급 후 전체 수량 반환
+        Long.class
+    );
 
     /**
      * Redis SortedSet를 이용한 선착순 쿠폰 발급 (Lua 스크립트 버전)
-     * - Lua 스크립트로 중복 체크 + ZADD + ZCARD 원자적 처리하여 순서 보장
+     * - 종료 플래그, 한도, 유효기간, 중복 체크 + ZADD 를 Lua 스크립트 1회 호출로 원자적 처리
+     * - 쿠폰 메타데이터는 생성 시 Redis Hash에 적재되어 있으므로 판정 과정에서 DB 조회 없음
+     *   (메타데이터가 없는 기존 쿠폰만 최초 1회 DB 조회 후 적재)
      * - TimeStamp 정렬을 통해 정확한 선착순 확인
-     * - 중복 발급 자동 제거 (ZSet 특성)
      */
     public UserCoupon issueCouponWithRedisZset(Long userId, Long couponId) {
-        // 1. 종료 여부 캐싱을 통해 1차 필터링
-        String endKey = COUPON_ISSUE_END_KEY_PREFIX + couponId;
-        String isEnd = redisTemplate.opsForValue().get(endKey);
-        if (isEnd != null) {
-            throw CouponException.couponIssueLimitExceeded(couponId);
-        }
-
-        Coupon coupon = couponService.getCouponById(couponId);
-        if (coupon == null) {
-            throw CouponException.couponNotFound(couponId);
+        // 1. Lua 스크립트로 발급 판정
+        Long result = executeIssueAdmission(userId, couponId);
+        if (result != null && result == ADMISSION_META_MISSING) {
+            couponAdmissionCache.save(couponService.getCouponById(couponId));
+            result = executeIssueAdmission(userId, couponId);
         }
 
-        String issueKey = COUPON_ISSUE_KEY_PREFIX + couponId;
-
-        // 2. Lua 스크립트로 원자적 처리: 중복 체크 + ZADD + ZCARD(전체 수량 확인)
-        String luaScript =
-            "local exists = redis.call('ZRANK', KEYS[1], ARGV[2]) " +
-            "if exists ~= false then " +
-            "    return -1 " + // 이미 발급받음 (중복)
-            "end " +
-            "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
-            "local count = redis.call('ZCARD', KEYS[1]) " +
-            "if count > tonumber(ARGV[3]) then " +
-            "    redis.call('ZREM', KEYS[1], ARGV[2]) " + // 한도 초과 시 즉시 제거
-            "    return 0 " + // 한도 초과
-            "end " +
-            "return count"; // 발급 후 전체 수량 반환
-
-        Long result = redisTemplate.execute(
-            new DefaultRedisScript<>(luaScript, Long.class),
-            List.of(issueKey),
-            String.valueOf(System.currentTimeMillis()),
-            userId.toString(),
-            String.valueOf(coupon.getMaxIssueCount())
-        );
-
-        // 3. 결과 검증
-        if (result == null) {
+        // 2. 결과 검증
+        if (result == null || result == ADMISSION_META_MISSING) {
             throw CouponException.couponIssueFailed("쿠폰 발급 처리 중 오류가 발생했습니다.");
         }
-
-        if (result == -1) {
+        if (result == ADMISSION_DUPLICATED) {
             throw CouponException.couponAlreadyIssued(userId, couponId);
         }
-
-        // 4. 선착순 한도 초과 체크
-        if (result == 0) {
-            // 종료 플래그 설정 (2분 캐싱)
-            redisTemplate.opsForValue().set(endKey, "true", 2, TimeUnit.MINUTES);
+        if (result == ADMISSION_NOT_VALID_YET) {
+            throw CouponException.couponNotValidYet(couponId);
+        }
+        if (result == ADMISSION_EXPIRED) {
+            throw CouponException.couponExpired(couponId);
+        }
+        // 3. 선착순 한도 초과 / 발급 종료
+        if (result == ADMISSION_LIMIT_EXCEEDED || result == ADMISSION_ENDED) {
             throw CouponException.couponIssueLimitExceeded(couponId);
         }
 
-        // 5. DB에 저장 (동기 처리 - 즉시 결과 반환)
+        // 4. DB에 저장 (동기 처리 - 즉시 결과 반환)
+        String issueKey = COUPON_ISSUE_KEY_PREFIX + couponId;
         UserCoupon userCoupon = UserCoupon.create(userId, couponId);
         try {
             return userCouponRepository.save(userCoupon);
@@ -109,6 +127,20 @@ public class RedisCouponService {
         }
     }
 
+    private Long executeIssueAdmission(Long userId, Long couponId) {
+        return redisTemplate.execute(
+            ISSUE_ADMISSION_SCRIPT,
+            List.of(
+                COUPON_ISSUE_KEY_PREFIX + couponId,
+                CouponAdmissionCache.metaKey(couponId),
+                COUPON_ISSUE_END_KEY_PREFIX + couponId
+            ),
+            String.valueOf(System.currentTimeMillis()),
+            userId.toString(),
+            String.valueOf(COUPON_ISSUE_END_TTL_SECONDS)
+        );
+    }
+
     /**
      * Redis SET을 이용한 선착순 쿠폰 발급
      *
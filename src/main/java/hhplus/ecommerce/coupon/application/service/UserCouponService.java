@@ -10,6 +10,7 @@ import hhplus.ecommerce.coupon.domain.model.UserCoupon;
 import hhplus.ecommerce.coupon.domain.repository.UserCouponRepository;
 import hhplus.ecommerce.coupon.domain.model.UserCouponStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -98,6 +99,31 @@ public class UserCouponService {
         return userCouponRepository.save(userCoupon);
     }
 
+    /**
+     * 주문 생성 시 쿠폰 사용 처리 (보유 + 사용 가능 상태 조건부 UPDATE 1회)
+     * 조회 후 저장하지 않으므로 잠금 없이 같은 쿠폰의 중복 사용을 막는다.
+     *
+     * @Transactional: 주문 생성 트랜잭션에 참여 (주문 생성 실패 시 함께 롤백)
+     */
+    @Transactional
+    public void redeemCoupon(Long userId, Long couponId, Long orderId) {
+        int updated = userCouponRepository.useIfActive(
+                userId, couponId, orderId, LocalDateTime.now(), UserCouponStatus.ACTIVE, UserCouponStatus.USED);
+        if (updated == 0) {
+            throw CouponException.couponNotRedeemable(userId, couponId);
+        }
+    }
+
+    /**
+     * 주문 취소(보상) 시 사용한 쿠폰 복구
+     * @return 복구된 쿠폰 수 (쿠폰 미사용 주문 또는 이미 복구된 경우 0)
+     */
+    @Transactional
+    public int restoreCoupon(Long orderId) {
+        return userCouponRepository.restoreByOrderId(
+                orderId, LocalDateTime.now(), UserCouponStatus.USED, UserCouponStatus.ACTIVE);
+    }
+
     /**
      * 특정 쿠폰 현재 발급 수 조회
      */
@@ -3,9 +3,11 @@ package hhplus.ecommerce.coupon.domain.repository;
 import hhplus.ecommerce.coupon.domain.model.UserCoupon;
 import hhplus.ecommerce.coupon.domain.model.UserCouponStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +28,31 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
     @Query("SELECT COUNT(uc) FROM UserCoupon uc WHERE uc.couponId = :couponId")
     Integer countByCouponId(@Param("couponId") Long couponId);
+
+    /**
+     * 보유한 사용 가능 쿠폰을 주문에 사용 처리 (상태 조건부 UPDATE, 조회/잠금 없음)
+     * 같은 쿠폰으로 동시에 주문해도 한 건만 1을 반환한다.
+     * @return 사용 처리된 행 수 (0: 미보유 또는 이미 사용/만료)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE UserCoupon uc SET uc.status = :used, uc.orderId = :orderId, uc.usedAt = :usedAt, uc.updatedAt = :usedAt " +
+            "WHERE uc.userId = :userId AND uc.couponId = :couponId AND uc.status = :active")
+    int useIfActive(@Param("userId") Long userId,
+                    @Param("couponId") Long couponId,
+                    @Param("orderId") Long orderId,
+                    @Param("usedAt") LocalDateTime usedAt,
+                    @Param("active") UserCouponStatus active,
+                    @Param("used") UserCouponStatus used);
+
+    /**
+     * 주문에 사용된 쿠폰을 사용 가능 상태로 복구 (주문 보상)
+     * @return 복구된 행 수 (이미 복구되었으면 0)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE UserCoupon uc SET uc.status = :active, uc.orderId = null, uc.usedAt = null, uc.updatedAt = :restoredAt " +
+            "WHERE uc.orderId = :orderId AND uc.status = :used")
+    int restoreByOrderId(@Param("orderId") Long orderId,
+                         @Param("restoredAt") LocalDateTime restoredAt,
+                         @Param("used") UserCouponStatus used,
+                         @Param("active") UserCouponStatus active);
 }
@@ -0,0 +1,39 @@
+package hhplus.ecommerce.order.application.dto;
+
+import lombok.Getter;
+
+/**
+ * 일괄 상태 변경 ID별 결과 (Application Layer DTO)
+ */
+@Getter
+public class BulkStatusChangeResult {
+
+    public enum Outcome {
+        UPDATED,            // 변경됨
+        UNCHANGED,          // 이미 목표 상태
+        NOT_FOUND,          // 존재하지 않는 ID
+        INVALID_TRANSITION, // 허용되지 않는 전이
+        CONFLICT            // 조회 후 UPDATE 사이에 다른 요청이 상태를 바꿈
+    }
+
+    private final Long id;
+    private final Long orderId;
+    private final Outcome outcome;
+    private final String currentStatus;
+    private final Long userId;          // 주문 일괄 변경에서 UPDATED일 때만 (상태 카운터 반영용)
+    private final String previousStatus; // 주문 일괄 변경에서 UPDATED일 때만
+
+    public BulkStatusChangeResult(Long id, Long orderId, Outcome outcome, String currentStatus) {
+        this(id, orderId, outcome, currentStatus, null, null);
+    }
+
+    public BulkStatusChangeResult(Long id, Long orderId, Outcome outcome, String currentStatus,
+                                  Long userId, String previousStatus) {
+        this.id = id;
+        this.orderId = orderId;
+        this.outcome = outcome;
+        this.currentStatus = currentStatus;
+        this.userId = userId;
+        this.previousStatus = previousStatus;
+    }
+}
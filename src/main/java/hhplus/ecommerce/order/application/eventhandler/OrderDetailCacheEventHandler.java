@@ -0,0 +1,59 @@
+package hhplus.ecommerce.order.application.eventhandler;
+
+import hhplus.ecommerce.order.application.service.OrderDetailCache;
+import hhplus.ecommerce.order.application.service.OrderService;
+import hhplus.ecommerce.order.domain.event.OrderCreatedEvent;
+import hhplus.ecommerce.order.domain.event.OrderItemStatusChangedEvent;
+import hhplus.ecommerce.order.domain.event.OrderStatusChangedEvent;
+import hhplus.ecommerce.order.domain.model.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 상세 캐시 이벤트 핸들러
+ *
+ * 트랜잭션 커밋 후 주문 상세 캐시를 적재/삭제한다. (롤백된 변경은 캐시에 반영되지 않음)
+ * 트랜잭션 밖에서 발행된 이벤트도 처리하도록 fallbackExecution 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderDetailCacheEventHandler {
+
+    private final OrderService orderService;
+    private final OrderDetailCache orderDetailCache;
+
+    /**
+     * 주문 생성 → 주문 상세 적재 (생성 직후 폴링이 DB를 다시 조회하지 않도록)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleOrderCreated(OrderCreatedEvent event) {
+        try {
+            long cacheVersion = orderDetailCache.readVersion(event.getOrderId());
+            Order order = orderService.getOrder(event.getOrderId());
+            orderDetailCache.putIfUnchanged(
+                    orderService.toOrderDetailInfo(order, orderService.getOrderItems(event.getOrderId())), cacheVersion);
+        } catch (Exception e) {
+            log.warn("주문 상세 캐시 적재 실패 - OrderId: {}, exception: {}", event.getOrderId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 주문 상태 변경(상태 변경 API, 결제, 보상) → 캐시 삭제 (다음 조회 시 커밋된 상태로 적재)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleOrderStatusChanged(OrderStatusChangedEvent event) {
+        orderDetailCache.evict(event.getOrderId());
+    }
+
+    /**
+     * 주문 아이템 상태 변경 → 캐시 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleOrderItemStatusChanged(OrderItemStatusChangedEvent event) {
+        orderDetailCache.evict(event.getOrderId());
+    }
+}
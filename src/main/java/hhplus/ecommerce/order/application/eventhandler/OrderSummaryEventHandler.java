@@ -0,0 +1,39 @@
+package hhplus.ecommerce.order.application.eventhandler;
+
+import hhplus.ecommerce.order.application.service.OrderSummaryCounter;
+import hhplus.ecommerce.order.domain.event.OrderCreatedEvent;
+import hhplus.ecommerce.order.domain.event.OrderStatusChangedEvent;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 주문 상태 카운터 이벤트 핸들러
+ *
+ * 트랜잭션 커밋 후 카운터를 증감한다. (롤백된 주문/상태 변경은 반영되지 않음)
+ * 이벤트는 트랜잭션 안에서 받아 카운터에 넘기고, 카운터가 커밋 전에 반영 중 표시를 한 뒤 커밋 후 증감한다.
+ * (커밋 후 이벤트로 받으면 커밋과 증감 사이의 재계산이 새 주문을 두 번 센다)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryEventHandler {
+
+    private final OrderSummaryCounter orderSummaryCounter;
+
+    /**
+     * 주문 생성 → PENDING +1
+     */
+    @EventListener
+    public void handleOrderCreated(OrderCreatedEvent event) {
+        orderSummaryCounter.increment(event.getUserId(), OrderStatus.PENDING);
+    }
+
+    /**
+     * 주문 상태 변경(상태 변경 API, 결제, 보상) → 이전 상태 -1, 변경 상태 +1
+     */
+    @EventListener
+    public void handleOrderStatusChanged(OrderStatusChangedEvent event) {
+        orderSummaryCounter.apply(event.getUserId(), event.getPreviousStatus(), event.getOrderStatus());
+    }
+}
@@ -0,0 +1,52 @@
+package hhplus.ecommerce.order.application.scheduler;
+
+import hhplus.ecommerce.order.application.service.OrderSummaryCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주문 상태 카운터 재계산 스케줄러
+ *
+ * order:summary:dirty 에 등록된 사용자(이전 상태 불명, Redis 갱신 실패)의 카운터를 DB 기준으로 다시 계산한다.
+ * 그 밖의 누적 오차는 카운터 TTL 만료 후 조회 시 재계산으로 복구된다.
+ */
+@Slf4j
+@Component
+public class OrderSummaryRepairScheduler {
+
+    private final OrderSummaryCounter orderSummaryCounter;
+    private final int batchSize;
+
+    public OrderSummaryRepairScheduler(OrderSummaryCounter orderSummaryCounter,
+                                       @Value("${order.summary.repair-batch-size:100}") int batchSize) {
+        this.orderSummaryCounter = orderSummaryCounter;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${order.summary.repair-interval-ms:5000}")
+    public void repair() {
+        List<Long> userIds;
+        try {
+            userIds = orderSummaryCounter.popDirtyUserIds(batchSize);
+        } catch (Exception e) {
+            log.warn("주문 상태 카운터 재계산 대상 조회 실패. exception={}", e.getMessage());
+            return;
+        }
+
+        for (Long userId : userIds) {
+            try {
+                orderSummaryCounter.recompute(userId);
+            } catch (Exception e) {
+                orderSummaryCounter.markDirty(List.of(userId));
+                log.error("주문 상태 카운터 재계산 실패. userId={}", userId, e);
+            }
+        }
+        if (!userIds.isEmpty()) {
+            log.debug("주문 상태 카운터 재계산 완료. users={}", userIds.size());
+        }
+    }
+}
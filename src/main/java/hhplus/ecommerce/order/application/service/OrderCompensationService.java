@@ -1,5 +1,9 @@
 package hhplus.ecommerce.order.application.service;
 
+import hhplus.ecommerce.common.event.EventPublisher;
+import hhplus.ecommerce.order.domain.event.OrderStatusChangedEvent;
+import hhplus.ecommerce.order.domain.model.Order;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
 import hhplus.ecommerce.product.application.service.StockService;
 import hhplus.ecommerce.product.domain.model.StockReservation;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +19,7 @@ import java.util.List;
  * 외부 시스템 연동 실패 시 보상 트랜잭션을 처리
  * - 주문 취소
  * - 재고 예약 해제 (물리 재고 복구)
+ * - 사용한 쿠폰 복구
  */
 @Slf4j
 @Service
@@ -23,12 +28,14 @@ public class OrderCompensationService {
 
     private final OrderService orderService;
     private final StockService stockService;
+    private final EventPublisher eventPublisher;
 
     /**
      * 주문 보상 트랜잭션 실행
      *
      * 1. 주문 상태를 CANCELLED로 변경
      * 2. 예약된 재고 해제 (물리 재고 복구)
+     * 3. 주문에 사용한 쿠폰을 사용 가능 상태로 복구
      *
      * @param orderId 취소할 주문 ID
      */
@@ -38,7 +45,9 @@ public class OrderCompensationService {
 
         try {
             // 1. 주문 취소
-            orderService.cancelOrder(orderId);
+            Order cancelledOrder = orderService.cancelOrder(orderId);
+            eventPublisher.publish(new OrderStatusChangedEvent(
+                    orderId, cancelledOrder.getUserId(), OrderStatus.PENDING, cancelledOrder.getOrderStatus()));
             log.info("주문 취소 완료 - OrderId: {}", orderId);
 
             // 2. 재고 예약 해제 (역순으로 롤백)
@@ -51,6 +60,12 @@ public class OrderCompensationService {
                         reservation.getReservedQuantity());
             }
 
+            // 3. 쿠폰 복구
+            int restoredCoupons = orderService.restoreCoupon(orderId);
+            if (restoredCoupons > 0) {
+                log.info("쿠폰 복구 완료 - OrderId: {}, Count: {}", orderId, restoredCoupons);
+            }
+
             log.info("보상 트랜잭션 성공 - OrderId: {}", orderId);
 
         } catch (Exception e) {
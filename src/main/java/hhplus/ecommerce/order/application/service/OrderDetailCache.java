@@ -0,0 +1,211 @@
+package hhplus.ecommerce.order.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hhplus.ecommerce.order.application.dto.OrderDetailInfo;
+import hhplus.ecommerce.order.application.dto.OrderItemDetailInfo;
+import hhplus.ecommerce.order.domain.model.OrderItemStatus;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 주문 상세 Read-through 캐시
+ *
+ * key: order:detail:{orderId} (JSON), order:detail:version:{orderId} (무효화 버전)
+ * - 주문 생성 이벤트로 적재, 상태 변경/결제/보상 이벤트로 삭제 (다음 조회 시 DB에서 다시 적재)
+ * - 삭제할 때 버전을 올리고, 적재는 DB 조회 전에 읽은 버전이 그대로일 때만 한다. (Lua)
+ *   DB 조회 후 적재 전에 상태 변경이 커밋·삭제되면 조회한 옛 상태를 적재하지 않는다.
+ * - 상태 변경 시 캐시를 읽어 고쳐 쓰지 않는다. 동시에 처리되는 이벤트끼리 읽기-쓰기가 겹치면 오래된 상태가 덮어쓸 수 있기 때문
+ * - 캐시 장애는 조회 실패로 이어지지 않도록 로그만 남기고 DB 조회로 대체
+ */
+@Slf4j
+@Component
+public class OrderDetailCache {
+
+    public static final String ORDER_DETAIL_KEY_PREFIX = "order:detail:";
+    public static final String ORDER_DETAIL_VERSION_KEY_PREFIX = "order:detail:version:";
+
+    /**
+     * 버전이 그대로일 때만 적재
+     * KEYS[1]: 상세 키, KEYS[2]: 버전 키, ARGV[1]: JSON, ARGV[2]: TTL(초), ARGV[3]: DB 조회 전에 읽은 버전
+     */
+    private static final DefaultRedisScript<Long> PUT_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[2]) or '0' " +
+            "if version ~= ARGV[3] then " +
+            "    return 0 " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 버전 증가 후 삭제
+     * KEYS: 상세 키, 버전 키 쌍, ARGV[1]: 버전 키 TTL(초)
+     */
+    private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+            "    redis.call('INCR', KEYS[i + 1]) " +
+            "    redis.call('EXPIRE', KEYS[i + 1], ARGV[1]) " +
+            "    redis.call('DEL', KEYS[i]) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlSeconds;
+
+    public OrderDetailCache(RedisTemplate<String, String> redisTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${order.detail-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * @return 캐시된 주문 상세 (없거나 읽을 수 없으면 null)
+     */
+    public OrderDetailInfo get(Long orderId) {
+        CachedOrderDetail cached = read(orderId);
+        return cached == null ? null : cached.toInfo();
+    }
+
+    /**
+     * 적재 전 DB 조회 직전에 읽는 무효화 버전
+     * @return 현재 버전 (읽을 수 없으면 -1, 이후 적재는 항상 건너뜀)
+     */
+    public long readVersion(Long orderId) {
+        try {
+            String version = redisTemplate.opsForValue().get(ORDER_DETAIL_VERSION_KEY_PREFIX + orderId);
+            return version == null ? 0L : Long.parseLong(version);
+        } catch (Exception e) {
+            log.warn("주문 상세 캐시 버전 조회 실패. orderId={}, exception={}", orderId, e.getMessage());
+            return -1L;
+        }
+    }
+
+    /**
+     * DB 조회 전에 읽은 버전이 그대로일 때만 적재 (그 사이 삭제되었으면 적재하지 않음)
+     * @param version readVersion 결과
+     * @return 적재 여부
+     */
+    public boolean putIfUnchanged(OrderDetailInfo info, long version) {
+        if (version < 0) {
+            return false;
+        }
+        try {
+            Long written = redisTemplate.execute(
+                    PUT_IF_UNCHANGED_SCRIPT,
+                    List.of(ORDER_DETAIL_KEY_PREFIX + info.getOrderId(), ORDER_DETAIL_VERSION_KEY_PREFIX + info.getOrderId()),
+                    objectMapper.writeValueAsString(CachedOrderDetail.from(info)),
+                    String.valueOf(ttlSeconds),
+                    String.valueOf(version)
+            );
+            return Long.valueOf(1L).equals(written);
+        } catch (Exception e) {
+            log.warn("주문 상세 캐시 저장 실패. orderId={}, exception={}", info.getOrderId(), e.getMessage());
+            return false;
+        }
+    }
+
+    public void evict(Long orderId) {
+        evictAll(List.of(orderId));
+    }
+
+    /**
+     * 여러 주문의 캐시를 한 번에 삭제 (일괄 상태 변경용)
+     */
+    public void evictAll(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(orderIds.size() * 2);
+        for (Long orderId : orderIds) {
+            keys.add(ORDER_DETAIL_KEY_PREFIX + orderId);
+            keys.add(ORDER_DETAIL_VERSION_KEY_PREFIX + orderId);
+        }
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("주문 상세 캐시 삭제 실패. count={}, exception={}", orderIds.size(), e.getMessage());
+        }
+    }
+
+    private CachedOrderDetail read(Long orderId) {
+        try {
+            String json = redisTemplate.opsForValue().get(ORDER_DETAIL_KEY_PREFIX + orderId);
+            return json == null ? null : objectMapper.readValue(json, CachedOrderDetail.class);
+        } catch (Exception e) {
+            log.warn("주문 상세 캐시 조회 실패. orderId={}, exception={}", orderId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 저장 형태 (OrderDetailInfo는 JSON 역직렬화용 생성자가 없으므로 record로 보관)
+     */
+    record CachedOrderDetail(Long orderId, String orderNumber, OrderStatus orderStatus,
+                             BigDecimal totalAmount, BigDecimal discountAmount, BigDecimal finalAmount,
+                             List<CachedOrderItem> orderItems,
+                             LocalDateTime createdAt, LocalDateTime expiresAt) {
+
+        static CachedOrderDetail from(OrderDetailInfo info) {
+            return new CachedOrderDetail(
+                    info.getOrderId(),
+                    info.getOrderNumber(),
+                    info.getOrderStatus(),
+                    info.getTotalAmount(),
+                    info.getDiscountAmount(),
+                    info.getFinalAmount(),
+                    info.getOrderItems().stream().map(CachedOrderItem::from).toList(),
+                    info.getCreatedAt(),
+                    info.getExpiresAt()
+            );
+        }
+
+        OrderDetailInfo toInfo() {
+            return new OrderDetailInfo(
+                    orderId,
+                    orderNumber,
+                    orderStatus,
+                    totalAmount,
+                    discountAmount,
+                    finalAmount,
+                    orderItems.stream().map(CachedOrderItem::toInfo).toList(),
+                    createdAt,
+                    expiresAt
+            );
+        }
+    }
+
+    record CachedOrderItem(Long orderItemId, String productName, String optionName,
+                           int quantity, BigDecimal unitPrice, OrderItemStatus itemStatus) {
+
+        static CachedOrderItem from(OrderItemDetailInfo info) {
+            return new CachedOrderItem(
+                    info.getOrderItemId(),
+                    info.getProductName(),
+                    info.getOptionName(),
+                    info.getQuantity(),
+                    info.getUnitPrice(),
+                    info.getItemStatus()
+            );
+        }
+
+        OrderItemDetailInfo toInfo() {
+            return new OrderItemDetailInfo(orderItemId, productName, optionName, quantity, unitPrice, itemStatus);
+        }
+    }
+}
@@ -2,12 +2,15 @@ package hhplus.ecommerce.order.application.service;
 
 import hhplus.ecommerce.common.domain.exception.OrderException;
 import hhplus.ecommerce.coupon.application.service.CouponService;
+import hhplus.ecommerce.coupon.application.service.UserCouponService;
 import hhplus.ecommerce.coupon.domain.model.Coupon;
 import hhplus.ecommerce.order.application.dto.OrderDetailInfo;
 import hhplus.ecommerce.order.application.dto.OrderItemDetailInfo;
 import hhplus.ecommerce.order.application.dto.OrderItemInfo;
 import hhplus.ecommerce.order.domain.model.Order;
 import hhplus.ecommerce.order.domain.model.OrderItem;
+import hhplus.ecommerce.order.domain.model.OrderItemStatus;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
 import hhplus.ecommerce.order.domain.repository.OrderItemRepository;
 import hhplus.ecommerce.order.domain.repository.OrderRepository;
 import hhplus.ecommerce.order.presentation.dto.request.OrderItemRequest;
@@ -17,11 +20,13 @@ import hhplus.ecommerce.product.domain.model.ProductOption;
 import hhplus.ecommerce.product.presentation.dto.response.ProductDetailResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -36,6 +41,7 @@ public class OrderService {
     private final ProductService productService;
     private final StockService stockService;
     private final CouponService couponService;
+    private final UserCouponService userCouponService;
 
     /**
      * 상품 옵션을 조회하고 최종 단가를 계산
@@ -194,7 +200,8 @@ public class OrderService {
     }
 
     /**
-     * 쿠폰 할인 금액 계산
+     * 쿠폰 할인 금액 계산 (쿠폰 메타데이터는 로컬 캐시에서 조회)
+     * 보유 여부 / 사용 여부는 주문 저장 후 redeemCoupon의 조건부 UPDATE로 판단한다.
      * @param couponId 쿠폰 ID (null 가능)
      * @param totalAmount 총 주문 금액
      * @return 할인 금액
@@ -204,7 +211,7 @@ public class OrderService {
             return BigDecimal.ZERO;
         }
 
-        Coupon coupon = couponService.getCouponById(couponId);
+        Coupon coupon = couponService.getCouponForOrder(couponId);
         if (!couponService.isCouponAvailable(coupon, totalAmount, LocalDateTime.now())) {
             throw OrderException.orderCreationFailed("사용할 수 없는 쿠폰입니다.");
         }
@@ -213,11 +220,38 @@ public class OrderService {
         return BigDecimal.valueOf(discountLong);
     }
 
+    /**
+     * 주문에 쿠폰 사용 처리 (user_coupons 상태 조건부 UPDATE 1회)
+     * 미보유 / 이미 사용한 쿠폰이면 예외가 발생해 주문 생성 트랜잭션 전체가 롤백된다.
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID (null이면 처리 없음)
+     * @param orderId 주문 ID
+     */
+    public void redeemCoupon(Long userId, Long couponId, Long orderId) {
+        if (couponId == null) {
+            return;
+        }
+        userCouponService.redeemCoupon(userId, couponId, orderId);
+    }
+
+    /**
+     * 주문에 사용한 쿠폰 복구 (주문 보상)
+     * @param orderId 주문 ID
+     * @return 복구된 쿠폰 수
+     */
+    public int restoreCoupon(Long orderId) {
+        return userCouponService.restoreCoupon(orderId);
+    }
+
     /**
      * 주문 아이템들의 재고를 예약
+     * 옵션 ID 오름차순으로 잠가 재고 일괄 반영 배치 / 다른 주문과 잠금 순서를 맞춘다. (교착 방지)
      */
     public void reserveStocks(Long orderId, List<OrderItemInfo> orderItems) {
-        for (OrderItemInfo itemInfo : orderItems) {
+        List<OrderItemInfo> sortedItems = orderItems.stream()
+                .sorted(Comparator.comparing(OrderItemInfo::getProductOptionId))
+                .toList();
+        for (OrderItemInfo itemInfo : sortedItems) {
             stockService.reserveStock(
                     orderId,
                     itemInfo.getProductOptionId(),
@@ -330,7 +364,7 @@ public class OrderService {
     /**
      * 사용자의 주문 목록 조회 (상태 필터링 포함)
      */
-    public List<Order> getOrdersByUserId(Long userId, hhplus.ecommerce.order.domain.model.OrderStatus status) {
+    public List<Order> getOrdersByUserId(Long userId, OrderStatus status) {
         if (status != null) {
             return orderRepository.findByUserIdAndOrderStatus(userId, status);
         }
@@ -348,6 +382,33 @@ public class OrderService {
         return orderRepository.save(cancelledOrder);
     }
 
+    /**
+     * 주문 상태 전이 (조건부 UPDATE 1회)
+     * 본인 주문이고 OrderStatus 전이 테이블상 허용된 이전 상태일 때만 변경된다.
+     *
+     * @return 변경된 행 수 (0이면 주문 없음/권한 없음/허용되지 않는 전이)
+     */
+    @Transactional
+    public int transitionOrderStatus(Long orderId, Long userId, OrderStatus target) {
+        if (target.allowedPredecessors().isEmpty()) {
+            return 0;
+        }
+        return orderRepository.transitionStatus(orderId, userId, target.allowedPredecessors(), target, LocalDateTime.now());
+    }
+
+    /**
+     * 주문 아이템 상태 전이 (조건부 UPDATE 1회)
+     *
+     * @return 변경된 행 수 (0이면 아이템 없음/허용되지 않는 전이)
+     */
+    @Transactional
+    public int transitionOrderItemStatus(Long orderItemId, OrderItemStatus target) {
+        if (target.allowedPredecessors().isEmpty()) {
+            return 0;
+        }
+        return orderItemRepository.transitionStatus(orderItemId, target.allowedPredecessors(), target, LocalDateTime.now());
+    }
+
     /**
      * 주문 번호로 주문 조회
      */
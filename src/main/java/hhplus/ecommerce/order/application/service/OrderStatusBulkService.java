@@ -0,0 +1,124 @@
+package hhplus.ecommerce.order.application.service;
+
+import hhplus.ecommerce.order.application.dto.BulkStatusChangeResult;
+import hhplus.ecommerce.order.application.dto.BulkStatusChangeResult.Outcome;
+import hhplus.ecommerce.order.domain.model.OrderItemStatus;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import hhplus.ecommerce.order.domain.repository.OrderItemRepository;
+import hhplus.ecommerce.order.domain.repository.OrderItemStatusView;
+import hhplus.ecommerce.order.domain.repository.OrderRepository;
+import hhplus.ecommerce.order.domain.repository.OrderStatusView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문/주문 아이템 일괄 상태 변경 (청크 단위 트랜잭션)
+ *
+ * 1. 청크의 현재 상태를 한 번에 조회해 전이 테이블로 집합 단위 검증
+ * 2. 전이 가능한 ID만 조건부 UPDATE 한 번으로 변경
+ * 3. 영향 행 수가 예상과 다르면(동시 변경) 해당 ID만 재조회해 결과를 확정
+ * 4. 변경된 주문의 상태 카운터 전이를 등록 (커밋 후 반영)
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderStatusBulkService {
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderSummaryCounter orderSummaryCounter;
+
+    @Transactional
+    public List<BulkStatusChangeResult> transitionOrderChunk(List<Long> orderIds, OrderStatus target) {
+        Map<Long, OrderStatusView> views = orderRepository.findStatusViewsByOrderIdIn(orderIds).stream()
+                .collect(Collectors.toMap(OrderStatusView::getOrderId, Function.identity()));
+
+        List<Long> candidates = new ArrayList<>();
+        for (Long orderId : orderIds) {
+            OrderStatusView view = views.get(orderId);
+            if (view != null && view.getOrderStatus().canTransitionTo(target)) {
+                candidates.add(orderId);
+            }
+        }
+
+        int updated = candidates.isEmpty() ? 0 : orderRepository.transitionStatusIn(
+                candidates, target.allowedPredecessors(), target, LocalDateTime.now());
+
+        // 동시 변경으로 일부가 빠졌으면 후보만 재조회
+        Map<Long, OrderStatus> afterUpdate = null;
+        if (updated != candidates.size()) {
+            afterUpdate = orderRepository.findStatusViewsByOrderIdIn(candidates).stream()
+                    .collect(Collectors.toMap(OrderStatusView::getOrderId, OrderStatusView::getOrderStatus));
+        }
+
+        List<BulkStatusChangeResult> results = new ArrayList<>(orderIds.size());
+        List<OrderSummaryCounter.Transition> transitions = new ArrayList<>();
+        for (Long orderId : orderIds) {
+            OrderStatusView view = views.get(orderId);
+            if (view == null) {
+                results.add(new BulkStatusChangeResult(orderId, orderId, Outcome.NOT_FOUND, null));
+            } else if (view.getOrderStatus() == target) {
+                results.add(new BulkStatusChangeResult(orderId, orderId, Outcome.UNCHANGED, target.name()));
+            } else if (!view.getOrderStatus().canTransitionTo(target)) {
+                results.add(new BulkStatusChangeResult(orderId, orderId, Outcome.INVALID_TRANSITION, view.getOrderStatus().name()));
+            } else if (afterUpdate == null || afterUpdate.get(orderId) == target) {
+                results.add(new BulkStatusChangeResult(orderId, orderId, Outcome.UPDATED, target.name(),
+                        view.getUserId(), view.getOrderStatus().name()));
+                transitions.add(new OrderSummaryCounter.Transition(view.getUserId(), view.getOrderStatus(), target));
+            } else {
+                OrderStatus current = afterUpdate.get(orderId);
+                results.add(new BulkStatusChangeResult(orderId, orderId, Outcome.CONFLICT, current == null ? null : current.name()));
+            }
+        }
+        orderSummaryCounter.applyAll(transitions);
+        return results;
+    }
+
+    @Transactional
+    public List<BulkStatusChangeResult> transitionOrderItemChunk(List<Long> orderItemIds, OrderItemStatus target) {
+        Map<Long, OrderItemStatusView> views = orderItemRepository.findStatusViewsByOrderItemIdIn(orderItemIds).stream()
+                .collect(Collectors.toMap(OrderItemStatusView::getOrderItemId, Function.identity()));
+
+        List<Long> candidates = new ArrayList<>();
+        for (Long orderItemId : orderItemIds) {
+            OrderItemStatusView view = views.get(orderItemId);
+            if (view != null && view.getItemStatus().canTransitionTo(target)) {
+                candidates.add(orderItemId);
+            }
+        }
+
+        int updated = candidates.isEmpty() ? 0 : orderItemRepository.transitionStatusIn(
+                candidates, target.allowedPredecessors(), target, LocalDateTime.now());
+
+        Map<Long, OrderItemStatus> afterUpdate = null;
+        if (updated != candidates.size()) {
+            afterUpdate = orderItemRepository.findStatusViewsByOrderItemIdIn(candidates).stream()
+                    .collect(Collectors.toMap(OrderItemStatusView::getOrderItemId, OrderItemStatusView::getItemStatus));
+        }
+
+        List<BulkStatusChangeResult> results = new ArrayList<>(orderItemIds.size());
+        for (Long orderItemId : orderItemIds) {
+            OrderItemStatusView view = views.get(orderItemId);
+            if (view == null) {
+                results.add(new BulkStatusChangeResult(orderItemId, null, Outcome.NOT_FOUND, null));
+            } else if (view.getItemStatus() == target) {
+                results.add(new BulkStatusChangeResult(orderItemId, view.getOrderId(), Outcome.UNCHANGED, target.name()));
+            } else if (!view.getItemStatus().canTransitionTo(target)) {
+                results.add(new BulkStatusChangeResult(orderItemId, view.getOrderId(), Outcome.INVALID_TRANSITION, view.getItemStatus().name()));
+            } else if (afterUpdate == null || afterUpdate.get(orderItemId) == target) {
+                results.add(new BulkStatusChangeResult(orderItemId, view.getOrderId(), Outcome.UPDATED, target.name()));
+            } else {
+                OrderItemStatus current = afterUpdate.get(orderItemId);
+                results.add(new BulkStatusChangeResult(orderItemId, view.getOrderId(), Outcome.CONFLICT, current == null ? null : current.name()));
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,335 @@
+package hhplus.ecommerce.order.application.service;
+
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import hhplus.ecommerce.order.domain.repository.OrderRepository;
+import hhplus.ecommerce.order.domain.repository.OrderStatusCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 주문 상태 카운터 (Redis Hash)
+ *
+ * key: order:summary:{userId}  field: OrderStatus  value: 건수
+ * - 주문 생성/결제/취소/보상 이벤트로 증감 (키가 있을 때만, 없으면 조회 시 DB에서 재계산)
+ * - 이전 상태를 알 수 없는 변경이나 갱신 실패는 order:summary:dirty 에 등록하고 재계산 스케줄러가 복구
+ *
+ * 재계산과 증감의 순서
+ * - 트랜잭션 안에서 요청된 증감은 커밋 후에 반영한다. 그 전에 order:summary:epoch:{userId} 를 올리고
+ *   order:summary:pending:{userId} 를 올려 두었다가 트랜잭션이 끝나면(커밋/롤백) 내린다.
+ * - 재계산은 GROUP BY 전에 epoch를 읽고, epoch가 바뀌었거나 반영 전인 변경(pending)이 있으면 덮어쓰지 않고 다시 등록한다.
+ *   커밋과 증감 사이에 재계산하면 새 주문이 DB 집계와 증감에 두 번 반영되고,
+ *   집계 후 저장 전에 변경이 끝나면 증감이 덮어써져 빠지기 때문
+ */
+@Slf4j
+@Component
+public class OrderSummaryCounter {
+
+    public static final String SUMMARY_KEY_PREFIX = "order:summary:";
+    public static final String DIRTY_KEY = "order:summary:dirty";
+    public static final String EPOCH_KEY_PREFIX = "order:summary:epoch:";
+    public static final String PENDING_KEY_PREFIX = "order:summary:pending:";
+
+    // 트랜잭션이 끝나지 않고 남은 반영 중 표시의 최대 수명 (프로세스 종료 등으로 내리지 못한 경우)
+    private static final long PENDING_TTL_SECONDS = 60;
+
+    // KEYS[i]의 카운터를 ARGV[2i-1] -1, ARGV[2i] +1 (키가 있을 때만, 없는 키에 증감하면 일부 상태만 가진 잘못된 카운터가 생김)
+    private static final DefaultRedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "local applied = 0 " +
+            "for i = 1, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    local prev = ARGV[2 * i - 1] " +
+            "    if prev ~= '' then redis.call('HINCRBY', KEYS[i], prev, -1) end " +
+            "    redis.call('HINCRBY', KEYS[i], ARGV[2 * i], 1) " +
+            "    applied = applied + 1 " +
+            "  end " +
+            "end " +
+            "return applied",
+            Long.class
+    );
+
+    // 카운터 전체 교체: KEYS[1] 카운터, KEYS[2] epoch, KEYS[3] pending, ARGV[1] TTL, ARGV[2] 집계 전 epoch, 이후 (상태, 건수) 쌍
+    // 집계 후 epoch가 바뀌었거나 반영 전인 변경이 있으면 교체하지 않고 0 반환
+    private static final DefaultRedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[2] " +
+            "    or tonumber(redis.call('GET', KEYS[3]) or '0') > 0 then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    // 반영 중 표시: KEYS (epoch, pending) 쌍, ARGV[1] epoch TTL, ARGV[2] pending TTL
+    private static final DefaultRedisScript<Long> BEGIN_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+            "  redis.call('INCR', KEYS[i]) " +
+            "  redis.call('EXPIRE', KEYS[i], ARGV[1]) " +
+            "  redis.call('INCR', KEYS[i + 1]) " +
+            "  redis.call('EXPIRE', KEYS[i + 1], ARGV[2]) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    // 반영 중 표시 해제: KEYS pending
+    private static final DefaultRedisScript<Long> END_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do " +
+            "  if redis.call('DECR', KEYS[i]) <= 0 then redis.call('DEL', KEYS[i]) end " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final OrderRepository orderRepository;
+    private final long ttlSeconds;
+
+    public OrderSummaryCounter(RedisTemplate<String, String> redisTemplate,
+                               OrderRepository orderRepository,
+                               @Value("${order.summary.ttl-seconds:86400}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.orderRepository = orderRepository;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 상태별 주문 건수 조회 (카운터가 없으면 DB에서 재계산 후 적재)
+     */
+    public Map<OrderStatus, Long> getCounts(Long userId) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(summaryKey(userId));
+            if (!entries.isEmpty()) {
+                return toCounts(entries);
+            }
+        } catch (Exception e) {
+            log.warn("주문 상태 카운터 조회 실패. userId={}, exception={}", userId, e.getMessage());
+        }
+        return recompute(userId);
+    }
+
+    /**
+     * 주문 생성 (status +1, 트랜잭션 안이면 커밋 후)
+     */
+    public void increment(Long userId, OrderStatus status) {
+        afterCommit(List.of(userId), () -> execute(userId, "", status));
+    }
+
+    /**
+     * 상태 전이 (previousStatus -1, status +1, 트랜잭션 안이면 커밋 후), 이전 상태를 모르면 재계산 대상으로 등록
+     */
+    public void apply(Long userId, OrderStatus previousStatus, OrderStatus status) {
+        if (previousStatus == null) {
+            afterCommit(List.of(userId), () -> markDirty(List.of(userId)));
+            return;
+        }
+        afterCommit(List.of(userId), () -> execute(userId, previousStatus.name(), status));
+    }
+
+    private void execute(Long userId, String previousStatus, OrderStatus status) {
+        try {
+            redisTemplate.execute(APPLY_SCRIPT, List.of(summaryKey(userId)), previousStatus, status.name());
+        } catch (Exception e) {
+            log.warn("주문 상태 카운터 갱신 실패. userId={}, exception={}", userId, e.getMessage());
+            markDirty(List.of(userId));
+        }
+    }
+
+    /**
+     * 여러 주문의 상태 전이를 스크립트 한 번으로 반영 (일괄 상태 변경용, 트랜잭션 안이면 커밋 후)
+     */
+    public void applyAll(Collection<Transition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        afterCommit(transitions.stream().map(Transition::userId).toList(), () -> executeAll(transitions));
+    }
+
+    private void executeAll(Collection<Transition> transitions) {
+        List<String> keys = new ArrayList<>(transitions.size());
+        List<String> args = new ArrayList<>(transitions.size() * 2);
+        List<Long> unknownUserIds = new ArrayList<>();
+        for (Transition transition : transitions) {
+            if (transition.previousStatus() == null) {
+                unknownUserIds.add(transition.userId());
+                continue;
+            }
+            keys.add(summaryKey(transition.userId()));
+            args.add(transition.previousStatus().name());
+            args.add(transition.status().name());
+        }
+        markDirty(unknownUserIds);
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(APPLY_SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            log.warn("주문 상태 카운터 일괄 갱신 실패. count={}, exception={}", transitions.size(), e.getMessage());
+            markDirty(transitions.stream().map(Transition::userId).distinct().toList());
+        }
+    }
+
+    /**
+     * 반영 중 표시 후 트랜잭션 커밋 시 change 실행, 트랜잭션 종료 시 표시 해제 (트랜잭션 밖이면 바로 실행)
+     */
+    private void afterCommit(List<Long> userIds, Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        List<String> pendingKeys = begin(userIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                end(pendingKeys);
+            }
+        });
+    }
+
+    /**
+     * @return 해제할 pending 키 (표시에 실패하면 빈 목록)
+     */
+    private List<String> begin(List<Long> userIds) {
+        List<String> keys = new ArrayList<>(userIds.size() * 2);
+        List<String> pendingKeys = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            keys.add(epochKey(userId));
+            keys.add(pendingKey(userId));
+            pendingKeys.add(pendingKey(userId));
+        }
+        try {
+            redisTemplate.execute(BEGIN_SCRIPT, keys, String.valueOf(ttlSeconds), String.valueOf(PENDING_TTL_SECONDS));
+            return pendingKeys;
+        } catch (Exception e) {
+            log.warn("주문 상태 카운터 반영 중 표시 실패. userIds={}, exception={}", userIds, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void end(List<String> pendingKeys) {
+        if (pendingKeys.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(END_SCRIPT, pendingKeys);
+        } catch (Exception e) {
+            log.warn("주문 상태 카운터 반영 중 표시 해제 실패. keys={}, exception={}", pendingKeys, e.getMessage());
+        }
+    }
+
+    /**
+     * DB 기준으로 카운터 재계산 (GROUP BY 1회)
+     * 집계 중 변경이 있었거나 반영 전인 변경이 있으면 저장하지 않고 재계산 대상으로 다시 등록한다.
+     */
+    public Map<OrderStatus, Long> recompute(Long userId) {
+        String epoch = readEpoch(userId);
+
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (OrderStatusCount row : orderRepository.countByUserIdGroupByStatus(userId)) {
+            counts.put(row.getOrderStatus(), row.getOrderCount());
+        }
+
+        if (epoch == null) {
+            return counts;
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds));
+        args.add(epoch);
+        counts.forEach((status, count) -> {
+            args.add(status.name());
+            args.add(String.valueOf(count));
+        });
+        try {
+            Long replaced = redisTemplate.execute(
+                    REPLACE_SCRIPT, List.of(summaryKey(userId), epochKey(userId), pendingKey(userId)), args.toArray());
+            if (!Long.valueOf(1L).equals(replaced)) {
+                markDirty(List.of(userId));
+            }
+        } catch (Exception e) {
+            log.warn("주문 상태 카운터 저장 실패. userId={}, exception={}", userId, e.getMessage());
+        }
+        return counts;
+    }
+
+    /**
+     * @return 집계 전 epoch (없으면 "0", 읽을 수 없으면 null → 저장하지 않음)
+     */
+    private String readEpoch(Long userId) {
+        try {
+            String epoch = redisTemplate.opsForValue().get(epochKey(userId));
+            return epoch == null ? "0" : epoch;
+        } catch (Exception e) {
+            log.warn("주문 상태 카운터 epoch 조회 실패. userId={}, exception={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void markDirty(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForSet().add(DIRTY_KEY, userIds.stream().map(String::valueOf).toArray(String[]::new));
+        } catch (Exception e) {
+            log.warn("주문 상태 카운터 재계산 등록 실패. userIds={}, exception={}", userIds, e.getMessage());
+        }
+    }
+
+    public List<Long> popDirtyUserIds(int count) {
+        List<String> popped = redisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        List<Long> userIds = new ArrayList<>();
+        if (popped != null) {
+            popped.forEach(userId -> userIds.add(Long.valueOf(userId)));
+        }
+        return userIds;
+    }
+
+    private Map<OrderStatus, Long> toCounts(Map<Object, Object> entries) {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            Object value = entries.get(status.name());
+            counts.put(status, value == null ? 0L : Math.max(0L, Long.parseLong(value.toString())));
+        }
+        return counts;
+    }
+
+    private static String summaryKey(Long userId) {
+        return SUMMARY_KEY_PREFIX + userId;
+    }
+
+    private static String epochKey(Long userId) {
+        return EPOCH_KEY_PREFIX + userId;
+    }
+
+    private static String pendingKey(Long userId) {
+        return PENDING_KEY_PREFIX + userId;
+    }
+
+    /**
+     * 일괄 반영용 상태 전이
+     */
+    public record Transition(Long userId, OrderStatus previousStatus, OrderStatus status) {
+    }
+}
@@ -1,10 +1,14 @@
 package hhplus.ecommerce.order.application.service;
 
-import hhplus.ecommerce.common.application.DistributedLock;
+import hhplus.ecommerce.common.application.trace.HotPathPhase;
+import hhplus.ecommerce.common.application.trace.HotPathTracer;
 import hhplus.ecommerce.common.domain.constants.BusinessConstants;
 import hhplus.ecommerce.common.domain.exception.OrderException;
+import hhplus.ecommerce.common.event.EventPublisher;
+import hhplus.ecommerce.order.domain.event.OrderStatusChangedEvent;
 import hhplus.ecommerce.order.domain.model.Order;
 import hhplus.ecommerce.order.domain.model.OrderItem;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
 import hhplus.ecommerce.order.domain.repository.OrderItemRepository;
 import hhplus.ecommerce.order.domain.repository.OrderRepository;
 import hhplus.ecommerce.order.presentation.dto.request.PaymentRequest;
@@ -12,19 +16,23 @@ import hhplus.ecommerce.order.presentation.dto.response.PaymentResponse;
 import hhplus.ecommerce.order.domain.model.PaymentMethod;
 import hhplus.ecommerce.point.application.service.PointService;
 import hhplus.ecommerce.product.application.service.StockService;
-import hhplus.ecommerce.product.domain.model.StockReservation;
-import hhplus.ecommerce.product.domain.repository.StockReservationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,123 +41,243 @@ public class PaymentService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final StockReservationRepository stockReservationRepository;
     private final StockService stockService;
     private final PointService pointService;
+    private final HotPathTracer hotPathTracer;
+    private final EventPublisher eventPublisher;
 
     private final RedisTemplate<String, String> redisTemplate;
 
+    /**
+     * 인기상품 점수 일괄 반영 Lua 스크립트 (주문 1건당 Redis 왕복 1회)
+     * KEYS[1..3]: daily, weekly, monthly 랭킹 키
+     * ARGV[1..3]: 각 랭킹 키의 만료 시간(초), ARGV[4..]: productId, quantity 쌍
+     */
+    private static final DefaultRedisScript<Long> PRODUCT_TOP_N_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, 3 do " +
+            "    for j = 4, #ARGV, 2 do " +
+            "        redis.call('ZINCRBY', KEYS[i], ARGV[j + 1], ARGV[j]) " +
+            "    end " +
+            "    if redis.call('TTL', KEYS[i]) == -1 then " + // 만료 시간이 없는 경우(신규 키)에만 설정
+            "        redis.call('EXPIRE', KEYS[i], ARGV[i]) " +
+            "    end " +
+            "    redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -1001) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * DB 미반영 누적 판매량 일괄 증가 Lua 스크립트
+     * KEYS[1]: DB 미반영 누적 판매량 Hash, ARGV: productId, quantity 쌍
+     */
+    private static final DefaultRedisScript<Long> PRODUCT_SALES_SCRIPT = new DefaultRedisScript<>(
+            "for j = 1, #ARGV, 2 do " +
+            "    redis.call('HINCRBY', KEYS[1], ARGV[j], ARGV[j + 1]) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
     /**
      * 주문 결제
+     *
+     * 멱등성:
+     * - 이미 결제된 주문에 대한 재요청은 아무 것도 변경하지 않고 기존 결제 결과를 반환한다.
+     * - PENDING → PAID 전환은 상태 조건부 UPDATE 로 선점하므로 동시에 들어온 중복 결제는 한 건만 진행된다.
+     *
+     * 재고 예약 확정은 주문 단위 조회 1회 + UPDATE 1회로 처리하여 주문 항목 수와 무관하게 일정한 쿼리 수를 유지한다.
+     *
      * @param orderId 주문 ID
      * @param request 결제 요청 (결제 수단)
      * @return 결제 완료 응답
      */
     @Transactional
     public PaymentResponse payOrder(Long orderId, PaymentRequest request) {
-        // 1. 주문 조회 및 상태 확인
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> OrderException.orderNotFound(orderId));
+        hotPathTracer.begin("payment.pay", orderId);
+        try {
+            // 1. 주문 조회 및 상태 확인
+            Order order = orderRepository.findById(orderId)
+                    .orElseThrow(() -> OrderException.orderNotFound(orderId));
 
-        if (!order.canPayment()) {
-            throw OrderException.paymentFailed("결제 가능한 상태가 아닙니다.");
-        }
+            // 이미 결제된 주문 재요청 (클라이언트 재시도) → no-op
+            if (order.isPaid()) {
+                log.info("이미 결제된 주문 재요청 - 결제 생략. OrderId: {}", orderId);
+                String paidMethod = order.getPaymentMethod() != null
+                        ? order.getPaymentMethod().name()
+                        : request.getPaymentMethod();
+                return toPaymentResponse(order, paidMethod, order.getUpdatedAt());
+            }
 
-        // 2. 주문 항목 조회
-        List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
-        if (orderItems.isEmpty()) {
-            throw OrderException.orderItemsEmpty();
-        }
+            if (!order.canPayment()) {
+                throw OrderException.paymentFailed("결제 가능한 상태가 아닙니다.");
+            }
 
-        // 3. 결제 수단 파싱 및 검증
-        PaymentMethod method;
-        try {
-            method = PaymentMethod.valueOf(request.getPaymentMethod().toUpperCase());
-        } catch (Exception e) {
-            throw OrderException.invalidPaymentMethod(request.getPaymentMethod());
-        }
+            // 2. 주문 항목 조회
+            List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
+            if (orderItems.isEmpty()) {
+                throw OrderException.orderItemsEmpty();
+            }
 
-        // 4. 포인트 결제 처리 (필요 시)
-        if (method == PaymentMethod.POINT) {
-            BigDecimal amount = order.getFinalAmount();
-            pointService.usePoint(order.getUserId(), amount, orderId, "주문 결제");
-        }
+            // 3. 결제 수단 파싱 및 검증
+            PaymentMethod method;
+            try {
+                method = PaymentMethod.valueOf(request.getPaymentMethod().toUpperCase());
+            } catch (Exception e) {
+                throw OrderException.invalidPaymentMethod(request.getPaymentMethod());
+            }
+            hotPathTracer.mark(HotPathPhase.LOAD_ORDER);
 
-        // 5. 주문 상태 업데이트 (PAID) 및 결제수단 반영
-        Order paidOrder = order.payWithMethod(method);
-        orderRepository.save(paidOrder);
+            // 4. 주문 상태 선점 (PENDING → PAID 조건부 UPDATE)
+            //    포인트 차감보다 먼저 수행하여 동시 중복 결제 시 포인트가 두 번 차감되지 않도록 함
+            Order paidOrder = order.payWithMethod(method); // 도메인 규칙 검증
+            int updated = orderRepository.payIfPending(
+                    orderId, method, OrderStatus.PENDING, OrderStatus.PAID, LocalDateTime.now());
+            if (updated == 0) {
+                throw OrderException.orderAlreadyPaid(orderId);
+            }
+            eventPublisher.publish(new OrderStatusChangedEvent(
+                    orderId, order.getUserId(), OrderStatus.PENDING, OrderStatus.PAID)); // 커밋 후 주문 상세 캐시/상태 카운터 갱신
+            hotPathTracer.mark(HotPathPhase.SAVE_PAYMENT);
 
-        // 6. 재고 예약 확정 (각 주문 항목에 대해)
-        for (OrderItem orderItem : orderItems) {
-            StockReservation reservation = stockReservationRepository
-                .findByProductOptionIdAndOrderId(orderItem.getProductOptionId(), orderId)
-                .orElseThrow(() -> OrderException.paymentFailed(
-                    "재고 예약을 찾을 수 없습니다. [상품옵션ID: " + orderItem.getProductOptionId() + "]"));
+            // 5. 포인트 결제 처리 (필요 시)
+            if (method == PaymentMethod.POINT) {
+                BigDecimal amount = order.getFinalAmount();
+                pointService.usePoint(order.getUserId(), amount, orderId, "주문 결제");
+            }
+            hotPathTracer.mark(HotPathPhase.USE_POINT);
 
-            stockService.confirmStockReservation(reservation.getStockReservationId());
+            // 6. 재고 예약 일괄 확정 (주문 단위 조회 1회 + UPDATE 1회)
+            List<Long> productOptionIds = orderItems.stream()
+                    .map(OrderItem::getProductOptionId)
+                    .collect(Collectors.toList());
+            stockService.confirmStockReservationsByOrderId(orderId, productOptionIds);
+            hotPathTracer.mark(HotPathPhase.CONFIRM_STOCK);
 
-            // Redis 인기상품 실시간 통계 점수 증가
+            // 7. Redis 인기상품 실시간 통계 점수 일괄 증가 (상품별 수량 합산 후 1회 호출)
+            Map<String, Integer> quantityByProductId = orderItems.stream()
+                    .collect(Collectors.toMap(
+                            orderItem -> orderItem.getProductId().toString(),
+                            OrderItem::getQuantity,
+                            Integer::sum,
+                            LinkedHashMap::new
+                    ));
             try {
-                updateProductTopN(orderItem.getProductId().toString(), orderItem.getQuantity());
+                updateProductTopN(quantityByProductId);
             } catch (Exception e) {
-                log.info("Redis top-N update failed. productId :{}, quantity : {}, exception : {}", orderItem.getProductId().toString(), orderItem.getQuantity(), e.getMessage());
+                log.info("Redis top-N update failed. orderId :{}, quantities : {}, exception : {}", orderId, quantityByProductId, e.getMessage());
             }
+            // 누적 판매량은 결제가 커밋된 뒤에만 쌓는다 (롤백된 결제가 sales_count에 반영되지 않도록)
+            addPendingSalesCountsAfterCommit(orderId, quantityByProductId);
+            hotPathTracer.mark(HotPathPhase.UPDATE_RANKING);
+
+            // 8. 결제 결과 반환
+            return toPaymentResponse(paidOrder, method.name(), LocalDateTime.now());
+        } finally {
+            hotPathTracer.end();
         }
+    }
 
-        // 7. 결제 결과 반환
+    private PaymentResponse toPaymentResponse(Order order, String paymentMethod, LocalDateTime paidAt) {
         return new PaymentResponse(
-                paidOrder.getOrderId(),
-                paidOrder.getOrderNumber(),
-                paidOrder.getOrderStatus(),
-                paidOrder.getFinalAmount(),
-                method.name(),
-                LocalDateTime.now()
+                order.getOrderId(),
+                order.getOrderNumber(),
+                order.getOrderStatus(),
+                order.getFinalAmount(),
+                paymentMethod,
+                paidAt
         );
     }
 
     /**
-     * Redis 인기상품 점수 업데이트 (실시간)
+     * Redis 인기상품 점수 업데이트 (실시간, 단건)
+     *
+     * @param productId 상품 ID
+     * @param quantity 주문 수량
+     */
+    public void updateProductTopN(String productId, int quantity) {
+        updateProductTopN(Map.of(productId, quantity));
+    }
+
+    /**
+     * Redis 인기상품 점수 일괄 업데이트 (실시간)
      *
      * 키 초기화 전략
      * - daily: 매일 자정 스케줄러로 초기화 (DEL 후 재생성)
      * - weekly: 매주 월요일 자정 초기화
      * - monthly: 매월 1일 자정 초기화
      *
-     * @param productId 상품 ID
-     * @param quantity 주문 수량
+     * 만료 설정 (스케줄러 삭제는 별도로 수행되며 방어용으로 사용)
+     * - daily는 2일 후 만료 (어제/오늘 데이터 보관)
+     * - weekly는 8일 후 만료
+     * - monthly는 2개월 후 만료
+     *
+     * 메모리 최적화 - Top 1000위 밖의 상품은 ZREMRANGEBYRANK로 제거 (조회는 Top100이 최대임)
+     *
+     * @param quantityByProductId 상품 ID별 주문 수량
      */
-    public void updateProductTopN(String productId, int quantity) {
-        String dailyKey = BusinessConstants.REDIS_TOP_N_DAILY_KEY;
-        String weeklyKey = BusinessConstants.REDIS_TOP_N_WEEKLY_KEY;
-        String monthlyKey = BusinessConstants.REDIS_TOP_N_MONTHLY_KEY;
-
-        boolean hasDailyKey = redisTemplate.hasKey(dailyKey);
-        boolean hasWeeklyKey = redisTemplate.hasKey(weeklyKey);
-        boolean hasMonthlyKey = redisTemplate.hasKey(monthlyKey);
-
-        // 판매량 score 증가
-        redisTemplate.opsForZSet().incrementScore(dailyKey, productId, quantity);
-        redisTemplate.opsForZSet().incrementScore(weeklyKey, productId, quantity);
-        redisTemplate.opsForZSet().incrementScore(monthlyKey, productId, quantity);
-
-        // 만료 설정 (스케줄러 삭제는 별도로 수행되며 방어용으로 사용)
-        // - daily는 2일 후 만료 (어제/오늘 데이터 보관)
-        // - weekly는 8일 후 만료
-        // - monthly는 2개월 후 만료
-        if (!hasDailyKey) {
-            redisTemplate.expire(dailyKey, Duration.ofDays(2));
+    public void updateProductTopN(Map<String, Integer> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) {
+            return;
         }
-        if (!hasWeeklyKey) {
-            redisTemplate.expire(weeklyKey, Duration.ofDays(8));
+
+        List<String> args = new ArrayList<>(3 + quantityByProductId.size() * 2);
+        args.add(String.valueOf(Duration.ofDays(2).toSeconds()));
+        args.add(String.valueOf(Duration.ofDays(8).toSeconds()));
+        args.add(String.valueOf(Duration.ofDays(60).toSeconds()));
+        quantityByProductId.forEach((productId, quantity) -> {
+            args.add(productId);
+            args.add(String.valueOf(quantity));
+        });
+
+        redisTemplate.execute(
+                PRODUCT_TOP_N_SCRIPT,
+                List.of(
+                        BusinessConstants.REDIS_TOP_N_DAILY_KEY,
+                        BusinessConstants.REDIS_TOP_N_WEEKLY_KEY,
+                        BusinessConstants.REDIS_TOP_N_MONTHLY_KEY
+                ),
+                args.toArray()
+        );
+    }
+
+    /**
+     * DB 미반영 누적 판매량 증가 (트랜잭션 안이면 커밋 후 실행)
+     * ProductSalesFlushScheduler가 주기적으로 products.sales_count에 반영한다.
+     *
+     * @param orderId 주문 ID (로그용)
+     * @param quantityByProductId 상품 ID별 주문 수량
+     */
+    private void addPendingSalesCountsAfterCommit(Long orderId, Map<String, Integer> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) {
+            return;
         }
-        if (!hasMonthlyKey) {
-            redisTemplate.expire(monthlyKey, Duration.ofDays(60));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addPendingSalesCounts(orderId, quantityByProductId);
+                }
+            });
+            return;
         }
+        addPendingSalesCounts(orderId, quantityByProductId);
+    }
 
-        // 메모리 최적화 - 하위 순위 제거
-        // - Top 1000위 밖의 상품은 ZREMRANGEBYRANK로 제거 (조회는 Top100이 최대임)
-        redisTemplate.opsForZSet().removeRange(dailyKey, 0, -1001);
-        redisTemplate.opsForZSet().removeRange(weeklyKey, 0, -1001);
-        redisTemplate.opsForZSet().removeRange(monthlyKey, 0, -1001);
+    private void addPendingSalesCounts(Long orderId, Map<String, Integer> quantityByProductId) {
+        List<String> args = new ArrayList<>(quantityByProductId.size() * 2);
+        quantityByProductId.forEach((productId, quantity) -> {
+            args.add(productId);
+            args.add(String.valueOf(quantity));
+        });
+        try {
+            redisTemplate.execute(
+                    PRODUCT_SALES_SCRIPT,
+                    List.of(BusinessConstants.REDIS_PRODUCT_SALES_PENDING_KEY),
+                    args.toArray()
+            );
+        } catch (Exception e) {
+            log.warn("누적 판매량 증가 실패. orderId={}, quantities={}", orderId, quantityByProductId, e);
+        }
     }
 }
@@ -0,0 +1,74 @@
+package hhplus.ecommerce.order.application.usecase;
+
+import hhplus.ecommerce.common.domain.exception.OrderException;
+import hhplus.ecommerce.order.application.dto.BulkStatusChangeResult;
+import hhplus.ecommerce.order.application.service.OrderDetailCache;
+import hhplus.ecommerce.order.application.service.OrderStatusBulkService;
+import hhplus.ecommerce.order.domain.model.OrderItemStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 주문 아이템 일괄 상태 변경 UseCase (운영용: 배송 시작/배송 완료 일괄 처리)
+ */
+@Component
+public class BulkChangeOrderItemStatusUseCase {
+
+    private final OrderStatusBulkService orderStatusBulkService;
+    private final OrderDetailCache orderDetailCache;
+    private final int chunkSize;
+    private final int maxIds;
+
+    public BulkChangeOrderItemStatusUseCase(OrderStatusBulkService orderStatusBulkService,
+                                            OrderDetailCache orderDetailCache,
+                                            @Value("${order.bulk-status.chunk-size:500}") int chunkSize,
+                                            @Value("${order.bulk-status.max-ids:10000}") int maxIds) {
+        this.orderStatusBulkService = orderStatusBulkService;
+        this.orderDetailCache = orderDetailCache;
+        this.chunkSize = chunkSize;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * 요청 검증 (스트리밍 시작 전에 호출)
+     *
+     * @return 중복/null을 제거한 주문 아이템 ID 목록 (요청 순서 유지)
+     */
+    public List<Long> validate(List<Long> orderItemIds, OrderItemStatus targetStatus) {
+        if (targetStatus == null) {
+            throw OrderException.invalidOrderItemStatus("-", "NULL");
+        }
+        List<Long> distinctIds = orderItemIds == null ? List.of() : orderItemIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.size() > maxIds) {
+            throw OrderException.bulkStatusLimitExceeded(distinctIds.size(), maxIds);
+        }
+        return distinctIds;
+    }
+
+    public void execute(List<Long> orderItemIds, OrderItemStatus targetStatus, Consumer<BulkStatusChangeResult> resultConsumer) {
+        for (int from = 0; from < orderItemIds.size(); from += chunkSize) {
+            List<Long> chunk = orderItemIds.subList(from, Math.min(from + chunkSize, orderItemIds.size()));
+            List<BulkStatusChangeResult> results = orderStatusBulkService.transitionOrderItemChunk(chunk, targetStatus);
+
+            // 아이템이 바뀐 주문의 상세 캐시 삭제 (커밋 이후)
+            Set<Long> affectedOrderIds = new LinkedHashSet<>();
+            for (BulkStatusChangeResult result : results) {
+                if (result.getOutcome() == BulkStatusChangeResult.Outcome.UPDATED) {
+                    affectedOrderIds.add(result.getOrderId());
+                }
+            }
+            orderDetailCache.evictAll(affectedOrderIds);
+
+            results.forEach(resultConsumer);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package hhplus.ecommerce.order.application.usecase;
+
+import hhplus.ecommerce.common.domain.exception.OrderException;
+import hhplus.ecommerce.order.application.dto.BulkStatusChangeResult;
+import hhplus.ecommerce.order.application.service.OrderDetailCache;
+import hhplus.ecommerce.order.application.service.OrderStatusBulkService;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 주문 일괄 상태 변경 UseCase (운영용)
+ * ID 목록을 청크로 나눠 청크마다 트랜잭션 하나로 처리하고, 청크가 끝날 때마다 결과를 내보낸다.
+ */
+@Component
+public class BulkChangeOrderStatusUseCase {
+
+    private final OrderStatusBulkService orderStatusBulkService;
+    private final OrderDetailCache orderDetailCache;
+    private final int chunkSize;
+    private final int maxIds;
+
+    public BulkChangeOrderStatusUseCase(OrderStatusBulkService orderStatusBulkService,
+                                        OrderDetailCache orderDetailCache,
+                                        @Value("${order.bulk-status.chunk-size:500}") int chunkSize,
+                                        @Value("${order.bulk-status.max-ids:10000}") int maxIds) {
+        this.orderStatusBulkService = orderStatusBulkService;
+        this.orderDetailCache = orderDetailCache;
+        this.chunkSize = chunkSize;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * 요청 검증 (스트리밍 시작 전에 호출해 400으로 응답할 수 있게 한다)
+     *
+     * @return 중복/null을 제거한 주문 ID 목록 (요청 순서 유지)
+     */
+    public List<Long> validate(List<Long> orderIds, OrderStatus targetStatus) {
+        if (targetStatus == null) {
+            throw OrderException.invalidOrderStatus("-", "NULL");
+        }
+        List<Long> distinctIds = orderIds == null ? List.of() : orderIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.size() > maxIds) {
+            throw OrderException.bulkStatusLimitExceeded(distinctIds.size(), maxIds);
+        }
+        return distinctIds;
+    }
+
+    /**
+     * @param orderIds validate()를 거친 주문 ID 목록
+     * @param resultConsumer ID별 결과 수신 (청크 커밋 후 호출)
+     */
+    public void execute(List<Long> orderIds, OrderStatus targetStatus, Consumer<BulkStatusChangeResult> resultConsumer) {
+        for (int from = 0; from < orderIds.size(); from += chunkSize) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + chunkSize, orderIds.size()));
+            List<BulkStatusChangeResult> results = orderStatusBulkService.transitionOrderChunk(chunk, targetStatus);
+
+            // 변경된 주문의 상세 캐시 삭제 (커밋 이후, 상태 카운터는 청크 트랜잭션이 커밋 후 반영)
+            List<Long> updatedOrderIds = new ArrayList<>();
+            for (BulkStatusChangeResult result : results) {
+                if (result.getOutcome() == BulkStatusChangeResult.Outcome.UPDATED) {
+                    updatedOrderIds.add(result.getOrderId());
+                }
+            }
+            orderDetailCache.evictAll(updatedOrderIds);
+
+            results.forEach(resultConsumer);
+        }
+    }
+}
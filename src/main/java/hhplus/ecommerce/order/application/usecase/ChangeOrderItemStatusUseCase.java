@@ -1,8 +1,12 @@
 package hhplus.ecommerce.order.application.usecase;
 
+import hhplus.ecommerce.common.domain.exception.OrderException;
+import hhplus.ecommerce.common.event.EventPublisher;
 import hhplus.ecommerce.order.application.dto.OrderItemDetailInfo;
 import hhplus.ecommerce.order.application.service.OrderService;
+import hhplus.ecommerce.order.domain.event.OrderItemStatusChangedEvent;
 import hhplus.ecommerce.order.domain.model.OrderItem;
+import hhplus.ecommerce.order.domain.model.OrderItemStatus;
 import hhplus.ecommerce.order.presentation.dto.request.OrderItemStatusChangeRequest;
 import hhplus.ecommerce.order.presentation.dto.response.OrderItemResponse;
 import lombok.RequiredArgsConstructor;
@@ -13,22 +17,41 @@ import org.springframework.stereotype.Component;
 public class ChangeOrderItemStatusUseCase {
 
     private final OrderService orderService;
+    private final EventPublisher eventPublisher;
 
     /**
      * 주문 아이템 상태 변경 UseCase
+     * 전이 검증을 조건부 UPDATE 한 번으로 처리한다. 이미 목표 상태인 경우는 변경 없이 성공으로 본다.
      */
     public OrderItemResponse execute(Long orderItemId, OrderItemStatusChangeRequest request) {
-        // 1. 주문 아이템 조회
-        OrderItem orderItem = orderService.getOrderItem(orderItemId);
+        OrderItemStatus targetStatus = request.getStatus();
+        if (targetStatus == null) {
+            OrderItem orderItem = orderService.getOrderItem(orderItemId);
+            throw OrderException.invalidOrderItemStatus(orderItem.getItemStatus().name(), "NULL");
+        }
+
+        // 1. 조건부 UPDATE (허용된 이전 상태)
+        int updated = orderService.transitionOrderItemStatus(orderItemId, targetStatus);
 
-        // 2. 상태 변경
-        OrderItem updatedOrderItem = orderItem.changeStatus(request.getStatus());
+        // 2. 변경 후 아이템 조회 (없으면 orderItemNotFound)
+        OrderItem orderItem = orderService.getOrderItem(orderItemId);
 
-        // 3. 저장
-        orderService.saveOrderItem(updatedOrderItem);
+        if (updated == 0) {
+            // 허용되지 않는 전이
+            if (orderItem.getItemStatus() != targetStatus) {
+                throw OrderException.invalidOrderItemStatus(orderItem.getItemStatus().name(), targetStatus.name());
+            }
+        } else {
+            // 3. 상태 변경 이벤트 발행 (주문 상세 캐시 갱신)
+            eventPublisher.publish(new OrderItemStatusChangedEvent(
+                    orderItem.getOrderId(),
+                    orderItem.getOrderItemId(),
+                    targetStatus
+            ));
+        }
 
         // 4. Application DTO로 변환
-        OrderItemDetailInfo itemDetailInfo = orderService.toOrderItemDetailInfo(updatedOrderItem);
+        OrderItemDetailInfo itemDetailInfo = orderService.toOrderItemDetailInfo(orderItem);
 
         // 5. Presentation DTO로 변환
         return toOrderItemResponse(itemDetailInfo);
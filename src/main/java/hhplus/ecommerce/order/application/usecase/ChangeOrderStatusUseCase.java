@@ -1,10 +1,14 @@
 package hhplus.ecommerce.order.application.usecase;
 
 import hhplus.ecommerce.common.domain.exception.OrderException;
+import hhplus.ecommerce.common.event.EventPublisher;
 import hhplus.ecommerce.order.application.dto.OrderDetailInfo;
+import hhplus.ecommerce.order.application.service.OrderDetailCache;
 import hhplus.ecommerce.order.application.service.OrderService;
+import hhplus.ecommerce.order.domain.event.OrderStatusChangedEvent;
 import hhplus.ecommerce.order.domain.model.Order;
 import hhplus.ecommerce.order.domain.model.OrderItem;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
 import hhplus.ecommerce.order.presentation.dto.request.OrderStatusChangeRequest;
 import hhplus.ecommerce.order.presentation.dto.response.OrderDetailResponse;
 import hhplus.ecommerce.order.presentation.dto.response.OrderItemResponse;
@@ -12,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -19,35 +24,65 @@ import java.util.stream.Collectors;
 public class ChangeOrderStatusUseCase {
 
     private final OrderService orderService;
+    private final OrderDetailCache orderDetailCache;
+    private final EventPublisher eventPublisher;
 
     /**
      * 주문 상태 변경 UseCase
+     * 권한 검증과 전이 검증을 조건부 UPDATE 한 번으로 처리하고, 영향 행 수가 0일 때만 원인을 조회한다.
+     * 주문 아이템은 상태 변경과 무관하므로 캐시에 있으면 재조회하지 않는다.
      */
     public OrderDetailResponse execute(Long userId, OrderStatusChangeRequest request) {
-        // 1. 주문 조회
-        Order order = orderService.getOrder(request.getOrderId());
+        Long orderId = request.getOrderId();
+        OrderStatus targetStatus = request.getOrderStatus();
 
-        // 2. 권한 검증
-        if (!order.getUserId().equals(userId)) {
-            throw OrderException.orderCreationFailed("주문을 변경할 권한이 없습니다.");
-        }
-
-        // 3. 상태 변경 (Domain 메서드 사용)
-        Order updatedOrder = order.updateStatus(request.getOrderStatus());
+        // 1. 조건부 UPDATE (본인 주문 + 허용된 이전 상태)
+        int updated = orderService.transitionOrderStatus(orderId, userId, targetStatus);
 
-        // 4. 저장
-        orderService.saveOrder(updatedOrder);
+        // 2. 실패 시 원인 판별 (주문 없음 / 권한 없음 / 허용되지 않는 전이)
+        if (updated == 0) {
+            Order order = orderService.getOrder(orderId);
+            if (!order.getUserId().equals(userId)) {
+                throw OrderException.orderCreationFailed("주문을 변경할 권한이 없습니다.");
+            }
+            throw OrderException.invalidOrderStatus(order.getOrderStatus().name(), targetStatus.name());
+        }
 
-        // 5. 주문 아이템 조회
-        List<OrderItem> orderItems = orderService.getOrderItems(updatedOrder.getOrderId());
+        // 3. 상태 변경 이벤트 발행 (주문 상세 캐시/상태 카운터 갱신)
+        //    허용된 이전 상태가 하나뿐이면 그 상태에서 바뀐 것으로 확정할 수 있다
+        Set<OrderStatus> predecessors = targetStatus.allowedPredecessors();
+        OrderStatus previousStatus = predecessors.size() == 1 ? predecessors.iterator().next() : null;
+        eventPublisher.publish(new OrderStatusChangedEvent(orderId, userId, previousStatus, targetStatus));
 
-        // 6. Application DTO로 변환
-        OrderDetailInfo orderDetailInfo = orderService.toOrderDetailInfo(updatedOrder, orderItems);
+        // 4. 주문 상세 조회 (캐시 우선) 및 Application DTO로 변환
+        OrderDetailInfo orderDetailInfo;
+        OrderDetailInfo cached = orderDetailCache.get(orderId);
+        if (cached != null) {
+            orderDetailInfo = withOrderStatus(cached, targetStatus);
+        } else {
+            Order updatedOrder = orderService.getOrder(orderId);
+            List<OrderItem> orderItems = orderService.getOrderItems(orderId);
+            orderDetailInfo = orderService.toOrderDetailInfo(updatedOrder, orderItems);
+        }
 
-        // 7. Presentation DTO로 변환
+        // 5. Presentation DTO로 변환
         return toOrderDetailResponse(orderDetailInfo);
     }
 
+    private OrderDetailInfo withOrderStatus(OrderDetailInfo info, OrderStatus orderStatus) {
+        return new OrderDetailInfo(
+                info.getOrderId(),
+                info.getOrderNumber(),
+                orderStatus,
+                info.getTotalAmount(),
+                info.getDiscountAmount(),
+                info.getFinalAmount(),
+                info.getOrderItems(),
+                info.getCreatedAt(),
+                info.getExpiresAt()
+        );
+    }
+
     private OrderDetailResponse toOrderDetailResponse(OrderDetailInfo info) {
         List<OrderItemResponse> itemResponses = info.getOrderItems().stream()
                 .map(item -> new OrderItemResponse(
@@ -0,0 +1,102 @@
+package hhplus.ecommerce.order.application.usecase;
+
+import hhplus.ecommerce.cart.application.dto.CartPriceSnapshot;
+import hhplus.ecommerce.cart.application.service.CartPriceSnapshotStore;
+import hhplus.ecommerce.cart.application.service.CartService;
+import hhplus.ecommerce.cart.domain.model.Cart;
+import hhplus.ecommerce.common.domain.exception.CartException;
+import hhplus.ecommerce.order.application.dto.OrderItemInfo;
+import hhplus.ecommerce.order.application.service.OrderService;
+import hhplus.ecommerce.order.presentation.dto.request.CartOrderCreateRequest;
+import hhplus.ecommerce.order.presentation.dto.request.OrderItemRequest;
+import hhplus.ecommerce.order.presentation.dto.response.OrderCreateResponse;
+import hhplus.ecommerce.product.application.service.ProductPriceVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 장바구니 주문 생성 UseCase
+ *
+ * 1. 장바구니 조회 시 저장한 가격 스냅샷의 버전이 현재 가격 버전과 같고 장바구니 구성이 그대로면
+ *    상품/옵션을 다시 조회하지 않고 스냅샷 단가로 주문 아이템을 만든다.
+ * 2. 버전이 다르거나 스냅샷이 없으면 collectOrderItemsBatch로 다시 조회한다.
+ * 3. 주문 트랜잭션 커밋 후 장바구니를 한 번에 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CreateOrderFromCartUseCase {
+
+    private final CreateOrderUseCase createOrderUseCase;
+    private final OrderService orderService;
+    private final CartService cartService;
+    private final CartPriceSnapshotStore cartPriceSnapshotStore;
+    private final ProductPriceVersion productPriceVersion;
+
+    /**
+     * 장바구니 주문 생성 실행
+     * 주문 생성은 CreateOrderUseCase 트랜잭션에서 처리하고, 커밋된 뒤에만 장바구니를 비운다.
+     *
+     * @param userId 사용자 ID
+     * @param request 장바구니 주문 요청 (쿠폰 ID, 가격 버전)
+     * @return 주문 생성 응답
+     */
+    public OrderCreateResponse execute(Long userId, CartOrderCreateRequest request) {
+        List<Cart> carts = cartService.getCartItems(userId);
+        if (carts.isEmpty()) {
+            throw CartException.cartEmpty(userId);
+        }
+
+        // 1. 주문 아이템 정보 수집 (스냅샷 재사용 또는 재조회)
+        List<OrderItemInfo> orderItemInfos = collectOrderItems(userId, carts, request.getPriceVersion());
+
+        // 2. 주문 생성
+        OrderCreateResponse response = createOrderUseCase.executeWithItems(userId, orderItemInfos, request.getCouponId());
+
+        // 3. 장바구니 비우기
+        cartService.clearCart(userId);
+        cartPriceSnapshotStore.evict(userId);
+
+        return response;
+    }
+
+    private List<OrderItemInfo> collectOrderItems(Long userId, List<Cart> carts, Long requestedVersion) {
+        CartPriceSnapshot snapshot = cartPriceSnapshotStore.find(userId);
+        long currentVersion = productPriceVersion.current();
+
+        boolean reusable = snapshot != null
+                && snapshot.priceVersion() == currentVersion
+                && (requestedVersion == null || requestedVersion == currentVersion)
+                && snapshot.matches(carts);
+
+        if (reusable) {
+            log.debug("장바구니 가격 스냅샷 재사용 - UserId: {}, PriceVersion: {}", userId, currentVersion);
+            return snapshot.items().stream()
+                    .map(item -> new OrderItemInfo(
+                            item.productId(),
+                            item.productOptionId(),
+                            item.productName(),
+                            item.optionName(),
+                            item.quantity(),
+                            item.unitPrice(),
+                            item.unitPrice().multiply(BigDecimal.valueOf(item.quantity()))
+                    ))
+                    .toList();
+        }
+
+        log.debug("장바구니 가격 스냅샷 불일치로 재조회 - UserId: {}", userId);
+        List<OrderItemRequest> itemRequests = carts.stream()
+                .map(cart -> {
+                    OrderItemRequest itemRequest = new OrderItemRequest();
+                    itemRequest.setProductOptionId(cart.getProductOptionId());
+                    itemRequest.setQuantity(cart.getQuantity());
+                    return itemRequest;
+                })
+                .toList();
+        return orderService.collectOrderItemsBatch(itemRequests);
+    }
+}
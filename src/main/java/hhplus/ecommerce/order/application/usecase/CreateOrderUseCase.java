@@ -1,5 +1,7 @@
 package hhplus.ecommerce.order.application.usecase;
 
+import hhplus.ecommerce.common.application.trace.HotPathPhase;
+import hhplus.ecommerce.common.application.trace.HotPathTracer;
 import hhplus.ecommerce.common.event.EventPublisher;
 import hhplus.ecommerce.order.application.dto.OrderItemInfo;
 import hhplus.ecommerce.order.application.service.OrderService;
@@ -31,6 +33,7 @@ public class CreateOrderUseCase {
 
     private final OrderService orderService;
     private final EventPublisher eventPublisher;
+    private final HotPathTracer hotPathTracer;
 
     /**
      * 주문 생성 실행
@@ -46,19 +49,49 @@ public class CreateOrderUseCase {
      */
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public OrderCreateResponse execute(Long userId, OrderCreateRequest request) {
-        log.info("주문 생성 시작 - UserId: {}", userId);
+        hotPathTracer.begin("order.create", userId);
+        try {
+            log.info("주문 생성 시작 - UserId: {}", userId);
+
+            // 1. 주문 아이템 정보 수집
+            List<OrderItemInfo> orderItemInfos = orderService.collectOrderItemsBatch(request.getItems());
+            hotPathTracer.mark(HotPathPhase.COLLECT_ITEMS);
+
+            return createOrder(userId, orderItemInfos, request.getCouponId());
+        } finally {
+            hotPathTracer.end();
+        }
+    }
 
-        // 1. 주문 아이템 정보 수집
-        List<OrderItemInfo> orderItemInfos = orderService.collectOrderItemsBatch(request.getItems());
+    /**
+     * 가격이 확정된 주문 아이템으로 주문 생성 (장바구니 주문)
+     *
+     * @param userId 사용자 ID
+     * @param orderItemInfos 주문 아이템 정보 (단가 확정)
+     * @param couponId 쿠폰 ID (null 가능)
+     * @return 주문 생성 응답
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public OrderCreateResponse executeWithItems(Long userId, List<OrderItemInfo> orderItemInfos, Long couponId) {
+        hotPathTracer.begin("order.create.cart", userId);
+        try {
+            log.info("장바구니 주문 생성 시작 - UserId: {}", userId);
+            return createOrder(userId, orderItemInfos, couponId);
+        } finally {
+            hotPathTracer.end();
+        }
+    }
 
+    private OrderCreateResponse createOrder(Long userId, List<OrderItemInfo> orderItemInfos, Long couponId) {
         // 2. 총 주문 금액 계산
         BigDecimal totalAmount = orderService.calculateTotalAmount(orderItemInfos);
 
         // 3. 쿠폰 할인 금액 계산
         BigDecimal discountAmount = orderService.calculateCouponDiscount(
-                request.getCouponId(),
+                couponId,
                 totalAmount
         );
+        hotPathTracer.mark(HotPathPhase.CALCULATE_DISCOUNT);
 
         // 4. 주문 번호 생성
         String orderNumber = orderService.generateOrderNumber(userId);
@@ -69,17 +102,24 @@ public class CreateOrderUseCase {
                 userId,
                 totalAmount,
                 discountAmount,
-                request.getCouponId()
+                couponId
         );
 
         // 6. 주문 저장
         Order savedOrder = orderService.saveOrder(order);
+        hotPathTracer.mark(HotPathPhase.SAVE_ORDER);
+
+        // 6-1. 쿠폰 사용 (보유 + 미사용 조건부 UPDATE, 실패 시 주문 전체 롤백)
+        orderService.redeemCoupon(userId, couponId, savedOrder.getOrderId());
+        hotPathTracer.mark(HotPathPhase.REDEEM_COUPON);
 
         // 7. 재고 예약
         orderService.reserveStocks(savedOrder.getOrderId(), orderItemInfos);
+        hotPathTracer.mark(HotPathPhase.RESERVE_STOCK);
 
         // 8. 주문 아이템 생성 및 저장
         orderService.saveOrderItems(savedOrder.getOrderId(), orderItemInfos);
+        hotPathTracer.mark(HotPathPhase.SAVE_ITEMS);
 
         // 9. 응답 생성
         OrderCreateResponse response = new OrderCreateResponse(
@@ -96,9 +136,10 @@ public class CreateOrderUseCase {
         eventPublisher.publish(OrderCreatedEvent.create(
                 response,
                 userId,
-                request.getCouponId(),
+                couponId,
                 orderItemInfos
         ));
+        hotPathTracer.mark(HotPathPhase.PUBLISH_EVENT);
 
         log.info("주문 생성 완료 - OrderId: {}, OrderNumber: {}",
                 response.getOrderId(), response.getOrderNumber());
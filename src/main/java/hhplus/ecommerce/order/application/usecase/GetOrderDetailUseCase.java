@@ -1,6 +1,7 @@
 package hhplus.ecommerce.order.application.usecase;
 
 import hhplus.ecommerce.order.application.dto.OrderDetailInfo;
+import hhplus.ecommerce.order.application.service.OrderDetailCache;
 import hhplus.ecommerce.order.application.service.OrderService;
 import hhplus.ecommerce.order.domain.model.Order;
 import hhplus.ecommerce.order.domain.model.OrderItem;
@@ -17,23 +18,34 @@ import java.util.stream.Collectors;
 public class GetOrderDetailUseCase {
 
     private final OrderService orderService;
+    private final OrderDetailCache orderDetailCache;
 
     /**
      * 주문 상세 조회 UseCase - 전체 흐름을 제어
+     * 0. 주문 상세 캐시 조회 (Hit 시 DB 조회 없음)
      * 1. 주문 조회 (Service)
      * 2. 주문 아이템 조회 (Service)
-     * 3. Application DTO로 변환 (Service)
+     * 3. Application DTO로 변환 (Service) 후 캐시 적재
      * 4. Presentation DTO로 변환 (UseCase)
      */
     public OrderDetailResponse execute(Long orderId) {
-        // 1. 주문 조회
-        Order order = orderService.getOrder(orderId);
+        // 0. 캐시 조회
+        OrderDetailInfo orderDetailInfo = orderDetailCache.get(orderId);
 
-        // 2. 주문 아이템 조회
-        List<OrderItem> orderItems = orderService.getOrderItems(orderId);
+        if (orderDetailInfo == null) {
+            // DB 조회 전 버전 (조회 중 상태 변경으로 삭제되면 옛 상태를 적재하지 않음)
+            long cacheVersion = orderDetailCache.readVersion(orderId);
 
-        // 3. Application DTO로 변환
-        OrderDetailInfo orderDetailInfo = orderService.toOrderDetailInfo(order, orderItems);
+            // 1. 주문 조회
+            Order order = orderService.getOrder(orderId);
+
+            // 2. 주문 아이템 조회
+            List<OrderItem> orderItems = orderService.getOrderItems(orderId);
+
+            // 3. Application DTO로 변환
+            orderDetailInfo = orderService.toOrderDetailInfo(order, orderItems);
+            orderDetailCache.putIfUnchanged(orderDetailInfo, cacheVersion);
+        }
 
         // 4. Presentation DTO로 변환
         return toOrderDetailResponse(orderDetailInfo);
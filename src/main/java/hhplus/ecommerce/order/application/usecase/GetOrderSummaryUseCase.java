@@ -0,0 +1,26 @@
+package hhplus.ecommerce.order.application.usecase;
+
+import hhplus.ecommerce.order.application.service.OrderSummaryCounter;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import hhplus.ecommerce.order.presentation.dto.response.OrderSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class GetOrderSummaryUseCase {
+
+    private final OrderSummaryCounter orderSummaryCounter;
+
+    /**
+     * 사용자별 주문 상태 건수 조회 UseCase
+     * 미리 집계된 카운터를 읽으므로 주문 이력 크기와 무관하다.
+     */
+    public OrderSummaryResponse execute(Long userId) {
+        Map<OrderStatus, Long> counts = orderSummaryCounter.getCounts(userId);
+        long totalCount = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new OrderSummaryResponse(userId, counts, totalCount);
+    }
+}
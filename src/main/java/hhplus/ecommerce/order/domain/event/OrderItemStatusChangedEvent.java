@@ -0,0 +1,25 @@
+package hhplus.ecommerce.order.domain.event;
+
+import hhplus.ecommerce.order.domain.model.OrderItemStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 아이템 상태 변경 도메인 이벤트
+ */
+@Getter
+public class OrderItemStatusChangedEvent {
+
+    private final Long orderId;
+    private final Long orderItemId;
+    private final OrderItemStatus itemStatus;
+    private final LocalDateTime occurredAt;
+
+    public OrderItemStatusChangedEvent(Long orderId, Long orderItemId, OrderItemStatus itemStatus) {
+        this.orderId = orderId;
+        this.orderItemId = orderItemId;
+        this.itemStatus = itemStatus;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
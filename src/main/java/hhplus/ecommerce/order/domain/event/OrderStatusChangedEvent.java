@@ -0,0 +1,31 @@
+package hhplus.ecommerce.order.domain.event;
+
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 도메인 이벤트
+ *
+ * 상태 변경 API, 결제, 보상 트랜잭션에서 주문 상태가 바뀐 후 발행
+ * 주문 상세 캐시 갱신, 사용자별 상태 카운터 갱신 등에 사용
+ * previousStatus는 이전 상태를 특정할 수 없으면 null (카운터는 재계산 대상으로 등록)
+ */
+@Getter
+public class OrderStatusChangedEvent {
+
+    private final Long orderId;
+    private final Long userId;
+    private final OrderStatus previousStatus;
+    private final OrderStatus orderStatus;
+    private final LocalDateTime occurredAt;
+
+    public OrderStatusChangedEvent(Long orderId, Long userId, OrderStatus previousStatus, OrderStatus orderStatus) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.previousStatus = previousStatus;
+        this.orderStatus = orderStatus;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
@@ -1,5 +1,11 @@
 package hhplus.ecommerce.order.domain.model;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderItemStatus {
     PREPARING("상품 준비 중"),
     SHIPPING("배송 중"),
@@ -8,6 +14,16 @@ public enum OrderItemStatus {
 
     public final String description;
 
+    // 상태 전이 테이블: 목표 상태 → 허용되는 이전 상태 (조건부 UPDATE의 IN 조건으로 사용)
+    private static final Map<OrderItemStatus, Set<OrderItemStatus>> PREDECESSORS = new EnumMap<>(OrderItemStatus.class);
+
+    static {
+        PREDECESSORS.put(PREPARING, Collections.unmodifiableSet(EnumSet.noneOf(OrderItemStatus.class)));
+        PREDECESSORS.put(SHIPPING, Collections.unmodifiableSet(EnumSet.of(PREPARING)));
+        PREDECESSORS.put(DELIVERED, Collections.unmodifiableSet(EnumSet.of(SHIPPING)));
+        PREDECESSORS.put(CANCELLED, Collections.unmodifiableSet(EnumSet.of(PREPARING)));
+    }
+
     OrderItemStatus(String description) {
         this.description = description;
     }
@@ -15,4 +31,15 @@ public enum OrderItemStatus {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * 이 상태로 전이할 수 있는 이전 상태 목록
+     */
+    public Set<OrderItemStatus> allowedPredecessors() {
+        return PREDECESSORS.get(this);
+    }
+
+    public boolean canTransitionTo(OrderItemStatus target) {
+        return target.allowedPredecessors().contains(this);
+    }
 }
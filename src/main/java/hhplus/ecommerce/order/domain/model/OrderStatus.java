@@ -1,5 +1,11 @@
 package hhplus.ecommerce.order.domain.model;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
     PENDING("결제 대기"),
     PAID("결제 완료"),
@@ -7,6 +13,15 @@ public enum OrderStatus {
 
     public final String description;
 
+    // 상태 전이 테이블: 목표 상태 → 허용되는 이전 상태 (조건부 UPDATE의 IN 조건으로 사용)
+    private static final Map<OrderStatus, Set<OrderStatus>> PREDECESSORS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        PREDECESSORS.put(PENDING, Collections.unmodifiableSet(EnumSet.noneOf(OrderStatus.class)));
+        PREDECESSORS.put(PAID, Collections.unmodifiableSet(EnumSet.of(PENDING)));
+        PREDECESSORS.put(CANCELLED, Collections.unmodifiableSet(EnumSet.of(PENDING)));
+    }
+
     OrderStatus(String description) {
         this.description = description;
     }
@@ -14,4 +29,15 @@ public enum OrderStatus {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * 이 상태로 전이할 수 있는 이전 상태 목록
+     */
+    public Set<OrderStatus> allowedPredecessors() {
+        return PREDECESSORS.get(this);
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return target.allowedPredecessors().contains(this);
+    }
 }
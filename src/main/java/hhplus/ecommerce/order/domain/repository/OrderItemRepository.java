@@ -3,9 +3,12 @@ package hhplus.ecommerce.order.domain.repository;
 import hhplus.ecommerce.order.domain.model.OrderItem;
 import hhplus.ecommerce.order.domain.model.OrderItemStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
@@ -17,4 +20,27 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
     @Query("SELECT oi FROM OrderItem oi WHERE oi.productOptionId = :productOptionId")
     List<OrderItem> findByProductOptionId(@Param("productOptionId") Long productOptionId);
+
+    // 상태 전이: 허용된 이전 상태일 때만 변경 (영향 행 수로 성공 여부 판단)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OrderItem oi SET oi.itemStatus = :target, oi.updatedAt = :now " +
+           "WHERE oi.orderItemId = :orderItemId AND oi.itemStatus IN :predecessors")
+    int transitionStatus(@Param("orderItemId") Long orderItemId,
+                         @Param("predecessors") Collection<OrderItemStatus> predecessors,
+                         @Param("target") OrderItemStatus target,
+                         @Param("now") LocalDateTime now);
+
+    // 상태 일괄 전이 (관리자용)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OrderItem oi SET oi.itemStatus = :target, oi.updatedAt = :now " +
+           "WHERE oi.orderItemId IN :orderItemIds AND oi.itemStatus IN :predecessors")
+    int transitionStatusIn(@Param("orderItemIds") Collection<Long> orderItemIds,
+                           @Param("predecessors") Collection<OrderItemStatus> predecessors,
+                           @Param("target") OrderItemStatus target,
+                           @Param("now") LocalDateTime now);
+
+    // 일괄 상태 변경 전 현재 상태 조회 (엔티티 대신 필요한 컬럼만)
+    @Query("SELECT oi.orderItemId AS orderItemId, oi.orderId AS orderId, oi.itemStatus AS itemStatus " +
+           "FROM OrderItem oi WHERE oi.orderItemId IN :orderItemIds")
+    List<OrderItemStatusView> findStatusViewsByOrderItemIdIn(@Param("orderItemIds") Collection<Long> orderItemIds);
 }
@@ -0,0 +1,14 @@
+package hhplus.ecommerce.order.domain.repository;
+
+import hhplus.ecommerce.order.domain.model.OrderItemStatus;
+
+/**
+ * 주문 아이템 상태 조회용 Projection
+ */
+public interface OrderItemStatusView {
+    Long getOrderItemId();
+
+    Long getOrderId();
+
+    OrderItemStatus getItemStatus();
+}
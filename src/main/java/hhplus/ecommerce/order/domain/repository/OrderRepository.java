@@ -2,11 +2,14 @@ package hhplus.ecommerce.order.domain.repository;
 
 import hhplus.ecommerce.order.domain.model.Order;
 import hhplus.ecommerce.order.domain.model.OrderStatus;
+import hhplus.ecommerce.order.domain.model.PaymentMethod;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +30,43 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "WHERE oi.productOptionId = :productOptionId AND o.createdAt >= :startDate")
     List<Order> findRecentOrdersByProductOption(@Param("productOptionId") Long productOptionId,
                                                 @Param("startDate") LocalDateTime startDate);
+
+    // 결제 확정: PENDING 이고 만료되지 않은 주문만 PAID 로 변경 (중복/동시 결제 방지)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :paid, o.paymentMethod = :method, o.updatedAt = :now " +
+           "WHERE o.orderId = :orderId AND o.orderStatus = :pending AND o.expiresAt >= :now")
+    int payIfPending(@Param("orderId") Long orderId,
+                     @Param("method") PaymentMethod method,
+                     @Param("pending") OrderStatus pending,
+                     @Param("paid") OrderStatus paid,
+                     @Param("now") LocalDateTime now);
+
+    // 상태 전이: 본인 주문이고 허용된 이전 상태일 때만 변경 (영향 행 수로 성공 여부 판단)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :target, o.updatedAt = :now " +
+           "WHERE o.orderId = :orderId AND o.userId = :userId AND o.orderStatus IN :predecessors")
+    int transitionStatus(@Param("orderId") Long orderId,
+                         @Param("userId") Long userId,
+                         @Param("predecessors") Collection<OrderStatus> predecessors,
+                         @Param("target") OrderStatus target,
+                         @Param("now") LocalDateTime now);
+
+    // 상태 일괄 전이 (관리자용)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :target, o.updatedAt = :now " +
+           "WHERE o.orderId IN :orderIds AND o.orderStatus IN :predecessors")
+    int transitionStatusIn(@Param("orderIds") Collection<Long> orderIds,
+                           @Param("predecessors") Collection<OrderStatus> predecessors,
+                           @Param("target") OrderStatus target,
+                           @Param("now") LocalDateTime now);
+
+    // 일괄 상태 변경 전 현재 상태 조회 (엔티티 대신 필요한 컬럼만)
+    @Query("SELECT o.orderId AS orderId, o.userId AS userId, o.orderStatus AS orderStatus " +
+           "FROM Order o WHERE o.orderId IN :orderIds")
+    List<OrderStatusView> findStatusViewsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    // 사용자별 상태 카운터 재계산용 (상태별 건수)
+    @Query("SELECT o.orderStatus AS orderStatus, COUNT(o) AS orderCount " +
+           "FROM Order o WHERE o.userId = :userId GROUP BY o.orderStatus")
+    List<OrderStatusCount> countByUserIdGroupByStatus(@Param("userId") Long userId);
 }
@@ -0,0 +1,12 @@
+package hhplus.ecommerce.order.domain.repository;
+
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+
+/**
+ * 주문 상태별 건수 Projection
+ */
+public interface OrderStatusCount {
+    OrderStatus getOrderStatus();
+
+    Long getOrderCount();
+}
@@ -0,0 +1,14 @@
+package hhplus.ecommerce.order.domain.repository;
+
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+
+/**
+ * 주문 상태 조회용 Projection
+ */
+public interface OrderStatusView {
+    Long getOrderId();
+
+    Long getUserId();
+
+    OrderStatus getOrderStatus();
+}
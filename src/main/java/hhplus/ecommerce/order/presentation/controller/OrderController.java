@@ -1,18 +1,34 @@
 package hhplus.ecommerce.order.presentation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import hhplus.ecommerce.common.presentation.response.ApiResponse;
 import hhplus.ecommerce.common.presentation.response.PageResponse;
+import hhplus.ecommerce.order.application.dto.BulkStatusChangeResult;
 import hhplus.ecommerce.order.application.usecase.*;
 import hhplus.ecommerce.order.domain.model.OrderStatus;
+import hhplus.ecommerce.order.presentation.dto.request.BulkOrderItemStatusChangeRequest;
+import hhplus.ecommerce.order.presentation.dto.request.BulkOrderStatusChangeRequest;
+import hhplus.ecommerce.order.presentation.dto.request.CartOrderCreateRequest;
 import hhplus.ecommerce.order.presentation.dto.request.OrderCreateRequest;
 import hhplus.ecommerce.order.presentation.dto.request.OrderItemStatusChangeRequest;
 import hhplus.ecommerce.order.presentation.dto.request.OrderStatusChangeRequest;
+import hhplus.ecommerce.order.presentation.dto.response.BulkStatusChangeResponse;
 import hhplus.ecommerce.order.presentation.dto.response.OrderCreateResponse;
 import hhplus.ecommerce.order.presentation.dto.response.OrderDetailResponse;
 import hhplus.ecommerce.order.presentation.dto.response.OrderItemResponse;
 import hhplus.ecommerce.order.presentation.dto.response.OrderListResponse;
+import hhplus.ecommerce.order.presentation.dto.response.OrderSummaryResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,10 +36,15 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final CreateOrderUseCase createOrderUseCase;
+    private final CreateOrderFromCartUseCase createOrderFromCartUseCase;
     private final GetOrderListUseCase getOrderListUseCase;
     private final GetOrderDetailUseCase getOrderDetailUseCase;
+    private final GetOrderSummaryUseCase getOrderSummaryUseCase;
     private final ChangeOrderStatusUseCase changeOrderStatusUseCase;
     private final ChangeOrderItemStatusUseCase changeOrderItemStatusUseCase;
+    private final BulkChangeOrderStatusUseCase bulkChangeOrderStatusUseCase;
+    private final BulkChangeOrderItemStatusUseCase bulkChangeOrderItemStatusUseCase;
+    private final ObjectMapper objectMapper;
 
     /**
      * 주문 생성
@@ -39,6 +60,21 @@ public class OrderController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 장바구니 주문 생성 (장바구니 전체 주문 후 장바구니 비우기)
+     * @param userId 사용자 ID
+     * @param request 장바구니 주문 요청 (쿠폰 ID, 장바구니 조회 시 받은 가격 버전)
+     * @return 주문 생성 응답
+     */
+    @PostMapping("/{userId}/from-cart")
+    public ApiResponse<OrderCreateResponse> createOrderFromCart(
+            @PathVariable Long userId,
+            @RequestBody(required = false) CartOrderCreateRequest request) {
+        OrderCreateResponse response = createOrderFromCartUseCase.execute(
+                userId, request != null ? request : new CartOrderCreateRequest());
+        return ApiResponse.success(response);
+    }
+
     /**
      * 유저의 주문 목록 조회
      * @param userId 사용자 ID
@@ -56,6 +92,17 @@ public class OrderController {
         return getOrderListUseCase.execute(userId, status, page, size);
     }
 
+    /**
+     * 유저의 주문 상태별 건수 조회
+     * @param userId 사용자 ID
+     * @return 상태별 주문 건수, 전체 건수
+     */
+    @GetMapping("/{userId}/summary")
+    public ApiResponse<OrderSummaryResponse> getOrderSummary(@PathVariable Long userId) {
+        OrderSummaryResponse response = getOrderSummaryUseCase.execute(userId);
+        return ApiResponse.success(response);
+    }
+
     /**
      * 주문 상세 조회 (주문항목 목록 포함)
      * @param orderId 주문 ID
@@ -95,4 +142,48 @@ public class OrderController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 주문 일괄 상태 변경 (운영용)
+     * 청크 단위로 처리하며 ID별 결과를 NDJSON으로 스트리밍한다.
+     * @param request 주문 ID 목록, 변경할 상태
+     * @return ID별 결과 스트림 (id, result, currentStatus)
+     */
+    @PatchMapping(value = "/status/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> changeOrderStatuses(
+            @Valid @RequestBody BulkOrderStatusChangeRequest request) {
+        List<Long> orderIds = bulkChangeOrderStatusUseCase.validate(request.getOrderIds(), request.getOrderStatus());
+        StreamingResponseBody body = out -> bulkChangeOrderStatusUseCase.execute(
+                orderIds, request.getOrderStatus(), result -> writeLine(out, result));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * 주문 항목 일괄 상태 변경 (운영용: 배송 시작/배송 완료)
+     * @param request 주문 항목 ID 목록, 변경할 상태
+     * @return ID별 결과 스트림 (id, result, currentStatus)
+     */
+    @PatchMapping(value = "/orderItem/status/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> changeOrderItemStatuses(
+            @Valid @RequestBody BulkOrderItemStatusChangeRequest request) {
+        List<Long> orderItemIds = bulkChangeOrderItemStatusUseCase.validate(request.getOrderItemIds(), request.getStatus());
+        StreamingResponseBody body = out -> bulkChangeOrderItemStatusUseCase.execute(
+                orderItemIds, request.getStatus(), result -> writeLine(out, result));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    // Application DTO -> Presentation DTO 변환 후 한 줄씩 기록
+    private void writeLine(OutputStream out, BulkStatusChangeResult result) {
+        BulkStatusChangeResponse response = new BulkStatusChangeResponse(
+                result.getId(),
+                result.getOutcome().name(),
+                result.getCurrentStatus()
+        );
+        try {
+            out.write(objectMapper.writeValueAsBytes(response));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,18 @@
+package hhplus.ecommerce.order.presentation.dto.request;
+
+import hhplus.ecommerce.order.domain.model.OrderItemStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkOrderItemStatusChangeRequest {
+    @NotNull(message = "주문 항목 ID 목록은 필수입니다.")
+    private List<Long> orderItemIds;
+
+    @NotNull(message = "주문 항목 상태는 필수입니다.")
+    private OrderItemStatus status;
+}
@@ -0,0 +1,18 @@
+package hhplus.ecommerce.order.presentation.dto.request;
+
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkOrderStatusChangeRequest {
+    @NotNull(message = "주문 ID 목록은 필수입니다.")
+    private List<Long> orderIds;
+
+    @NotNull(message = "주문 상태는 필수입니다.")
+    private OrderStatus orderStatus;
+}
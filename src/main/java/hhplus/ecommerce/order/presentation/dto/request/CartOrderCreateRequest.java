@@ -0,0 +1,12 @@
+package hhplus.ecommerce.order.presentation.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CartOrderCreateRequest {
+    private Long couponId;
+
+    private Long priceVersion; // 장바구니 조회 시 받은 가격 버전 (없으면 서버 스냅샷 버전만 비교)
+}
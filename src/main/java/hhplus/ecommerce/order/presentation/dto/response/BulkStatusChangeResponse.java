@@ -0,0 +1,12 @@
+package hhplus.ecommerce.order.presentation.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class BulkStatusChangeResponse {
+    private final Long id;
+    private final String result;
+    private final String currentStatus;
+}
@@ -0,0 +1,15 @@
+package hhplus.ecommerce.order.presentation.dto.response;
+
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@RequiredArgsConstructor
+public class OrderSummaryResponse {
+    private final Long userId;
+    private final Map<OrderStatus, Long> statusCounts;
+    private final long totalCount;
+}
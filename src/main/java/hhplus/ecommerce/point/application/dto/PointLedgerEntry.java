@@ -0,0 +1,21 @@
+package hhplus.ecommerce.point.application.dto;
+
+import hhplus.ecommerce.point.domain.model.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * Redis 포인트 원장 스트림 항목 (Application Layer DTO)
+ *
+ * @param ledgerRef 스트림 레코드 ID (중복 반영 방지용)
+ */
+public record PointLedgerEntry(String ledgerRef, Long userId, TransactionType type,
+                               BigDecimal amount, BigDecimal balanceAfter, Long orderId, String description) {
+
+    /**
+     * 잔액 증감분 (충전 +, 사용 -)
+     */
+    public BigDecimal signedAmount() {
+        return type == TransactionType.USE ? amount.negate() : amount;
+    }
+}
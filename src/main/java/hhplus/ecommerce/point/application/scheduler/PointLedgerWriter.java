@@ -0,0 +1,217 @@
+package hhplus.ecommerce.point.application.scheduler;
+
+import hhplus.ecommerce.point.application.dto.PointLedgerEntry;
+import hhplus.ecommerce.point.application.service.PointService;
+import hhplus.ecommerce.point.application.service.RedisPointEngine;
+import hhplus.ecommerce.point.domain.model.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 포인트 원장 → MySQL 일괄 반영 스케줄러
+ *
+ * point:ledger 스트림을 컨슈머 그룹으로 읽어 point_ledger에 한 트랜잭션으로 반영하고 ACK 한다.
+ * 반영 실패/ACK 전 장애로 남은 미확인(pending) 레코드를 먼저 다시 처리하며, ledgerRef로 중복 저장을 막는다.
+ * 같은 배치가 max-batch-attempts번 연속 실패하면 한 건씩 반영해 원인 레코드를 찾고,
+ * 다시 시도해도 성공할 수 없는 레코드(형식 오류, 제약 위반 등)는 point:ledger:dead 스트림으로 옮긴 뒤 ACK 한다.
+ * (DB 연결 오류 등 일시적 오류는 옮기지 않고 다음 주기에 재시도)
+ */
+@Slf4j
+@Component
+public class PointLedgerWriter {
+
+    public static final String CONSUMER_GROUP = "point-ledger-writer";
+    public static final String DEAD_LETTER_STREAM_KEY = "point:ledger:dead";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisPointEngine redisPointEngine;
+    private final PointService pointService;
+    private final String consumerName;
+    private final int batchSize;
+    private final int maxBatchAttempts;
+
+    private volatile boolean groupReady;
+    private volatile boolean drained;
+
+    // 연속 실패 중인 배치의 첫 레코드 ID와 실패 횟수 (pending 재처리는 같은 순서로 읽히므로 첫 레코드로 배치를 식별)
+    private String failingHeadId;
+    private int failedAttempts;
+
+    public PointLedgerWriter(RedisTemplate<String, String> redisTemplate,
+                             RedisPointEngine redisPointEngine,
+                             PointService pointService,
+                             @Value("${point.redis-engine.consumer-name:ledger-writer-1}") String consumerName,
+                             @Value("${point.redis-engine.flush-batch-size:200}") int batchSize,
+                             @Value("${point.redis-engine.max-batch-attempts:3}") int maxBatchAttempts) {
+        this.redisTemplate = redisTemplate;
+        this.redisPointEngine = redisPointEngine;
+        this.pointService = pointService;
+        this.consumerName = consumerName;
+        this.batchSize = batchSize;
+        this.maxBatchAttempts = maxBatchAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${point.redis-engine.flush-interval-ms:500}")
+    public void flush() {
+        if (!redisPointEngine.isEnabled()) {
+            return;
+        }
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            ensureGroup();
+
+            // 1. 미확인(pending) 레코드 우선, 없으면 새 레코드
+            records = read(ReadOffset.from("0"));
+            if (records.isEmpty()) {
+                records = read(ReadOffset.lastConsumed());
+            }
+        } catch (Exception e) {
+            drained = false;
+            log.warn("포인트 원장 조회 실패. exception={}", e.getMessage());
+            return;
+        }
+        if (records.isEmpty()) {
+            drained = true;
+            return;
+        }
+        drained = false;
+
+        // 2. 같은 배치가 계속 실패하면 한 건씩 반영 (원인 레코드만 dead-letter로 옮겨 스트림이 막히지 않게)
+        String headId = records.get(0).getId().getValue();
+        if (!headId.equals(failingHeadId)) {
+            failingHeadId = headId;
+            failedAttempts = 0;
+        }
+        if (failedAttempts >= maxBatchAttempts) {
+            applyOneByOne(records);
+            return;
+        }
+
+        // 3. DB 반영 후 ACK (실패 시 ACK 하지 않으므로 다음 주기에 pending으로 재처리)
+        try {
+            List<PointLedgerEntry> entries = records.stream().map(PointLedgerWriter::toEntry).toList();
+            int applied = pointService.applyLedgerEntries(entries);
+            acknowledge(records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+            failingHeadId = null;
+            log.debug("포인트 원장 반영 완료. read={}, applied={}", records.size(), applied);
+        } catch (Exception e) {
+            failedAttempts++;
+            log.error("포인트 원장 반영 실패. count={}, attempts={}", records.size(), failedAttempts, e);
+        }
+    }
+
+    /**
+     * 한 건씩 반영 후 ACK, 재시도해도 성공할 수 없는 레코드는 dead-letter 스트림으로 옮기고 ACK
+     * 일시적 오류가 나면 멈추고 남은 레코드는 다음 주기에 재시도한다.
+     */
+    private void applyOneByOne(List<MapRecord<String, Object, Object>> records) {
+        int applied = 0;
+        int deadLettered = 0;
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                pointService.applyLedgerEntries(List.of(toEntry(record)));
+                acknowledge(record.getId());
+                applied++;
+            } catch (Exception e) {
+                if (!isPoison(e)) {
+                    log.error("포인트 원장 개별 반영 실패. 다음 주기에 재시도합니다. recordId={}", record.getId(), e);
+                    return;
+                }
+                try {
+                    deadLetter(record, e);
+                    acknowledge(record.getId());
+                    deadLettered++;
+                } catch (Exception deadLetterFailure) {
+                    log.error("포인트 원장 dead-letter 이동 실패. recordId={}", record.getId(), deadLetterFailure);
+                    return;
+                }
+            }
+        }
+        failingHeadId = null;
+        log.warn("포인트 원장 개별 반영 완료. read={}, applied={}, deadLettered={}", records.size(), applied, deadLettered);
+    }
+
+    // 형식 오류/도메인 오류/제약 위반은 재시도해도 같으므로 dead-letter 대상, 그 밖의 DB 오류는 일시적 오류로 본다
+    private static boolean isPoison(Exception e) {
+        return e instanceof DataIntegrityViolationException || !(e instanceof DataAccessException);
+    }
+
+    private void deadLetter(MapRecord<String, Object, Object> record, Exception cause) {
+        Map<Object, Object> value = new LinkedHashMap<>();
+        record.getValue().forEach((field, fieldValue) -> value.put(String.valueOf(field), String.valueOf(fieldValue)));
+        value.put("sourceId", record.getId().getValue());
+        String error = String.valueOf(cause.getMessage());
+        value.put("error", error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        redisTemplate.opsForStream().add(DEAD_LETTER_STREAM_KEY, value);
+        log.error("포인트 원장 레코드를 dead-letter 스트림으로 이동. recordId={}, value={}", record.getId(), record.getValue());
+    }
+
+    private void acknowledge(RecordId... recordIds) {
+        redisTemplate.opsForStream().acknowledge(RedisPointEngine.LEDGER_STREAM_KEY, CONSUMER_GROUP, recordIds);
+    }
+
+    /**
+     * 마지막 주기에 반영할 레코드가 없었는지 (정합성 점검 시 사용)
+     */
+    public boolean isDrained() {
+        return drained;
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset) {
+        StreamOperations<String, Object, Object> streamOps = redisTemplate.opsForStream();
+        List<MapRecord<String, Object, Object>> records = streamOps.read(
+                Consumer.from(CONSUMER_GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(RedisPointEngine.LEDGER_STREAM_KEY, offset)
+        );
+        return records == null ? List.of() : records;
+    }
+
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+        try {
+            redisTemplate.opsForStream().createGroup(RedisPointEngine.LEDGER_STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP 오류 (무시), 그 밖의 오류는 다음 주기에 다시 시도
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    private static PointLedgerEntry toEntry(MapRecord<String, Object, Object> record) {
+        Map<Object, Object> value = record.getValue();
+        String orderId = String.valueOf(value.get("orderId"));
+        return new PointLedgerEntry(
+                record.getId().getValue(),
+                Long.valueOf(String.valueOf(value.get("userId"))),
+                TransactionType.valueOf(String.valueOf(value.get("type"))),
+                new BigDecimal(String.valueOf(value.get("amount"))),
+                BigDecimal.valueOf(Long.parseLong(String.valueOf(value.get("balanceAfter"))), 2),
+                orderId.isEmpty() ? null : Long.valueOf(orderId),
+                String.valueOf(value.get("description"))
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package hhplus.ecommerce.point.application.scheduler;
+
+import hhplus.ecommerce.common.domain.exception.UserException;
+import hhplus.ecommerce.point.application.service.PointLedgerStore;
+import hhplus.ecommerce.point.application.service.RedisPointEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 포인트 잔액 정합성 점검 스케줄러
+ *
+ * 원장이 모두 반영된 시점(PointLedgerWriter drained)에만 Redis 잔액과 DB 원장 잔액(스냅샷 + 원장 합계)을 비교한다.
+ * 점검 도중 들어온 거래로 인한 일시적 차이를 거르기 위해 같은 불일치가 두 번 연속 보일 때만 보고한다.
+ * 불일치는 자동 보정하지 않고 에러 로그로 남긴다. (어느 쪽이 맞는지는 point_ledger로 확인)
+ */
+@Slf4j
+@Component
+public class PointReconciliationScheduler {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisPointEngine redisPointEngine;
+    private final PointLedgerWriter pointLedgerWriter;
+    private final PointLedgerStore pointLedgerStore;
+    private final int batchSize;
+    private final Map<Long, String> suspects = new ConcurrentHashMap<>();
+
+    public PointReconciliationScheduler(RedisTemplate<String, String> redisTemplate,
+                                        RedisPointEngine redisPointEngine,
+                                        PointLedgerWriter pointLedgerWriter,
+                                        PointLedgerStore pointLedgerStore,
+                                        @Value("${point.redis-engine.reconcile-batch-size:500}") int batchSize) {
+        this.redisTemplate = redisTemplate;
+        this.redisPointEngine = redisPointEngine;
+        this.pointLedgerWriter = pointLedgerWriter;
+        this.pointLedgerStore = pointLedgerStore;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${point.redis-engine.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (!redisPointEngine.isEnabled() || !pointLedgerWriter.isDrained()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(RedisPointEngine.BALANCE_KEY_PREFIX + "*").count(batchSize).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == batchSize) {
+                    compare(keys);
+                    keys.clear();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("포인트 정합성 점검 중단. exception={}", e.getMessage());
+            return;
+        }
+        compare(keys);
+    }
+
+    private void compare(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> balances = redisTemplate.opsForValue().multiGet(keys);
+        List<Long> userIds = keys.stream()
+                .map(key -> Long.valueOf(key.substring(RedisPointEngine.BALANCE_KEY_PREFIX.length())))
+                .toList();
+
+        for (int i = 0; i < userIds.size(); i++) {
+            String balance = balances == null ? null : balances.get(i);
+            if (balance == null) {
+                continue;
+            }
+            Long userId = userIds.get(i);
+            BigDecimal redisBalance = BigDecimal.valueOf(Long.parseLong(balance), 2);
+            BigDecimal ledgerBalance;
+            try {
+                ledgerBalance = pointLedgerStore.getBalance(userId);
+            } catch (UserException e) {
+                continue;
+            }
+            if (redisBalance.compareTo(ledgerBalance) == 0) {
+                suspects.remove(userId);
+                continue;
+            }
+            String observed = balance + "/" + ledgerBalance.toPlainString();
+            if (observed.equals(suspects.put(userId, observed))) {
+                log.error("포인트 잔액 불일치. userId={}, redis={}, db={}", userId, redisBalance, ledgerBalance);
+            }
+        }
+    }
+}
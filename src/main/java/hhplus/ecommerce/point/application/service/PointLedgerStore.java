@@ -0,0 +1,170 @@
+package hhplus.ecommerce.point.application.service;
+
+import hhplus.ecommerce.common.domain.exception.PointException;
+import hhplus.ecommerce.common.domain.exception.UserException;
+import hhplus.ecommerce.point.application.dto.PointLedgerEntry;
+import hhplus.ecommerce.point.domain.model.PointBalanceSnapshot;
+import hhplus.ecommerce.point.domain.model.PointHistory;
+import hhplus.ecommerce.point.domain.model.PointLedger;
+import hhplus.ecommerce.point.domain.model.TransactionType;
+import hhplus.ecommerce.point.domain.repository.PointBalanceSnapshotRepository;
+import hhplus.ecommerce.point.domain.repository.PointLedgerRepository;
+import hhplus.ecommerce.user.domain.model.User;
+import hhplus.ecommerce.user.domain.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 포인트 원장 저장소 (append-only)
+ *
+ * - 잔액 = 최신 스냅샷 + 스냅샷 이후 원장 합계
+ * - 기록: 사용자의 마지막 원장 행만 FOR UPDATE로 잠그고 seq + 1로 INSERT (users 행은 갱신하지 않음)
+ * - 원장이 snapshot-interval 건 쌓일 때마다 같은 트랜잭션에서 스냅샷을 남겨 합산 구간을 제한
+ * - 첫 기록 시 users.point_balance를 seq 0 스냅샷으로 옮긴다
+ */
+@Slf4j
+@Component
+public class PointLedgerStore {
+
+    private static final long OPENING_SEQ = 0L;
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+    private final UserRepository userRepository;
+    private final long snapshotInterval;
+
+    public PointLedgerStore(PointLedgerRepository pointLedgerRepository,
+                            PointBalanceSnapshotRepository pointBalanceSnapshotRepository,
+                            UserRepository userRepository,
+                            @Value("${point.ledger.snapshot-interval:100}") long snapshotInterval) {
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.pointBalanceSnapshotRepository = pointBalanceSnapshotRepository;
+        this.userRepository = userRepository;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * 원장 한 건 기록
+     * 사용 금액이 잔액보다 크면 아무것도 기록하지 않고 예외를 던진다.
+     *
+     * @return 기록된 원장의 조회용 이력
+     */
+    @Transactional
+    public PointHistory append(Long userId, TransactionType type, BigDecimal amount, Long orderId, String description) {
+        Tail tail = lockTail(userId, type, null);
+
+        BigDecimal balanceAfter = type == TransactionType.USE
+                ? tail.balance().subtract(amount)
+                : tail.balance().add(amount);
+        if (balanceAfter.compareTo(BigDecimal.ZERO) < 0) {
+            throw PointException.insufficientPointBalance(userId, amount, tail.balance());
+        }
+
+        PointLedger ledger = PointLedger.append(userId, tail.seq() + 1, type, amount, balanceAfter,
+                orderId, description, null);
+        PointLedger saved = pointLedgerRepository.save(ledger);
+        snapshotIfDue(saved);
+        return saved.toHistory();
+    }
+
+    /**
+     * Redis 포인트 원장 항목 일괄 기록
+     * 이미 기록된 항목(ledgerRef)은 건너뛰고, 잔액은 Redis가 계산한 balanceAfter를 그대로 쓴다.
+     *
+     * @return 새로 기록된 항목 수
+     */
+    @Transactional
+    public int appendAll(List<PointLedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Set<String> applied = new HashSet<>(pointLedgerRepository.findLedgerRefsIn(
+                entries.stream().map(PointLedgerEntry::ledgerRef).toList()));
+
+        Map<Long, List<PointLedgerEntry>> entriesByUser = new LinkedHashMap<>();
+        for (PointLedgerEntry entry : entries) {
+            if (applied.add(entry.ledgerRef())) {
+                entriesByUser.computeIfAbsent(entry.userId(), id -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        List<PointLedger> ledgers = new ArrayList<>();
+        entriesByUser.forEach((userId, userEntries) -> {
+            PointLedgerEntry first = userEntries.get(0);
+            long seq = lockTail(userId, first.type(), first.balanceAfter().subtract(first.signedAmount())).seq();
+            for (PointLedgerEntry entry : userEntries) {
+                ledgers.add(PointLedger.append(userId, ++seq, entry.type(), entry.amount(), entry.balanceAfter(),
+                        entry.orderId(), entry.description(), entry.ledgerRef()));
+            }
+        });
+
+        pointLedgerRepository.saveAll(ledgers).forEach(this::snapshotIfDue);
+        return ledgers.size();
+    }
+
+    /**
+     * 현재 잔액 (최신 스냅샷 + 이후 원장 합계, 원장이 없으면 users.point_balance)
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal getBalance(Long userId) {
+        return pointBalanceSnapshotRepository.findTopByUserIdOrderBySeqDesc(userId)
+                .map(snapshot -> snapshot.getBalance()
+                        .add(pointLedgerRepository.sumSignedAmountAfter(userId, snapshot.getSeq())))
+                .orElseGet(() -> userRepository.findById(userId)
+                        .orElseThrow(() -> UserException.userNotFound(userId))
+                        .getPointBalance());
+    }
+
+    /**
+     * 포인트 이력 (원장 최신순)
+     */
+    @Transactional(readOnly = true)
+    public List<PointHistory> getHistory(Long userId, TransactionType transactionType) {
+        List<PointLedger> ledgers = transactionType != null
+                ? pointLedgerRepository.findByUserIdAndTransactionTypeOrderBySeqDesc(userId, transactionType)
+                : pointLedgerRepository.findByUserIdOrderBySeqDesc(userId);
+        return ledgers.stream().map(PointLedger::toHistory).toList();
+    }
+
+    /**
+     * 마지막 원장 행을 잠그고 (seq, 잔액)을 반환한다.
+     * 원장이 없으면 시작 잔액(지정하지 않으면 users.point_balance)으로 seq 0 스냅샷을 만든다.
+     * 동시에 첫 기록을 하면 한쪽이 PK 충돌/데드락으로 실패하고 호출 측 재시도로 처리된다.
+     */
+    private Tail lockTail(Long userId, TransactionType type, BigDecimal openingBalance) {
+        return pointLedgerRepository.findLastForUpdate(userId)
+                .map(last -> new Tail(last.getSeq(), last.getBalanceAfter()))
+                .orElseGet(() -> {
+                    BigDecimal opening = openingBalance != null ? openingBalance : findUser(userId, type).getPointBalance();
+                    pointBalanceSnapshotRepository.save(PointBalanceSnapshot.of(userId, OPENING_SEQ, opening));
+                    return new Tail(OPENING_SEQ, opening);
+                });
+    }
+
+    private void snapshotIfDue(PointLedger ledger) {
+        if (ledger.getSeq() % snapshotInterval == 0) {
+            pointBalanceSnapshotRepository.save(
+                    PointBalanceSnapshot.of(ledger.getUserId(), ledger.getSeq(), ledger.getBalanceAfter()));
+            log.debug("포인트 잔액 스냅샷 기록. userId={}, seq={}", ledger.getUserId(), ledger.getSeq());
+        }
+    }
+
+    private User findUser(Long userId, TransactionType type) {
+        return userRepository.findById(userId).orElseThrow(() -> type == TransactionType.CHARGE
+                ? PointException.chargeFailed(userId, "사용자를 찾을 수 없습니다.")
+                : PointException.useFailed(userId, "사용자를 찾을 수 없습니다."));
+    }
+
+    private record Tail(long seq, BigDecimal balance) {
+    }
+}
@@ -5,8 +5,6 @@ import org.springframework.stereotype.Component;
 
 import hhplus.ecommerce.point.domain.model.PointHistory;
 import hhplus.ecommerce.point.presentation.dto.response.PointHistoryResponse;
-import hhplus.ecommerce.user.domain.model.User;
-import hhplus.ecommerce.point.presentation.dto.response.PointBalanceResponse;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -46,12 +44,5 @@ public class PointMapper {
                 .map(this::toHistoryResponse)
                 .collect(Collectors.toList());
     }
-
-    public PointBalanceResponse toPointBalanceResponse(User user) {
-        return new PointBalanceResponse(
-                user.getUserId(),
-                user.getPointBalance()
-        );
-    }
 }
 
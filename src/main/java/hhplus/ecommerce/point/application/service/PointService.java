@@ -1,45 +1,48 @@
 package hhplus.ecommerce.point.application.service;
 
+import hhplus.ecommerce.common.application.retry.RetryPolicy;
 import hhplus.ecommerce.common.domain.constants.BusinessConstants;
 import hhplus.ecommerce.common.domain.exception.PointException;
+import hhplus.ecommerce.point.application.dto.PointLedgerEntry;
 import hhplus.ecommerce.point.domain.model.PointHistory;
 import hhplus.ecommerce.point.domain.model.TransactionType;
-import hhplus.ecommerce.point.domain.repository.PointHistoryRepository;
-import hhplus.ecommerce.user.domain.model.User;
-import hhplus.ecommerce.user.domain.repository.UserRepository;
-import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 포인트 서비스
  *
- * 낙관적 락(Optimistic Lock)을 사용하여 동시성 제어
- * - User 엔티티의 @Version 필드를 통해 JPA가 자동으로 버전 체크
- * - 충돌 발생 시 재시도 로직으로 처리
+ * 잔액은 append-only 포인트 원장(PointLedgerStore)으로 관리한다.
+ * - 기록은 사용자의 마지막 원장 행만 잠그고 INSERT 하므로 users 행(프로필)과 경합하지 않음
+ * - 첫 기록 동시 발생 등으로 INSERT가 충돌하면 공용 RetryPolicy로 재시도 (비동기 버전은 타이머로 재예약)
+ * - 호출자 트랜잭션(결제 등) 안에서는 재시도하지 않는다. 충돌 시 그 트랜잭션은 이미 rollback-only이거나
+ *   (데드락) DB에서 롤백되었으므로 같은 트랜잭션에서 다시 시도해도 성공할 수 없다. 재시도는 호출자 경계에서 한다.
+ * point.redis-engine.enabled 이면 잔액 변경은 RedisPointEngine이 처리하고 DB에는 원장으로 일괄 반영
  */
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
-    private final PointHistoryRepository pointHistoryRepository;
-    private final UserRepository userRepository;
+    private final PointLedgerStore pointLedgerStore;
+    private final RedisPointEngine redisPointEngine;
 
-    private static final int MAX_RETRY_COUNT = 10; // 최대 재시도 횟수 (높은 동시성 환경 대응)
+    private final RetryPolicy retryPolicy;
+
+    private static final String CHARGE_OPERATION = "point.charge";
+    private static final String USE_OPERATION = "point.use";
+    private static final String RETRY_EXHAUSTED_REASON = "동시 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
 
     /**
      * 유저의 포인트를 충전한다.
      *
-     * 낙관적 락 방식:
-     * - 재시도 로직을 통해 OptimisticLockException 처리
-     * - 최대 3회까지 재시도
+     * 원장 INSERT 충돌(PK 중복, 락 대기 실패) 시 RetryPolicy로 재시도 (호출 스레드에서 대기)
      *
      * @param userId 사용자 ID
      * @param amount 충전할 금액
@@ -47,64 +50,55 @@ public class PointService {
      * @return 충전 후 포인트 이력
      */
     public PointHistory chargePoint(Long userId, BigDecimal amount, String description) {
-        // 최소 충전금액 검증
-        if (amount.compareTo(BusinessConstants.MIN_CHARGE_AMOUNT) < 0) {
-            throw PointException.invalidPointAmount(amount);
+        validateChargeAmount(amount);
+
+        if (redisPointEngine.isEnabled()) {
+            return redisPointEngine.credit(userId, amount, description);
         }
 
-        // 재시도 로직
-        int retryCount = 0;
-        while (retryCount < MAX_RETRY_COUNT) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
             try {
                 return chargePointInternal(userId, amount, description);
-            } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
-                retryCount++;
-                log.warn("포인트 충전 중 낙관적 락 충돌 발생. userId={}, retryCount={}/{}",
-                         userId, retryCount, MAX_RETRY_COUNT);
-
-                if (retryCount >= MAX_RETRY_COUNT) {
-                    log.error("포인트 충전 실패: 최대 재시도 횟수 초과. userId={}", userId);
-                    throw PointException.chargeFailed(userId, "동시 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
-                }
-
-                // 재시도 전 짧은 대기 (충돌 완화 - Exponential Backoff)
-                try {
-                    Thread.sleep(10 * retryCount); // 10ms, 20ms, 30ms, ...
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw PointException.chargeFailed(userId, "포인트 충전 중 인터럽트 발생");
-                }
+            } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+                throw PointException.chargeFailed(userId, RETRY_EXHAUSTED_REASON);
             }
         }
 
-        throw PointException.chargeFailed(userId, "포인트 충전 실패");
+        return retryPolicy.execute(CHARGE_OPERATION, userId,
+                () -> chargePointInternal(userId, amount, description),
+                PointService::isLedgerConflict,
+                () -> PointException.chargeFailed(userId, RETRY_EXHAUSTED_REASON));
+    }
+
+    /**
+     * 유저의 포인트를 충전한다. (비동기)
+     * 재시도는 타이머에 예약되므로 요청 스레드가 대기하지 않는다.
+     */
+    public CompletableFuture<PointHistory> chargePointAsync(Long userId, BigDecimal amount, String description) {
+        validateChargeAmount(amount);
+
+        if (redisPointEngine.isEnabled()) {
+            return CompletableFuture.completedFuture(redisPointEngine.credit(userId, amount, description));
+        }
+
+        return retryPolicy.executeAsync(CHARGE_OPERATION, userId,
+                () -> chargePointInternal(userId, amount, description),
+                PointService::isLedgerConflict,
+                () -> PointException.chargeFailed(userId, RETRY_EXHAUSTED_REASON));
     }
 
     /**
-     * 포인트 충전 내부 로직 (낙관적 락 적용)
+     * 포인트 충전 내부 로직 (원장 기록)
      */
-    @Transactional
     protected PointHistory chargePointInternal(Long userId, BigDecimal amount, String description) {
-        // 사용자 조회 (낙관적 락 - 별도 락 불필요)
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> PointException.chargeFailed(userId, "사용자를 찾을 수 없습니다."));
-
-        // 포인트 충전
-        BigDecimal newBalance = user.getPointBalance().add(amount);
-        user.chargePoint(amount);
-        userRepository.save(user); // JPA가 version을 자동으로 증가시키고 체크
-
-        // 포인트 충전 내역 저장
-        PointHistory history = new PointHistory(null, userId, amount, newBalance, description);
-        return pointHistoryRepository.save(history);
+        return pointLedgerStore.append(userId, TransactionType.CHARGE, amount, null, description);
     }
 
     /**
      * 유저의 포인트를 사용한다.
      *
-     * 낙관적 락 방식:
-     * - 재시도 로직을 통해 OptimisticLockException 처리
-     * - 최대 3회까지 재시도
+     * 원장 INSERT 충돌(PK 중복, 락 대기 실패) 시 RetryPolicy로 재시도 (호출 스레드에서 대기)
+     * 결제 트랜잭션 안에서 호출되면 재시도하지 않고 실패시킨다. (결제 트랜잭션 전체가 롤백됨)
      *
      * @param userId 사용자 ID
      * @param amount 사용할 금액
@@ -113,61 +107,70 @@ public class PointService {
      * @return 포인트 사용 내역
      */
     public PointHistory usePoint(Long userId, BigDecimal amount, Long orderId, String description) {
-        // 사용금액 검증
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw PointException.invalidPointAmount(amount);
+        validateUseAmount(amount);
+
+        if (redisPointEngine.isEnabled()) {
+            return redisPointEngine.debit(userId, amount, orderId, description);
         }
 
-        // 재시도 로직
-        int retryCount = 0;
-        while (retryCount < MAX_RETRY_COUNT) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
             try {
                 return usePointInternal(userId, amount, orderId, description);
-            } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
-                retryCount++;
-                log.warn("포인트 사용 중 낙관적 락 충돌 발생. userId={}, retryCount={}/{}",
-                         userId, retryCount, MAX_RETRY_COUNT);
-
-                if (retryCount >= MAX_RETRY_COUNT) {
-                    log.error("포인트 사용 실패: 최대 재시도 횟수 초과. userId={}", userId);
-                    throw PointException.useFailed(userId, "동시 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
-                }
-
-                // 재시도 전 짧은 대기 (충돌 완화 - Exponential Backoff)
-                try {
-                    Thread.sleep(10 * retryCount); // 10ms, 20ms, 30ms, ...
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw PointException.useFailed(userId, "포인트 사용 중 인터럽트 발생");
-                }
+            } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+                throw PointException.useFailed(userId, RETRY_EXHAUSTED_REASON);
             }
         }
 
-        throw PointException.useFailed(userId, "포인트 사용 실패");
+        return retryPolicy.execute(USE_OPERATION, userId,
+                () -> usePointInternal(userId, amount, orderId, description),
+                PointService::isLedgerConflict,
+                () -> PointException.useFailed(userId, RETRY_EXHAUSTED_REASON));
     }
 
     /**
-     * 포인트 사용 내부 로직 (낙관적 락 적용)
+     * 유저의 포인트를 사용한다. (비동기)
+     * 재시도는 타이머에 예약되므로 요청 스레드가 대기하지 않는다.
      */
-    @Transactional
-    protected PointHistory usePointInternal(Long userId, BigDecimal amount, Long orderId, String description) {
-        // 사용자 조회 (낙관적 락 - 별도 락 불필요)
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> PointException.useFailed(userId, "사용자를 찾을 수 없습니다."));
-
-        // 사용 가능 여부 검증
-        BigDecimal balance = user.getPointBalance();
-        if (balance.compareTo(amount) < 0) {
-            throw PointException.insufficientPointBalance(userId, amount, balance);
+    public CompletableFuture<PointHistory> usePointAsync(Long userId, BigDecimal amount, Long orderId, String description) {
+        validateUseAmount(amount);
+
+        if (redisPointEngine.isEnabled()) {
+            return CompletableFuture.completedFuture(redisPointEngine.debit(userId, amount, orderId, description));
         }
 
-        // 포인트 사용
-        user.usePoint(amount);
-        userRepository.save(user); // JPA가 version을 자동으로 증가시키고 체크
+        return retryPolicy.executeAsync(USE_OPERATION, userId,
+                () -> usePointInternal(userId, amount, orderId, description),
+                PointService::isLedgerConflict,
+                () -> PointException.useFailed(userId, RETRY_EXHAUSTED_REASON));
+    }
+
+    /**
+     * 포인트 사용 내부 로직 (잔액 확인 + 원장 기록)
+     */
+    protected PointHistory usePointInternal(Long userId, BigDecimal amount, Long orderId, String description) {
+        return pointLedgerStore.append(userId, TransactionType.USE, amount, orderId, description);
+    }
+
+    /**
+     * Redis 포인트 원장 항목을 DB 원장에 일괄 반영한다.
+     * 이미 반영된 항목(ledgerRef)은 건너뛴다.
+     *
+     * @return 새로 반영된 항목 수
+     */
+    public int applyLedgerEntries(List<PointLedgerEntry> entries) {
+        return pointLedgerStore.appendAll(entries);
+    }
 
-        // 포인트 사용 내역 저장
-        PointHistory history = new PointHistory(null, userId, amount, balance.subtract(amount), orderId, description);
-        return pointHistoryRepository.save(history);
+    /**
+     * 유저의 현재 포인트 잔액을 조회한다.
+     * @param userId 사용자 ID
+     * @return 포인트 잔액
+     */
+    public BigDecimal getBalance(Long userId) {
+        if (redisPointEngine.isEnabled()) {
+            return redisPointEngine.getBalance(userId);
+        }
+        return pointLedgerStore.getBalance(userId);
     }
 
     /**
@@ -177,9 +180,25 @@ public class PointService {
      * @return 유저의 포인트 거래 내역
      */
     public List<PointHistory> getPointHistory(Long userId, TransactionType transactionType) {
-        if (transactionType != null) {
-            return pointHistoryRepository.findByUserIdAndType(userId, transactionType);
+        return pointLedgerStore.getHistory(userId, transactionType);
+    }
+
+    // 최소 충전금액 검증
+    private static void validateChargeAmount(BigDecimal amount) {
+        if (amount.compareTo(BusinessConstants.MIN_CHARGE_AMOUNT) < 0) {
+            throw PointException.invalidPointAmount(amount);
+        }
+    }
+
+    // 사용금액 검증
+    private static void validateUseAmount(BigDecimal amount) {
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw PointException.invalidPointAmount(amount);
         }
-        return pointHistoryRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    }
+
+    // 재시도 대상: 원장 INSERT 충돌 (동시 첫 기록 PK 중복, 락 대기 실패/데드락)
+    private static boolean isLedgerConflict(Throwable e) {
+        return e instanceof DataIntegrityViolationException || e instanceof PessimisticLockingFailureException;
     }
 }
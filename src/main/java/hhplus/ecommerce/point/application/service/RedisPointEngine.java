@@ -0,0 +1,173 @@
+package hhplus.ecommerce.point.application.service;
+
+import hhplus.ecommerce.common.domain.exception.PointException;
+import hhplus.ecommerce.point.domain.model.PointHistory;
+import hhplus.ecommerce.point.domain.model.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Redis 포인트 엔진 (선택 적용: point.redis-engine.enabled)
+ *
+ * key: point:balance:{userId} (잔액, 원 단위 × 100 정수)
+ * stream: point:ledger (충전/사용 내역, PointLedgerWriter가 point_ledger에 일괄 반영)
+ * - 잔액 확인 + 차감 + 원장 기록을 Lua 스크립트 한 번으로 처리 (DB 원장 행 잠금/재시도 없음)
+ * - 잔액 키가 없으면 DB 잔액으로 한 번 적재 (만료 없음: 미반영 원장이 있는 동안 DB 잔액은 뒤처질 수 있으므로)
+ * - DB 트랜잭션 안에서 차감한 포인트는 롤백 시 다시 적립
+ */
+@Slf4j
+@Component
+public class RedisPointEngine {
+
+    public static final String BALANCE_KEY_PREFIX = "point:balance:";
+    public static final String LEDGER_STREAM_KEY = "point:ledger";
+
+    private static final int SCALE = 2;
+    private static final long NOT_LOADED = -2L;
+    private static final long INSUFFICIENT = -1L;
+    private static final String ROLLBACK_DESCRIPTION = "결제 실패 포인트 복구";
+    // point_ledger.description 길이 (넘으면 스트림에는 쌓이지만 DB 반영이 실패하므로 XADD 전에 자른다)
+    private static final int MAX_DESCRIPTION_LENGTH = 200;
+
+    // KEYS[1] 잔액, KEYS[2] 원장 스트림
+    // ARGV[1] 증감액(정수, 차감은 음수), ARGV[2] userId, ARGV[3] 거래 타입, ARGV[4] 금액(양수), ARGV[5] orderId, ARGV[6] 설명
+    // 반환: 변경 후 잔액, -1 잔액 부족, -2 잔액 미적재
+    private static final DefaultRedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "local balance = redis.call('GET', KEYS[1]) " +
+            "if not balance then return -2 end " +
+            "if tonumber(balance) + tonumber(ARGV[1]) < 0 then return -1 end " +
+            "local after = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "redis.call('XADD', KEYS[2], '*', 'userId', ARGV[2], 'type', ARGV[3], 'amount', ARGV[4], " +
+            "  'balanceAfter', string.format('%d', after), 'orderId', ARGV[5], 'description', ARGV[6]) " +
+            "return after",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PointLedgerStore pointLedgerStore;
+    private final boolean enabled;
+
+    public RedisPointEngine(RedisTemplate<String, String> redisTemplate,
+                            PointLedgerStore pointLedgerStore,
+                            @Value("${point.redis-engine.enabled:false}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.pointLedgerStore = pointLedgerStore;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 포인트 충전
+     */
+    public PointHistory credit(Long userId, BigDecimal amount, String description) {
+        long after = apply(userId, amount, TransactionType.CHARGE, null, description);
+        if (after == INSUFFICIENT) {
+            throw PointException.chargeFailed(userId, "포인트 잔액을 갱신할 수 없습니다.");
+        }
+        return new PointHistory(null, userId, amount, fromMinor(after), description);
+    }
+
+    /**
+     * 포인트 사용 (잔액 확인 + 차감 + 원장 기록을 Redis 호출 한 번으로)
+     * DB 트랜잭션 안에서 호출되면 롤백 시 차감분을 다시 적립한다.
+     */
+    public PointHistory debit(Long userId, BigDecimal amount, Long orderId, String description) {
+        long after = apply(userId, amount.negate(), TransactionType.USE, orderId, description);
+        if (after == INSUFFICIENT) {
+            throw PointException.insufficientPointBalance(userId, amount, getBalance(userId));
+        }
+        registerRollbackCredit(userId, amount);
+        return new PointHistory(null, userId, amount, fromMinor(after), orderId, description);
+    }
+
+    /**
+     * 현재 잔액 (키가 없으면 DB 잔액을 적재)
+     */
+    public BigDecimal getBalance(Long userId) {
+        String balance = redisTemplate.opsForValue().get(balanceKey(userId));
+        if (balance == null) {
+            loadBalance(userId);
+            balance = redisTemplate.opsForValue().get(balanceKey(userId));
+        }
+        return fromMinor(Long.parseLong(balance));
+    }
+
+    private long apply(Long userId, BigDecimal signedAmount, TransactionType type, Long orderId, String description) {
+        List<String> keys = List.of(balanceKey(userId), LEDGER_STREAM_KEY);
+        Object[] args = {
+                String.valueOf(toMinor(signedAmount)),
+                String.valueOf(userId),
+                type.name(),
+                signedAmount.abs().setScale(SCALE, RoundingMode.HALF_UP).toPlainString(),
+                orderId == null ? "" : String.valueOf(orderId),
+                truncateDescription(description)
+        };
+
+        Long after = redisTemplate.execute(APPLY_SCRIPT, keys, args);
+        if (after != null && after == NOT_LOADED) {
+            loadBalance(userId);
+            after = redisTemplate.execute(APPLY_SCRIPT, keys, args);
+        }
+        if (after == null || after == NOT_LOADED) {
+            throw PointException.useFailed(userId, "포인트 잔액을 불러올 수 없습니다.");
+        }
+        return after;
+    }
+
+    // DB 원장 잔액으로 최초 적재 (이미 있으면 유지)
+    private void loadBalance(Long userId) {
+        BigDecimal balance = pointLedgerStore.getBalance(userId);
+        redisTemplate.opsForValue().setIfAbsent(balanceKey(userId), String.valueOf(toMinor(balance)));
+    }
+
+    private void registerRollbackCredit(Long userId, BigDecimal amount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    credit(userId, amount, ROLLBACK_DESCRIPTION);
+                    log.info("트랜잭션 롤백으로 포인트 복구. userId={}, amount={}", userId, amount);
+                } catch (Exception e) {
+                    log.error("트랜잭션 롤백 후 포인트 복구 실패. userId={}, amount={}", userId, amount, e);
+                }
+            }
+        });
+    }
+
+    private static String truncateDescription(String description) {
+        if (description == null) {
+            return "";
+        }
+        return description.length() > MAX_DESCRIPTION_LENGTH ? description.substring(0, MAX_DESCRIPTION_LENGTH) : description;
+    }
+
+    static long toMinor(BigDecimal amount) {
+        return amount.movePointRight(SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    static BigDecimal fromMinor(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    private static String balanceKey(Long userId) {
+        return BALANCE_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,69 @@
+package hhplus.ecommerce.point.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 잔액 스냅샷 (append-only)
+ *
+ * seq 시점까지 원장을 누적한 잔액. seq 0은 원장 도입 전 users.point_balance에서 옮겨 온 시작 잔액이다.
+ */
+@Entity
+@IdClass(PointLedgerId.class)
+@Table(name = "point_balance_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointBalanceSnapshot implements Persistable<PointLedgerId> {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "seq")
+    private Long seq;
+
+    @Column(name = "balance", nullable = false, precision = 15, scale = 2)
+    private BigDecimal balance;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntry = true;
+
+    private PointBalanceSnapshot(Long userId, Long seq, BigDecimal balance) {
+        this.userId = userId;
+        this.seq = seq;
+        this.balance = balance;
+    }
+
+    public static PointBalanceSnapshot of(Long userId, Long seq, BigDecimal balance) {
+        return new PointBalanceSnapshot(userId, seq, balance);
+    }
+
+    @Override
+    public PointLedgerId getId() {
+        return new PointLedgerId(userId, seq);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntry;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.newEntry = false;
+    }
+}
@@ -70,4 +70,14 @@ public class PointHistory {
         this.orderId = orderId;
         this.description = description;
     }
+
+    /**
+     * 포인트 원장의 조회용 투영 (원장 seq를 이력 ID로 사용, 저장하지 않음)
+     */
+    public static PointHistory fromLedger(PointLedger ledger) {
+        PointHistory history = new PointHistory(ledger.getSeq(), ledger.getUserId(), ledger.getTransactionType(),
+                ledger.getAmount(), ledger.getBalanceAfter(), ledger.getOrderId(), ledger.getDescription());
+        history.createdAt = ledger.getCreatedAt();
+        return history;
+    }
 }
@@ -0,0 +1,111 @@
+package hhplus.ecommerce.point.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 (append-only)
+ *
+ * 사용자별 순번(seq)으로 INSERT만 하고 수정/삭제하지 않는다.
+ * 잔액은 최신 스냅샷 + 이후 원장 합계로 계산하며, PointHistory는 이 원장의 조회용 투영이다.
+ * 같은 (user_id, seq)를 두 번 저장하면 merge 대신 INSERT가 나가 PK 충돌로 실패해야 하므로 Persistable을 구현한다.
+ */
+@Entity
+@IdClass(PointLedgerId.class)
+@Table(name = "point_ledger", indexes = {
+    @Index(name = "idx_ledger_user_type_seq", columnList = "user_id, transaction_type, seq")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointLedger implements Persistable<PointLedgerId> {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "seq")
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false, length = 20)
+    private TransactionType transactionType;
+
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "balance_after", nullable = false, precision = 15, scale = 2)
+    private BigDecimal balanceAfter;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "description", length = 200)
+    private String description;
+
+    // Redis 포인트 원장 스트림 레코드 ID (일괄 반영 시 중복 방지, 직접 기록한 원장은 null)
+    @Column(name = "ledger_ref", length = 40, unique = true)
+    private String ledgerRef;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntry = true;
+
+    private PointLedger(Long userId, Long seq, TransactionType transactionType, BigDecimal amount,
+                        BigDecimal balanceAfter, Long orderId, String description, String ledgerRef) {
+        this.userId = userId;
+        this.seq = seq;
+        this.transactionType = transactionType;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.orderId = orderId;
+        this.description = description;
+        this.ledgerRef = ledgerRef;
+    }
+
+    public static PointLedger append(Long userId, Long seq, TransactionType transactionType, BigDecimal amount,
+                                     BigDecimal balanceAfter, Long orderId, String description, String ledgerRef) {
+        return new PointLedger(userId, seq, transactionType, amount, balanceAfter, orderId, description, ledgerRef);
+    }
+
+    /**
+     * 잔액 증감액 (사용은 음수)
+     */
+    public BigDecimal signedAmount() {
+        return transactionType == TransactionType.USE ? amount.negate() : amount;
+    }
+
+    /**
+     * 조회용 포인트 이력으로 변환 (seq를 이력 ID로 사용)
+     */
+    public PointHistory toHistory() {
+        return PointHistory.fromLedger(this);
+    }
+
+    @Override
+    public PointLedgerId getId() {
+        return new PointLedgerId(userId, seq);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntry;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.newEntry = false;
+    }
+}
@@ -0,0 +1,21 @@
+package hhplus.ecommerce.point.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 포인트 원장 / 잔액 스냅샷 복합키 (user_id, seq)
+ */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointLedgerId implements Serializable {
+
+    private Long userId;
+    private Long seq;
+}
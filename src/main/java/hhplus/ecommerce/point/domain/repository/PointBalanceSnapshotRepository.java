@@ -0,0 +1,12 @@
+package hhplus.ecommerce.point.domain.repository;
+
+import hhplus.ecommerce.point.domain.model.PointBalanceSnapshot;
+import hhplus.ecommerce.point.domain.model.PointLedgerId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface PointBalanceSnapshotRepository extends JpaRepository<PointBalanceSnapshot, PointLedgerId> {
+
+    Optional<PointBalanceSnapshot> findTopByUserIdOrderBySeqDesc(Long userId);
+}
@@ -0,0 +1,35 @@
+package hhplus.ecommerce.point.domain.repository;
+
+import hhplus.ecommerce.point.domain.model.PointLedger;
+import hhplus.ecommerce.point.domain.model.PointLedgerId;
+import hhplus.ecommerce.point.domain.model.TransactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointLedgerRepository extends JpaRepository<PointLedger, PointLedgerId> {
+
+    // 사용자의 마지막 원장 행만 잠근다 (다음 seq 채번 + 잔액 확인, users 행은 건드리지 않음)
+    @Query(value = "SELECT * FROM point_ledger WHERE user_id = :userId ORDER BY seq DESC LIMIT 1 FOR UPDATE",
+           nativeQuery = true)
+    Optional<PointLedger> findLastForUpdate(@Param("userId") Long userId);
+
+    // 스냅샷 이후 원장 합계 (사용은 차감)
+    @Query("SELECT COALESCE(SUM(CASE WHEN l.transactionType = hhplus.ecommerce.point.domain.model.TransactionType.USE " +
+           "THEN -l.amount ELSE l.amount END), 0) " +
+           "FROM PointLedger l WHERE l.userId = :userId AND l.seq > :afterSeq")
+    BigDecimal sumSignedAmountAfter(@Param("userId") Long userId, @Param("afterSeq") Long afterSeq);
+
+    List<PointLedger> findByUserIdOrderBySeqDesc(Long userId);
+
+    List<PointLedger> findByUserIdAndTransactionTypeOrderBySeqDesc(Long userId, TransactionType transactionType);
+
+    // 이미 반영된 Redis 원장 레코드 (재전달 시 중복 저장 방지)
+    @Query("SELECT l.ledgerRef FROM PointLedger l WHERE l.ledgerRef IN :ledgerRefs")
+    List<String> findLedgerRefsIn(@Param("ledgerRefs") Collection<String> ledgerRefs);
+}
@@ -19,6 +19,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 포인트 충전/사용/히스토리 조회 HTTP 요청 처리 컨트롤러
@@ -34,41 +35,39 @@ public class PointController {
     /**
      * 포인트 충전
      * POST /api/point/charge/{userId}
+     * 원장 충돌 재시도 동안 요청 스레드를 반환한다 (비동기 응답)
      */
     @PostMapping("/charge/{userId}")
     @ResponseStatus(HttpStatus.CREATED)
-    public ApiResponse<PointTransactionResponse> chargePoint(
+    public CompletableFuture<ApiResponse<PointTransactionResponse>> chargePoint(
             @PathVariable Long userId,
             @Valid @RequestBody PointChargeRequest request) {
 
-        PointHistory history = pointService.chargePoint(
+        return pointService.chargePointAsync(
                 userId,
                 request.getAmount(),
                 request.getDescription()
-        );
-
-        PointTransactionResponse response = pointMapper.toTransactionResponse(history);
-        return ApiResponse.success(response, "포인트가 충전되었습니다.");
+        ).thenApply(history -> ApiResponse.success(
+                pointMapper.toTransactionResponse(history), "포인트가 충전되었습니다."));
     }
 
     /**
      * 포인트 사용
      * POST /api/point/use/{userId}
+     * 원장 충돌 재시도 동안 요청 스레드를 반환한다 (비동기 응답)
      */
     @PostMapping("/use/{userId}")
-    public ApiResponse<PointTransactionResponse> usePoint(
+    public CompletableFuture<ApiResponse<PointTransactionResponse>> usePoint(
             @PathVariable Long userId,
             @Valid @RequestBody PointUseRequest request) {
 
-        PointHistory history = pointService.usePoint(
+        return pointService.usePointAsync(
                 userId,
                 request.getAmount(),
                 request.getOrderId(),
                 request.getDescription()
-        );
-
-        PointTransactionResponse response = pointMapper.toTransactionResponse(history);
-        return ApiResponse.success(response, "포인트가 사용되었습니다.");
+        ).thenApply(history -> ApiResponse.success(
+                pointMapper.toTransactionResponse(history), "포인트가 사용되었습니다."));
     }
 
     /**
@@ -1,5 +1,6 @@
 package hhplus.ecommerce.point.presentation.dto.request;
 
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,5 +14,6 @@ public class PointChargeRequest {
     // @Min(value = 1000, message = "최소 충전 금액은 1000원입니다.:")
     private BigDecimal amount;
 
+    @Size(max = 200, message = "설명은 200자 이하여야 합니다.")
     private String description;
 }
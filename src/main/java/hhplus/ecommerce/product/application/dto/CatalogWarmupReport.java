@@ -0,0 +1,23 @@
+package hhplus.ecommerce.product.application.dto;
+
+/**
+ * 카탈로그 워밍업 결과
+ *
+ * @param elapsedMs 소요 시간
+ * @param rankingTargets 적재 대상 인기 상품 캐시 키 수 (기간 x 조회 개수)
+ * @param rankingWarmed 적재된 인기 상품 캐시 키 수
+ * @param productTargets 적재 대상 상품 수 (랭킹 ZSet + 인기 상품 스냅샷 합집합)
+ * @param productWarmed 적재된 상품 상세 수
+ * @param failedTasks 실패하거나 제한 시간 안에 끝나지 않은 작업 수
+ */
+public record CatalogWarmupReport(long elapsedMs,
+                                  int rankingTargets,
+                                  int rankingWarmed,
+                                  int productTargets,
+                                  int productWarmed,
+                                  int failedTasks) {
+
+    public double productCoverage() {
+        return productTargets == 0 ? 1.0 : (double) productWarmed / productTargets;
+    }
+}
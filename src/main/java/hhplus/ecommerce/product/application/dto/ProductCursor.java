@@ -0,0 +1,67 @@
+package hhplus.ecommerce.product.application.dto;
+
+import hhplus.ecommerce.common.domain.exception.ProductException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * 상품 목록 keyset 커서
+ *
+ * 직전 페이지 마지막 상품의 (정렬 키, 상품 ID)를 정렬 기준과 함께 Base64(URL-safe) 토큰으로 인코딩한다.
+ * 정렬 기준이 다른 토큰은 거부한다.
+ *
+ * @param sort 정렬 기준 (latest, sales, price_asc, price_desc)
+ * @param sortKey 정렬 키 값 (createdAt / salesCount / price 의 문자열 표현)
+ * @param productId 상품 ID (정렬 키 동률 처리용)
+ */
+public record ProductCursor(String sort, String sortKey, Long productId) {
+
+    private static final String DELIMITER = "|";
+
+    public LocalDateTime createdAtKey() {
+        return parseSortKey(LocalDateTime::parse);
+    }
+
+    public long salesCountKey() {
+        return parseSortKey(Long::parseLong);
+    }
+
+    public BigDecimal priceKey() {
+        return parseSortKey(BigDecimal::new);
+    }
+
+    public String encode() {
+        String raw = sort + DELIMITER + sortKey + DELIMITER + productId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석
+     * @param token 이전 응답의 nextCursor
+     * @param expectedSort 현재 요청의 정렬 기준
+     */
+    public static ProductCursor decode(String token, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length == 3 && parts[0].equals(expectedSort) && !parts[1].isEmpty()) {
+                return new ProductCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException ignored) {
+            // 아래에서 예외 처리 (NumberFormatException 포함)
+        }
+        throw ProductException.getListFailed("커서 형식이 올바르지 않습니다. cursor : " + token);
+    }
+
+    private <T> T parseSortKey(Function<String, T> parser) {
+        try {
+            return parser.apply(sortKey);
+        } catch (RuntimeException e) {
+            throw ProductException.getListFailed("커서 정렬 키가 올바르지 않습니다. sort : " + sort + ", key : " + sortKey);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package hhplus.ecommerce.product.application.dto;
+
+import hhplus.ecommerce.product.domain.repository.ProductSummary;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 검색 결과
+ *
+ * @param items 검색된 상품 (최근 반영된 상품 순, 최대 limit개)
+ * @param totalHits 카테고리 / 가격 조건까지 만족하는 전체 건수
+ * @param categoryFacets 카테고리별 건수 (검색어 + 가격 조건 기준, 카테고리 필터는 적용하지 않음)
+ */
+public record ProductSearchResult(List<ProductSummary> items, long totalHits, Map<String, Long> categoryFacets) {
+}
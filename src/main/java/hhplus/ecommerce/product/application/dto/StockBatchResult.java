@@ -0,0 +1,13 @@
+package hhplus.ecommerce.product.application.dto;
+
+import java.util.List;
+
+/**
+ * 재고 일괄 반영 배치 1건의 결과
+ *
+ * @param appliedCount 반영된 옵션 수
+ * @param notFoundIds 존재하지 않는 옵션 ID
+ * @param rejectedIds 반영 시 재고가 음수가 되어 제외된 옵션 ID
+ */
+public record StockBatchResult(int appliedCount, List<Long> notFoundIds, List<Long> rejectedIds) {
+}
@@ -0,0 +1,25 @@
+package hhplus.ecommerce.product.application.dto;
+
+import java.util.List;
+
+/**
+ * 재고 일괄 반영(import) 요약
+ *
+ * @param totalLines 읽은 데이터 줄 수 (헤더 / 빈 줄 제외)
+ * @param appliedCount 반영된 옵션 수 (같은 옵션의 여러 줄은 합산해 1건)
+ * @param notFoundCount 존재하지 않는 옵션 수
+ * @param rejectedCount 재고가 음수가 되어 제외된 옵션 수
+ * @param invalidCount 형식이 잘못된 줄 수
+ * @param batchCount 실행한 배치(트랜잭션) 수
+ * @param errors 오류 상세 (최대 StockImportService.MAX_ERRORS건)
+ * @param elapsedMs 소요 시간 (ms)
+ */
+public record StockImportResult(int totalLines,
+                                int appliedCount,
+                                int notFoundCount,
+                                int rejectedCount,
+                                int invalidCount,
+                                int batchCount,
+                                List<String> errors,
+                                long elapsedMs) {
+}
@@ -0,0 +1,43 @@
+package hhplus.ecommerce.product.application.eventhandler;
+
+import hhplus.ecommerce.product.application.service.ProductSearchIndex;
+import hhplus.ecommerce.product.domain.event.ProductChangedEvent;
+import hhplus.ecommerce.product.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 검색 인덱스 이벤트 핸들러
+ *
+ * 상품 변경 이벤트로 이 노드의 인덱스를 갱신한다. (기동 시 재구성은 ProductSearchIndex.run)
+ * 트랜잭션 커밋 후 커밋된 상품을 다시 읽어 반영한다. (롤백된 변경은 인덱스에 반영되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexEventHandler {
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+
+    /**
+     * 상품 등록 / 수정 / 삭제 → 인덱스 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductChanged(ProductChangedEvent event) {
+        try {
+            if (event.getChangeType() == ProductChangedEvent.ChangeType.DELETED) {
+                productSearchIndex.remove(event.getProductId());
+                return;
+            }
+            productRepository.findById(event.getProductId())
+                    .ifPresentOrElse(productSearchIndex::upsert,
+                            () -> productSearchIndex.remove(event.getProductId()));
+        } catch (Exception e) {
+            log.warn("상품 검색 인덱스 반영 실패 - ProductId: {}, exception: {}", event.getProductId(), e.getMessage());
+        }
+    }
+}
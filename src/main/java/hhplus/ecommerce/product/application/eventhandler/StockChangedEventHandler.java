@@ -0,0 +1,26 @@
+package hhplus.ecommerce.product.application.eventhandler;
+
+import hhplus.ecommerce.product.application.scheduler.StockChangeFlushScheduler;
+import hhplus.ecommerce.product.domain.event.StockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 재고 변경 이벤트 핸들러
+ *
+ * 트랜잭션 커밋 후 변경된 옵션을 기록하고, StockChangeFlushScheduler가 모아서 상품 상세 캐시를 무효화한다.
+ * 트랜잭션 밖에서 발행된 이벤트도 처리하도록 fallbackExecution 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class StockChangedEventHandler {
+
+    private final StockChangeFlushScheduler stockChangeFlushScheduler;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStockChanged(StockChangedEvent event) {
+        stockChangeFlushScheduler.record(event.getProductOptionId());
+    }
+}
@@ -0,0 +1,133 @@
+package hhplus.ecommerce.product.application.scheduler;
+
+import hhplus.ecommerce.common.domain.constants.BusinessConstants;
+import hhplus.ecommerce.product.application.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 누적 판매량 DB 반영 스케줄러
+ *
+ * 결제 커밋 후 product:sales:pending Hash에 상품별 수량이 쌓이고,
+ * 이 스케줄러가 주기적으로 processing 키로 RENAME 해서 한 트랜잭션으로 products.sales_count에 더한다.
+ * - RENAME 이후 들어온 결제는 새 pending 키에 쌓이므로 반영 중 유실되지 않는다.
+ * - DB 반영에 실패하면 processing 키를 남겨 두고 다음 주기에 먼저 재처리한다.
+ * - processing 키마다 배치 ID를 부여하고 DB 반영 트랜잭션에 기록하므로,
+ *   커밋 후 processing 키 삭제 전에 장애가 나도 재처리 시 중복 반영되지 않는다.
+ * - 분산 락으로 한 번에 한 노드만 반영한다.
+ * - sales_count 도입 전 결제분은 최초 반영 후 한 번 백필한다. (결제 완료 주문 수량 합계 - pending 누적분, 표식 배치 ID로 한 번만)
+ *   백필 전까지 기존 상품의 sales_count는 도입 이후 판매량만 담는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSalesFlushScheduler {
+
+    private static final String FLUSH_LOCK_KEY = "lock:product:sales:flush";
+    public static final String SALES_BACKFILL_BATCH_ID = "sales-count-backfill";
+
+    /**
+     * 반영할 배치 선점 Lua 스크립트
+     * KEYS[1]: pending, KEYS[2]: processing, KEYS[3]: 배치 ID, ARGV[1]: 새 배치 ID
+     * 남아 있는 processing 키가 있으면 그 배치 ID를, 없으면 pending을 processing으로 옮기고 새 배치 ID를 반환한다.
+     * 반영할 판매량이 없으면 false(null)를 반환한다.
+     */
+    private static final DefaultRedisScript<String> CLAIM_BATCH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "    local batchId = redis.call('GET', KEYS[3]) " +
+            "    if not batchId then " +
+            "        batchId = ARGV[1] " +
+            "        redis.call('SET', KEYS[3], batchId) " +
+            "    end " +
+            "    return batchId " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+            "    return false " +
+            "end " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "redis.call('SET', KEYS[3], ARGV[1]) " +
+            "return ARGV[1]",
+            String.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductService productService;
+    private final RedissonClient redissonClient;
+
+    private volatile boolean backfilled;
+
+    @Scheduled(fixedDelayString = "${product.sales.flush-interval-ms:5000}")
+    public void flush() {
+        // 다른 노드가 반영 중이면 이번 주기는 건너뜀 (락 보유 중에는 watchdog이 만료를 연장)
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            flushBatch();
+            backfillOnce();
+        } catch (Exception e) {
+            log.error("누적 판매량 DB 반영 실패. 다음 주기에 재시도합니다.", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void flushBatch() {
+        // 이전 주기에 반영하지 못한 processing 키가 있으면 같은 배치 ID로 먼저 재처리한다
+        String batchId = redisTemplate.execute(
+                CLAIM_BATCH_SCRIPT,
+                List.of(BusinessConstants.REDIS_PRODUCT_SALES_PENDING_KEY,
+                        BusinessConstants.REDIS_PRODUCT_SALES_PROCESSING_KEY,
+                        BusinessConstants.REDIS_PRODUCT_SALES_BATCH_ID_KEY),
+                UUID.randomUUID().toString()
+        );
+        if (batchId == null) {
+            return;
+        }
+
+        Map<Long, Long> quantityByProductId = readQuantities(BusinessConstants.REDIS_PRODUCT_SALES_PROCESSING_KEY);
+
+        int updated = productService.addSalesCounts(batchId, quantityByProductId);
+        redisTemplate.delete(List.of(BusinessConstants.REDIS_PRODUCT_SALES_PROCESSING_KEY,
+                BusinessConstants.REDIS_PRODUCT_SALES_BATCH_ID_KEY));
+
+        log.debug("누적 판매량 DB 반영 완료. batchId={}, products={}, updated={}", batchId, quantityByProductId.size(), updated);
+    }
+
+    /**
+     * 노드마다 최초 반영 후 한 번 백필 시도 (processing 키를 비운 뒤라 DB 미반영분은 pending에만 있음)
+     */
+    private void backfillOnce() {
+        if (backfilled) {
+            return;
+        }
+        Map<Long, Long> unflushed = readQuantities(BusinessConstants.REDIS_PRODUCT_SALES_PENDING_KEY);
+        int updated = productService.backfillSalesCounts(SALES_BACKFILL_BATCH_ID, unflushed);
+        backfilled = true;
+        if (updated > 0) {
+            log.info("누적 판매량 백필 완료. products={}, unflushedProducts={}", updated, unflushed.size());
+        }
+    }
+
+    private Map<Long, Long> readQuantities(String key) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+        Map<Long, Long> quantityByProductId = new LinkedHashMap<>();
+        entries.forEach((productId, quantity) ->
+                quantityByProductId.put(Long.parseLong(productId.toString()), Long.parseLong(quantity.toString())));
+        return quantityByProductId;
+    }
+}
@@ -0,0 +1,66 @@
+package hhplus.ecommerce.product.application.scheduler;
+
+import hhplus.ecommerce.product.domain.model.ProductOption;
+import hhplus.ecommerce.product.domain.repository.ProductOptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고 변경 → 상품 상세 캐시 무효화 스케줄러
+ *
+ * 재고 변경 이벤트(StockChangedEvent)로 변경된 옵션 ID를 모아 두고,
+ * 주기마다 옵션 → 상품 ID를 한 번에 조회해 해당 상품의 productDetail 캐시를 비운다.
+ * - 같은 주기 안의 여러 변경은 상품당 한 번의 evict로 합쳐진다.
+ * - 캐시 무효화에 실패한 옵션은 다시 넣어 다음 주기에 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockChangeFlushScheduler {
+
+    private final ProductOptionRepository productOptionRepository;
+    private final CacheManager cacheManager;
+
+    private final Set<Long> changedOptionIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 변경된 옵션 기록 (StockChangedEventHandler)
+     */
+    public void record(Long productOptionId) {
+        changedOptionIds.add(productOptionId);
+    }
+
+    @Scheduled(fixedDelayString = "${stock.change.flush-interval-ms:200}")
+    public void flush() {
+        if (changedOptionIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> optionIds = new ArrayList<>(changedOptionIds);
+        optionIds.forEach(changedOptionIds::remove);
+
+        try {
+            Cache detailCache = cacheManager.getCache("productDetail");
+            List<Long> productIds = productOptionRepository.findAllById(optionIds).stream()
+                    .map(ProductOption::getProductId)
+                    .distinct()
+                    .toList();
+            if (detailCache != null) {
+                productIds.forEach(detailCache::evict);
+            }
+            log.debug("재고 변경 상품 상세 캐시 무효화. options={}, products={}", optionIds.size(), productIds.size());
+        } catch (Exception e) {
+            changedOptionIds.addAll(optionIds);
+            log.error("재고 변경 상품 상세 캐시 무효화 실패. 다음 주기에 재시도합니다.", e);
+        }
+    }
+}
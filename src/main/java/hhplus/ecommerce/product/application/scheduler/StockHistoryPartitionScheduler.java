@@ -0,0 +1,102 @@
+package hhplus.ecommerce.product.application.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * stock_histories 월 파티션 관리 스케줄러
+ *
+ * created_at RANGE COLUMNS 파티션(pYYYYMM + pmax)을 굴려서 유지한다.
+ * - 이번 달부터 ahead-months 뒤까지의 파티션을 pmax에서 분리해 미리 만든다.
+ * - retention-months 보다 오래된 월 파티션은 DROP PARTITION으로 지운다. (행 단위 DELETE 없음)
+ * 파티션이 없는 테이블(ddl-auto로 만든 테스트 DB 등)은 건너뛴다.
+ */
+@Slf4j
+@Component
+public class StockHistoryPartitionScheduler {
+
+    private static final String TABLE = "stock_histories";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int aheadMonths;
+    private final int retentionMonths;
+
+    public StockHistoryPartitionScheduler(JdbcTemplate jdbcTemplate,
+                                          @Value("${stock.history.partition.ahead-months:3}") int aheadMonths,
+                                          @Value("${stock.history.partition.retention-months:12}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.aheadMonths = aheadMonths;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${stock.history.partition.cron:0 10 3 * * *}")
+    public void maintain() {
+        try {
+            List<String> partitions = jdbcTemplate.queryForList(
+                    "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                    "ORDER BY PARTITION_ORDINAL_POSITION", String.class, TABLE);
+            if (partitions.isEmpty()) {
+                log.debug("재고 이력 테이블이 파티션되어 있지 않아 파티션 관리를 건너뜁니다.");
+                return;
+            }
+
+            List<String> statements = plan(partitions, YearMonth.now());
+            statements.forEach(jdbcTemplate::execute);
+            if (!statements.isEmpty()) {
+                log.info("재고 이력 파티션 관리 완료. statements={}", statements);
+            }
+        } catch (Exception e) {
+            log.error("재고 이력 파티션 관리 실패. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * 현재 파티션 목록 기준 실행할 DDL
+     *
+     * @param partitions 현재 파티션 이름 (정의 순서)
+     * @param current 기준 월
+     */
+    public List<String> plan(List<String> partitions, YearMonth current) {
+        List<String> statements = new ArrayList<>();
+
+        // 1. 앞으로 쓸 월 파티션 추가 (마지막 월 파티션 이후만, pmax를 쪼개는 방식)
+        YearMonth last = partitions.stream()
+                .filter(name -> !MAX_PARTITION.equals(name))
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .max(YearMonth::compareTo)
+                .orElse(current.minusMonths(1));
+        for (YearMonth month = last.plusMonths(1); !month.isAfter(current.plusMonths(aheadMonths)); month = month.plusMonths(1)) {
+            statements.add(String.format(
+                    "ALTER TABLE %s REORGANIZE PARTITION %s INTO (PARTITION %s VALUES LESS THAN ('%s'), PARTITION %s VALUES LESS THAN (MAXVALUE))",
+                    TABLE, MAX_PARTITION, month.format(PARTITION_NAME), month.plusMonths(1).atDay(1), MAX_PARTITION));
+        }
+
+        // 2. 보관 기간이 지난 월 파티션 삭제 (가장 최근 월 파티션은 남긴다)
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        partitions.stream()
+                .filter(name -> !MAX_PARTITION.equals(name))
+                .filter(name -> YearMonth.parse(name, PARTITION_NAME).isBefore(oldestKept))
+                .filter(name -> !YearMonth.parse(name, PARTITION_NAME).equals(last))
+                .forEach(name -> statements.add(String.format("ALTER TABLE %s DROP PARTITION %s", TABLE, name)));
+
+        return statements;
+    }
+}
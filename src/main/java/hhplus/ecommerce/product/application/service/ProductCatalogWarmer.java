@@ -0,0 +1,199 @@
+package hhplus.ecommerce.product.application.service;
+
+import hhplus.ecommerce.common.domain.constants.BusinessConstants;
+import hhplus.ecommerce.product.application.dto.CatalogWarmupReport;
+import hhplus.ecommerce.product.domain.model.PeriodType;
+import hhplus.ecommerce.product.domain.model.PopularProduct;
+import hhplus.ecommerce.product.domain.repository.PopularProductRepository;
+import hhplus.ecommerce.product.presentation.dto.response.ProductDetailResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 시 카탈로그 캐시 워밍업
+ *
+ * 배포 직후 빈 캐시로 트래픽을 받으면 getProductDetail / getTopProducts가 한꺼번에 MySQL로 몰린다.
+ * ApplicationRunner는 ApplicationReadyEvent(= readiness ACCEPTING_TRAFFIC) 전에 실행되므로,
+ * 여기서 인기 상품을 미리 적재해 두면 준비 완료 시점에는 캐시가 채워져 있다.
+ *
+ * - 대상: 일간/주간/월간 랭킹 ZSet 상위 N개 + 인기 상품 스냅샷(PopularProduct) 상위 N개의 합집합
+ * - 상품 상세: 배치 조회(getProductDetailsByIds) 후 productDetail 캐시에 직접 적재
+ * - 인기 상품: ProductService.getTopProducts를 호출해 popularProducts 캐시 적재 (캐시 키를 그대로 사용)
+ * - 제한된 스레드 수로 병렬 처리하고 제한 시간이 지나면 남은 작업은 취소 (기동을 막지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host")
+public class ProductCatalogWarmer implements ApplicationRunner {
+
+    private static final Map<PeriodType, String> RANKING_KEYS = Map.of(
+            PeriodType.DAILY, BusinessConstants.REDIS_TOP_N_DAILY_KEY,
+            PeriodType.WEEKLY, BusinessConstants.REDIS_TOP_N_WEEKLY_KEY,
+            PeriodType.MONTHLY, BusinessConstants.REDIS_TOP_N_MONTHLY_KEY
+    );
+
+    private final ProductService productService;
+    private final PopularProductRepository popularProductRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheManager cacheManager;
+    private final boolean enabled;
+    private final int topN;
+    private final List<Integer> rankingLimits;
+    private final int batchSize;
+    private final int parallelism;
+    private final long timeoutMs;
+
+    private volatile CatalogWarmupReport lastReport;
+
+    public ProductCatalogWarmer(ProductService productService,
+                                PopularProductRepository popularProductRepository,
+                                RedisTemplate<String, String> redisTemplate,
+                                CacheManager cacheManager,
+                                @Value("${product.warmup.enabled:true}") boolean enabled,
+                                @Value("${product.warmup.top-n:100}") int topN,
+                                @Value("${product.warmup.ranking-limits:5,10}") List<Integer> rankingLimits,
+                                @Value("${product.warmup.batch-size:50}") int batchSize,
+                                @Value("${product.warmup.parallelism:4}") int parallelism,
+                                @Value("${product.warmup.timeout-ms:30000}") long timeoutMs) {
+        this.productService = productService;
+        this.popularProductRepository = popularProductRepository;
+        this.redisTemplate = redisTemplate;
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+        this.topN = Math.min(topN, BusinessConstants.MAX_RANK);
+        this.rankingLimits = rankingLimits;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("카탈로그 워밍업 비활성화");
+            return;
+        }
+        try {
+            warmUp();
+        } catch (Exception e) {
+            // 워밍업 실패는 기동을 막지 않는다 (캐시 미스로 동작)
+            log.error("카탈로그 워밍업 실패 - exception: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 인기 상품 / 상품 상세 캐시 적재
+     *
+     * @return 소요 시간 및 적재 범위
+     */
+    public CatalogWarmupReport warmUp() {
+        long startedAt = System.currentTimeMillis();
+
+        List<Long> productIds = new ArrayList<>(collectHotProductIds());
+        Cache detailCache = cacheManager.getCache("productDetail");
+
+        List<Future<Integer>> rankingTasks = new ArrayList<>();
+        List<Future<Integer>> detailTasks = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (PeriodType period : RANKING_KEYS.keySet()) {
+                for (int limit : rankingLimits) {
+                    rankingTasks.add(executor.submit(() -> productService.getTopProducts(period, limit).isEmpty() ? 0 : 1));
+                }
+            }
+            for (int from = 0; from < productIds.size(); from += batchSize) {
+                List<Long> batch = productIds.subList(from, Math.min(from + batchSize, productIds.size()));
+                detailTasks.add(executor.submit(() -> putDetails(detailCache, batch)));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long deadline = startedAt + timeoutMs;
+        AtomicInteger failed = new AtomicInteger();
+        int rankingWarmed = await(rankingTasks, deadline, failed);
+        int productWarmed = await(detailTasks, deadline, failed);
+        executor.shutdownNow();
+
+        CatalogWarmupReport report = new CatalogWarmupReport(
+                System.currentTimeMillis() - startedAt,
+                rankingTasks.size(),
+                rankingWarmed,
+                productIds.size(),
+                productWarmed,
+                failed.get());
+        lastReport = report;
+        log.info("카탈로그 워밍업 완료. elapsedMs={}, ranking={}/{}, products={}/{} ({}%), failedTasks={}",
+                report.elapsedMs(), report.rankingWarmed(), report.rankingTargets(),
+                report.productWarmed(), report.productTargets(),
+                Math.round(report.productCoverage() * 100), report.failedTasks());
+        return report;
+    }
+
+    /**
+     * 마지막 워밍업 결과 (실행 전이면 null)
+     */
+    public CatalogWarmupReport getLastReport() {
+        return lastReport;
+    }
+
+    // 랭킹 ZSet + 인기 상품 스냅샷 상위 N개 상품 ID (순위 순, 중복 제거)
+    private Set<Long> collectHotProductIds() {
+        Set<Long> productIds = new LinkedHashSet<>();
+        RANKING_KEYS.forEach((period, redisKey) -> {
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(redisKey, 0, topN - 1);
+            if (members != null) {
+                members.forEach(member -> productIds.add(Long.parseLong(member)));
+            }
+            popularProductRepository.findTopNByPeriodType(period, PageRequest.of(0, topN)).stream()
+                    .map(PopularProduct::getProductId)
+                    .forEach(productIds::add);
+        });
+        return productIds;
+    }
+
+    private int putDetails(Cache detailCache, List<Long> productIds) {
+        Map<Long, ProductDetailResponse> details = productService.getProductDetailsByIds(productIds);
+        details.forEach(detailCache::put);
+        return details.size();
+    }
+
+    private int await(List<Future<Integer>> tasks, long deadline, AtomicInteger failed) {
+        int warmed = 0;
+        for (Future<Integer> task : tasks) {
+            try {
+                long remaining = Math.max(0, deadline - System.currentTimeMillis());
+                warmed += task.get(remaining, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                task.cancel(true);
+                failed.incrementAndGet();
+            } catch (Exception e) {
+                task.cancel(true);
+                failed.incrementAndGet();
+                log.warn("카탈로그 워밍업 작업 실패 - exception: {}", e.getMessage());
+            }
+        }
+        return warmed;
+    }
+}
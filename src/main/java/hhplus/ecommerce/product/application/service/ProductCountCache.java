@@ -0,0 +1,55 @@
+package hhplus.ecommerce.product.application.service;
+
+import hhplus.ecommerce.product.domain.repository.ProductListCondition;
+import hhplus.ecommerce.product.domain.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 목록 전체 건수 캐시 (근사치)
+ *
+ * 목록 페이지마다 COUNT(*)를 실행하지 않도록 필터 조합(카테고리, 가격 범위, 노출 여부)별 건수를 ttl-ms 동안 로컬에 보관한다.
+ * 등록/노출 변경이 TTL 동안 반영되지 않을 수 있으므로 totalElements / totalPages는 근사치다.
+ * 임의 가격 범위로 키가 계속 늘어나지 않도록 1,000개를 넘으면 비운다.
+ */
+@Component
+public class ProductCountCache {
+
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final ProductRepository productRepository;
+    private final long ttlMs;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public ProductCountCache(ProductRepository productRepository,
+                             @Value("${product.list.count-ttl-ms:60000}") long ttlMs) {
+        this.productRepository = productRepository;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * 조건에 맞는 상품 수 (정렬 무관)
+     */
+    public long count(ProductListCondition condition) {
+        String key = condition.countKey();
+        long now = System.currentTimeMillis();
+
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.loadedAt() < ttlMs) {
+            return cached.count();
+        }
+
+        long count = productRepository.countSummaries(condition);
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+        counts.put(key, new CachedCount(count, now));
+        return count;
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+    }
+}
@@ -0,0 +1,87 @@
+package hhplus.ecommerce.product.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 목록 인덱스 이름 변경 마이그레이션
+ *
+ * 최신순 목록 인덱스를 (is_exposed, is_deleted[, category], created_at, id)로 바꾸면서 이름을 새로 붙였다.
+ * ddl-auto=update는 같은 이름 인덱스의 정의를 고치지 않고 안 쓰는 인덱스를 지우지도 않으므로,
+ * 기존 DB에는 옛 이름/옛 정의의 인덱스가 남아 쓰기 비용만 늘린다.
+ * - 기동 시(readiness 전) 새 인덱스가 없으면 만들고(ddl-auto=validate 등), 옛 이름의 인덱스가 남아 있으면 삭제한다.
+ * - 이미 반영된 DB에서는 information_schema 조회만 한다. 실패해도 기동을 막지 않는다.
+ */
+@Slf4j
+@Component
+public class ProductIndexMigration implements ApplicationRunner {
+
+    private static final String TABLE = "products";
+
+    // 새 인덱스 이름 → 컬럼 (Product 엔티티, 00-schema.sql과 같은 정의)
+    private static final Map<String, String> RENAMED_INDEXES = new LinkedHashMap<>();
+    static {
+        RENAMED_INDEXES.put("idx_exposed_deleted_latest", "is_exposed, is_deleted, created_at, id");
+        RENAMED_INDEXES.put("idx_exposed_deleted_category_latest", "is_exposed, is_deleted, category, created_at, id");
+    }
+
+    // 옛 정의 (is_exposed, is_deleted, created_at) / (is_exposed, is_deleted, category)
+    private static final List<String> LEGACY_INDEXES = List.of(
+            "idx_exposed_deleted_created",
+            "idx_exposed_deleted_category"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductIndexMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            List<String> indexes = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?", String.class, TABLE);
+            if (indexes.isEmpty()) {
+                log.debug("상품 테이블이 없어 인덱스 마이그레이션을 건너뜁니다.");
+                return;
+            }
+
+            List<String> statements = plan(Set.copyOf(indexes));
+            statements.forEach(jdbcTemplate::execute);
+            if (!statements.isEmpty()) {
+                log.info("상품 목록 인덱스 마이그레이션 완료. statements={}", statements);
+            }
+        } catch (Exception e) {
+            log.error("상품 목록 인덱스 마이그레이션 실패. 다음 기동 시 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * 현재 인덱스 목록 기준 실행할 DDL (새 인덱스를 먼저 만들고 옛 인덱스를 지운다)
+     *
+     * @param indexes 현재 products 테이블의 인덱스 이름
+     */
+    public List<String> plan(Set<String> indexes) {
+        List<String> statements = new ArrayList<>();
+        RENAMED_INDEXES.forEach((name, columns) -> {
+            if (!indexes.contains(name)) {
+                statements.add(String.format("ALTER TABLE %s ADD INDEX %s (%s)", TABLE, name, columns));
+            }
+        });
+        LEGACY_INDEXES.stream()
+                .filter(indexes::contains)
+                .forEach(name -> statements.add(String.format("ALTER TABLE %s DROP INDEX %s", TABLE, name)));
+        return statements;
+    }
+}
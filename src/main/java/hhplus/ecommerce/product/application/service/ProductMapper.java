@@ -4,6 +4,7 @@ import hhplus.ecommerce.product.application.dto.ProductRankingDto;
 import hhplus.ecommerce.product.domain.model.PopularProduct;
 import hhplus.ecommerce.product.domain.model.Product;
 import hhplus.ecommerce.product.domain.model.ProductOption;
+import hhplus.ecommerce.product.domain.repository.ProductSummary;
 import hhplus.ecommerce.product.presentation.dto.response.ProductDetailResponse;
 import hhplus.ecommerce.product.presentation.dto.response.ProductListResponse;
 import hhplus.ecommerce.product.presentation.dto.response.ProductOptionResponse;
@@ -27,6 +28,23 @@ public class ProductMapper {
         );
     }
 
+    /**
+     * 목록 요약 Projection 변환 (description은 목록에서 조회하지 않으므로 null)
+     */
+    public ProductListResponse toProductListResponse(ProductSummary product) {
+        return new ProductListResponse(
+                product.productId(),
+                product.productName(),
+                product.category(),
+                null,
+                product.imageUrl(),
+                product.price(),
+                product.exposed(),
+                product.createdAt(),
+                product.updatedAt()
+        );
+    }
+
     public ProductOptionResponse toProductOptionResponse(ProductOption productOption) {
         return new ProductOptionResponse(
                 productOption.getProductOptionId(),
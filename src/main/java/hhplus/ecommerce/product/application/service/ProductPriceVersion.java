@@ -0,0 +1,52 @@
+package hhplus.ecommerce.product.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품/옵션 가격 버전
+ *
+ * 상품 가격, 옵션 가격 조정값, 노출/삭제 상태가 바뀔 때마다 1 증가한다.
+ * 장바구니 가격 스냅샷이 같은 버전이면 주문 시 상품/옵션을 다시 조회하지 않는다.
+ * 버전은 변경이 DB에 반영된 뒤에 올려야 옛 가격이 새 버전으로 스냅샷되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductPriceVersion {
+
+    public static final String PRICE_VERSION_KEY = "product:price:version";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 현재 가격 버전 (미설정 시 0)
+     */
+    public long current() {
+        String version = redisTemplate.opsForValue().get(PRICE_VERSION_KEY);
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    /**
+     * 가격 버전 증가 (트랜잭션 안이면 커밋 후 증가, 롤백되면 증가하지 않는다)
+     * 변경 사항 저장 이후에 호출해야 한다.
+     */
+    public void bump() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment();
+                }
+            });
+            return;
+        }
+        increment();
+    }
+
+    private void increment() {
+        redisTemplate.opsForValue().increment(PRICE_VERSION_KEY);
+    }
+}
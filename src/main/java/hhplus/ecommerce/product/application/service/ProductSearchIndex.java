@@ -0,0 +1,344 @@
+package hhplus.ecommerce.product.application.service;
+
+import hhplus.ecommerce.product.application.dto.ProductSearchResult;
+import hhplus.ecommerce.product.domain.model.Product;
+import hhplus.ecommerce.product.domain.repository.ProductRepository;
+import hhplus.ecommerce.product.domain.repository.ProductSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 상품 검색 인메모리 역색인
+ *
+ * - 대상: 노출 중이고 삭제되지 않은 상품의 상품명 / 카테고리 / 설명
+ * - 토큰: 소문자 변환 후 문자/숫자가 아닌 글자로 분리
+ * - 검색: 모든 토큰을 포함하는 상품 (AND), 마지막 토큰은 접두어 일치 (입력 중 검색)
+ * - 포스팅: 내부 문서 번호(int)를 증가 순으로 붙이는 int[] 목록, 질의 시 BitSet으로 교집합/합집합
+ * - 수정/삭제는 기존 문서 번호를 무효 처리하고 새 번호로 추가하며, 무효 문서가 많아지면 메모리 안에서 재색인한다.
+ *
+ * 검색은 인덱스만 읽고 DB를 조회하지 않는다. DB는 전체 재구성(rebuild) 때만 읽는다.
+ * 기동 시 ApplicationRunner로 재구성하므로 readiness(ACCEPTING_TRAFFIC) 전에 인덱스가 채워진다.
+ *
+ * 단일 노드 한계:
+ * - 상품 변경은 변경을 처리한 노드의 ProductChangedEvent로만 반영된다. (노드 간 전파 없음)
+ * - 여러 노드로 운영하면 다른 노드의 상품 변경은 그 노드가 재기동(rebuild)할 때까지 검색 결과에 보이지 않는다.
+ * - 다중 노드로 확장할 때는 변경 이벤트를 Redis pub/sub 등으로 브로드캐스트하거나 외부 검색 엔진으로 옮겨야 한다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex implements ApplicationRunner {
+
+    private static final int COMPACT_MIN_DEAD = 1_000;
+
+    private final ProductRepository productRepository;
+    private final int rebuildBatchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+
+    // 재구성 중 들어온 변경 (재구성 완료 후 새 세그먼트에 순서대로 다시 적용)
+    private List<Consumer<Segment>> pendingChanges;
+
+    public ProductSearchIndex(ProductRepository productRepository,
+                              @Value("${product.search.rebuild-batch-size:1000}") int rebuildBatchSize) {
+        this.productRepository = productRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 재구성 실패는 기동을 막지 않는다 (이후 상품 변경 이벤트로 반영된 상품만 검색됨)
+            log.error("상품 검색 인덱스 재구성 실패 - exception: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * DB의 노출 상품 전체로 인덱스 재구성 (기동 시)
+     * 재구성 중에도 기존 인덱스로 검색하고, 완료 후 교체한다.
+     *
+     * @return 색인된 상품 수
+     */
+    public int rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment rebuilt = new Segment();
+        try {
+            Long afterId = 0L;
+            List<Product> products;
+            do {
+                products = productRepository.findExposedAfter(afterId, PageRequest.of(0, rebuildBatchSize));
+                products.forEach(product -> rebuilt.add(Document.of(product)));
+                if (!products.isEmpty()) {
+                    afterId = products.get(products.size() - 1).getProductId();
+                }
+            } while (products.size() == rebuildBatchSize);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            segment = rebuilt;
+            pendingChanges = null;
+            log.info("상품 검색 인덱스 재구성 완료. products={}, terms={}", rebuilt.liveCount(), rebuilt.terms.size());
+            return rebuilt.liveCount();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 반영 (노출 중이 아니거나 삭제된 상품은 인덱스에서 제거)
+     */
+    public void upsert(Product product) {
+        if (!product.canBeDisplayed()) {
+            remove(product.getProductId());
+            return;
+        }
+        Document document = Document.of(product);
+        apply(target -> target.add(document));
+    }
+
+    /**
+     * 상품 제거
+     */
+    public void remove(Long productId) {
+        apply(target -> target.remove(productId));
+    }
+
+    private void apply(Consumer<Segment> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(segment);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 검색
+     *
+     * @param query 검색어 (비어 있으면 전체)
+     * @param category 카테고리 필터 (선택, 패싯 건수에는 적용하지 않음)
+     * @param minPrice 최소 가격 (포함, 선택)
+     * @param maxPrice 최대 가격 (포함, 선택)
+     * @param limit 최대 결과 수
+     */
+    public ProductSearchResult search(String query, String category, BigDecimal minPrice, BigDecimal maxPrice, int limit) {
+        List<String> tokens = new ArrayList<>(tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            Segment current = segment;
+            BitSet matched = current.match(tokens);
+
+            List<ProductSummary> items = new ArrayList<>(Math.min(limit, 100));
+            Map<String, Long> facets = new TreeMap<>();
+            long totalHits = 0;
+
+            // 최근 반영된 문서(큰 번호)부터 순회
+            for (int docId = matched.previousSetBit(matched.length() - 1); docId >= 0; docId = matched.previousSetBit(docId - 1)) {
+                Document document = current.docs.get(docId);
+                if (document == null || !document.inPriceRange(minPrice, maxPrice)) {
+                    continue;
+                }
+                facets.merge(document.summary().category(), 1L, Long::sum);
+                if (category != null && !category.equals(document.summary().category())) {
+                    continue;
+                }
+                totalHits++;
+                if (items.size() < limit) {
+                    items.add(document.summary());
+                }
+            }
+            return new ProductSearchResult(items, totalHits, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 상품 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.liveCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 무효 문서가 살아있는 문서보다 많아지면 살아있는 문서만으로 다시 색인
+    private void compactIfNeeded() {
+        if (segment.deadCount >= COMPACT_MIN_DEAD && segment.deadCount > segment.liveCount()) {
+            Segment compacted = new Segment();
+            segment.docs.stream().filter(document -> document != null).forEach(compacted::add);
+            segment = compacted;
+            log.debug("상품 검색 인덱스 압축. products={}", compacted.liveCount());
+        }
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 색인 문서 (검색 결과로 그대로 반환할 요약 + 색인 토큰)
+     */
+    private record Document(ProductSummary summary, Set<String> terms) {
+
+        static Document of(Product product) {
+            Set<String> terms = tokenize(product.getProductName());
+            terms.addAll(tokenize(product.getCategory()));
+            terms.addAll(tokenize(product.getDescription()));
+            return new Document(new ProductSummary(
+                    product.getProductId(),
+                    product.getProductName(),
+                    product.getCategory(),
+                    product.getImageUrl(),
+                    product.getPrice(),
+                    product.getSalesCount(),
+                    product.isExposed(),
+                    product.getCreatedAt(),
+                    product.getUpdatedAt()
+            ), terms);
+        }
+
+        boolean inPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+            BigDecimal price = summary.price();
+            return (minPrice == null || price.compareTo(minPrice) >= 0)
+                    && (maxPrice == null || price.compareTo(maxPrice) <= 0);
+        }
+    }
+
+    /**
+     * 문서 번호 → 문서, 토큰 → 포스팅 목록
+     * 잠금은 ProductSearchIndex가 관리한다.
+     */
+    private static final class Segment {
+        private final List<Document> docs = new ArrayList<>();
+        private final Map<Long, Integer> docIdByProductId = new HashMap<>();
+        private final TreeMap<String, PostingList> terms = new TreeMap<>();
+        private int deadCount;
+
+        void add(Document document) {
+            remove(document.summary().productId());
+            int docId = docs.size();
+            docs.add(document);
+            docIdByProductId.put(document.summary().productId(), docId);
+            document.terms().forEach(term -> terms.computeIfAbsent(term, t -> new PostingList()).add(docId));
+        }
+
+        void remove(Long productId) {
+            Integer docId = docIdByProductId.remove(productId);
+            if (docId != null) {
+                docs.set(docId, null);
+                deadCount++;
+            }
+        }
+
+        int liveCount() {
+            return docIdByProductId.size();
+        }
+
+        // 앞 토큰은 정확히 일치, 마지막 토큰은 접두어 일치
+        BitSet match(List<String> tokens) {
+            BitSet matched = new BitSet(docs.size());
+            if (tokens.isEmpty()) {
+                matched.set(0, docs.size());
+                return matched;
+            }
+            for (int i = 0; i < tokens.size(); i++) {
+                BitSet tokenMatched = new BitSet(docs.size());
+                String token = tokens.get(i);
+                if (i == tokens.size() - 1) {
+                    NavigableMap<String, PostingList> prefixed = terms.subMap(token, true, token + Character.MAX_VALUE, true);
+                    prefixed.values().forEach(postings -> postings.orInto(tokenMatched));
+                } else {
+                    PostingList postings = terms.get(token);
+                    if (postings != null) {
+                        postings.orInto(tokenMatched);
+                    }
+                }
+                if (i == 0) {
+                    matched.or(tokenMatched);
+                } else {
+                    matched.and(tokenMatched);
+                }
+                if (matched.isEmpty()) {
+                    break;
+                }
+            }
+            return matched;
+        }
+    }
+
+    /**
+     * 증가하는 문서 번호만 추가되는 int 포스팅 목록
+     */
+    private static final class PostingList {
+        private int[] docIds = new int[4];
+        private int size;
+
+        void add(int docId) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+            }
+            docIds[size++] = docId;
+        }
+
+        void orInto(BitSet target) {
+            for (int i = 0; i < size; i++) {
+                target.set(docIds[i]);
+            }
+        }
+    }
+}
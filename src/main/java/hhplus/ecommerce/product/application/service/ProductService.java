@@ -2,15 +2,24 @@ package hhplus.ecommerce.product.application.service;
 
 import hhplus.ecommerce.common.domain.constants.BusinessConstants;
 import hhplus.ecommerce.common.domain.exception.ProductException;
+import hhplus.ecommerce.common.event.EventPublisher;
 import hhplus.ecommerce.common.presentation.response.PageResponse;
+import hhplus.ecommerce.product.application.dto.ProductCursor;
 import hhplus.ecommerce.product.application.dto.ProductRankingDto;
+import hhplus.ecommerce.product.application.dto.ProductSearchResult;
+import hhplus.ecommerce.product.domain.event.ProductChangedEvent;
 import hhplus.ecommerce.product.domain.model.PeriodType;
 import hhplus.ecommerce.product.domain.model.PopularProduct;
 import hhplus.ecommerce.product.domain.model.Product;
 import hhplus.ecommerce.product.domain.model.ProductOption;
+import hhplus.ecommerce.product.domain.model.ProductSort;
 import hhplus.ecommerce.product.domain.repository.PopularProductRepository;
 import hhplus.ecommerce.product.domain.repository.ProductOptionRepository;
 import hhplus.ecommerce.product.domain.repository.ProductRepository;
+import hhplus.ecommerce.product.domain.repository.ProductSalesFlushBatchRepository;
+import hhplus.ecommerce.product.domain.repository.ProductListCondition;
+import hhplus.ecommerce.product.domain.repository.ProductSeek;
+import hhplus.ecommerce.product.domain.repository.ProductSummary;
 import hhplus.ecommerce.product.presentation.dto.response.ProductDetailResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
@@ -19,8 +28,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -34,8 +45,13 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductOptionRepository productOptionRepository;
+    private final ProductSalesFlushBatchRepository productSalesFlushBatchRepository;
     private final RedisTemplate<String, String> redisTemplate;
     private final PopularProductRepository popularProductRepository;
+    private final ProductPriceVersion productPriceVersion;
+    private final ProductCountCache productCountCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final EventPublisher eventPublisher;
 
     /**
      * 상품 등록
@@ -52,7 +68,9 @@ public class ProductService {
 
         try {
             Product product = Product.create(productName, category, description, imageUrl, price, isExposed);
-            return productRepository.save(product);
+            Product saved = productRepository.save(product);
+            eventPublisher.publish(new ProductChangedEvent(saved.getProductId(), ProductChangedEvent.ChangeType.CREATED));
+            return saved;
         } catch (ProductException e) {
             // Product.create에서 발생한 ProductException은 그대로 전파
             throw e;
@@ -71,27 +89,123 @@ public class ProductService {
      * @param category 카테고리 필터 (선택)
      * @return 상품 목록 및 페이징 정보
      */
-    public PageResponse<Product> getProducts(int page, int size, String sort, String category) {
-        org.springframework.data.domain.Page<Product> productPage;
-        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(page, size);
-
-        productPage = switch (sort) {
-            case "latest" -> productRepository.findByCategoryOrderByCreatedAtDesc(category, pageable);
-            case "sales" -> productRepository.findAll(pageable); // TODO: 판매량순 구현 필요
-            case "price_asc" -> productRepository.findAllByPriceAsc(pageable);
-            case "price_desc" -> productRepository.findAllByPriceDesc(pageable);
-            default -> throw ProductException.getListFailed("지원하지 않는 정렬 기준입니다: " + sort);
-        };
+    public PageResponse<ProductSummary> getProducts(int page, int size, String sort, String category) {
+        return getProducts(ProductListCondition.exposed(sort, category, null, null), page, size, null);
+    }
+
+    /**
+     * 상품 목록 조회 (keyset 페이징)
+     *
+     * - 조건 조합(정렬, 카테고리, 가격 범위, 노출 여부)마다 ProductListPlan 카탈로그의 인덱스로 WHERE / ORDER BY를 만든다.
+     * - 커서가 있으면 직전 페이지 마지막 상품의 (정렬 키, ID) 이후부터 인덱스를 이어 읽으므로 페이지 깊이와 무관하게 비용이 같다.
+     * - 커서 없이 page만 지정하면 같은 정렬로 OFFSET 조회한다 (하위 호환).
+     * - description을 제외한 요약만 조회하고, 페이지마다 COUNT를 실행하지 않는다 (건수는 ProductCountCache 근사치).
+     *
+     * @param condition 조회 조건
+     * @param cursor 다음 페이지 커서 (이전 응답의 nextCursor, 선택)
+     * @return 상품 목록 및 페이징 정보
+     */
+    public PageResponse<ProductSummary> getProducts(ProductListCondition condition, int page, int size, String cursor) {
+        ProductSort sort = condition.sort();
+        ProductSeek after = cursor == null || cursor.isBlank()
+                ? null
+                : toSeek(sort, ProductCursor.decode(cursor, sort.getCode()));
+
+        List<ProductSummary> products = productRepository.findSummaries(condition, after, (long) page * size, size);
+
+        String nextCursor = products.size() < size
+                ? null
+                : toCursor(sort, products.get(products.size() - 1)).encode();
 
         return new PageResponse<>(
-                productPage.getContent(),
+                products,
                 page,
                 size,
-                productPage.getTotalElements(),
-                productPage.getTotalPages()
+                productCountCache.count(condition),
+                0,
+                nextCursor
         );
     }
 
+    private ProductSeek toSeek(ProductSort sort, ProductCursor cursor) {
+        Object sortKey = switch (sort) {
+            case LATEST -> cursor.createdAtKey();
+            case SALES -> cursor.salesCountKey();
+            case PRICE_ASC, PRICE_DESC -> cursor.priceKey();
+        };
+        return new ProductSeek(sortKey, cursor.productId());
+    }
+
+    private ProductCursor toCursor(ProductSort sort, ProductSummary last) {
+        String sortKey = switch (sort) {
+            case LATEST -> last.createdAt().toString();
+            case SALES -> String.valueOf(last.salesCount());
+            case PRICE_ASC, PRICE_DESC -> last.price().toPlainString();
+        };
+        return new ProductCursor(sort.getCode(), sortKey, last.productId());
+    }
+
+    /**
+     * 상품 검색 (인메모리 역색인, DB 조회 없음)
+     * @param query 검색어 (공백 구분 AND, 마지막 단어는 접두어 일치)
+     * @param category 카테고리 필터 (선택)
+     * @param minPrice 최소 가격 (포함, 선택)
+     * @param maxPrice 최대 가격 (포함, 선택)
+     * @param size 최대 결과 수
+     * @return 검색 결과 및 카테고리별 건수
+     */
+    public ProductSearchResult searchProducts(String query, String category,
+                                              BigDecimal minPrice, BigDecimal maxPrice, int size) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw ProductException.getListFailed("최소 가격이 최대 가격보다 큽니다. minPrice : " + minPrice + ", maxPrice : " + maxPrice);
+        }
+        String categoryFilter = (category == null || category.isBlank()) ? null : category;
+        return productSearchIndex.search(query, categoryFilter, minPrice, maxPrice, size);
+    }
+
+    /**
+     * 누적 판매량 일괄 반영 (ProductSalesFlushScheduler)
+     * 같은 트랜잭션에서 배치 ID를 기록하여, 이미 반영된 배치를 재처리하면 아무것도 하지 않는다.
+     * @param batchId 반영 배치 ID
+     * @param quantityByProductId 상품 ID별 판매 수량
+     * @return 반영된 상품 수 (이미 반영된 배치면 0)
+     */
+    @Transactional
+    public int addSalesCounts(String batchId, Map<Long, Long> quantityByProductId) {
+        if (productSalesFlushBatchRepository.insertIfAbsent(batchId, LocalDateTime.now()) == 0) {
+            return 0;
+        }
+        int updated = 0;
+        for (Map.Entry<Long, Long> entry : quantityByProductId.entrySet()) {
+            if (entry.getValue() != 0) {
+                updated += productRepository.addSalesCount(entry.getKey(), entry.getValue());
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 누적 판매량 일회성 백필 (sales_count 도입 전 결제분, ProductSalesFlushScheduler)
+     * 결제 완료 주문의 주문 수량 합계로 덮어쓰고, 아직 DB에 반영되지 않은 Redis 누적분은 뺀다. (다음 반영 때 더해지므로)
+     * 같은 트랜잭션에서 백필 표식을 배치 ID로 기록하여 한 번만 실행된다.
+     * @param markerId 백필 표식 배치 ID
+     * @param unflushedByProductId 상품 ID별 DB 미반영 판매 수량
+     * @return 백필된 상품 수 (이미 백필했으면 0)
+     */
+    @Transactional
+    public int backfillSalesCounts(String markerId, Map<Long, Long> unflushedByProductId) {
+        if (productSalesFlushBatchRepository.insertIfAbsent(markerId, LocalDateTime.now()) == 0) {
+            return 0;
+        }
+        int updated = productRepository.backfillSalesCounts();
+        for (Map.Entry<Long, Long> entry : unflushedByProductId.entrySet()) {
+            if (entry.getValue() != 0) {
+                productRepository.addSalesCount(entry.getKey(), -entry.getValue());
+            }
+        }
+        return updated;
+    }
+
     /**
      * 상품 상세 조회 (옵션 포함)
      * Redis 캐싱 적용: TTL 30분
@@ -133,13 +247,16 @@ public class ProductService {
      */
     @CacheEvict(value = "productDetail", key = "#productId")
     public Product updateProduct(Long productId, String productName, String category,
-                                String description, String imageUrl, BigDecimal price, long salesCount, boolean isExposed) {
+                                String description, String imageUrl, BigDecimal price, boolean isExposed) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> ProductException.productNotFound(productId, productName));
 
-        product.update(productName, category, description, imageUrl, price, salesCount, isExposed);
+        product.update(productName, category, description, imageUrl, price, isExposed);
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        productPriceVersion.bump();
+        eventPublisher.publish(new ProductChangedEvent(productId, ProductChangedEvent.ChangeType.UPDATED));
+        return saved;
     }
 
     /**
@@ -155,6 +272,8 @@ public class ProductService {
         product.delete();
 
         productRepository.save(product);
+        productPriceVersion.bump();
+        eventPublisher.publish(new ProductChangedEvent(productId, ProductChangedEvent.ChangeType.DELETED));
     }
 
     /**
@@ -377,7 +496,9 @@ public class ProductService {
 
         productOption.update(optionName, priceAdjustment, isExposed);
 
-        return productOptionRepository.save(productOption);
+        ProductOption saved = productOptionRepository.save(productOption);
+        productPriceVersion.bump();
+        return saved;
     }
 
     /**
@@ -390,5 +511,6 @@ public class ProductService {
 
         productOption.hide(); // isExposed 를 false로 처리
         productOptionRepository.save(productOption);
+        productPriceVersion.bump();
     }
 }
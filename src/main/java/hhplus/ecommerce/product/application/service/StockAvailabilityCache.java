@@ -0,0 +1,100 @@
+package hhplus.ecommerce.product.application.service;
+
+import hhplus.ecommerce.product.presentation.dto.response.StockResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 재고 조회 결과 캐시 (짧은 TTL)
+ *
+ * 상품 페이지의 재고/품절 표시는 잠금 없는 일반 SELECT 결과를 ttl-ms 동안 로컬에 보관해 재사용한다.
+ * 같은 노드의 재고 변경은 커밋 직후 evict 하고, 다른 노드의 변경은 최대 TTL만큼 늦게 보일 수 있다. (표시용 근사치)
+ * (커밋 전에 evict 하면 그 사이 조회가 커밋 전 값을 다시 적재해 TTL 동안 남는다)
+ * 주문/예약의 재고 판단은 이 캐시를 쓰지 않고 DB 조건부 UPDATE로 한다.
+ * 옵션 ID 키가 계속 늘어나지 않도록 10,000개를 넘으면 비운다.
+ */
+@Component
+public class StockAvailabilityCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final long ttlMs;
+    private final Map<Long, CachedStock> stocks = new ConcurrentHashMap<>();
+
+    public StockAvailabilityCache(@Value("${stock.availability.ttl-ms:1000}") long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * 옵션별 재고 조회 (캐시에 없거나 만료된 옵션만 loader로 한 번에 조회)
+     *
+     * @param productOptionIds 상품 옵션 ID 목록
+     * @param loader 미스난 옵션 ID → 재고 정보 일괄 조회
+     * @return 옵션 ID → 재고 정보 (존재하지 않는 옵션은 제외)
+     */
+    public Map<Long, StockResponse> getAll(Collection<Long> productOptionIds,
+                                           Function<Collection<Long>, Map<Long, StockResponse>> loader) {
+        long now = System.currentTimeMillis();
+        Map<Long, StockResponse> result = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+
+        for (Long productOptionId : productOptionIds) {
+            CachedStock cached = stocks.get(productOptionId);
+            if (cached != null && now - cached.loadedAt() < ttlMs) {
+                result.put(productOptionId, cached.stock());
+            } else {
+                misses.add(productOptionId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, StockResponse> loaded = loader.apply(misses);
+            if (stocks.size() + loaded.size() > MAX_ENTRIES) {
+                stocks.clear();
+            }
+            loaded.forEach((productOptionId, stock) -> stocks.put(productOptionId, new CachedStock(stock, now)));
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    /**
+     * 재고 변경 시 무효화 (트랜잭션 안이면 커밋 후 무효화)
+     */
+    public void evict(Long productOptionId) {
+        evictAll(List.of(productOptionId));
+    }
+
+    /**
+     * 여러 옵션 무효화 (트랜잭션 안이면 커밋 후 무효화)
+     */
+    public void evictAll(Collection<Long> productOptionIds) {
+        if (productOptionIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    productOptionIds.forEach(stocks::remove);
+                }
+            });
+            return;
+        }
+        productOptionIds.forEach(stocks::remove);
+    }
+
+    private record CachedStock(StockResponse stock, long loadedAt) {
+    }
+}
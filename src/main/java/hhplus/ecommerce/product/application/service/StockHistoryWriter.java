@@ -0,0 +1,170 @@
+package hhplus.ecommerce.product.application.service;
+
+import hhplus.ecommerce.product.domain.model.StockHistory;
+import hhplus.ecommerce.product.domain.repository.StockHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 재고 이력 비동기 일괄 저장
+ *
+ * 재고 트랜잭션 안에서 이력을 INSERT 하지 않고, 커밋 후 메모리 버퍼에 넣어 주기마다 다중 행 INSERT로 저장한다.
+ * - 롤백된 재고 변경의 이력은 버퍼에 들어가지 않는다. (afterCommit)
+ * - 저장 실패한 배치는 보관했다가 다음 주기에 먼저 재시도한다.
+ *   MAX_BATCH_ATTEMPTS번 연속 실패하면 한 건씩 나눠 저장하고, 그래도 실패한 이력은 로그로 남기고 버린다.
+ *   (잘못된 행 하나 때문에 뒤의 이력이 계속 막히지 않도록)
+ * - 버퍼가 가득 차면 호출 스레드에서 바로 저장한다. (유실 대신 해당 요청만 지연)
+ * - 종료 시 남은 이력을 모두 저장한다. 프로세스가 비정상 종료되면 버퍼의 이력은 유실될 수 있다.
+ */
+@Slf4j
+@Component
+public class StockHistoryWriter {
+
+    public static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private final StockHistoryRepository stockHistoryRepository;
+    private final int batchSize;
+    private final BlockingQueue<StockHistory> buffer;
+
+    private volatile List<StockHistory> failedBatch = List.of();
+    private int failedAttempts;
+
+    public StockHistoryWriter(StockHistoryRepository stockHistoryRepository,
+                              @Value("${stock.history.buffer-capacity:10000}") int bufferCapacity,
+                              @Value("${stock.history.flush-batch-size:500}") int batchSize) {
+        this.stockHistoryRepository = stockHistoryRepository;
+        this.batchSize = batchSize;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+    }
+
+    /**
+     * 재고 이력 추가 (트랜잭션 안이면 커밋 후 버퍼에 넣는다)
+     */
+    public void append(StockHistory history) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(history);
+                }
+            });
+            return;
+        }
+        enqueue(history);
+    }
+
+    /**
+     * 재고 이력 여러 건 추가 (일괄 재고 반영용, 트랜잭션 안이면 커밋 후 버퍼에 넣는다)
+     * 버퍼에 들어가지 못한 이력은 다중 행 INSERT 한 번으로 바로 저장한다.
+     */
+    public void appendAll(List<StockHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueueAll(histories);
+                }
+            });
+            return;
+        }
+        enqueueAll(histories);
+    }
+
+    @Scheduled(fixedDelayString = "${stock.history.flush-interval-ms:500}")
+    public synchronized void flush() {
+        List<StockHistory> batch = failedBatch;
+        if (batch.isEmpty()) {
+            batch = new ArrayList<>(batchSize);
+            buffer.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+        }
+
+        try {
+            int inserted = stockHistoryRepository.insertAll(batch);
+            clearFailedBatch();
+            log.debug("재고 이력 일괄 저장 완료. count={}, remaining={}", inserted, buffer.size());
+        } catch (Exception e) {
+            failedAttempts++;
+            if (failedAttempts < MAX_BATCH_ATTEMPTS) {
+                failedBatch = batch;
+                log.error("재고 이력 일괄 저장 실패. 다음 주기에 재시도합니다. count={}, attempts={}", batch.size(), failedAttempts, e);
+                return;
+            }
+            log.error("재고 이력 일괄 저장 재시도 한도 초과. 한 건씩 나눠 저장합니다. count={}", batch.size(), e);
+            insertEach(batch);
+            clearFailedBatch();
+        }
+    }
+
+    // 한 건씩 저장하고 실패한 이력은 로그로 남기고 버린다
+    private void insertEach(List<StockHistory> batch) {
+        int dropped = 0;
+        for (StockHistory history : batch) {
+            try {
+                stockHistoryRepository.insertAll(List.of(history));
+            } catch (Exception e) {
+                dropped++;
+                log.error("재고 이력 저장 실패로 폐기. productOptionId={}, type={}, amount={}, balance={}, updatedBy={}, exception={}",
+                        history.getProductOptionId(), history.getAdjustmentType(), history.getAmount(),
+                        history.getBalance(), history.getUpdatedBy(), e.getMessage());
+            }
+        }
+        log.warn("재고 이력 분할 저장 완료. saved={}, dropped={}", batch.size() - dropped, dropped);
+    }
+
+    private void clearFailedBatch() {
+        failedBatch = List.of();
+        failedAttempts = 0;
+    }
+
+    /**
+     * 버퍼에 남은 이력 수 (재시도 대기 포함)
+     */
+    public int pendingCount() {
+        return buffer.size() + failedBatch.size();
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        int before;
+        do {
+            before = pendingCount();
+            flush();
+        } while (pendingCount() > 0 && pendingCount() < before);
+    }
+
+    private void enqueueAll(List<StockHistory> histories) {
+        List<StockHistory> overflow = new ArrayList<>();
+        for (StockHistory history : histories) {
+            if (!buffer.offer(history)) {
+                overflow.add(history);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            log.warn("재고 이력 버퍼가 가득 차 즉시 저장합니다. count={}", overflow.size());
+            stockHistoryRepository.insertAll(overflow);
+        }
+    }
+
+    private void enqueue(StockHistory history) {
+        if (!buffer.offer(history)) {
+            log.warn("재고 이력 버퍼가 가득 차 즉시 저장합니다. capacity={}", buffer.size());
+            stockHistoryRepository.insertAll(List.of(history));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package hhplus.ecommerce.product.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hhplus.ecommerce.common.application.retry.RetryPolicy;
+import hhplus.ecommerce.common.domain.exception.StockException;
+import hhplus.ecommerce.product.application.dto.StockBatchResult;
+import hhplus.ecommerce.product.application.dto.StockImportResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 일괄 반영 (창고 재고 동기화)
+ *
+ * - 입력: CSV(productOptionId,amount) 또는 NDJSON({"productOptionId":1,"amount":10}), amount는 증감량
+ * - 본문을 한 줄씩 읽어 batch-size 옵션마다 반영하므로 파일 전체를 메모리에 올리지 않는다.
+ * - 배치 안의 같은 옵션은 합산하고, ID 오름차순으로 잠가 CASE UPDATE 한 번으로 반영한다. (StockService.applyStockDeltas)
+ * - 주문 재고 예약 등 다른 트랜잭션과 잠금 대기 / 교착으로 배치가 롤백되면 같은 배치를 재시도한다.
+ * - 배치 크기는 옵션당 바인딩 파라미터 3개 기준 MySQL 한도(65,535)를 넘지 않도록 MAX_BATCH_SIZE로 제한한다.
+ * - 배치마다 별도 트랜잭션이므로 중간에 실패하면 앞선 배치는 반영된 상태로 남는다.
+ */
+@Slf4j
+@Service
+public class StockImportService {
+
+    public static final int MAX_ERRORS = 20;
+    public static final int MAX_BATCH_SIZE = 65_535 / 3; // CASE UPDATE 바인딩 파라미터 한도 (옵션당 3개)
+
+    private final StockService stockService;
+    private final ObjectMapper objectMapper;
+    private final RetryPolicy retryPolicy;
+    private final int batchSize;
+
+    public StockImportService(StockService stockService,
+                              ObjectMapper objectMapper,
+                              RetryPolicy retryPolicy,
+                              @Value("${stock.import.batch-size:1000}") int batchSize) {
+        this.stockService = stockService;
+        this.objectMapper = objectMapper;
+        this.retryPolicy = retryPolicy;
+        this.batchSize = Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+    }
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * Content-Type으로 입력 형식 결정
+         */
+        public static Format fromContentType(String contentType) {
+            if (contentType != null) {
+                String mediaType = contentType.toLowerCase().split(";")[0].trim();
+                if (mediaType.equals("text/csv")) {
+                    return CSV;
+                }
+                if (mediaType.equals("application/x-ndjson")) {
+                    return NDJSON;
+                }
+            }
+            throw StockException.stockImportFailed("지원하지 않는 형식입니다. (text/csv, application/x-ndjson) contentType : " + contentType);
+        }
+    }
+
+    /**
+     * 재고 일괄 반영
+     * @param input 요청 본문 (UTF-8)
+     * @param format 입력 형식
+     * @param updatedBy 수정자 ID
+     * @param description 재고 이력 설명
+     * @return 반영 요약
+     */
+    public StockImportResult importStocks(InputStream input, Format format, Long updatedBy, String description) {
+        long startedAt = System.currentTimeMillis();
+        Summary summary = new Summary();
+        Map<Long, Integer> pending = new HashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                    line = line.substring(1);
+                }
+                line = line.trim();
+                if (line.isEmpty() || (lineNumber == 1 && format == Format.CSV && isCsvHeader(line))) {
+                    continue;
+                }
+
+                summary.totalLines++;
+                long[] row = format == Format.CSV ? parseCsv(line) : parseNdjson(line);
+                if (row == null || row[0] <= 0 || row[1] == 0 || row[1] <= Integer.MIN_VALUE || row[1] > Integer.MAX_VALUE) {
+                    summary.invalid(lineNumber, line);
+                    continue;
+                }
+
+                try {
+                    pending.merge(row[0], (int) row[1], Math::addExact);
+                } catch (ArithmeticException e) {
+                    summary.invalid(lineNumber, line);
+                    continue;
+                }
+                if (pending.size() >= batchSize) {
+                    flush(pending, updatedBy, description, summary);
+                }
+            }
+            flush(pending, updatedBy, description, summary);
+        } catch (IOException e) {
+            throw StockException.stockImportFailed("본문을 읽지 못했습니다. 읽은 줄 : " + summary.totalLines, e);
+        }
+
+        StockImportResult result = summary.toResult(System.currentTimeMillis() - startedAt);
+        log.info("재고 일괄 반영 완료. lines={}, applied={}, notFound={}, rejected={}, invalid={}, batches={}, elapsedMs={}",
+                result.totalLines(), result.appliedCount(), result.notFoundCount(), result.rejectedCount(),
+                result.invalidCount(), result.batchCount(), result.elapsedMs());
+        return result;
+    }
+
+    private void flush(Map<Long, Integer> pending, Long updatedBy, String description, Summary summary) {
+        // 합산 결과가 0인 옵션은 변경 없음
+        pending.values().removeIf(amount -> amount == 0);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        String failureReason = String.format("배치 반영 실패. 반영 완료 배치 : %d, 반영 완료 옵션 : %d",
+                summary.batchCount, summary.appliedCount);
+        StockBatchResult batch;
+        try {
+            // 잠금 대기 시간 초과 / 교착으로 롤백된 배치는 같은 내용으로 다시 반영
+            batch = retryPolicy.execute("stock.import", updatedBy,
+                    () -> stockService.applyStockDeltas(pending, updatedBy, description),
+                    e -> e instanceof PessimisticLockingFailureException,
+                    () -> StockException.stockImportFailed(failureReason + " (잠금 재시도 한도 초과)"));
+        } catch (StockException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw StockException.stockImportFailed(failureReason, e);
+        }
+        summary.add(batch);
+        pending.clear();
+    }
+
+    private static boolean isCsvHeader(String line) {
+        return !Character.isDigit(line.charAt(0));
+    }
+
+    // productOptionId,amount[,...] → [id, amount], 형식 오류면 null
+    private static long[] parseCsv(String line) {
+        String[] columns = line.split(",", 3);
+        if (columns.length < 2) {
+            return null;
+        }
+        try {
+            return new long[]{Long.parseLong(columns[0].trim()), Long.parseLong(columns[1].trim())};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private long[] parseNdjson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            JsonNode productOptionId = node.get("productOptionId");
+            JsonNode amount = node.get("amount");
+            if (productOptionId == null || !productOptionId.canConvertToLong()
+                    || amount == null || !amount.canConvertToLong()) {
+                return null;
+            }
+            return new long[]{productOptionId.asLong(), amount.asLong()};
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static final class Summary {
+        private int totalLines;
+        private int appliedCount;
+        private int notFoundCount;
+        private int rejectedCount;
+        private int invalidCount;
+        private int batchCount;
+        private final List<String> errors = new ArrayList<>();
+
+        void invalid(int lineNumber, String line) {
+            invalidCount++;
+            error(String.format("%d번째 줄 형식 오류: %s", lineNumber, line.length() > 100 ? line.substring(0, 100) : line));
+        }
+
+        void add(StockBatchResult batch) {
+            batchCount++;
+            appliedCount += batch.appliedCount();
+            notFoundCount += batch.notFoundIds().size();
+            rejectedCount += batch.rejectedIds().size();
+            batch.notFoundIds().forEach(id -> error("존재하지 않는 옵션: " + id));
+            batch.rejectedIds().forEach(id -> error("재고 부족으로 제외된 옵션: " + id));
+        }
+
+        private void error(String message) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(message);
+            }
+        }
+
+        StockImportResult toResult(long elapsedMs) {
+            return new StockImportResult(totalLines, appliedCount, notFoundCount, rejectedCount,
+                    invalidCount, batchCount, List.copyOf(errors), elapsedMs);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package hhplus.ecommerce.product.application.service;
 
+import hhplus.ecommerce.product.application.dto.StockImportResult;
 import hhplus.ecommerce.product.domain.model.StockHistory;
 import hhplus.ecommerce.product.domain.model.StockReservation;
 import hhplus.ecommerce.product.presentation.dto.response.StockHistoryResponse;
+import hhplus.ecommerce.product.presentation.dto.response.StockImportResponse;
 import hhplus.ecommerce.product.presentation.dto.response.StockReservationResponse;
 import org.springframework.stereotype.Component;
 
@@ -31,4 +33,16 @@ public class StockMapper {
             stockReservation.getUpdatedAt()
         );
     }
+
+    public StockImportResponse toStockImportResponse(StockImportResult result) {
+        return new StockImportResponse(
+                result.totalLines(),
+                result.appliedCount(),
+                result.notFoundCount(),
+                result.rejectedCount(),
+                result.invalidCount(),
+                result.batchCount(),
+                result.errors(),
+                result.elapsedMs());
+    }
 }
@@ -3,6 +3,9 @@ package hhplus.ecommerce.product.application.service;
 import hhplus.ecommerce.common.application.DistributedLock;
 import hhplus.ecommerce.common.domain.exception.ProductException;
 import hhplus.ecommerce.common.domain.exception.StockException;
+import hhplus.ecommerce.common.event.EventPublisher;
+import hhplus.ecommerce.product.application.dto.StockBatchResult;
+import hhplus.ecommerce.product.domain.event.StockChangedEvent;
 import hhplus.ecommerce.product.domain.model.ProductOption;
 import hhplus.ecommerce.product.domain.model.ReservationStatus;
 import hhplus.ecommerce.product.domain.model.StockHistory;
@@ -10,13 +13,20 @@ import hhplus.ecommerce.product.domain.model.StockReservation;
 import hhplus.ecommerce.product.domain.repository.ProductOptionRepository;
 import hhplus.ecommerce.product.domain.repository.StockHistoryRepository;
 import hhplus.ecommerce.product.domain.repository.StockReservationRepository;
+import hhplus.ecommerce.product.domain.repository.StockRow;
 import hhplus.ecommerce.product.presentation.dto.response.StockResponse;
 import lombok.RequiredArgsConstructor;
 import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,17 +37,43 @@ public class StockService {
     private final StockReservationRepository stockReservationRepository;
     private final StockHistoryRepository stockHistoryRepository;
     private final RedissonClient redissonClient;
+    private final StockAvailabilityCache stockAvailabilityCache;
+    private final EventPublisher eventPublisher;
+    private final StockHistoryWriter stockHistoryWriter;
     private final String STOCK_LOCK_KEY_PREFIX = "stock:lock:";
 
     /**
-     * 상품 재고 조회
+     * 상품 재고 조회 (잠금 없음)
+     * 일반 SELECT(MVCC 일관 읽기)와 짧은 TTL 캐시로 조회해 예약/차감의 행 잠금과 경합하지 않는다.
      * @param productOptionId 상품 옵션 ID
      * @return 재고 정보 (물리적 재고, 예약된 재고, 판매 가능 재고, 품절 여부)
      */
     public StockResponse getStock(Long productOptionId) {
-        ProductOption productOption = productOptionRepository.findByIdWithLock(productOptionId)
-                .orElseThrow(() -> ProductException.productOptionNotFound(productOptionId));
+        StockResponse stock = getStocks(List.of(productOptionId)).get(productOptionId);
+        if (stock == null) {
+            throw ProductException.productOptionNotFound(productOptionId);
+        }
+        return stock;
+    }
 
+    /**
+     * 상품 재고 일괄 조회 (잠금 없음, 상품 페이지 옵션별 품절 표시용)
+     * @param productOptionIds 상품 옵션 ID 목록
+     * @return 옵션 ID → 재고 정보 (존재하지 않는 옵션은 제외)
+     */
+    public Map<Long, StockResponse> getStocks(Collection<Long> productOptionIds) {
+        if (productOptionIds.isEmpty()) {
+            return Map.of();
+        }
+        return stockAvailabilityCache.getAll(productOptionIds, this::loadStocks);
+    }
+
+    private Map<Long, StockResponse> loadStocks(Collection<Long> productOptionIds) {
+        return productOptionRepository.findAllById(productOptionIds).stream()
+                .collect(Collectors.toMap(ProductOption::getProductOptionId, this::toStockResponse));
+    }
+
+    private StockResponse toStockResponse(ProductOption productOption) {
         int physicalQuantity = productOption.getStockQuantity();
         // 예약 시점에 물리 재고를 즉시 차감하므로 reservedQuantity는 0으로 간주
         int reservedQuantity = 0;
@@ -48,10 +84,8 @@ public class StockService {
             throw StockException.stockDataInconsistency(physicalQuantity, reservedQuantity);
         }
 
-        boolean isSoldOut = (availableQuantity == 0);
-
         return new StockResponse(
-                productOptionId, physicalQuantity, reservedQuantity, availableQuantity, isSoldOut
+                productOption.getProductOptionId(), physicalQuantity, reservedQuantity, availableQuantity, productOption.isSoldOut()
         );
     }
 
@@ -63,7 +97,7 @@ public class StockService {
      * @param description 설명
      * @return 변경된 재고 정보
      *
-     * @Transactional: ProductOption 재고 업데이트 + StockHistory 저장이 원자적으로 처리되어야 함
+     * @Transactional: ProductOption 재고 업데이트 (StockHistory는 커밋 후 StockHistoryWriter가 일괄 저장, 응답의 이력 ID는 없음)
      */
     @Transactional
     public StockHistory updateStock(Long productOptionId, int amount, Long updatedBy, String description) {
@@ -84,9 +118,9 @@ public class StockService {
             // 음수를 양수로 변환하여 처리
             int decreaseAmount = Math.abs(amount);
 
-            StockResponse stockResponse = getStock(productOptionId);
-            if (stockResponse.getAvailableQuantity() < decreaseAmount) {
-                throw StockException.stockQuantityInsufficient(productOptionId, stockResponse.getAvailableQuantity(), decreaseAmount);
+            // 잠금으로 읽은 현재 재고로 판단 (조회 캐시 사용 안 함)
+            if (productOption.getStockQuantity() < decreaseAmount) {
+                throw StockException.stockQuantityInsufficient(productOptionId, productOption.getStockQuantity(), decreaseAmount);
             }
 
             productOption.decreaseStock(decreaseAmount);
@@ -94,7 +128,66 @@ public class StockService {
         }
 
         productOptionRepository.save(productOption);
-        return stockHistoryRepository.save(stockHistory);
+        stockAvailabilityCache.evict(productOptionId);
+        eventPublisher.publish(new StockChangedEvent(productOptionId, StockChangedEvent.ChangeType.ADJUSTED, amount));
+        stockHistoryWriter.append(stockHistory);
+        return stockHistory;
+    }
+
+    /**
+     * 재고 일괄 변경 (재고 일괄 반영 배치 1건)
+     * - 대상 옵션을 ID 오름차순으로 한 번에 잠그고(SELECT ... FOR UPDATE), CASE UPDATE 한 번으로 반영
+     * - 배치끼리는 같은 순서로 잠그므로 서로 교착되지 않지만, 주문 재고 예약 등 여러 옵션을 잠그는 다른 트랜잭션과는
+     *   교착될 수 있다. (호출 측 StockImportService가 PessimisticLockingFailureException 시 배치를 재시도)
+     * - 반영 후 재고가 음수(또는 int 범위 초과)가 되는 옵션은 제외하고 나머지만 반영 (배치 전체를 실패시키지 않음)
+     * @param deltas 옵션 ID → 변경 수량 (양수: 추가, 음수: 감소, 0 제외)
+     * @param updatedBy 수정자 ID
+     * @param description 설명
+     * @return 반영 / 미존재 / 제외 결과
+     *
+     * @Transactional: 잠금 ~ UPDATE까지 원자적으로 처리 (StockHistory는 커밋 후 StockHistoryWriter가 일괄 저장)
+     */
+    @Transactional
+    public StockBatchResult applyStockDeltas(Map<Long, Integer> deltas, Long updatedBy, String description) {
+        List<Long> productOptionIds = deltas.keySet().stream().sorted().toList();
+        Map<Long, StockRow> current = productOptionRepository.lockStocks(productOptionIds).stream()
+                .collect(Collectors.toMap(StockRow::productOptionId, Function.identity()));
+
+        List<StockRow> updates = new ArrayList<>(current.size());
+        List<StockHistory> histories = new ArrayList<>(current.size());
+        List<Long> notFoundIds = new ArrayList<>();
+        List<Long> rejectedIds = new ArrayList<>();
+
+        for (Long productOptionId : productOptionIds) {
+            StockRow row = current.get(productOptionId);
+            if (row == null) {
+                notFoundIds.add(productOptionId);
+                continue;
+            }
+            int amount = deltas.get(productOptionId);
+            long balance = (long) row.stockQuantity() + amount;
+            if (balance < 0 || balance > Integer.MAX_VALUE) {
+                rejectedIds.add(productOptionId);
+                continue;
+            }
+
+            // 재고 0이면 품절, 입고되면 품절 해제, 그 외에는 기존 값 유지
+            boolean soldOut = balance == 0 || (amount < 0 && row.soldOut());
+            updates.add(new StockRow(productOptionId, (int) balance, soldOut));
+            histories.add(amount > 0
+                    ? StockHistory.forIncrease(productOptionId, amount, (int) balance, description, updatedBy)
+                    : StockHistory.forDecrease(productOptionId, -amount, (int) balance, description, updatedBy));
+        }
+
+        productOptionRepository.updateStocks(updates);
+        stockAvailabilityCache.evictAll(updates.stream().map(StockRow::productOptionId).toList());
+        for (StockRow update : updates) {
+            eventPublisher.publish(new StockChangedEvent(update.productOptionId(),
+                    StockChangedEvent.ChangeType.ADJUSTED, deltas.get(update.productOptionId())));
+        }
+        stockHistoryWriter.appendAll(histories);
+
+        return new StockBatchResult(updates.size(), notFoundIds, rejectedIds);
     }
 
     /**
@@ -112,6 +205,8 @@ public class StockService {
         for (int attempt = 1; attempt <= maxRetry; attempt++) {
             int updated = productOptionRepository.decreaseIfEnough(productOptionId, quantity);
             if (updated == 1) {
+                stockAvailabilityCache.evict(productOptionId);
+                eventPublisher.publish(new StockChangedEvent(productOptionId, StockChangedEvent.ChangeType.RESERVED, quantity));
                 StockReservation reservation = StockReservation.create(productOptionId, orderId, quantity);
                 return stockReservationRepository.save(reservation);
             }
@@ -138,6 +233,8 @@ public class StockService {
         if (updated != 1) {
             throw StockException.stockQuantityInsufficient(productOptionId, quantity, 0);
         }
+        stockAvailabilityCache.evict(productOptionId);
+        eventPublisher.publish(new StockChangedEvent(productOptionId, StockChangedEvent.ChangeType.RESERVED, quantity));
 
         StockReservation reservation = StockReservation.create(productOptionId, orderId, quantity);
         return stockReservationRepository.save(reservation);
@@ -162,6 +259,45 @@ public class StockService {
         return stockReservationRepository.save(stockReservation);
     }
 
+    /**
+     * 주문 단위 재고 예약 일괄 확정 (결제 시 호출)
+     * - 예약 1회 조회 + 상태 조건부 UPDATE 1회 (예약 건별 락 조회/저장 없음)
+     * - 주문 항목 중 확정할 예약이 하나라도 없거나 만료되었으면 전체 실패
+     *
+     * @param orderId 주문 ID
+     * @param productOptionIds 확정해야 할 주문 항목의 상품 옵션 ID 목록
+     * @return 확정된 예약 수
+     */
+    @Transactional
+    public int confirmStockReservationsByOrderId(Long orderId, Collection<Long> productOptionIds) {
+        // 1. 주문의 RESERVED 예약 일괄 조회
+        List<StockReservation> reservations =
+                stockReservationRepository.findByOrderIdAndStatus(orderId, ReservationStatus.RESERVED);
+        Map<Long, StockReservation> reservationByOptionId = reservations.stream()
+                .collect(Collectors.toMap(StockReservation::getProductOptionId, Function.identity(), (a, b) -> a));
+
+        // 2. 주문 항목별 예약 존재 / 만료 여부 검증
+        for (Long productOptionId : productOptionIds) {
+            StockReservation reservation = reservationByOptionId.get(productOptionId);
+            if (reservation == null) {
+                throw StockException.stockReservationFailed(productOptionId, "확정할 재고 예약을 찾을 수 없습니다.");
+            }
+            if (reservation.isExpired()) {
+                throw StockException.stockReservationExpired(reservation.getStockReservationId());
+            }
+        }
+
+        // 3. 상태 조건부 일괄 확정 (검증 이후 다른 트랜잭션이 상태를 바꿨다면 건수가 달라짐)
+        int confirmed = stockReservationRepository.confirmAllByOrderId(
+                orderId, ReservationStatus.RESERVED, ReservationStatus.CONFIRMED, LocalDateTime.now());
+        if (confirmed != reservations.size()) {
+            throw StockException.stockReservationFailed(null,
+                    String.format("예약 확정 건수 불일치 [주문ID: %d, 대상: %d, 확정: %d]", orderId, reservations.size(), confirmed));
+        }
+
+        return confirmed;
+    }
+
     /**
      * 재고 예약 해제 (주문 취소 또는 타임아웃 시 호출)
      * @param reservationId 재고 예약 ID
@@ -188,6 +324,9 @@ public class StockService {
 
         // 3. 물리 재고 복구 (원자적 증가)
         productOptionRepository.increaseStock(stockReservation.getProductOptionId(), stockReservation.getReservedQuantity());
+        stockAvailabilityCache.evict(stockReservation.getProductOptionId());
+        eventPublisher.publish(new StockChangedEvent(stockReservation.getProductOptionId(),
+                StockChangedEvent.ChangeType.RELEASED, stockReservation.getReservedQuantity()));
 
         return stockReservationRepository.save(stockReservation);
     }
@@ -202,6 +341,23 @@ public class StockService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 옵션별 재고 이력 기간 조회 (최신순)
+     * 아직 버퍼에 있는 이력(최대 stock.history.flush-interval-ms)은 포함되지 않는다.
+     * @param productOptionId 상품 옵션 ID
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (미포함)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 재고 이력 목록
+     */
+    public List<StockHistory> getStockHistories(Long productOptionId, LocalDateTime from, LocalDateTime to, int page, int size) {
+        if (!from.isBefore(to)) {
+            throw StockException.stockLookupFailed("조회 시작 시각은 종료 시각보다 이전이어야 합니다. from : " + from + ", to : " + to);
+        }
+        return stockHistoryRepository.findByProductOptionIdAndPeriod(productOptionId, from, to, PageRequest.of(page, size));
+    }
+
     /**
      * 주문 ID로 재고 예약 목록 조회
      * @param orderId 주문 ID
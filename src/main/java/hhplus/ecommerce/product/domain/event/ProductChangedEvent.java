@@ -0,0 +1,29 @@
+package hhplus.ecommerce.product.domain.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 변경 도메인 이벤트
+ *
+ * 상품 등록 / 수정 / 삭제 후 발행
+ * 상품 검색 인덱스 갱신 등에 사용 (핸들러가 커밋된 상품을 다시 읽어 반영)
+ */
+@Getter
+public class ProductChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Long productId;
+    private final ChangeType changeType;
+    private final LocalDateTime occurredAt;
+
+    public ProductChangedEvent(Long productId, ChangeType changeType) {
+        this.productId = productId;
+        this.changeType = changeType;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,27 @@
+package hhplus.ecommerce.product.domain.event;
+
+import lombok.Getter;
+
+/**
+ * 재고 변경 도메인 이벤트
+ *
+ * 재고 예약 / 예약 해제 / 재고 조정 후 발행
+ * 상품 상세 캐시 무효화 등에 사용 (품절 플래그는 재고 UPDATE 문에서 함께 갱신됨)
+ */
+@Getter
+public class StockChangedEvent {
+
+    public enum ChangeType {
+        RESERVED, RELEASED, ADJUSTED
+    }
+
+    private final Long productOptionId;
+    private final ChangeType changeType;
+    private final int quantity;
+
+    public StockChangedEvent(Long productOptionId, ChangeType changeType, int quantity) {
+        this.productOptionId = productOptionId;
+        this.changeType = changeType;
+        this.quantity = quantity;
+    }
+}
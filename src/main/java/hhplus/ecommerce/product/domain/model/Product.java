@@ -11,10 +11,15 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+// 목록 조회 인덱스는 ProductListPlan 카탈로그와 1:1로 맞춘다
 @Entity
 @Table(name = "products", indexes = {
-    @Index(name = "idx_exposed_deleted_category", columnList = "is_exposed, is_deleted, category"),
-    @Index(name = "idx_exposed_deleted_created", columnList = "is_exposed, is_deleted, created_at")
+    @Index(name = "idx_exposed_deleted_category_latest", columnList = "is_exposed, is_deleted, category, created_at, id"),
+    @Index(name = "idx_exposed_deleted_latest", columnList = "is_exposed, is_deleted, created_at, id"),
+    @Index(name = "idx_exposed_deleted_price", columnList = "is_exposed, is_deleted, price, id"),
+    @Index(name = "idx_exposed_deleted_sales", columnList = "is_exposed, is_deleted, sales_count, id"),
+    @Index(name = "idx_exposed_deleted_category_price", columnList = "is_exposed, is_deleted, category, price, id"),
+    @Index(name = "idx_exposed_deleted_category_sales", columnList = "is_exposed, is_deleted, category, sales_count, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -41,8 +46,9 @@ public class Product {
     @Column(name = "price", nullable = false, precision = 15, scale = 2)
     private BigDecimal price;
 
-    // 판매량은 popular_products 테이블에서 별도 관리 (통계용)
-    @Transient
+    // 누적 판매량 (판매량순 목록 정렬용, 결제 수량을 Redis에 모아 주기적으로 일괄 반영)
+    // 기간별 통계는 popular_products 테이블에서 별도 관리
+    @Column(name = "sales_count", nullable = false)
     private long salesCount;
 
     @Column(name = "is_exposed", nullable = false, columnDefinition = "TINYINT(1)")
@@ -116,8 +122,9 @@ public class Product {
      * @param imageUrl 이미지 URL
      * @param price 상품 기본 가격
      * @param isExposed 노출 여부
+     * 누적 판매량은 결제 집계(addSalesCount)로만 변경되므로 수정 대상이 아니다.
      */
-    public void update(String productName, String category, String description, String imageUrl, BigDecimal price, long salesCount, boolean isExposed) {
+    public void update(String productName, String category, String description, String imageUrl, BigDecimal price, boolean isExposed) {
         validateProductName(productName);
         validateCategory(category);
         validatePrice(price);
@@ -127,7 +134,6 @@ public class Product {
         this.description = description;
         this.imageUrl = imageUrl;
         this.price = price;
-        this.salesCount = salesCount;
         this.isExposed = isExposed;
     }
 
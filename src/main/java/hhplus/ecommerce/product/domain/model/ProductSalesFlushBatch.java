@@ -0,0 +1,31 @@
+package hhplus.ecommerce.product.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 누적 판매량 반영 배치 기록
+ *
+ * ProductSalesFlushScheduler가 processing 키를 DB에 반영할 때 같은 트랜잭션에서 배치 ID를 남긴다.
+ * DB 커밋 후 processing 키 삭제 전에 장애가 나도 다음 주기에 같은 배치 ID로 재처리되므로 중복 반영되지 않는다.
+ */
+@Entity
+@Table(name = "product_sales_flush_batches")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductSalesFlushBatch {
+
+    @Id
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
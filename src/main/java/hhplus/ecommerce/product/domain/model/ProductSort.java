@@ -0,0 +1,45 @@
+package hhplus.ecommerce.product.domain.model;
+
+import hhplus.ecommerce.common.domain.exception.ProductException;
+
+/**
+ * 상품 목록 정렬 기준
+ * 정렬 컬럼 다음에 항상 id를 같은 방향으로 붙여 순서를 고정한다 (keyset 커서용).
+ */
+public enum ProductSort {
+    LATEST("latest", "created_at", true),
+    SALES("sales", "sales_count", true),
+    PRICE_ASC("price_asc", "price", false),
+    PRICE_DESC("price_desc", "price", true);
+
+    private final String code;
+    private final String column;
+    private final boolean descending;
+
+    ProductSort(String code, String column, boolean descending) {
+        this.code = code;
+        this.column = column;
+        this.descending = descending;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public static ProductSort from(String code) {
+        for (ProductSort sort : values()) {
+            if (sort.code.equals(code)) {
+                return sort;
+            }
+        }
+        throw ProductException.getListFailed("지원하지 않는 정렬 기준입니다: " + code);
+    }
+}
@@ -12,11 +12,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
+// 운영 스키마는 created_at 월 단위 RANGE 파티션 (docker/mysql/init/00-schema.sql, StockHistoryPartitionScheduler)
+// 적재가 많은 테이블이므로 보조 인덱스는 옵션별 기간 조회용 하나만 둔다.
 @Table(name = "stock_histories", indexes = {
-    @Index(name = "idx_product_option_created", columnList = "product_option_id, created_at"),
-    @Index(name = "idx_product_option_type_created", columnList = "product_option_id, adjustment_type, created_at"),
-    @Index(name = "idx_product_option_updatedby_created", columnList = "product_option_id, updated_by, created_at"),
-    @Index(name = "idx_created_at", columnList = "created_at")
+    @Index(name = "idx_option_created", columnList = "product_option_id, created_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -58,6 +57,8 @@ public class StockHistory {
         this.balance = balance;
         this.description = description;
         this.updatedBy = updatedBy;
+        // StockHistoryWriter가 JPA 밖에서 일괄 INSERT 하므로 발생 시각을 생성 시점에 기록
+        this.createdAt = LocalDateTime.now();
     }
 
     /**
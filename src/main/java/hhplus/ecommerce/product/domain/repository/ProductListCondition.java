@@ -0,0 +1,56 @@
+package hhplus.ecommerce.product.domain.repository;
+
+import hhplus.ecommerce.common.domain.exception.ProductException;
+import hhplus.ecommerce.product.domain.model.ProductSort;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 목록 조회 조건
+ *
+ * @param sort 정렬 기준
+ * @param category 카테고리 (null이면 전체)
+ * @param minPrice 최소 가격 (포함, 선택)
+ * @param maxPrice 최대 가격 (포함, 선택)
+ * @param exposed 노출 여부 (삭제된 상품은 항상 제외)
+ */
+public record ProductListCondition(ProductSort sort,
+                                   String category,
+                                   BigDecimal minPrice,
+                                   BigDecimal maxPrice,
+                                   boolean exposed) {
+
+    public ProductListCondition {
+        if (sort == null) {
+            throw ProductException.getListFailed("정렬 기준은 필수입니다.");
+        }
+        if (category != null && category.isBlank()) {
+            category = null;
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw ProductException.getListFailed("최소 가격이 최대 가격보다 큽니다. minPrice : " + minPrice + ", maxPrice : " + maxPrice);
+        }
+    }
+
+    /**
+     * 노출 상품 목록 조건 (사용자 목록 조회)
+     */
+    public static ProductListCondition exposed(String sort, String category, BigDecimal minPrice, BigDecimal maxPrice) {
+        return new ProductListCondition(ProductSort.from(sort), category, minPrice, maxPrice, true);
+    }
+
+    public boolean hasCategory() {
+        return category != null;
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    /**
+     * 건수 캐시 키 (정렬과 무관한 필터만 포함)
+     */
+    public String countKey() {
+        return category + "|" + minPrice + "|" + maxPrice + "|" + exposed;
+    }
+}
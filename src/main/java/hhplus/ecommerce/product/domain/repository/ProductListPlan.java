@@ -0,0 +1,52 @@
+package hhplus.ecommerce.product.domain.repository;
+
+/**
+ * 상품 목록 조회 계획 카탈로그 (조건 조합 → 인덱스)
+ *
+ * 모든 인덱스는 (is_exposed, is_deleted[, category], 정렬 컬럼, id) 순서라서
+ * 동등 조건 뒤의 정렬 컬럼을 그대로 읽으면 filesort 없이 정렬된다 (내림차순은 역방향 스캔).
+ * 가격 범위는 가격 정렬이면 인덱스 범위 조건으로, 그 외 정렬이면 인덱스 순서로 읽으며 걸러낸다.
+ * 조합을 추가하면 Product 엔티티와 스키마에 같은 인덱스를 함께 추가해야 한다.
+ * 기존 인덱스의 컬럼을 바꿀 때는 이름도 바꾼다. (ddl-auto=update는 같은 이름의 인덱스 정의를 고치지 않음, ProductIndexMigration 참고)
+ */
+public enum ProductListPlan {
+    LATEST("idx_exposed_deleted_latest"),                  // (is_exposed, is_deleted, created_at, id)
+    LATEST_BY_CATEGORY("idx_exposed_deleted_category_latest"), // (is_exposed, is_deleted, category, created_at, id)
+    PRICE("idx_exposed_deleted_price"),                    // (is_exposed, is_deleted, price, id)
+    PRICE_BY_CATEGORY("idx_exposed_deleted_category_price"), // (is_exposed, is_deleted, category, price, id)
+    SALES("idx_exposed_deleted_sales"),                    // (is_exposed, is_deleted, sales_count, id)
+    SALES_BY_CATEGORY("idx_exposed_deleted_category_sales"); // (is_exposed, is_deleted, category, sales_count, id)
+
+    private final String indexName;
+
+    ProductListPlan(String indexName) {
+        this.indexName = indexName;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    /**
+     * 목록 조회 계획 (정렬 + 카테고리 유무)
+     */
+    public static ProductListPlan of(ProductListCondition condition) {
+        boolean byCategory = condition.hasCategory();
+        return switch (condition.sort()) {
+            case LATEST -> byCategory ? LATEST_BY_CATEGORY : LATEST;
+            case SALES -> byCategory ? SALES_BY_CATEGORY : SALES;
+            case PRICE_ASC, PRICE_DESC -> byCategory ? PRICE_BY_CATEGORY : PRICE;
+        };
+    }
+
+    /**
+     * 건수 조회 계획 (정렬 무관, 가격 범위가 있으면 가격 인덱스로 범위를 좁힌다)
+     */
+    public static ProductListPlan forCount(ProductListCondition condition) {
+        boolean byCategory = condition.hasCategory();
+        if (condition.hasPriceRange()) {
+            return byCategory ? PRICE_BY_CATEGORY : PRICE;
+        }
+        return byCategory ? LATEST_BY_CATEGORY : LATEST;
+    }
+}
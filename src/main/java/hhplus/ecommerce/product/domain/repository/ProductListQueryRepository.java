@@ -0,0 +1,22 @@
+package hhplus.ecommerce.product.domain.repository;
+
+import java.util.List;
+
+/**
+ * 상품 목록 동적 조회 (ProductRepository 확장)
+ */
+public interface ProductListQueryRepository {
+
+    /**
+     * 조건에 맞는 상품 요약 목록
+     * @param after keyset 시작 위치 (null이면 offset부터)
+     * @param offset 건너뛸 행 수 (커서가 없을 때만 사용)
+     * @param limit 최대 행 수
+     */
+    List<ProductSummary> findSummaries(ProductListCondition condition, ProductSeek after, long offset, int limit);
+
+    /**
+     * 조건에 맞는 상품 수
+     */
+    long countSummaries(ProductListCondition condition);
+}
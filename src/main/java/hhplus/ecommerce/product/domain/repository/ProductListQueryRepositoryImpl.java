@@ -0,0 +1,67 @@
+package hhplus.ecommerce.product.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 목록 동적 조회 구현 (ProductListSql 실행)
+ */
+public class ProductListQueryRepositoryImpl implements ProductListQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductSummary> findSummaries(ProductListCondition condition, ProductSeek after, long offset, int limit) {
+        ProductListSql listSql = ProductListSql.select(condition, after);
+        Query query = createQuery(listSql)
+                .setFirstResult(after == null ? Math.toIntExact(offset) : 0)
+                .setMaxResults(limit);
+
+        List<Object[]> rows = query.getResultList();
+        return rows.stream().map(ProductListQueryRepositoryImpl::toSummary).toList();
+    }
+
+    @Override
+    public long countSummaries(ProductListCondition condition) {
+        return ((Number) createQuery(ProductListSql.count(condition)).getSingleResult()).longValue();
+    }
+
+    private Query createQuery(ProductListSql listSql) {
+        Query query = entityManager.createNativeQuery(listSql.sql());
+        listSql.params().forEach(query::setParameter);
+        return query;
+    }
+
+    private static ProductSummary toSummary(Object[] row) {
+        return new ProductSummary(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (BigDecimal) row[4],
+                ((Number) row[5]).longValue(),
+                toBoolean(row[6]),
+                toLocalDateTime(row[7]),
+                toLocalDateTime(row[8])
+        );
+    }
+
+    private static boolean toBoolean(Object value) {
+        return value instanceof Boolean bool ? bool : ((Number) value).intValue() != 0;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value == null || value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        return ((Timestamp) value).toLocalDateTime();
+    }
+}
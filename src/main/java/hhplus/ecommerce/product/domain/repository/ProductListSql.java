@@ -0,0 +1,78 @@
+package hhplus.ecommerce.product.domain.repository;
+
+import hhplus.ecommerce.product.domain.model.ProductSort;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품 목록 네이티브 SQL (조건 조합별 WHERE / ORDER BY 생성)
+ *
+ * FORCE INDEX로 ProductListPlan이 지정한 인덱스를 사용하도록 고정하고,
+ * ORDER BY는 인덱스 컬럼 순서(정렬 컬럼, id)와 같게 만든다.
+ *
+ * @param sql 이름 기반 파라미터(:name)를 쓰는 SQL
+ * @param params 바인딩 파라미터
+ * @param plan 사용한 조회 계획
+ */
+public record ProductListSql(String sql, Map<String, Object> params, ProductListPlan plan) {
+
+    static final String SUMMARY_COLUMNS =
+            "id, product_name, category, image_url, price, sales_count, is_exposed, created_at, updated_at";
+
+    /**
+     * 목록 조회 SQL (LIMIT / OFFSET은 실행 시 지정)
+     * @param after keyset 시작 위치 (null이면 처음부터)
+     */
+    public static ProductListSql select(ProductListCondition condition, ProductSeek after) {
+        ProductListPlan plan = ProductListPlan.of(condition);
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(SUMMARY_COLUMNS);
+        appendFromWhere(sql, params, plan, condition);
+
+        ProductSort sort = condition.sort();
+        String column = sort.getColumn();
+        String direction = sort.isDescending() ? " DESC" : " ASC";
+        if (after != null) {
+            String op = sort.isDescending() ? " < " : " > ";
+            sql.append(" AND (").append(column).append(op).append(":afterKey")
+                    .append(" OR (").append(column).append(" = :afterKey AND id").append(op).append(":afterId))");
+            params.put("afterKey", after.sortKey());
+            params.put("afterId", after.productId());
+        }
+        sql.append(" ORDER BY ").append(column).append(direction).append(", id").append(direction);
+
+        return new ProductListSql(sql.toString(), params, plan);
+    }
+
+    /**
+     * 건수 조회 SQL
+     */
+    public static ProductListSql count(ProductListCondition condition) {
+        ProductListPlan plan = ProductListPlan.forCount(condition);
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*)");
+        appendFromWhere(sql, params, plan, condition);
+        return new ProductListSql(sql.toString(), params, plan);
+    }
+
+    private static void appendFromWhere(StringBuilder sql, Map<String, Object> params,
+                                        ProductListPlan plan, ProductListCondition condition) {
+        sql.append(" FROM products FORCE INDEX (").append(plan.getIndexName()).append(")")
+                .append(" WHERE is_exposed = :exposed AND is_deleted = false");
+        params.put("exposed", condition.exposed());
+
+        if (condition.hasCategory()) {
+            sql.append(" AND category = :category");
+            params.put("category", condition.category());
+        }
+        if (condition.minPrice() != null) {
+            sql.append(" AND price >= :minPrice");
+            params.put("minPrice", condition.minPrice());
+        }
+        if (condition.maxPrice() != null) {
+            sql.append(" AND price <= :maxPrice");
+            params.put("maxPrice", condition.maxPrice());
+        }
+    }
+}
@@ -11,7 +11,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface ProductOptionRepository extends JpaRepository<ProductOption, Long> {
+public interface ProductOptionRepository extends JpaRepository<ProductOption, Long>, ProductOptionStockRepository {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT po FROM ProductOption po WHERE po.productOptionId = :productOptionId")
@@ -30,12 +30,14 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption, Lo
     List<ProductOption> findAllByProductIdIn(@Param("productIds") List<Long> productIds);
 
     // 조건부 감소: 재고가 충분할 때만 감소 (원자적 DML)
+    // 남은 재고가 0이 되면 같은 문장에서 품절 플래그도 켠다 (품절 판단은 감소 전 값 기준이므로 먼저 대입)
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("UPDATE ProductOption po SET po.stockQuantity = po.stockQuantity - :qty WHERE po.productOptionId = :id AND po.stockQuantity >= :qty")
+    @Query("UPDATE ProductOption po SET po.isSoldOut = CASE WHEN po.stockQuantity = :qty THEN true ELSE po.isSoldOut END, " +
+           "po.stockQuantity = po.stockQuantity - :qty WHERE po.productOptionId = :id AND po.stockQuantity >= :qty")
     int decreaseIfEnough(@Param("id") Long productOptionId, @Param("qty") int quantity);
 
-    // 증가: 해제/복구 시 사용
+    // 증가: 해제/복구 시 사용 (재고가 생기므로 ProductOption.increaseStock과 같이 품절 해제)
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("UPDATE ProductOption po SET po.stockQuantity = po.stockQuantity + :qty WHERE po.productOptionId = :id")
+    @Query("UPDATE ProductOption po SET po.isSoldOut = false, po.stockQuantity = po.stockQuantity + :qty WHERE po.productOptionId = :id")
     int increaseStock(@Param("id") Long productOptionId, @Param("qty") int quantity);
 }
@@ -0,0 +1,23 @@
+package hhplus.ecommerce.product.domain.repository;
+
+import java.util.List;
+
+/**
+ * 옵션 재고 일괄 반영 (ProductOptionRepository 확장)
+ */
+public interface ProductOptionStockRepository {
+
+    /**
+     * 옵션 재고 행을 ID 오름차순으로 잠그고 조회 (SELECT ... FOR UPDATE 한 번)
+     * 모든 일괄 반영이 같은 순서로 잠그므로 서로 교착되지 않는다.
+     * @param productOptionIds 상품 옵션 ID 목록
+     * @return 존재하는 옵션의 재고 행 (ID 오름차순)
+     */
+    List<StockRow> lockStocks(List<Long> productOptionIds);
+
+    /**
+     * 재고 수량 / 품절 여부를 UPDATE 한 번으로 반영 (lockStocks로 잠근 행만)
+     * @return 반영된 행 수
+     */
+    int updateStocks(List<StockRow> rows);
+}
@@ -0,0 +1,69 @@
+package hhplus.ecommerce.product.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+/**
+ * 옵션 재고 일괄 반영 구현 (네이티브 SQL)
+ */
+public class ProductOptionStockRepositoryImpl implements ProductOptionStockRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<StockRow> lockStocks(List<Long> productOptionIds) {
+        if (productOptionIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT id, stock_quantity, is_sold_out FROM product_options WHERE id IN (:ids) ORDER BY id FOR UPDATE")
+                .setParameter("ids", productOptionIds)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new StockRow(((Number) row[0]).longValue(), ((Number) row[1]).intValue(), toBoolean(row[2])))
+                .toList();
+    }
+
+    @Override
+    public int updateStocks(List<StockRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // UPDATE product_options SET stock_quantity = CASE id WHEN ?1 THEN ?2 ... END, is_sold_out = CASE id WHEN ?1 THEN ?3 ... END
+        StringBuilder quantityCase = new StringBuilder("CASE id");
+        StringBuilder soldOutCase = new StringBuilder("CASE id");
+        StringBuilder ids = new StringBuilder();
+        for (int i = 0; i < rows.size(); i++) {
+            int base = i * 3;
+            quantityCase.append(" WHEN ?").append(base + 1).append(" THEN ?").append(base + 2);
+            soldOutCase.append(" WHEN ?").append(base + 1).append(" THEN ?").append(base + 3);
+            ids.append(i > 0 ? ", ?" : "?").append(base + 1);
+        }
+        String sql = "UPDATE product_options SET stock_quantity = " + quantityCase + " END, "
+                + "is_sold_out = " + soldOutCase + " END, updated_at = CURRENT_TIMESTAMP "
+                + "WHERE id IN (" + ids + ")";
+
+        Query query = entityManager.createNativeQuery(sql);
+        for (int i = 0; i < rows.size(); i++) {
+            StockRow row = rows.get(i);
+            int base = i * 3;
+            query.setParameter(base + 1, row.productOptionId());
+            query.setParameter(base + 2, row.stockQuantity());
+            query.setParameter(base + 3, row.soldOut());
+        }
+        return query.executeUpdate();
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        return ((Number) value).intValue() != 0;
+    }
+}
@@ -1,35 +1,43 @@
 package hhplus.ecommerce.product.domain.repository;
 
 import hhplus.ecommerce.product.domain.model.Product;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Product JPA Repository
  * InMemoryRepository 제거하고 JPA로 통합
+ * 목록 조회는 ProductListQueryRepository (조건 조합별 동적 SQL)
  */
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductListQueryRepository {
 
     // 노출되고 삭제되지 않은 상품 조회
     @Query("SELECT p FROM Product p WHERE p.productId = :productId AND p.isExposed = true AND p.isDeleted = false")
     Optional<Product> findByIdAndExposed(@Param("productId") Long productId);
 
-    // 카테고리별 상품 조회 (노출된 것만, 최신순)
-    @Query("SELECT p FROM Product p WHERE p.category = :category AND p.isExposed = true AND p.isDeleted = false ORDER BY p.createdAt DESC")
-    Page<Product> findByCategoryOrderByCreatedAtDesc(@Param("category") String category, Pageable pageable);
-
-    // 가격 오름차순
-    @Query("SELECT p FROM Product p WHERE p.isExposed = true AND p.isDeleted = false ORDER BY p.price ASC")
-    Page<Product> findAllByPriceAsc(Pageable pageable);
-
-    // 가격 내림차순
-    @Query("SELECT p FROM Product p WHERE p.isExposed = true AND p.isDeleted = false ORDER BY p.price DESC")
-    Page<Product> findAllByPriceDesc(Pageable pageable);
+    // 누적 판매량 증가 (결제 수량 일괄 반영)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Product p SET p.salesCount = p.salesCount + :quantity WHERE p.productId = :productId")
+    int addSalesCount(@Param("productId") Long productId, @Param("quantity") long quantity);
+
+    // 누적 판매량 백필 (결제 완료 주문의 주문 수량 합계로 덮어씀, 일회성)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "UPDATE products p JOIN (" +
+                   "SELECT oi.product_id, SUM(oi.quantity) AS quantity FROM order_items oi " +
+                   "JOIN orders o ON o.id = oi.order_id WHERE o.order_status = 'PAID' GROUP BY oi.product_id" +
+                   ") s ON s.product_id = p.id SET p.sales_count = s.quantity",
+           nativeQuery = true)
+    int backfillSalesCounts();
+
+    // 노출 상품 ID 순 배치 조회 (검색 인덱스 재구성)
+    @Query("SELECT p FROM Product p WHERE p.isExposed = true AND p.isDeleted = false AND p.productId > :afterId ORDER BY p.productId ASC")
+    List<Product> findExposedAfter(@Param("afterId") Long afterId, Pageable pageable);
 
     // 노출된 상품 수
     @Query("SELECT COUNT(p) FROM Product p WHERE p.isExposed = true AND p.isDeleted = false")
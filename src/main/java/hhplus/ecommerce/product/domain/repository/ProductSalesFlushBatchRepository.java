@@ -0,0 +1,18 @@
+package hhplus.ecommerce.product.domain.repository;
+
+import hhplus.ecommerce.product.domain.model.ProductSalesFlushBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ProductSalesFlushBatchRepository extends JpaRepository<ProductSalesFlushBatch, String> {
+
+    // 배치 ID 선점 (이미 반영된 배치면 0 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO product_sales_flush_batches (batch_id, applied_at) VALUES (:batchId, :appliedAt)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("batchId") String batchId, @Param("appliedAt") LocalDateTime appliedAt);
+}
@@ -0,0 +1,10 @@
+package hhplus.ecommerce.product.domain.repository;
+
+/**
+ * keyset 조회 시작 위치 (직전 페이지 마지막 상품의 정렬 키와 ID)
+ *
+ * @param sortKey 정렬 컬럼 값 (created_at: LocalDateTime, sales_count: Long, price: BigDecimal)
+ * @param productId 상품 ID
+ */
+public record ProductSeek(Object sortKey, Long productId) {
+}
@@ -0,0 +1,18 @@
+package hhplus.ecommerce.product.domain.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록용 요약 (description TEXT 컬럼 제외)
+ */
+public record ProductSummary(Long productId,
+                             String productName,
+                             String category,
+                             String imageUrl,
+                             BigDecimal price,
+                             long salesCount,
+                             boolean exposed,
+                             LocalDateTime createdAt,
+                             LocalDateTime updatedAt) {
+}
@@ -0,0 +1,17 @@
+package hhplus.ecommerce.product.domain.repository;
+
+import hhplus.ecommerce.product.domain.model.StockHistory;
+
+import java.util.List;
+
+/**
+ * 재고 이력 일괄 저장 (StockHistoryRepository 확장)
+ */
+public interface StockHistoryBatchRepository {
+
+    /**
+     * 재고 이력을 다중 행 INSERT 한 번으로 저장 (IDENTITY 키라 JPA 배치 INSERT가 동작하지 않음)
+     * @return 저장된 행 수
+     */
+    int insertAll(List<StockHistory> histories);
+}
@@ -0,0 +1,57 @@
+package hhplus.ecommerce.product.domain.repository;
+
+import hhplus.ecommerce.product.domain.model.StockHistory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 재고 이력 일괄 저장 구현
+ */
+public class StockHistoryBatchRepositoryImpl implements StockHistoryBatchRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO stock_histories (product_option_id, amount, adjustment_type, balance, description, updated_by, created_at) VALUES ";
+    private static final int COLUMNS = 7;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 커밋 이후(afterCommit) 호출될 수 있으므로 항상 새 트랜잭션에서 실행
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int insertAll(List<StockHistory> histories) {
+        if (histories.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int row = 0; row < histories.size(); row++) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append('(');
+            for (int column = 1; column <= COLUMNS; column++) {
+                sql.append(column > 1 ? ", ?" : "?").append(row * COLUMNS + column);
+            }
+            sql.append(')');
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (StockHistory history : histories) {
+            query.setParameter(position++, history.getProductOptionId());
+            query.setParameter(position++, history.getAmount());
+            query.setParameter(position++, history.getAdjustmentType().name());
+            query.setParameter(position++, history.getBalance());
+            query.setParameter(position++, history.getDescription());
+            query.setParameter(position++, history.getUpdatedBy());
+            query.setParameter(position++, history.getCreatedAt());
+        }
+        return query.executeUpdate();
+    }
+}
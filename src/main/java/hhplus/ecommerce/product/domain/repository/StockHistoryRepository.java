@@ -8,9 +8,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-public interface StockHistoryRepository extends JpaRepository<StockHistory, Long> {
+/**
+ * 재고 이력 Repository
+ * 저장은 StockHistoryWriter가 모아서 insertAll로 일괄 처리한다.
+ */
+public interface StockHistoryRepository extends JpaRepository<StockHistory, Long>, StockHistoryBatchRepository {
 
     @Query("SELECT sh FROM StockHistory sh WHERE sh.productOptionId = :productOptionId ORDER BY sh.createdAt DESC")
     List<StockHistory> findByProductOptionIdOrderByCreatedAtDesc(@Param("productOptionId") Long productOptionId);
@@ -20,4 +25,12 @@ public interface StockHistoryRepository extends JpaRepository<StockHistory, Long
                                                                @Param("adjustmentType") StockAdjustmentType adjustmentType);
 
     Page<StockHistory> findByProductOptionIdOrderByCreatedAtDesc(Long productOptionId, Pageable pageable);
+
+    // 옵션별 기간 조회 (created_at 파티션 pruning + idx_option_created 범위 스캔)
+    @Query("SELECT sh FROM StockHistory sh WHERE sh.productOptionId = :productOptionId " +
+           "AND sh.createdAt >= :from AND sh.createdAt < :to ORDER BY sh.createdAt DESC")
+    List<StockHistory> findByProductOptionIdAndPeriod(@Param("productOptionId") Long productOptionId,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to,
+                                                      Pageable pageable);
 }
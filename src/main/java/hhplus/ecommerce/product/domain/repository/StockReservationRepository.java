@@ -4,6 +4,7 @@ import hhplus.ecommerce.product.domain.model.ReservationStatus;
 import hhplus.ecommerce.product.domain.model.StockReservation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import jakarta.persistence.LockModeType;
@@ -38,4 +39,13 @@ public interface StockReservationRepository extends JpaRepository<StockReservati
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT sr FROM StockReservation sr WHERE sr.stockReservationId = :reservationId")
     Optional<StockReservation> findByIdWithLock(@Param("reservationId") Long reservationId);
+
+    // 주문 단위 예약 일괄 확정: RESERVED 이고 만료되지 않은 예약만 CONFIRMED 로 변경 (단일 UPDATE)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE StockReservation sr SET sr.reservationStatus = :confirmed, sr.updatedAt = :now " +
+           "WHERE sr.orderId = :orderId AND sr.reservationStatus = :reserved AND sr.expiresAt >= :now")
+    int confirmAllByOrderId(@Param("orderId") Long orderId,
+                            @Param("reserved") ReservationStatus reserved,
+                            @Param("confirmed") ReservationStatus confirmed,
+                            @Param("now") LocalDateTime now);
 }
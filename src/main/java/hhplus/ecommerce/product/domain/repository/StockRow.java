@@ -0,0 +1,7 @@
+package hhplus.ecommerce.product.domain.repository;
+
+/**
+ * 일괄 재고 반영용 옵션 재고 행
+ */
+public record StockRow(Long productOptionId, int stockQuantity, boolean soldOut) {
+}
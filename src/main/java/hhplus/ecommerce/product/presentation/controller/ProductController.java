@@ -2,10 +2,13 @@ package hhplus.ecommerce.product.presentation.controller;
 
 import hhplus.ecommerce.common.domain.exception.ProductException;
 import hhplus.ecommerce.common.presentation.response.PageResponse;
+import hhplus.ecommerce.product.application.dto.ProductSearchResult;
 import hhplus.ecommerce.product.application.service.ProductMapper;
 import hhplus.ecommerce.product.application.service.ProductService;
 import hhplus.ecommerce.product.domain.model.PeriodType;
 import hhplus.ecommerce.product.domain.model.Product;
+import hhplus.ecommerce.product.domain.repository.ProductListCondition;
+import hhplus.ecommerce.product.domain.repository.ProductSummary;
 import hhplus.ecommerce.product.presentation.dto.request.ProductRegistrationRequest;
 import hhplus.ecommerce.product.presentation.dto.request.ProductUpdateRequest;
 import hhplus.ecommerce.product.presentation.dto.request.ProductOptionRegisterRequest;
@@ -13,11 +16,13 @@ import hhplus.ecommerce.product.presentation.dto.request.ProductOptionUpdateRequ
 import hhplus.ecommerce.product.presentation.dto.response.ProductDetailResponse;
 import hhplus.ecommerce.product.presentation.dto.response.ProductListResponse;
 import hhplus.ecommerce.product.presentation.dto.response.ProductOptionResponse;
+import hhplus.ecommerce.product.presentation.dto.response.ProductSearchResponse;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -35,6 +40,9 @@ public class ProductController {
      * @param size 페이지 크기 (기본값: 20, 최대: 100)
      * @param sort 정렬 기준 (latest, sales, price_asc, price_desc)
      * @param category 카테고리 필터
+     * @param minPrice 최소 가격 (포함)
+     * @param maxPrice 최대 가격 (포함)
+     * @param cursor 다음 페이지 커서 (이전 응답의 nextCursor)
      * @return 페이징된 상품 목록
      */
     @GetMapping
@@ -42,7 +50,10 @@ public class ProductController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "latest") String sort,
-            @RequestParam(required = false) String category) {
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String cursor) {
         // 페이지 크기 상한 제한 적용
         if (size > 100) size = 100;
 
@@ -52,7 +63,8 @@ public class ProductController {
             throw ProductException.getListFailed("정렬 기준 파라미터가 부적절합니다. sort : " + sort);
         }
 
-        PageResponse<Product> productPage = productService.getProducts(page, size, sort, category);
+        ProductListCondition condition = ProductListCondition.exposed(sort, category, minPrice, maxPrice);
+        PageResponse<ProductSummary> productPage = productService.getProducts(condition, page, size, cursor);
         List<ProductListResponse> contents = productPage.getContent().stream()
                 .map(productMapper::toProductListResponse)
                 .toList();
@@ -62,7 +74,38 @@ public class ProductController {
                 productPage.getPage(),
                 productPage.getSize(),
                 productPage.getTotalElements(),
-                productPage.getTotalPages());
+                productPage.getTotalPages(),
+                productPage.getNextCursor());
+    }
+
+    /**
+     * 상품 검색
+     * GET /api/product/search
+     * @param q 검색어 (상품명 / 카테고리 / 설명, 공백 구분 AND, 마지막 단어는 접두어 일치)
+     * @param category 카테고리 필터
+     * @param minPrice 최소 가격 (포함)
+     * @param maxPrice 최대 가격 (포함)
+     * @param size 조회할 상품 개수 (기본값: 20, 최대: 100)
+     * @return 검색 결과 및 카테고리별 건수
+     */
+    @GetMapping("/search")
+    public ProductSearchResponse searchProducts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "20") int size) {
+        // 페이지 크기 상한 제한 적용
+        if (size > 100) size = 100;
+        if (size < 1) size = 1;
+
+        ProductSearchResult result = productService.searchProducts(q, category, minPrice, maxPrice, size);
+        return new ProductSearchResponse(
+                result.items().stream()
+                        .map(productMapper::toProductListResponse)
+                        .toList(),
+                result.totalHits(),
+                result.categoryFacets());
     }
 
     /**
@@ -113,7 +156,6 @@ public class ProductController {
                 request.getDescription(),
                 request.getImageUrl(),
                 request.getPrice(),
-                request.getSalesCount(),
                 request.isExposed()
         );
         return productMapper.toProductListResponse(updatedProduct);
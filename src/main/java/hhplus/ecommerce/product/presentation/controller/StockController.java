@@ -1,18 +1,29 @@
 package hhplus.ecommerce.product.presentation.controller;
 
+import hhplus.ecommerce.common.domain.exception.StockException;
+import hhplus.ecommerce.product.application.service.StockImportService;
 import hhplus.ecommerce.product.application.service.StockMapper;
 import hhplus.ecommerce.product.application.service.StockService;
 import hhplus.ecommerce.product.presentation.dto.request.StockChangeRequest;
 import hhplus.ecommerce.product.presentation.dto.request.StockReservationRequest;
 import hhplus.ecommerce.product.presentation.dto.response.StockHistoryResponse;
+import hhplus.ecommerce.product.presentation.dto.response.StockImportResponse;
 import hhplus.ecommerce.product.presentation.dto.response.StockReservationResponse;
 import hhplus.ecommerce.product.presentation.dto.response.StockResponse;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/stock")
@@ -20,6 +31,7 @@ import java.util.List;
 public class StockController {
 
     private final StockService stockService;
+    private final StockImportService stockImportService;
     private final StockMapper stockMapper;
 
     /**
@@ -33,6 +45,26 @@ public class StockController {
         return stockService.getStock(productOptionId);
     }
 
+    /**
+     * 상품 재고 일괄 조회 (상품 페이지 옵션별 품절 표시용)
+     * GET /api/stock?productOptionIds=1,2,3
+     * @param productOptionIds 상품 옵션 ID 목록 (최대 100개, 중복 제거)
+     * @return 요청 순서대로 재고 정보 (존재하지 않는 옵션은 제외)
+     */
+    @GetMapping
+    public List<StockResponse> getStocks(@RequestParam List<Long> productOptionIds) {
+        Set<Long> ids = new LinkedHashSet<>(productOptionIds);
+        if (ids.size() > 100) {
+            throw StockException.stockLookupFailed("한 번에 조회할 수 있는 옵션은 100개 이하입니다. 요청: " + ids.size());
+        }
+
+        Map<Long, StockResponse> stocks = stockService.getStocks(ids);
+        return ids.stream()
+                .map(stocks::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * 상품 재고 변경
      * POST /api/stock/{productOptionId}
@@ -53,6 +85,58 @@ public class StockController {
         ));
     }
 
+    /**
+     * 재고 일괄 반영 (창고 재고 동기화)
+     * POST /api/stock/import
+     * Content-Type: text/csv (productOptionId,amount 헤더 선택) 또는 application/x-ndjson ({"productOptionId":1,"amount":10})
+     * @param contentType 본문 형식
+     * @param updatedBy 수정자 ID
+     * @param description 재고 이력 설명 (선택)
+     * @param body 요청 본문 (한 줄씩 읽어 배치로 반영)
+     * @return 반영 요약 (반영 / 미존재 / 재고 부족 제외 / 형식 오류 건수)
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public StockImportResponse importStocks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam Long updatedBy,
+            @RequestParam(defaultValue = "재고 일괄 반영") String description,
+            InputStream body) {
+        return stockMapper.toStockImportResponse(
+                stockImportService.importStocks(
+                        body,
+                        StockImportService.Format.fromContentType(contentType),
+                        updatedBy,
+                        description
+        ));
+    }
+
+    /**
+     * 옵션별 재고 이력 기간 조회
+     * GET /api/stock/{productOptionId}/histories
+     * @param productOptionId 상품 옵션 ID
+     * @param from 시작 시각 (포함, 기본값: 30일 전)
+     * @param to 종료 시각 (미포함, 기본값: 현재)
+     * @param page 페이지 번호 (기본값: 0)
+     * @param size 페이지 크기 (기본값: 50, 최대: 500)
+     * @return 재고 이력 목록 (최신순)
+     */
+    @GetMapping("/{productOptionId}/histories")
+    public List<StockHistoryResponse> getStockHistories(
+            @PathVariable Long productOptionId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        // 페이지 크기 상한 제한 적용
+        if (size > 500) size = 500;
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(30);
+        return stockService.getStockHistories(productOptionId, start, end, page, size).stream()
+                .map(stockMapper::toStockHistoryResponse)
+                .toList();
+    }
+
     /**
      * 재고 예약 (주문 생성 시 호출)
      * POST /api/stock/reserve
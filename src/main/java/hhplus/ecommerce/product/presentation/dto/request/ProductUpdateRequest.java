@@ -25,9 +25,6 @@ public class ProductUpdateRequest {
     @Min(value = 0, message = "상품 재고는 0 이상이어야 합니다.")
     private int stockQuantity;
 
-    @Min(value = 0, message = " 판매 횟수는 0 이상이어야 합니다.")
-    private Long salesCount;
-
     @JsonProperty("is_exposed")
     private boolean isExposed;
 }
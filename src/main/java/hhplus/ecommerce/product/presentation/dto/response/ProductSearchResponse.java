@@ -0,0 +1,16 @@
+package hhplus.ecommerce.product.presentation.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@RequiredArgsConstructor
+public class ProductSearchResponse {
+    private final List<ProductListResponse> items;
+    private final long totalHits;
+    // 카테고리별 검색 건수 (카테고리 필터 적용 전)
+    private final Map<String, Long> categoryFacets;
+}
@@ -0,0 +1,19 @@
+package hhplus.ecommerce.product.presentation.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class StockImportResponse {
+    private final int totalLines;
+    private final int appliedCount;
+    private final int notFoundCount;
+    private final int rejectedCount;
+    private final int invalidCount;
+    private final int batchCount;
+    private final List<String> errors;
+    private final long elapsedMs;
+}
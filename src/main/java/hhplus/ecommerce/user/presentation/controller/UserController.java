@@ -2,6 +2,7 @@ package hhplus.ecommerce.user.presentation.controller;
 
 import hhplus.ecommerce.common.presentation.response.ApiResponse;
 import hhplus.ecommerce.common.presentation.response.PageResponse;
+import hhplus.ecommerce.point.application.service.PointService;
 import hhplus.ecommerce.user.application.service.UserService;
 import hhplus.ecommerce.user.domain.model.User;
 import hhplus.ecommerce.user.presentation.dto.request.UserRegistrationRequest;
@@ -19,6 +20,7 @@ import java.util.stream.Collectors;
 public class UserController {
 
     private final UserService userService;
+    private final PointService pointService;
 
     @GetMapping
     public PageResponse<UserResponse> getUserListWithPage(
@@ -51,8 +53,9 @@ public class UserController {
         return ApiResponse.success(UserResponse.of(user));
     }
 
+    // 잔액은 users.point_balance가 아닌 포인트 원장(스냅샷 + 원장 합계) 기준
     @GetMapping("/point/{userId}")
     public ApiResponse<UserPointBalanceResponse> getUserPointBalance(@PathVariable Long userId) {
-        return ApiResponse.success(UserPointBalanceResponse.of(userService.getUserById(userId)));
+        return ApiResponse.success(UserPointBalanceResponse.of(pointService.getBalance(userId)));
     }
 }
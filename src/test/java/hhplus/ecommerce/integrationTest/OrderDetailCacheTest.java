@@ -0,0 +1,131 @@
+package hhplus.ecommerce.integrationTest;
+
+import hhplus.ecommerce.context.IntegrationTestBase;
+import hhplus.ecommerce.order.application.dto.OrderDetailInfo;
+import hhplus.ecommerce.order.application.dto.OrderItemDetailInfo;
+import hhplus.ecommerce.order.application.service.OrderDetailCache;
+import hhplus.ecommerce.order.domain.model.OrderItemStatus;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 상세 캐시 테스트
+ * 버전 조건부 적재로 삭제 이후 옛 상태가 적재되지 않는지 실제 Redis로 검증
+ */
+class OrderDetailCacheTest extends IntegrationTestBase {
+
+    private static final Long ORDER_ID = 900_001L;
+    private static final Long OTHER_ORDER_ID = 900_002L;
+
+    @Autowired
+    private OrderDetailCache orderDetailCache;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(
+                OrderDetailCache.ORDER_DETAIL_KEY_PREFIX + ORDER_ID,
+                OrderDetailCache.ORDER_DETAIL_VERSION_KEY_PREFIX + ORDER_ID,
+                OrderDetailCache.ORDER_DETAIL_KEY_PREFIX + OTHER_ORDER_ID,
+                OrderDetailCache.ORDER_DETAIL_VERSION_KEY_PREFIX + OTHER_ORDER_ID
+        ));
+    }
+
+    @Test
+    @DisplayName("적재한 주문 상세를 그대로 조회한다")
+    void putAndGet() {
+        // given
+        long version = orderDetailCache.readVersion(ORDER_ID);
+
+        // when
+        boolean written = orderDetailCache.putIfUnchanged(detail(ORDER_ID, OrderStatus.PENDING), version);
+
+        // then
+        OrderDetailInfo cached = orderDetailCache.get(ORDER_ID);
+        assertThat(written).isTrue();
+        assertThat(cached.getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(cached.getFinalAmount()).isEqualByComparingTo("9000");
+        assertThat(cached.getOrderItems()).hasSize(1);
+        assertThat(cached.getOrderItems().get(0).getItemStatus()).isEqualTo(OrderItemStatus.PREPARING);
+    }
+
+    @Test
+    @DisplayName("삭제하면 캐시가 비고 버전이 올라간다")
+    void evict() {
+        // given
+        orderDetailCache.putIfUnchanged(detail(ORDER_ID, OrderStatus.PENDING), orderDetailCache.readVersion(ORDER_ID));
+
+        // when
+        orderDetailCache.evict(ORDER_ID);
+
+        // then
+        assertThat(orderDetailCache.get(ORDER_ID)).isNull();
+        assertThat(orderDetailCache.readVersion(ORDER_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("DB 조회 후 적재 전에 상태 변경으로 삭제되면 조회한 옛 상태를 적재하지 않는다")
+    void putAfterEvict_skipped() {
+        // given: 조회 경로가 버전을 읽고 DB에서 PENDING 상태를 조회
+        long version = orderDetailCache.readVersion(ORDER_ID);
+        OrderDetailInfo stale = detail(ORDER_ID, OrderStatus.PENDING);
+
+        // 그 사이 결제 커밋 후 이벤트 핸들러가 삭제
+        orderDetailCache.evict(ORDER_ID);
+
+        // when: 조회 경로가 뒤늦게 적재
+        boolean written = orderDetailCache.putIfUnchanged(stale, version);
+
+        // then
+        assertThat(written).isFalse();
+        assertThat(orderDetailCache.get(ORDER_ID)).isNull();
+
+        // 삭제 이후 다시 읽은 버전으로는 최신 상태를 적재
+        long latestVersion = orderDetailCache.readVersion(ORDER_ID);
+        assertThat(orderDetailCache.putIfUnchanged(detail(ORDER_ID, OrderStatus.PAID), latestVersion)).isTrue();
+        assertThat(orderDetailCache.get(ORDER_ID).getOrderStatus()).isEqualTo(OrderStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 대상 주문마다 캐시를 지우고 버전을 올린다")
+    void evictAll() {
+        // given
+        orderDetailCache.putIfUnchanged(detail(ORDER_ID, OrderStatus.PENDING), orderDetailCache.readVersion(ORDER_ID));
+        orderDetailCache.putIfUnchanged(detail(OTHER_ORDER_ID, OrderStatus.PENDING), orderDetailCache.readVersion(OTHER_ORDER_ID));
+
+        // when
+        orderDetailCache.evictAll(List.of(ORDER_ID, OTHER_ORDER_ID));
+
+        // then
+        assertThat(orderDetailCache.get(ORDER_ID)).isNull();
+        assertThat(orderDetailCache.get(OTHER_ORDER_ID)).isNull();
+        assertThat(orderDetailCache.readVersion(ORDER_ID)).isEqualTo(1L);
+        assertThat(orderDetailCache.readVersion(OTHER_ORDER_ID)).isEqualTo(1L);
+    }
+
+    private OrderDetailInfo detail(Long orderId, OrderStatus status) {
+        return new OrderDetailInfo(
+                orderId,
+                "ORD-" + orderId,
+                status,
+                BigDecimal.valueOf(10000),
+                BigDecimal.valueOf(1000),
+                BigDecimal.valueOf(9000),
+                List.of(new OrderItemDetailInfo(1L, "상품", "옵션", 1, BigDecimal.valueOf(10000), OrderItemStatus.PREPARING)),
+                LocalDateTime.now(),
+                LocalDateTime.now().plusMinutes(15)
+        );
+    }
+}
@@ -165,8 +165,7 @@ class OrderPaymentIntegrationTest extends IntegrationTestBase {
     @DisplayName("통합 테스트: 포인트 부족 시 주문 생성은 되나 결제 실패")
     void paymentFailsWhenInsufficientPoints() {
         // Given: 포인트를 모두 사용
-        User user = userRepository.findById(userId).orElseThrow();
-        BigDecimal currentBalance = user.getPointBalance();
+        BigDecimal currentBalance = pointService.getBalance(userId);
         pointService.usePoint(userId, currentBalance, null, "포인트 소진");
 
         // 고가 상품 생성
@@ -75,8 +75,7 @@ class PointConcurrencyTest extends IntegrationTestBase {
         latch.await();
         executorService.shutdown();
 
-        User user = userRepository.findById(userId).orElseThrow();
-        assertThat(user.getPointBalance()).isEqualByComparingTo(BigDecimal.valueOf(110000));
+        assertThat(pointService.getBalance(userId)).isEqualByComparingTo(BigDecimal.valueOf(110000));
     }
 
     @Test
@@ -101,8 +100,7 @@ class PointConcurrencyTest extends IntegrationTestBase {
         latch.await();
         executorService.shutdown();
 
-        User user = userRepository.findById(userId).orElseThrow();
-        assertThat(user.getPointBalance()).isEqualByComparingTo(BigDecimal.valueOf(50000));
+        assertThat(pointService.getBalance(userId)).isEqualByComparingTo(BigDecimal.valueOf(50000));
     }
 
     @Test
@@ -131,7 +129,6 @@ class PointConcurrencyTest extends IntegrationTestBase {
         latch.await();
         executorService.shutdown();
 
-        User user = userRepository.findById(userId).orElseThrow();
-        assertThat(user.getPointBalance()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+        assertThat(pointService.getBalance(userId)).isGreaterThanOrEqualTo(BigDecimal.ZERO);
     }
 }
@@ -0,0 +1,252 @@
+package hhplus.ecommerce.integrationTest;
+
+import hhplus.ecommerce.common.domain.exception.PointException;
+import hhplus.ecommerce.context.IntegrationTestBase;
+import hhplus.ecommerce.point.application.dto.PointLedgerEntry;
+import hhplus.ecommerce.point.application.scheduler.PointLedgerWriter;
+import hhplus.ecommerce.point.application.scheduler.PointReconciliationScheduler;
+import hhplus.ecommerce.point.application.service.PointLedgerStore;
+import hhplus.ecommerce.point.application.service.PointService;
+import hhplus.ecommerce.point.application.service.RedisPointEngine;
+import hhplus.ecommerce.point.domain.model.PointLedger;
+import hhplus.ecommerce.point.domain.model.TransactionType;
+import hhplus.ecommerce.point.domain.repository.PointLedgerRepository;
+import hhplus.ecommerce.user.domain.model.User;
+import hhplus.ecommerce.user.domain.model.UserRole;
+import hhplus.ecommerce.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Redis 포인트 엔진 / 원장 반영 / 정합성 점검 통합 테스트
+ * 공유 Testcontainer(Redis, MySQL)에서 Lua 차감, 스트림 컨슈머 그룹 재처리, 정합성 점검을 검증
+ * 스케줄러는 기동 시 한 번만 돌도록 주기를 길게 두고 테스트에서 직접 호출한다.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+@TestPropertySource(properties = {
+        "point.redis-engine.enabled=true",
+        "point.redis-engine.flush-interval-ms=3600000",
+        "point.redis-engine.reconcile-interval-ms=3600000"
+})
+class RedisPointEngineIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private RedisPointEngine redisPointEngine;
+
+    @Autowired
+    private PointLedgerWriter pointLedgerWriter;
+
+    @Autowired
+    private PointReconciliationScheduler pointReconciliationScheduler;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointLedgerStore pointLedgerStore;
+
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${point.redis-engine.consumer-name:ledger-writer-1}")
+    private String consumerName;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 빈 스트림 + 컨슈머 그룹으로 시작
+        redisTemplate.delete(List.of(RedisPointEngine.LEDGER_STREAM_KEY, PointLedgerWriter.DEAD_LETTER_STREAM_KEY));
+        redisTemplate.opsForStream().createGroup(RedisPointEngine.LEDGER_STREAM_KEY, ReadOffset.from("0"), PointLedgerWriter.CONSUMER_GROUP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(userIds.stream().map(id -> RedisPointEngine.BALANCE_KEY_PREFIX + id).toList());
+        userIds.clear();
+    }
+
+    @Test
+    @DisplayName("잔액 확인 + 차감 + 원장 기록을 한 번에 처리하고, 잔액이 부족하면 차감도 원장 기록도 하지 않는다")
+    void debit_checkAndDebit() {
+        // given
+        Long userId = createUser("레디스포인트_차감");
+        redisPointEngine.credit(userId, BigDecimal.valueOf(10000), "충전");
+
+        // when
+        redisPointEngine.debit(userId, BigDecimal.valueOf(3000), 1L, "주문 결제");
+
+        // then
+        assertThat(redisPointEngine.getBalance(userId)).isEqualByComparingTo("7000");
+        assertThatThrownBy(() -> redisPointEngine.debit(userId, BigDecimal.valueOf(8000), 2L, "주문 결제"))
+                .isInstanceOf(PointException.class);
+        assertThat(redisPointEngine.getBalance(userId)).isEqualByComparingTo("7000");
+        assertThat(redisTemplate.opsForStream().size(RedisPointEngine.LEDGER_STREAM_KEY)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("잔액 키가 없으면 DB 원장 잔액을 적재한 뒤 차감한다")
+    void debit_reloadWhenNotLoaded() {
+        // given: DB 원장에만 잔액이 있고 Redis 잔액 키는 없음
+        Long userId = createUser("레디스포인트_적재");
+        pointLedgerStore.append(userId, TransactionType.CHARGE, BigDecimal.valueOf(5000), null, "DB 충전");
+        redisTemplate.delete(RedisPointEngine.BALANCE_KEY_PREFIX + userId);
+
+        // when
+        redisPointEngine.debit(userId, BigDecimal.valueOf(2000), 1L, "주문 결제");
+
+        // then
+        assertThat(redisPointEngine.getBalance(userId)).isEqualByComparingTo("3000");
+    }
+
+    @Test
+    @DisplayName("DB 트랜잭션 안에서 차감한 포인트는 트랜잭션이 롤백되면 다시 적립한다")
+    void debit_rollbackCredit() {
+        // given
+        Long userId = createUser("레디스포인트_롤백");
+        redisPointEngine.credit(userId, BigDecimal.valueOf(10000), "충전");
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            redisPointEngine.debit(userId, BigDecimal.valueOf(3000), 1L, "주문 결제");
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(redisPointEngine.getBalance(userId)).isEqualByComparingTo("10000");
+        List<MapRecord<String, Object, Object>> records =
+                redisTemplate.opsForStream().range(RedisPointEngine.LEDGER_STREAM_KEY, Range.unbounded());
+        assertThat(records).extracting(record -> record.getValue().get("type"))
+                .containsExactly("CHARGE", "USE", "CHARGE");
+    }
+
+    @Test
+    @DisplayName("ACK 전에 중단된 미확인 레코드를 다음 주기에 다시 읽어 반영하고 ACK 한다")
+    void writer_replayPending() {
+        // given: 컨슈머가 읽기만 하고 ACK 하지 못한 레코드
+        Long userId = createUser("레디스포인트_재처리");
+        redisPointEngine.credit(userId, BigDecimal.valueOf(10000), "충전");
+        redisTemplate.opsForStream().read(
+                Consumer.from(PointLedgerWriter.CONSUMER_GROUP, consumerName),
+                StreamReadOptions.empty().count(10),
+                StreamOffset.create(RedisPointEngine.LEDGER_STREAM_KEY, ReadOffset.lastConsumed()));
+        assertThat(pendingCount()).isEqualTo(1L);
+
+        // when
+        pointLedgerWriter.flush();
+
+        // then
+        assertThat(pointLedgerRepository.findByUserIdOrderBySeqDesc(userId)).hasSize(1);
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 DB에 반영된 레코드(ledgerRef)가 다시 전달되면 중복 저장하지 않고 ACK만 한다")
+    void writer_dedupByLedgerRef() {
+        // given: DB 반영 후 ACK 전에 장애가 난 상황 (같은 레코드 ID로 이미 반영됨)
+        Long userId = createUser("레디스포인트_중복");
+        redisPointEngine.credit(userId, BigDecimal.valueOf(10000), "충전");
+        MapRecord<String, Object, Object> record =
+                redisTemplate.opsForStream().range(RedisPointEngine.LEDGER_STREAM_KEY, Range.unbounded()).get(0);
+        pointService.applyLedgerEntries(List.of(new PointLedgerEntry(record.getId().getValue(), userId,
+                TransactionType.CHARGE, BigDecimal.valueOf(10000), BigDecimal.valueOf(10000), null, "충전")));
+
+        // when
+        pointLedgerWriter.flush();
+
+        // then
+        List<PointLedger> ledgers = pointLedgerRepository.findByUserIdOrderBySeqDesc(userId);
+        assertThat(ledgers).hasSize(1);
+        assertThat(ledgers.get(0).getLedgerRef()).isEqualTo(record.getId().getValue());
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 배치는 한 건씩 반영하고 반영할 수 없는 레코드만 dead-letter로 옮겨 스트림을 비운다")
+    void writer_deadLetterPoisonRecord() {
+        // given: 형식이 잘못된 레코드 뒤에 정상 레코드
+        Long userId = createUser("레디스포인트_dead");
+        redisTemplate.opsForStream().add(RedisPointEngine.LEDGER_STREAM_KEY, Map.of(
+                "userId", String.valueOf(userId), "type", "UNKNOWN", "amount", "100.00",
+                "balanceAfter", "10000", "orderId", "", "description", "잘못된 레코드"));
+        redisPointEngine.credit(userId, BigDecimal.valueOf(10000), "충전");
+
+        // when: 배치 반영 3회 실패 후 4번째 주기에 한 건씩 반영
+        for (int i = 0; i < 4; i++) {
+            pointLedgerWriter.flush();
+        }
+        pointLedgerWriter.flush();
+
+        // then
+        assertThat(pointLedgerRepository.findByUserIdOrderBySeqDesc(userId)).hasSize(1);
+        assertThat(redisTemplate.opsForStream().size(PointLedgerWriter.DEAD_LETTER_STREAM_KEY)).isEqualTo(1L);
+        assertThat(pendingCount()).isZero();
+        assertThat(pointLedgerWriter.isDrained()).isTrue();
+    }
+
+    @Test
+    @DisplayName("원장 반영이 끝난 뒤 같은 잔액 불일치가 두 번 연속 보일 때만 보고한다")
+    void reconcile_twoStrike(CapturedOutput output) {
+        // given: 원장 반영 완료 후 Redis 잔액만 어긋남
+        Long userId = createUser("레디스포인트_점검");
+        redisPointEngine.credit(userId, BigDecimal.valueOf(10000), "충전");
+        pointLedgerWriter.flush();
+        pointLedgerWriter.flush();
+        assertThat(pointLedgerWriter.isDrained()).isTrue();
+        redisTemplate.opsForValue().set(RedisPointEngine.BALANCE_KEY_PREFIX + userId, "990000");
+        String report = "포인트 잔액 불일치. userId=" + userId + ",";
+
+        // when & then: 첫 번째 점검은 의심만, 두 번째 점검에서 보고
+        pointReconciliationScheduler.reconcile();
+        assertThat(output.getAll()).doesNotContain(report);
+
+        pointReconciliationScheduler.reconcile();
+        assertThat(output.getAll()).contains(report);
+    }
+
+    private Long createUser(String username) {
+        User user = userRepository.save(User.create(username, UserRole.CUSTOMER));
+        userIds.add(user.getUserId());
+        return user.getUserId();
+    }
+
+    private long pendingCount() {
+        return redisTemplate.opsForStream()
+                .pending(RedisPointEngine.LEDGER_STREAM_KEY, PointLedgerWriter.CONSUMER_GROUP)
+                .getTotalPendingMessages();
+    }
+}
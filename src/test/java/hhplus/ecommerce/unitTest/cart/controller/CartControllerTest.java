@@ -88,6 +88,23 @@ class CartControllerTest {
         verify(cartService, times(1)).updateCartQuantity(1L, 5);
     }
 
+    @Test
+    @DisplayName("옵션 ID 기준 장바구니 수량 수정 API 테스트")
+    void updateCartQuantityByOption() throws Exception {
+        CartUpdateRequest request = new CartUpdateRequest();
+        request.setQuantity(3);
+
+        when(cartService.updateCartQuantityByOption(anyLong(), anyLong(), anyInt()))
+                .thenReturn(Cart.restore(null, 1L, 2L, 3));
+
+        mockMvc.perform(patch("/api/cart/{userId}/options/{productOptionId}", 1L, 2L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        verify(cartService, times(1)).updateCartQuantityByOption(1L, 2L, 3);
+    }
+
     @Test
     @DisplayName("장바구니 항목 삭제 API 테스트")
     void removeFromCart() throws Exception {
@@ -0,0 +1,129 @@
+package hhplus.ecommerce.unitTest.cart.service;
+
+import hhplus.ecommerce.cart.application.service.CartMapper;
+import hhplus.ecommerce.cart.application.service.CartPriceSnapshotStore;
+import hhplus.ecommerce.cart.application.dto.CartPriceSnapshot;
+import hhplus.ecommerce.cart.domain.model.Cart;
+import hhplus.ecommerce.cart.presentation.dto.response.CartResponse;
+import hhplus.ecommerce.product.application.service.ProductPriceVersion;
+import hhplus.ecommerce.product.domain.model.Product;
+import hhplus.ecommerce.product.domain.model.ProductOption;
+import hhplus.ecommerce.product.domain.repository.ProductOptionRepository;
+import hhplus.ecommerce.product.domain.repository.ProductRepository;
+import hhplus.ecommerce.unitTest.support.DomainTestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartMapperTest {
+
+    @Mock
+    private ProductOptionRepository productOptionRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductPriceVersion productPriceVersion;
+
+    @Mock
+    private CartPriceSnapshotStore cartPriceSnapshotStore;
+
+    @InjectMocks
+    private CartMapper cartMapper;
+
+    @Test
+    @DisplayName("장바구니 항목 수와 관계없이 옵션/상품을 각각 1회씩 일괄 조회한다")
+    void toCartResponseWithBatchLookup() {
+        // given
+        Product product = DomainTestFixtures.setId(
+                Product.create("상품A", "전자", "설명", "img", BigDecimal.valueOf(10000), true), "productId", 1L);
+        ProductOption option1 = DomainTestFixtures.setId(
+                ProductOption.create(1L, "블랙", BigDecimal.valueOf(1000), 10, true), "productOptionId", 11L);
+        ProductOption option2 = DomainTestFixtures.setId(
+                ProductOption.create(1L, "화이트", BigDecimal.ZERO, 10, true), "productOptionId", 12L);
+
+        List<Cart> carts = List.of(Cart.create(1L, 11L, 2), Cart.create(1L, 12L, 1));
+
+        when(productOptionRepository.findAllById(anyList())).thenReturn(List.of(option1, option2));
+        when(productRepository.findAllById(anyList())).thenReturn(List.of(product));
+        when(productPriceVersion.current()).thenReturn(3L);
+
+        // when
+        CartResponse response = cartMapper.toCartResponse(carts);
+
+        // then
+        assertThat(response.getItems()).hasSize(2);
+        assertThat(response.getItems().get(0).getSubtotal()).isEqualByComparingTo(BigDecimal.valueOf(22000));
+        assertThat(response.getItems().get(1).getSubtotal()).isEqualByComparingTo(BigDecimal.valueOf(10000));
+        assertThat(response.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(32000));
+        verify(productOptionRepository, times(1)).findAllById(anyList());
+        verify(productRepository, times(1)).findAllById(anyList());
+        verify(productOptionRepository, never()).findById(any());
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("장바구니 조회 시 가격 버전과 단가를 스냅샷으로 저장한다")
+    void toCartResponseSavesPriceSnapshot() {
+        // given
+        Product product = DomainTestFixtures.setId(
+                Product.create("상품A", "전자", "설명", "img", BigDecimal.valueOf(10000), true), "productId", 1L);
+        ProductOption option = DomainTestFixtures.setId(
+                ProductOption.create(1L, "블랙", BigDecimal.valueOf(1000), 10, true), "productOptionId", 11L);
+
+        when(productOptionRepository.findAllById(anyList())).thenReturn(List.of(option));
+        when(productRepository.findAllById(anyList())).thenReturn(List.of(product));
+        when(productPriceVersion.current()).thenReturn(7L);
+
+        // when
+        CartResponse response = cartMapper.toCartResponse(List.of(Cart.create(5L, 11L, 3)));
+
+        // then
+        assertThat(response.getPriceVersion()).isEqualTo(7L);
+        ArgumentCaptor<CartPriceSnapshot> captor = ArgumentCaptor.forClass(CartPriceSnapshot.class);
+        verify(cartPriceSnapshotStore).save(eq(5L), captor.capture());
+        assertThat(captor.getValue().priceVersion()).isEqualTo(7L);
+        assertThat(captor.getValue().items().get(0).unitPrice()).isEqualByComparingTo(BigDecimal.valueOf(11000));
+        assertThat(captor.getValue().items().get(0).quantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("빈 장바구니는 조회 없이 총액 0을 반환한다")
+    void toCartResponseWithEmptyCart() {
+        // when
+        CartResponse response = cartMapper.toCartResponse(List.of());
+
+        // then
+        assertThat(response.getItems()).isEmpty();
+        assertThat(response.getTotalAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        verifyNoInteractions(productOptionRepository, productRepository, cartPriceSnapshotStore);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 옵션이 포함되면 예외가 발생한다")
+    void toCartResponseWithMissingOption() {
+        // given
+        when(productOptionRepository.findAllById(anyList())).thenReturn(List.of());
+        when(productRepository.findAllById(anyList())).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> cartMapper.toCartResponse(List.of(Cart.create(1L, 99L, 1))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("상품 옵션을 찾을 수 없습니다.");
+    }
+}
@@ -1,6 +1,7 @@
 package hhplus.ecommerce.unitTest.cart.service;
 
 import hhplus.ecommerce.cart.application.service.CartService;
+import hhplus.ecommerce.cart.application.service.RedisCartStore;
 import hhplus.ecommerce.cart.domain.model.Cart;
 import hhplus.ecommerce.cart.domain.repository.CartRepository;
 import hhplus.ecommerce.common.domain.exception.CartException;
@@ -15,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +33,9 @@ class CartServiceTest {
     @Mock
     private ProductOptionRepository productOptionRepository;
 
+    @Mock
+    private RedisCartStore redisCartStore;
+
     @InjectMocks
     private CartService cartService;
 
@@ -124,4 +129,61 @@ class CartServiceTest {
 
         verify(cartRepository, times(1)).deleteById(1L);
     }
+
+    @Test
+    @DisplayName("Redis 장바구니 사용 시 MySQL을 거치지 않고 Redis에 수량을 합산한다")
+    void addToCartWithRedisStore() {
+        ProductOption mockOption = ProductOption.create(1L, "기본 옵션", BigDecimal.ZERO, 100, true);
+
+        when(productOptionRepository.findById(anyLong())).thenReturn(Optional.of(mockOption));
+        when(redisCartStore.isEnabled()).thenReturn(true);
+        when(redisCartStore.addQuantity(1L, 1L, 3)).thenReturn(Cart.restore(10L, 1L, 1L, 5));
+
+        Cart result = cartService.addToCart(1L, 1L, 3);
+
+        assertThat(result.getQuantity()).isEqualTo(5);
+        verify(cartRepository, never()).findByUserIdAndProductOptionId(anyLong(), anyLong());
+        verify(cartRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장바구니 사용 시 MySQL 반영 전 항목도 옵션 ID로 수량을 수정한다")
+    void updateCartQuantityByOptionWithRedisStore() {
+        when(redisCartStore.isEnabled()).thenReturn(true);
+        when(redisCartStore.setQuantity(1L, 2L, 4)).thenReturn(Optional.of(Cart.restore(null, 1L, 2L, 4)));
+
+        Cart result = cartService.updateCartQuantityByOption(1L, 2L, 4);
+
+        assertThat(result.getQuantity()).isEqualTo(4);
+        verify(cartRepository, never()).findByUserIdAndProductOptionId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("장바구니에 없는 옵션의 수량을 수정하면 예외가 발생한다")
+    void updateCartQuantityByOptionNotFound() {
+        when(redisCartStore.isEnabled()).thenReturn(true);
+        when(redisCartStore.setQuantity(1L, 2L, 4)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> cartService.updateCartQuantityByOption(1L, 2L, 4))
+                .isInstanceOf(CartException.class);
+    }
+
+    @Test
+    @DisplayName("Redis 장바구니 스냅샷을 MySQL에 반영할 때 변경/추가/삭제를 한 번에 처리한다")
+    void syncCarts() {
+        Cart unchanged = Cart.create(1L, 1L, 2);
+        Cart changed = Cart.create(1L, 2L, 1);
+        Cart removed = Cart.create(1L, 3L, 4);
+
+        when(cartRepository.findByUserIdIn(any())).thenReturn(List.of(unchanged, changed, removed));
+        when(cartRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Cart> saved = cartService.syncCarts(Map.of(1L, Map.of(1L, 2, 2L, 5, 4L, 1)));
+
+        assertThat(saved).hasSize(2);
+        assertThat(changed.getQuantity()).isEqualTo(5);
+        assertThat(saved).anyMatch(c -> c.getProductOptionId().equals(4L) && c.getQuantity() == 1);
+        verify(cartRepository, times(1)).findByUserIdIn(any());
+        verify(cartRepository, times(1)).deleteAllInBatch(List.of(removed));
+    }
 }
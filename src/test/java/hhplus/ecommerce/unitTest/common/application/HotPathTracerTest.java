@@ -0,0 +1,95 @@
+package hhplus.ecommerce.unitTest.common.application;
+
+import hhplus.ecommerce.common.application.trace.HotPathPhase;
+import hhplus.ecommerce.common.application.trace.HotPathTrace;
+import hhplus.ecommerce.common.application.trace.HotPathTracer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotPathTracerTest {
+
+    @Test
+    @DisplayName("구간별 소요 시간과 SQL, Redis 호출 수를 기록한다")
+    void recordPhasesAndCounts() {
+        // given
+        HotPathTracer tracer = new HotPathTracer(true, 5);
+
+        // when
+        tracer.begin("order.create", 1L);
+        tracer.countSql();
+        tracer.countSql();
+        tracer.mark(HotPathPhase.COLLECT_ITEMS);
+        tracer.countRedis();
+        tracer.mark(HotPathPhase.RESERVE_STOCK);
+        tracer.end();
+
+        // then
+        List<HotPathTrace> traces = tracer.getSlowest();
+        assertThat(traces).hasSize(1);
+        HotPathTrace trace = traces.get(0);
+        assertThat(trace.getOperation()).isEqualTo("order.create");
+        assertThat(trace.getKey()).isEqualTo(1L);
+        assertThat(trace.getSqlCount()).isEqualTo(2);
+        assertThat(trace.getRedisCount()).isEqualTo(1);
+        assertThat(trace.getPhaseNanos(HotPathPhase.COLLECT_ITEMS)).isPositive();
+        assertThat(trace.getPhaseNanos(HotPathPhase.SAVE_ORDER)).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼 크기를 넘으면 가장 느린 요청만 느린 순으로 보관한다")
+    void keepOnlySlowest() throws InterruptedException {
+        // given
+        HotPathTracer tracer = new HotPathTracer(true, 2);
+
+        // when
+        traceWithSleep(tracer, 1L, 1);
+        traceWithSleep(tracer, 2L, 30);
+        traceWithSleep(tracer, 3L, 15);
+
+        // then
+        List<HotPathTrace> traces = tracer.getSlowest();
+        assertThat(traces).extracting(HotPathTrace::getKey).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("중첩된 begin은 가장 바깥 구간만 기록한다")
+    void nestedBeginRecordsOuterOnly() {
+        // given
+        HotPathTracer tracer = new HotPathTracer(true, 5);
+
+        // when
+        tracer.begin("order.create", 1L);
+        tracer.begin("payment.pay", 2L);
+        tracer.end();
+        tracer.end();
+
+        // then
+        assertThat(tracer.getSlowest()).extracting(HotPathTrace::getOperation).containsExactly("order.create");
+    }
+
+    @Test
+    @DisplayName("비활성화 시 아무것도 기록하지 않는다")
+    void disabled() {
+        // given
+        HotPathTracer tracer = new HotPathTracer(false, 5);
+
+        // when
+        tracer.begin("order.create", 1L);
+        tracer.mark(HotPathPhase.COLLECT_ITEMS);
+        tracer.end();
+
+        // then
+        assertThat(tracer.getSlowest()).isEmpty();
+    }
+
+    private void traceWithSleep(HotPathTracer tracer, Long key, long sleepMillis) throws InterruptedException {
+        tracer.begin("payment.pay", key);
+        Thread.sleep(sleepMillis);
+        tracer.mark(HotPathPhase.CONFIRM_STOCK);
+        tracer.end();
+    }
+}
@@ -0,0 +1,113 @@
+package hhplus.ecommerce.unitTest.common.application;
+
+import hhplus.ecommerce.common.application.query.QueryInspector;
+import hhplus.ecommerce.common.application.query.SlowQueryLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QueryInspectorTest {
+
+    private static final String REQUEST = "GET /api/cart/1";
+    private static final String SELECT_OPTION = "select * from product_options where id=?";
+
+    @Mock
+    private SlowQueryLogger slowQueryLogger;
+
+    @Test
+    @DisplayName("요청 동안 실행된 SQL 수를 집계한다")
+    void countQueriesPerRequest() {
+        // given
+        QueryInspector inspector = new QueryInspector(true, 200, 10, 50, slowQueryLogger);
+
+        // when
+        inspector.beginRequest(REQUEST);
+        inspector.onStatementPrepared(SELECT_OPTION);
+        inspector.onStatementPrepared("select * from carts where user_id=?");
+        int queryCount = inspector.endRequest();
+
+        // then
+        assertThat(queryCount).isEqualTo(2);
+        assertThat(inspector.currentQueryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 SQL이 임계치만큼 반복되면 N+1 로그를 한 번만 남긴다")
+    void detectNPlusOne() {
+        // given
+        QueryInspector inspector = new QueryInspector(true, 200, 3, 50, slowQueryLogger);
+
+        // when
+        inspector.beginRequest(REQUEST);
+        for (int i = 0; i < 5; i++) {
+            inspector.onStatementPrepared(SELECT_OPTION);
+        }
+        inspector.endRequest();
+
+        // then
+        verify(slowQueryLogger, times(1)).logNPlusOne(REQUEST, SELECT_OPTION, 3);
+    }
+
+    @Test
+    @DisplayName("임계 시간을 넘긴 SQL만 슬로우 쿼리로 기록한다")
+    void logOnlySlowQueries() {
+        // given
+        QueryInspector inspector = new QueryInspector(true, 200, 10, 50, slowQueryLogger);
+
+        // when
+        inspector.beginRequest(REQUEST);
+        inspector.onStatementExecuted(SELECT_OPTION, 5_000_000L);   // 5ms
+        inspector.onStatementExecuted(SELECT_OPTION, 300_000_000L); // 300ms
+        inspector.endRequest();
+
+        // then
+        verify(slowQueryLogger, times(1)).logSlowQuery(eq(REQUEST), eq(SELECT_OPTION), eq(300L));
+    }
+
+    @Test
+    @DisplayName("쿼리가 과도한 요청은 요약 로그를 남긴다")
+    void logQueryHeavyRequest() {
+        // given
+        QueryInspector inspector = new QueryInspector(true, 200, 100, 2, slowQueryLogger);
+
+        // when
+        inspector.beginRequest(REQUEST);
+        inspector.onStatementPrepared("select 1");
+        inspector.onStatementPrepared("select 2");
+        inspector.onStatementPrepared("select 3");
+        inspector.endRequest();
+
+        // then
+        verify(slowQueryLogger).logRequestSummary(REQUEST, 3, 0L);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 아무것도 기록하지 않는다")
+    void disabled() {
+        // given
+        QueryInspector inspector = new QueryInspector(false, 0, 1, 0, slowQueryLogger);
+
+        // when
+        inspector.beginRequest(REQUEST);
+        inspector.onStatementPrepared(SELECT_OPTION);
+        inspector.onStatementExecuted(SELECT_OPTION, 1_000_000_000L);
+        int queryCount = inspector.endRequest();
+
+        // then
+        assertThat(queryCount).isZero();
+        verify(slowQueryLogger, never()).logSlowQuery(anyString(), anyString(), anyLong());
+        verify(slowQueryLogger, never()).logNPlusOne(anyString(), anyString(), anyInt());
+    }
+}
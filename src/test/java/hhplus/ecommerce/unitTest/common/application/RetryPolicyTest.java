@@ -0,0 +1,119 @@
+package hhplus.ecommerce.unitTest.common.application;
+
+import hhplus.ecommerce.common.application.retry.RetryPolicy;
+import hhplus.ecommerce.common.application.retry.RetryStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RetryPolicy 단위 테스트")
+class RetryPolicyTest {
+
+    private RetryPolicy retryPolicy;
+
+    @BeforeEach
+    void setUp() {
+        // base 1ms, max 5ms, 최대 5회 시도, 1초 창당 키별 재시도 3회
+        retryPolicy = new RetryPolicy(1, 5, 5, 1000, 3, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        retryPolicy.shutdown();
+    }
+
+    @Test
+    @DisplayName("재시도 대상 예외면 성공할 때까지 다시 실행한다")
+    void executeRetriesUntilSuccess() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = retryPolicy.execute("test.op", 1L, () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IllegalStateException("conflict");
+            }
+            return "ok";
+        }, IllegalStateException.class::isInstance, () -> new RuntimeException("exhausted"));
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(3);
+        assertThat(retryPolicy.getStats()).containsExactly(new RetryStats("test.op", 2, 0, 0));
+    }
+
+    @Test
+    @DisplayName("재시도 대상이 아닌 예외는 바로 던진다")
+    void executeDoesNotRetryOtherExceptions() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> retryPolicy.execute("test.op", 1L, () -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("invalid");
+        }, IllegalStateException.class::isInstance, () -> new RuntimeException("exhausted")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키의 재시도 예산을 다 쓰면 최대 시도 전이라도 포기한다")
+    void executeStopsWhenBudgetExhausted() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> retryPolicy.execute("test.op", 1L, () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("conflict");
+        }, IllegalStateException.class::isInstance, () -> new RuntimeException("exhausted")))
+                .hasMessage("exhausted");
+        assertThat(calls).hasValue(4); // 첫 시도 + 예산 3회
+        assertThat(retryPolicy.getStats()).containsExactly(new RetryStats("test.op", 3, 0, 1));
+    }
+
+    @Test
+    @DisplayName("비동기 재시도는 타이머 스레드에서 다시 실행한다")
+    void executeAsyncReschedulesOnTimer() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        String callerThread = Thread.currentThread().getName();
+
+        // when
+        CompletableFuture<String> result = retryPolicy.executeAsync("test.async", 1L, () -> {
+            if (calls.incrementAndGet() < 2) {
+                throw new IllegalStateException("conflict");
+            }
+            return Thread.currentThread().getName();
+        }, IllegalStateException.class::isInstance, () -> new RuntimeException("exhausted"));
+
+        // then
+        assertThat(result.join()).startsWith("retry-timer-").isNotEqualTo(callerThread);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 비동기 결과를 한도 초과 예외로 완료한다")
+    void executeAsyncExhausted() {
+        // given
+        RetryPolicy policy = new RetryPolicy(1, 5, 3, 1000, 100, 1);
+
+        // when
+        CompletableFuture<String> result = policy.executeAsync("test.async", 1L, () -> {
+            throw new IllegalStateException("conflict");
+        }, IllegalStateException.class::isInstance, () -> new RuntimeException("exhausted"));
+
+        // then
+        assertThatThrownBy(result::join).hasRootCauseMessage("exhausted");
+        assertThat(policy.getStats()).containsExactly(new RetryStats("test.async", 2, 1, 0));
+        policy.shutdown();
+    }
+}
@@ -0,0 +1,161 @@
+package hhplus.ecommerce.unitTest.common.presentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hhplus.ecommerce.common.presentation.filter.IdempotencyFilter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final String RESPONSE_BODY = "{\"success\":true,\"data\":{\"orderId\":1}}";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private IdempotencyFilter idempotencyFilter;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final FilterChain orderChain = (req, res) -> {
+        executions.incrementAndGet();
+        res.setContentType("application/json");
+        res.getWriter().write(RESPONSE_BODY);
+    };
+
+    @BeforeEach
+    void setUp() {
+        idempotencyFilter = new IdempotencyFilter(redisTemplate, new ObjectMapper(), 30, 86400);
+    }
+
+    @Test
+    @DisplayName("처음 요청은 실행 후 성공 응답을 캐시한다")
+    void firstRequestExecutesAndCaches() throws Exception {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn(null);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(orderRequest(), response, orderChain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(response.getContentAsString()).isEqualTo(RESPONSE_BODY);
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("idempotency:response:POST:/api/order/1:key-1", "idempotency:lock:POST:/api/order/1:key-1")),
+                any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("조회 후 락 획득 전에 앞선 요청이 완료되었으면 락 획득 후 다시 확인해 재실행 없이 재전송한다")
+    void replayWhenCompletedBeforeLockAcquired() throws Exception {
+        // given
+        // B의 첫 GET은 미스 → A가 응답 저장 후 락 해제 → B가 락 획득
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("idempotency:response:POST:/api/order/1:key-1")).thenReturn(null, cachedResponse());
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(orderRequest(), response, orderChain);
+
+        // then
+        assertThat(executions.get()).isZero();
+        assertThat(response.getContentAsString()).isEqualTo(RESPONSE_BODY);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("idempotency:lock:POST:/api/order/1:key-1")), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("완료된 요청과 같은 키로 재요청하면 실행 없이 캐시된 응답을 반환한다")
+    void replayCachedResponse() throws Exception {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("idempotency:response:POST:/api/order/1:key-1")).thenReturn(cachedResponse());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(orderRequest(), response, orderChain);
+
+        // then
+        assertThat(executions.get()).isZero();
+        assertThat(response.getContentAsString()).isEqualTo(RESPONSE_BODY);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("같은 키의 요청이 처리 중이면 409로 즉시 거절한다")
+    void rejectInFlightDuplicate() throws Exception {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn(null);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(orderRequest(), response, orderChain);
+
+        // then
+        assertThat(executions.get()).isZero();
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getContentAsString()).contains("E005");
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 헤더가 없으면 필터를 거치지 않는다")
+    void passThroughWithoutHeader() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/order/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(request, response, orderChain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    private String cachedResponse() throws Exception {
+        return new ObjectMapper().writeValueAsString(new java.util.LinkedHashMap<String, Object>() {{
+            put("status", 200);
+            put("contentType", "application/json");
+            put("body", RESPONSE_BODY);
+        }});
+    }
+
+    private MockHttpServletRequest orderRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/order/1");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+        return request;
+    }
+}
@@ -1,6 +1,8 @@
 package hhplus.ecommerce.unitTest.coupon.application;
 
 import hhplus.ecommerce.common.domain.exception.CouponException;
+import hhplus.ecommerce.coupon.application.service.CouponAdmissionCache;
+import hhplus.ecommerce.coupon.application.service.CouponMetaCache;
 import hhplus.ecommerce.coupon.application.service.CouponService;
 import hhplus.ecommerce.coupon.domain.model.Coupon;
 import hhplus.ecommerce.coupon.domain.model.DiscountType;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -29,6 +32,12 @@ class CouponServiceTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private CouponAdmissionCache couponAdmissionCache;
+
+    @Spy
+    private CouponMetaCache couponMetaCache = new CouponMetaCache(60_000);
+
     @InjectMocks
     private CouponService couponService;
 
@@ -64,6 +73,31 @@ class CouponServiceTest {
         assertThat(result.getCouponName()).isEqualTo("5000원 할인 쿠폰");
         assertThat(result.getDiscountType()).isEqualTo(DiscountType.FIXED);
         verify(couponRepository, times(1)).save(any(Coupon.class));
+        verify(couponAdmissionCache, times(1)).save(result);
+    }
+
+    @Test
+    @DisplayName("쿠폰 메타데이터 Redis 적재가 실패해도 쿠폰 생성은 성공한다")
+    void createCouponWhenAdmissionCacheFails() {
+        // given
+        when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new RuntimeException("redis down")).when(couponAdmissionCache).save(any(Coupon.class));
+
+        // when
+        Coupon result = couponService.createCoupon(
+                "5000원 할인 쿠폰",
+                DiscountType.FIXED,
+                BigDecimal.valueOf(5000),
+                BigDecimal.valueOf(10000),
+                100,
+                validFrom,
+                validTo,
+                1L
+        );
+
+        // then
+        assertThat(result).isNotNull();
+        verify(couponRepository, times(1)).save(any(Coupon.class));
     }
 
     @Test
@@ -170,6 +204,25 @@ class CouponServiceTest {
         verify(couponRepository, times(1)).findById(1L);
     }
 
+    @Test
+    @DisplayName("주문용 쿠폰 조회는 TTL 안에서 DB를 다시 조회하지 않는다")
+    void getCouponForOrder_cached() {
+        // given
+        Coupon expectedCoupon = Coupon.create("테스트 쿠폰", DiscountType.FIXED,
+                BigDecimal.valueOf(5000), BigDecimal.valueOf(10000), 100, validFrom, validTo, 1L);
+
+        when(couponRepository.findById(1L)).thenReturn(Optional.of(expectedCoupon));
+
+        // when
+        Coupon first = couponService.getCouponForOrder(1L);
+        Coupon second = couponService.getCouponForOrder(1L);
+
+        // then
+        assertThat(first).isSameAs(expectedCoupon);
+        assertThat(second).isSameAs(expectedCoupon);
+        verify(couponRepository, times(1)).findById(1L);
+    }
+
     @Test
     @DisplayName("존재하지 않는 쿠폰 ID로 조회 시 예외가 발생한다")
     void getCouponByIdNotFound() {
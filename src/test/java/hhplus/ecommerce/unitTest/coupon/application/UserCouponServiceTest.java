@@ -24,6 +24,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -248,6 +249,47 @@ class UserCouponServiceTest {
         verify(userCouponRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("주문 생성 시 쿠폰은 조회 없이 조건부 UPDATE 한 번으로 사용 처리한다")
+    void redeemCoupon() {
+        // given
+        when(userCouponRepository.useIfActive(eq(1L), eq(10L), eq(100L), any(LocalDateTime.class),
+                eq(UserCouponStatus.ACTIVE), eq(UserCouponStatus.USED))).thenReturn(1);
+
+        // when
+        userCouponService.redeemCoupon(1L, 10L, 100L);
+
+        // then
+        verify(userCouponRepository, never()).findByUserIdAndCouponId(any(), any());
+        verify(userCouponRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("보유하지 않았거나 이미 사용한 쿠폰이면 예외가 발생한다")
+    void redeemCouponNotRedeemable() {
+        // given
+        when(userCouponRepository.useIfActive(eq(1L), eq(10L), eq(100L), any(LocalDateTime.class),
+                eq(UserCouponStatus.ACTIVE), eq(UserCouponStatus.USED))).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> userCouponService.redeemCoupon(1L, 10L, 100L))
+                .isInstanceOf(CouponException.class);
+    }
+
+    @Test
+    @DisplayName("주문 보상 시 주문에 사용한 쿠폰을 복구한다")
+    void restoreCoupon() {
+        // given
+        when(userCouponRepository.restoreByOrderId(eq(100L), any(LocalDateTime.class),
+                eq(UserCouponStatus.USED), eq(UserCouponStatus.ACTIVE))).thenReturn(1);
+
+        // when
+        int restored = userCouponService.restoreCoupon(100L);
+
+        // then
+        assertThat(restored).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("쿠폰 발급 수를 조회할 수 있다")
     void getCurrentIssueCount() {
@@ -101,5 +101,34 @@ class CouponJpaRepositoriesTest {
         List<UserCoupon> actives = userCouponJpaRepository.findByUserIdAndStatus(10L, UserCouponStatus.ACTIVE);
         assertThat(actives).hasSize(1);
     }
-}
 
+    @Test
+    @DisplayName("JPA: 쿠폰 사용은 보유 + 사용 가능 상태일 때 한 번만 성공하고, 보상 시 복구된다")
+    void useIfActiveAndRestore() {
+        Coupon coupon = couponJpaRepository.save(createValidCoupon(5));
+        UserCoupon userCoupon = userCouponJpaRepository.save(UserCoupon.create(10L, coupon.getCouponId()));
+        LocalDateTime now = LocalDateTime.now();
+
+        // 미보유 사용자
+        assertThat(userCouponJpaRepository.useIfActive(11L, coupon.getCouponId(), 100L, now,
+                UserCouponStatus.ACTIVE, UserCouponStatus.USED)).isZero();
+
+        // 첫 사용만 성공
+        assertThat(userCouponJpaRepository.useIfActive(10L, coupon.getCouponId(), 100L, now,
+                UserCouponStatus.ACTIVE, UserCouponStatus.USED)).isEqualTo(1);
+        assertThat(userCouponJpaRepository.useIfActive(10L, coupon.getCouponId(), 101L, now,
+                UserCouponStatus.ACTIVE, UserCouponStatus.USED)).isZero();
+
+        UserCoupon used = userCouponJpaRepository.findById(userCoupon.getUserCouponId()).orElseThrow();
+        assertThat(used.getStatus()).isEqualTo(UserCouponStatus.USED);
+        assertThat(used.getOrderId()).isEqualTo(100L);
+
+        // 주문 보상 시 복구 (중복 복구는 0건)
+        assertThat(userCouponJpaRepository.restoreByOrderId(100L, now, UserCouponStatus.USED, UserCouponStatus.ACTIVE)).isEqualTo(1);
+        assertThat(userCouponJpaRepository.restoreByOrderId(100L, now, UserCouponStatus.USED, UserCouponStatus.ACTIVE)).isZero();
+
+        UserCoupon restored = userCouponJpaRepository.findById(userCoupon.getUserCouponId()).orElseThrow();
+        assertThat(restored.getStatus()).isEqualTo(UserCouponStatus.ACTIVE);
+        assertThat(restored.getOrderId()).isNull();
+    }
+}
@@ -0,0 +1,127 @@
+package hhplus.ecommerce.unitTest.order.application;
+
+import hhplus.ecommerce.cart.application.dto.CartPriceSnapshot;
+import hhplus.ecommerce.cart.application.service.CartPriceSnapshotStore;
+import hhplus.ecommerce.cart.application.service.CartService;
+import hhplus.ecommerce.cart.domain.model.Cart;
+import hhplus.ecommerce.common.domain.exception.CartException;
+import hhplus.ecommerce.order.application.dto.OrderItemInfo;
+import hhplus.ecommerce.order.application.service.OrderService;
+import hhplus.ecommerce.order.application.usecase.CreateOrderFromCartUseCase;
+import hhplus.ecommerce.order.application.usecase.CreateOrderUseCase;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import hhplus.ecommerce.order.presentation.dto.request.CartOrderCreateRequest;
+import hhplus.ecommerce.order.presentation.dto.response.OrderCreateResponse;
+import hhplus.ecommerce.product.application.service.ProductPriceVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateOrderFromCartUseCaseTest {
+
+    @Mock
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private CartPriceSnapshotStore cartPriceSnapshotStore;
+
+    @Mock
+    private ProductPriceVersion productPriceVersion;
+
+    @InjectMocks
+    private CreateOrderFromCartUseCase createOrderFromCartUseCase;
+
+    private final OrderCreateResponse orderCreateResponse = new OrderCreateResponse(
+            1L, "ORD202501010000001", OrderStatus.PENDING,
+            BigDecimal.valueOf(22000), BigDecimal.ZERO, BigDecimal.valueOf(22000),
+            LocalDateTime.now().plusMinutes(15)
+    );
+
+    @Test
+    @DisplayName("가격 버전이 같으면 상품을 재조회하지 않고 스냅샷 단가로 주문한다")
+    void createOrderWithSnapshot() {
+        // given
+        Long userId = 1L;
+        CartOrderCreateRequest request = new CartOrderCreateRequest();
+        request.setPriceVersion(3L);
+
+        when(cartService.getCartItems(userId)).thenReturn(List.of(Cart.create(userId, 11L, 2)));
+        when(cartPriceSnapshotStore.find(userId)).thenReturn(new CartPriceSnapshot(3L, List.of(
+                new CartPriceSnapshot.Item(10L, 11L, "상품", "옵션", 2, BigDecimal.valueOf(11000))
+        )));
+        when(productPriceVersion.current()).thenReturn(3L);
+        when(createOrderUseCase.executeWithItems(eq(userId), anyList(), isNull())).thenReturn(orderCreateResponse);
+
+        // when
+        OrderCreateResponse result = createOrderFromCartUseCase.execute(userId, request);
+
+        // then
+        assertThat(result.getOrderId()).isEqualTo(1L);
+        verify(orderService, never()).collectOrderItemsBatch(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderItemInfo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(createOrderUseCase).executeWithItems(eq(userId), captor.capture(), isNull());
+        assertThat(captor.getValue().get(0).getSubtotal()).isEqualByComparingTo(BigDecimal.valueOf(22000));
+        verify(cartService, times(1)).clearCart(userId);
+    }
+
+    @Test
+    @DisplayName("가격 버전이 바뀌었으면 상품/옵션을 다시 조회하여 주문한다")
+    void createOrderWithStaleSnapshot() {
+        // given
+        Long userId = 1L;
+        OrderItemInfo itemInfo = new OrderItemInfo(10L, 11L, "상품", "옵션", 2,
+                BigDecimal.valueOf(12000), BigDecimal.valueOf(24000));
+
+        when(cartService.getCartItems(userId)).thenReturn(List.of(Cart.create(userId, 11L, 2)));
+        when(cartPriceSnapshotStore.find(userId)).thenReturn(new CartPriceSnapshot(3L, List.of(
+                new CartPriceSnapshot.Item(10L, 11L, "상품", "옵션", 2, BigDecimal.valueOf(11000))
+        )));
+        when(productPriceVersion.current()).thenReturn(4L);
+        when(orderService.collectOrderItemsBatch(anyList())).thenReturn(List.of(itemInfo));
+        when(createOrderUseCase.executeWithItems(eq(userId), eq(List.of(itemInfo)), isNull())).thenReturn(orderCreateResponse);
+
+        // when
+        createOrderFromCartUseCase.execute(userId, new CartOrderCreateRequest());
+
+        // then
+        verify(orderService, times(1)).collectOrderItemsBatch(anyList());
+        verify(cartService, times(1)).clearCart(userId);
+    }
+
+    @Test
+    @DisplayName("장바구니가 비어있으면 주문할 수 없다")
+    void createOrderWithEmptyCart() {
+        // given
+        when(cartService.getCartItems(1L)).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> createOrderFromCartUseCase.execute(1L, new CartOrderCreateRequest()))
+                .isInstanceOf(CartException.class);
+        verify(createOrderUseCase, never()).executeWithItems(any(), any(), any());
+        verify(cartService, never()).clearCart(any());
+    }
+}
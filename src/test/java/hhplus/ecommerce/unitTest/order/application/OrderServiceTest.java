@@ -1,11 +1,15 @@
 package hhplus.ecommerce.unitTest.order.application;
 
+import hhplus.ecommerce.common.application.trace.HotPathTracer;
+import hhplus.ecommerce.common.domain.exception.CouponException;
+import hhplus.ecommerce.common.domain.exception.OrderException;
 import hhplus.ecommerce.common.event.EventPublisher;
 import hhplus.ecommerce.common.presentation.response.PageResponse;
 import hhplus.ecommerce.order.application.dto.OrderDetailInfo;
 import hhplus.ecommerce.order.application.dto.OrderItemDetailInfo;
 import hhplus.ecommerce.integration.application.service.ExternalIntegrationService;
 import hhplus.ecommerce.order.application.usecase.*;
+import hhplus.ecommerce.order.domain.event.OrderStatusChangedEvent;
 import hhplus.ecommerce.order.domain.model.Order;
 import hhplus.ecommerce.order.domain.model.OrderItem;
 import hhplus.ecommerce.order.domain.model.OrderItemStatus;
@@ -25,12 +29,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import hhplus.ecommerce.order.application.service.OrderDetailCache;
 import hhplus.ecommerce.order.application.service.OrderService;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -51,6 +57,12 @@ class OrderServiceTest {
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private HotPathTracer hotPathTracer;
+
+    @Mock
+    private OrderDetailCache orderDetailCache;
+
     @InjectMocks
     private CreateOrderUseCase createOrderUseCase;
 
@@ -128,6 +140,57 @@ class OrderServiceTest {
         verify(orderService, times(1)).saveOrderItems(eq(1L), any());
     }
 
+    @Test
+    @DisplayName("쿠폰 주문은 주문 저장 직후 쿠폰을 사용 처리하고, 사용할 수 없으면 재고를 예약하지 않는다")
+    void createOrderWithUnredeemableCoupon() {
+        // given
+        Long userId = 1L;
+        Long couponId = 7L;
+        OrderCreateRequest request = new OrderCreateRequest();
+        OrderItemRequest itemRequest = new OrderItemRequest();
+        itemRequest.setProductOptionId(100L);
+        itemRequest.setQuantity(1);
+        request.setItems(List.of(itemRequest));
+        request.setCouponId(couponId);
+
+        var itemInfo = new hhplus.ecommerce.order.application.dto.OrderItemInfo(
+                10L, 100L, "상품", "옵션", 1,
+                java.math.BigDecimal.valueOf(20000),
+                java.math.BigDecimal.valueOf(20000)
+        );
+
+        when(orderService.collectOrderItemsBatch(any())).thenReturn(List.of(itemInfo));
+        when(orderService.calculateTotalAmount(any())).thenReturn(java.math.BigDecimal.valueOf(20000));
+        when(orderService.calculateCouponDiscount(eq(couponId), eq(java.math.BigDecimal.valueOf(20000))))
+                .thenReturn(java.math.BigDecimal.valueOf(2000));
+        when(orderService.generateOrderNumber(eq(userId))).thenReturn("ORD202501010000002");
+        when(orderService.saveOrder(any())).thenAnswer(invocation -> {
+            Order o = invocation.getArgument(0);
+            return new Order(
+                    2L,
+                    o.getOrderNumber(),
+                    o.getUserId(),
+                    o.getTotalAmount(),
+                    o.getDiscountAmount(),
+                    o.getFinalAmount(),
+                    o.getCouponId(),
+                    o.getPaymentMethod(),
+                    o.getOrderStatus(),
+                    o.getCreatedAt(),
+                    o.getUpdatedAt(),
+                    o.getExpiresAt()
+            );
+        });
+        doThrow(CouponException.couponNotRedeemable(userId, couponId))
+                .when(orderService).redeemCoupon(userId, couponId, 2L);
+
+        // when & then
+        assertThatThrownBy(() -> createOrderUseCase.execute(userId, request))
+                .isInstanceOf(CouponException.class);
+        verify(orderService, never()).reserveStocks(anyLong(), any());
+        verify(eventPublisher, never()).publish(any());
+    }
+
     @Test
     @DisplayName("주문 목록을 조회할 수 있다")
     void getOrderList() {
@@ -197,6 +260,29 @@ class OrderServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getOrderId()).isEqualTo(orderId);
         assertThat(result.getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+        verify(orderDetailCache, times(1)).putIfUnchanged(detailInfo, 0L);
+    }
+
+    @Test
+    @DisplayName("주문 상세 캐시가 있으면 DB를 조회하지 않는다")
+    void getOrderDetailFromCache() {
+        // given
+        Long orderId = 10L;
+        var now = LocalDateTime.now();
+        var cachedInfo = new OrderDetailInfo(
+                orderId, "ORDX", OrderStatus.PAID,
+                java.math.BigDecimal.valueOf(10000), java.math.BigDecimal.ZERO, java.math.BigDecimal.valueOf(10000),
+                List.of(), now.minusMinutes(1), now.plusMinutes(10)
+        );
+        when(orderDetailCache.get(orderId)).thenReturn(cachedInfo);
+
+        // when
+        OrderDetailResponse result = getOrderDetailUseCase.execute(orderId);
+
+        // then
+        assertThat(result.getOrderStatus()).isEqualTo(OrderStatus.PAID);
+        verify(orderService, never()).getOrder(anyLong());
+        verify(orderService, never()).getOrderItems(anyLong());
     }
 
     @Test
@@ -208,20 +294,20 @@ class OrderServiceTest {
         OrderStatusChangeRequest request = new OrderStatusChangeRequest(orderId, OrderStatus.PAID);
 
         var now = LocalDateTime.now();
-        var pending = new Order(
+        var paid = new Order(
                 orderId, "ORD-50", userId,
                 java.math.BigDecimal.valueOf(10000), java.math.BigDecimal.ZERO, java.math.BigDecimal.valueOf(10000),
-                null, null, OrderStatus.PENDING, now.minusMinutes(3), now.minusMinutes(3), now.plusMinutes(10)
+                null, null, OrderStatus.PAID, now.minusMinutes(3), now, now.plusMinutes(10)
         );
 
-        when(orderService.getOrder(eq(orderId))).thenReturn(pending);
+        when(orderService.transitionOrderStatus(eq(orderId), eq(userId), eq(OrderStatus.PAID))).thenReturn(1);
+        when(orderService.getOrder(eq(orderId))).thenReturn(paid);
         when(orderService.getOrderItems(eq(orderId))).thenReturn(List.of());
-        when(orderService.saveOrder(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         var updatedInfo = new OrderDetailInfo(
-                pending.getOrderId(), pending.getOrderNumber(), OrderStatus.PAID,
-                pending.getTotalAmount(), pending.getDiscountAmount(), pending.getFinalAmount(),
-                List.of(), pending.getCreatedAt(), pending.getExpiresAt()
+                paid.getOrderId(), paid.getOrderNumber(), OrderStatus.PAID,
+                paid.getTotalAmount(), paid.getDiscountAmount(), paid.getFinalAmount(),
+                List.of(), paid.getCreatedAt(), paid.getExpiresAt()
         );
         when(orderService.toOrderDetailInfo(any(), eq(List.of()))).thenReturn(updatedInfo);
 
@@ -232,6 +318,56 @@ class OrderServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getOrderId()).isEqualTo(orderId);
         assertThat(result.getOrderStatus()).isEqualTo(OrderStatus.PAID);
+        verify(eventPublisher, times(1)).publish(any(OrderStatusChangedEvent.class));
+        verify(orderService, never()).saveOrder(any());
+    }
+
+    @Test
+    @DisplayName("허용되지 않는 주문 상태 전이는 UPDATE 영향 행이 없어 예외가 발생한다")
+    void changeOrderStatus_invalidTransition() {
+        // given
+        Long userId = 1L;
+        Long orderId = 51L;
+        OrderStatusChangeRequest request = new OrderStatusChangeRequest(orderId, OrderStatus.CANCELLED);
+
+        var now = LocalDateTime.now();
+        var paid = new Order(
+                orderId, "ORD-51", userId,
+                java.math.BigDecimal.valueOf(10000), java.math.BigDecimal.ZERO, java.math.BigDecimal.valueOf(10000),
+                null, null, OrderStatus.PAID, now.minusMinutes(3), now, now.plusMinutes(10)
+        );
+
+        when(orderService.transitionOrderStatus(eq(orderId), eq(userId), eq(OrderStatus.CANCELLED))).thenReturn(0);
+        when(orderService.getOrder(eq(orderId))).thenReturn(paid);
+
+        // when & then
+        assertThatThrownBy(() -> changeOrderStatusUseCase.execute(userId, request))
+                .isInstanceOf(OrderException.class)
+                .hasMessageContaining("PAID");
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 주문 상태는 변경할 수 없다")
+    void changeOrderStatus_otherUser() {
+        // given
+        Long orderId = 52L;
+        OrderStatusChangeRequest request = new OrderStatusChangeRequest(orderId, OrderStatus.PAID);
+
+        var now = LocalDateTime.now();
+        var pending = new Order(
+                orderId, "ORD-52", 2L,
+                java.math.BigDecimal.valueOf(10000), java.math.BigDecimal.ZERO, java.math.BigDecimal.valueOf(10000),
+                null, null, OrderStatus.PENDING, now.minusMinutes(3), now, now.plusMinutes(10)
+        );
+
+        when(orderService.transitionOrderStatus(eq(orderId), eq(1L), eq(OrderStatus.PAID))).thenReturn(0);
+        when(orderService.getOrder(eq(orderId))).thenReturn(pending);
+
+        // when & then
+        assertThatThrownBy(() -> changeOrderStatusUseCase.execute(1L, request))
+                .isInstanceOf(OrderException.class)
+                .hasMessageContaining("권한");
     }
 
     @Test
@@ -245,9 +381,8 @@ class OrderServiceTest {
         var item = OrderItem.create(
                 77L, 10L, 100L, "상품", "옵션", java.math.BigDecimal.valueOf(5000), 2
         );
-        // OrderItem.create는 id가 null이므로 상태 변경 후 저장 시 그대로 사용
-        when(orderService.getOrderItem(eq(orderItemId))).thenReturn(item);
-        when(orderService.saveOrderItem(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderService.transitionOrderItemStatus(eq(orderItemId), eq(OrderItemStatus.SHIPPING))).thenReturn(1);
+        when(orderService.getOrderItem(eq(orderItemId))).thenReturn(item.changeStatus(OrderItemStatus.SHIPPING));
 
         var itemInfo = new OrderItemDetailInfo(
                 orderItemId, "상품", "옵션", 2, java.math.BigDecimal.valueOf(5000), OrderItemStatus.SHIPPING
@@ -262,4 +397,25 @@ class OrderServiceTest {
         assertThat(result.getItemStatus()).isEqualTo(OrderItemStatus.SHIPPING);
         assertThat(result.getProductName()).isEqualTo("상품");
     }
+
+    @Test
+    @DisplayName("배송 중인 주문 아이템은 취소로 전이할 수 없다")
+    void changeOrderItemStatus_invalidTransition() {
+        // given
+        Long orderItemId = 901L;
+        var request = new OrderItemStatusChangeRequest();
+        request.setStatus(OrderItemStatus.CANCELLED);
+
+        var shipping = OrderItem.create(
+                77L, 10L, 100L, "상품", "옵션", java.math.BigDecimal.valueOf(5000), 2
+        ).changeStatus(OrderItemStatus.SHIPPING);
+
+        when(orderService.transitionOrderItemStatus(eq(orderItemId), eq(OrderItemStatus.CANCELLED))).thenReturn(0);
+        when(orderService.getOrderItem(eq(orderItemId))).thenReturn(shipping);
+
+        // when & then
+        assertThatThrownBy(() -> changeOrderItemStatusUseCase.execute(orderItemId, request))
+                .isInstanceOf(OrderException.class);
+        verify(eventPublisher, never()).publish(any());
+    }
 }
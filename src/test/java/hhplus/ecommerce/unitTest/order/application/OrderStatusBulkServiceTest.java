@@ -0,0 +1,170 @@
+package hhplus.ecommerce.unitTest.order.application;
+
+import hhplus.ecommerce.common.domain.exception.OrderException;
+import hhplus.ecommerce.order.application.dto.BulkStatusChangeResult;
+import hhplus.ecommerce.order.application.dto.BulkStatusChangeResult.Outcome;
+import hhplus.ecommerce.order.application.service.OrderDetailCache;
+import hhplus.ecommerce.order.application.service.OrderStatusBulkService;
+import hhplus.ecommerce.order.application.service.OrderSummaryCounter;
+import hhplus.ecommerce.order.application.usecase.BulkChangeOrderStatusUseCase;
+import hhplus.ecommerce.order.domain.model.OrderItemStatus;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import hhplus.ecommerce.order.domain.repository.OrderItemRepository;
+import hhplus.ecommerce.order.domain.repository.OrderItemStatusView;
+import hhplus.ecommerce.order.domain.repository.OrderRepository;
+import hhplus.ecommerce.order.domain.repository.OrderStatusView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatusBulkServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderSummaryCounter orderSummaryCounter;
+
+    @InjectMocks
+    private OrderStatusBulkService orderStatusBulkService;
+
+    @Test
+    @DisplayName("전이 가능한 주문만 한 번의 UPDATE로 변경하고 ID별 결과를 요청 순서대로 반환한다")
+    void transitionOrderChunk() {
+        // given
+        List<Long> orderIds = List.of(1L, 2L, 3L, 4L);
+        when(orderRepository.findStatusViewsByOrderIdIn(orderIds)).thenReturn(List.of(
+                orderView(1L, OrderStatus.PENDING),
+                orderView(2L, OrderStatus.CANCELLED),
+                orderView(3L, OrderStatus.PAID)
+        ));
+        when(orderRepository.transitionStatusIn(eq(List.of(1L)), any(), eq(OrderStatus.PAID), any())).thenReturn(1);
+
+        // when
+        List<BulkStatusChangeResult> results = orderStatusBulkService.transitionOrderChunk(orderIds, OrderStatus.PAID);
+
+        // then
+        assertThat(results).extracting(BulkStatusChangeResult::getId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(results).extracting(BulkStatusChangeResult::getOutcome).containsExactly(
+                Outcome.UPDATED, Outcome.INVALID_TRANSITION, Outcome.UNCHANGED, Outcome.NOT_FOUND);
+        verify(orderRepository, times(1)).findStatusViewsByOrderIdIn(anyList());
+        verify(orderSummaryCounter).applyAll(List.of(
+                new OrderSummaryCounter.Transition(1L, OrderStatus.PENDING, OrderStatus.PAID)));
+    }
+
+    @Test
+    @DisplayName("조회 후 다른 요청이 상태를 바꾼 주문은 CONFLICT로 표시한다")
+    void transitionOrderChunk_conflict() {
+        // given
+        List<Long> orderIds = List.of(1L, 2L);
+        when(orderRepository.transitionStatusIn(eq(orderIds), any(), eq(OrderStatus.PAID), any())).thenReturn(1);
+        // 첫 조회: 둘 다 PENDING, UPDATE 후 재조회: 2번은 그 사이 취소됨
+        when(orderRepository.findStatusViewsByOrderIdIn(orderIds))
+                .thenReturn(List.of(orderView(1L, OrderStatus.PENDING), orderView(2L, OrderStatus.PENDING)))
+                .thenReturn(List.of(orderView(1L, OrderStatus.PAID), orderView(2L, OrderStatus.CANCELLED)));
+
+        // when
+        List<BulkStatusChangeResult> results = orderStatusBulkService.transitionOrderChunk(orderIds, OrderStatus.PAID);
+
+        // then
+        assertThat(results).extracting(BulkStatusChangeResult::getOutcome)
+                .containsExactly(Outcome.UPDATED, Outcome.CONFLICT);
+        assertThat(results.get(1).getCurrentStatus()).isEqualTo("CANCELLED");
+    }
+
+    @Test
+    @DisplayName("주문 아이템 일괄 배송 시작: 준비 중인 아이템만 변경한다")
+    void transitionOrderItemChunk() {
+        // given
+        List<Long> orderItemIds = List.of(10L, 11L);
+        when(orderItemRepository.findStatusViewsByOrderItemIdIn(orderItemIds)).thenReturn(List.of(
+                itemView(10L, 100L, OrderItemStatus.PREPARING),
+                itemView(11L, 101L, OrderItemStatus.DELIVERED)
+        ));
+        when(orderItemRepository.transitionStatusIn(eq(List.of(10L)), any(), eq(OrderItemStatus.SHIPPING), any()))
+                .thenReturn(1);
+
+        // when
+        List<BulkStatusChangeResult> results =
+                orderStatusBulkService.transitionOrderItemChunk(orderItemIds, OrderItemStatus.SHIPPING);
+
+        // then
+        assertThat(results).extracting(BulkStatusChangeResult::getOutcome)
+                .containsExactly(Outcome.UPDATED, Outcome.INVALID_TRANSITION);
+        assertThat(results.get(0).getOrderId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("일괄 변경 UseCase는 청크 단위로 처리하고 변경된 주문의 캐시를 삭제한다")
+    void bulkUseCase_chunks() {
+        // given
+        OrderStatusBulkService bulkService = mock(OrderStatusBulkService.class);
+        OrderDetailCache orderDetailCache = mock(OrderDetailCache.class);
+        BulkChangeOrderStatusUseCase useCase = new BulkChangeOrderStatusUseCase(
+                bulkService, orderDetailCache, 2, 10);
+
+        when(bulkService.transitionOrderChunk(List.of(1L, 2L), OrderStatus.CANCELLED)).thenReturn(List.of(
+                new BulkStatusChangeResult(1L, 1L, Outcome.UPDATED, "CANCELLED", 7L, "PENDING"),
+                new BulkStatusChangeResult(2L, 2L, Outcome.NOT_FOUND, null)
+        ));
+        when(bulkService.transitionOrderChunk(List.of(3L), OrderStatus.CANCELLED)).thenReturn(List.of(
+                new BulkStatusChangeResult(3L, 3L, Outcome.UPDATED, "CANCELLED", 8L, "PENDING")
+        ));
+
+        // when
+        List<Long> orderIds = useCase.validate(List.of(1L, 2L, 2L, 3L), OrderStatus.CANCELLED);
+        List<BulkStatusChangeResult> streamed = new ArrayList<>();
+        useCase.execute(orderIds, OrderStatus.CANCELLED, streamed::add);
+
+        // then
+        assertThat(orderIds).containsExactly(1L, 2L, 3L);
+        assertThat(streamed).extracting(BulkStatusChangeResult::getId).containsExactly(1L, 2L, 3L);
+        verify(orderDetailCache).evictAll(List.of(1L));
+        verify(orderDetailCache).evictAll(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘는 일괄 변경 요청은 거절한다")
+    void bulkUseCase_limitExceeded() {
+        // given
+        BulkChangeOrderStatusUseCase useCase = new BulkChangeOrderStatusUseCase(
+                mock(OrderStatusBulkService.class), mock(OrderDetailCache.class), 2, 2);
+
+        // when & then
+        assertThatThrownBy(() -> useCase.validate(List.of(1L, 2L, 3L), OrderStatus.PAID))
+                .isInstanceOf(OrderException.class);
+    }
+
+    private static OrderStatusView orderView(Long orderId, OrderStatus status) {
+        return new OrderStatusView() {
+            public Long getOrderId() { return orderId; }
+            public Long getUserId() { return 1L; }
+            public OrderStatus getOrderStatus() { return status; }
+        };
+    }
+
+    private static OrderItemStatusView itemView(Long orderItemId, Long orderId, OrderItemStatus status) {
+        return new OrderItemStatusView() {
+            public Long getOrderItemId() { return orderItemId; }
+            public Long getOrderId() { return orderId; }
+            public OrderItemStatus getItemStatus() { return status; }
+        };
+    }
+}
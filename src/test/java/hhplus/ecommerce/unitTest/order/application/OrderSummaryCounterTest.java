@@ -0,0 +1,170 @@
+package hhplus.ecommerce.unitTest.order.application;
+
+import hhplus.ecommerce.order.application.service.OrderSummaryCounter;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import hhplus.ecommerce.order.domain.repository.OrderRepository;
+import hhplus.ecommerce.order.domain.repository.OrderStatusCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSummaryCounterTest {
+
+    private static final String SUMMARY_KEY = "order:summary:1";
+    private static final String EPOCH_KEY = "order:summary:epoch:1";
+    private static final String PENDING_KEY = "order:summary:pending:1";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderSummaryCounter orderSummaryCounter;
+
+    @BeforeEach
+    void setUp() {
+        orderSummaryCounter = new OrderSummaryCounter(redisTemplate, orderRepository, 86400);
+    }
+
+    @Test
+    @DisplayName("카운터가 있으면 DB를 조회하지 않고 상태별 건수를 반환한다")
+    void getCounts_hit() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("order:summary:1")).thenReturn(Map.of("PENDING", "2", "PAID", "5"));
+
+        // when
+        Map<OrderStatus, Long> counts = orderSummaryCounter.getCounts(1L);
+
+        // then
+        assertThat(counts).containsEntry(OrderStatus.PENDING, 2L)
+                .containsEntry(OrderStatus.PAID, 5L)
+                .containsEntry(OrderStatus.CANCELLED, 0L);
+        verify(orderRepository, never()).countByUserIdGroupByStatus(anyLong());
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 GROUP BY 한 번으로 재계산해 적재한다")
+    void getCounts_miss() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("order:summary:1")).thenReturn(Map.of());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(EPOCH_KEY)).thenReturn(null);
+        when(orderRepository.countByUserIdGroupByStatus(1L)).thenReturn(List.of(count(OrderStatus.PAID, 3L)));
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(SUMMARY_KEY, EPOCH_KEY, PENDING_KEY)), any(Object[].class)))
+                .thenReturn(1L);
+
+        // when
+        Map<OrderStatus, Long> counts = orderSummaryCounter.getCounts(1L);
+
+        // then
+        assertThat(counts).containsEntry(OrderStatus.PAID, 3L).containsEntry(OrderStatus.PENDING, 0L);
+        verify(redisTemplate, never()).opsForSet();
+    }
+
+    @Test
+    @DisplayName("커밋과 증감 사이에 재계산하면 카운터를 덮어쓰지 않고 커밋 후 증감한 뒤 재계산 대상으로 다시 등록한다")
+    void recompute_betweenCommitAndIncrement() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // given: 주문 생성 트랜잭션 안에서 증감 요청 → 반영 중 표시만 하고 증감은 커밋 후로 미룸
+            orderSummaryCounter.increment(1L, OrderStatus.PENDING);
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(EPOCH_KEY, PENDING_KEY)), any(Object[].class));
+            verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(SUMMARY_KEY)), any(Object[].class));
+
+            // 커밋 직후, 증감 전에 재계산 (DB에는 새 주문이 이미 보임) → 반영 전인 변경이 있어 교체 거부
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(EPOCH_KEY)).thenReturn("1");
+            when(orderRepository.countByUserIdGroupByStatus(1L)).thenReturn(List.of(count(OrderStatus.PENDING, 3L)));
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+            when(redisTemplate.opsForSet()).thenReturn(setOperations);
+            Map<OrderStatus, Long> counts = orderSummaryCounter.recompute(1L);
+
+            // when: 커밋 후 콜백 (증감 → 반영 중 표시 해제)
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // then
+            assertThat(counts).containsEntry(OrderStatus.PENDING, 3L);
+            verify(setOperations).add(OrderSummaryCounter.DIRTY_KEY, "1");
+            InOrder inOrder = inOrder(redisTemplate);
+            inOrder.verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(SUMMARY_KEY, EPOCH_KEY, PENDING_KEY)), any(Object[].class));
+            inOrder.verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(SUMMARY_KEY)), any(Object[].class));
+            inOrder.verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(PENDING_KEY)), any(Object[].class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 증감하지 않고 반영 중 표시만 해제한다")
+    void increment_rollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // given
+            orderSummaryCounter.increment(1L, OrderStatus.PENDING);
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(PENDING_KEY)), any(Object[].class));
+            verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(SUMMARY_KEY)), any(Object[].class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("이전 상태를 알 수 없는 변경은 증감하지 않고 재계산 대상으로 등록한다")
+    void apply_unknownPrevious() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        // when
+        orderSummaryCounter.apply(1L, null, OrderStatus.PAID);
+
+        // then
+        verify(setOperations).add(OrderSummaryCounter.DIRTY_KEY, "1");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    private static OrderStatusCount count(OrderStatus status, Long count) {
+        return new OrderStatusCount() {
+            public OrderStatus getOrderStatus() { return status; }
+            public Long getOrderCount() { return count; }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package hhplus.ecommerce.unitTest.order.domain;
+
+import hhplus.ecommerce.order.domain.model.OrderItemStatus;
+import hhplus.ecommerce.order.domain.model.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("주문/주문 아이템 상태 전이 테이블 단위 테스트")
+class OrderStatusTransitionTest {
+
+    @Test
+    @DisplayName("결제 대기 주문만 결제 완료/취소로 전이할 수 있다")
+    void orderStatusTransitions() {
+        // then
+        assertThat(OrderStatus.PAID.allowedPredecessors()).containsExactly(OrderStatus.PENDING);
+        assertThat(OrderStatus.CANCELLED.allowedPredecessors()).containsExactly(OrderStatus.PENDING);
+        assertThat(OrderStatus.PENDING.allowedPredecessors()).isEmpty();
+
+        assertThat(OrderStatus.PENDING.canTransitionTo(OrderStatus.PAID)).isTrue();
+        assertThat(OrderStatus.PAID.canTransitionTo(OrderStatus.CANCELLED)).isFalse();
+        assertThat(OrderStatus.CANCELLED.canTransitionTo(OrderStatus.PAID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("주문 아이템은 준비 → 배송 → 배송 완료 순으로만 전이하고 준비 중에만 취소할 수 있다")
+    void orderItemStatusTransitions() {
+        // then
+        assertThat(OrderItemStatus.PREPARING.canTransitionTo(OrderItemStatus.SHIPPING)).isTrue();
+        assertThat(OrderItemStatus.SHIPPING.canTransitionTo(OrderItemStatus.DELIVERED)).isTrue();
+        assertThat(OrderItemStatus.PREPARING.canTransitionTo(OrderItemStatus.DELIVERED)).isFalse();
+        assertThat(OrderItemStatus.PREPARING.canTransitionTo(OrderItemStatus.CANCELLED)).isTrue();
+        assertThat(OrderItemStatus.SHIPPING.canTransitionTo(OrderItemStatus.CANCELLED)).isFalse();
+        assertThat(OrderItemStatus.PREPARING.allowedPredecessors()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전이 테이블은 외부에서 변경할 수 없다")
+    void transitionTableIsUnmodifiable() {
+        assertThatThrownBy(() -> OrderStatus.PAID.allowedPredecessors().add(OrderStatus.CANCELLED))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,156 @@
+package hhplus.ecommerce.unitTest.point.application;
+
+import hhplus.ecommerce.common.domain.exception.PointException;
+import hhplus.ecommerce.point.application.dto.PointLedgerEntry;
+import hhplus.ecommerce.point.application.service.PointLedgerStore;
+import hhplus.ecommerce.point.domain.model.PointBalanceSnapshot;
+import hhplus.ecommerce.point.domain.model.PointHistory;
+import hhplus.ecommerce.point.domain.model.PointLedger;
+import hhplus.ecommerce.point.domain.model.TransactionType;
+import hhplus.ecommerce.point.domain.repository.PointBalanceSnapshotRepository;
+import hhplus.ecommerce.point.domain.repository.PointLedgerRepository;
+import hhplus.ecommerce.user.domain.model.User;
+import hhplus.ecommerce.user.domain.model.UserRole;
+import hhplus.ecommerce.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointLedgerStoreTest {
+
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Mock
+    private PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PointLedgerStore pointLedgerStore;
+
+    @BeforeEach
+    void setUp() {
+        pointLedgerStore = new PointLedgerStore(pointLedgerRepository, pointBalanceSnapshotRepository, userRepository, 100);
+    }
+
+    @Test
+    @DisplayName("마지막 원장 다음 순번으로 INSERT 하고 users 행은 조회/갱신하지 않는다")
+    void append() {
+        // given
+        when(pointLedgerRepository.findLastForUpdate(1L)).thenReturn(Optional.of(ledger(1L, 5L, BigDecimal.valueOf(10000))));
+        when(pointLedgerRepository.save(any(PointLedger.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        PointHistory result = pointLedgerStore.append(1L, TransactionType.CHARGE, BigDecimal.valueOf(5000), null, "충전");
+
+        // then
+        assertThat(result.getPointHistoryId()).isEqualTo(6L);
+        assertThat(result.getBalanceAfter()).isEqualByComparingTo(BigDecimal.valueOf(15000));
+        verifyNoInteractions(userRepository, pointBalanceSnapshotRepository);
+    }
+
+    @Test
+    @DisplayName("잔액보다 많이 사용하면 원장을 기록하지 않는다")
+    void appendInsufficientBalance() {
+        // given
+        when(pointLedgerRepository.findLastForUpdate(1L)).thenReturn(Optional.of(ledger(1L, 5L, BigDecimal.valueOf(1000))));
+
+        // when & then
+        assertThatThrownBy(() -> pointLedgerStore.append(1L, TransactionType.USE, BigDecimal.valueOf(3000), 10L, "주문 결제"))
+                .isInstanceOf(PointException.class);
+        verify(pointLedgerRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("첫 기록이면 users.point_balance를 seq 0 스냅샷으로 옮긴 뒤 seq 1로 기록한다")
+    void appendFirstEntry() {
+        // given
+        when(pointLedgerRepository.findLastForUpdate(1L)).thenReturn(Optional.empty());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(
+                new User(1L, "testuser", BigDecimal.valueOf(10000), UserRole.CUSTOMER)));
+        when(pointLedgerRepository.save(any(PointLedger.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        PointHistory result = pointLedgerStore.append(1L, TransactionType.USE, BigDecimal.valueOf(3000), 10L, "주문 결제");
+
+        // then
+        assertThat(result.getPointHistoryId()).isEqualTo(1L);
+        assertThat(result.getBalanceAfter()).isEqualByComparingTo(BigDecimal.valueOf(7000));
+        verify(pointBalanceSnapshotRepository).save(argThat((PointBalanceSnapshot snapshot) ->
+                snapshot.getSeq() == 0L && snapshot.getBalance().compareTo(BigDecimal.valueOf(10000)) == 0));
+    }
+
+    @Test
+    @DisplayName("원장이 스냅샷 주기에 도달하면 잔액 스냅샷을 남긴다")
+    void appendTakesSnapshot() {
+        // given
+        PointLedgerStore store = new PointLedgerStore(pointLedgerRepository, pointBalanceSnapshotRepository, userRepository, 2);
+        when(pointLedgerRepository.findLastForUpdate(1L)).thenReturn(Optional.of(ledger(1L, 1L, BigDecimal.valueOf(10000))));
+        when(pointLedgerRepository.save(any(PointLedger.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        store.append(1L, TransactionType.CHARGE, BigDecimal.valueOf(5000), null, "충전");
+
+        // then
+        verify(pointBalanceSnapshotRepository).save(argThat((PointBalanceSnapshot snapshot) ->
+                snapshot.getSeq() == 2L && snapshot.getBalance().compareTo(BigDecimal.valueOf(15000)) == 0));
+    }
+
+    @Test
+    @DisplayName("잔액은 최신 스냅샷에 이후 원장 합계를 더해 계산한다")
+    void getBalance() {
+        // given
+        when(pointBalanceSnapshotRepository.findTopByUserIdOrderBySeqDesc(1L))
+                .thenReturn(Optional.of(PointBalanceSnapshot.of(1L, 200L, BigDecimal.valueOf(30000))));
+        when(pointLedgerRepository.sumSignedAmountAfter(1L, 200L)).thenReturn(BigDecimal.valueOf(-4000));
+
+        // when
+        BigDecimal balance = pointLedgerStore.getBalance(1L);
+
+        // then
+        assertThat(balance).isEqualByComparingTo(BigDecimal.valueOf(26000));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Redis 원장 일괄 반영 시 이미 반영된 항목은 건너뛰고 사용자별 순번을 이어 붙인다")
+    void appendAll() {
+        // given
+        List<PointLedgerEntry> entries = List.of(
+                new PointLedgerEntry("1-0", 1L, TransactionType.CHARGE, BigDecimal.valueOf(5000), BigDecimal.valueOf(15000), null, "충전"),
+                new PointLedgerEntry("1-1", 1L, TransactionType.USE, BigDecimal.valueOf(2000), BigDecimal.valueOf(13000), 10L, "주문 결제"),
+                new PointLedgerEntry("1-2", 2L, TransactionType.USE, BigDecimal.valueOf(1000), BigDecimal.valueOf(0), 11L, "주문 결제")
+        );
+        when(pointLedgerRepository.findLedgerRefsIn(List.of("1-0", "1-1", "1-2"))).thenReturn(List.of("1-2"));
+        when(pointLedgerRepository.findLastForUpdate(1L)).thenReturn(Optional.of(ledger(1L, 7L, BigDecimal.valueOf(10000))));
+        when(pointLedgerRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        int applied = pointLedgerStore.appendAll(entries);
+
+        // then
+        assertThat(applied).isEqualTo(2);
+        verify(pointLedgerRepository).saveAll(argThat((List<PointLedger> ledgers) ->
+                ledgers.size() == 2 && ledgers.get(0).getSeq() == 8L && ledgers.get(1).getSeq() == 9L));
+        verify(pointLedgerRepository, never()).findLastForUpdate(2L);
+    }
+
+    private static PointLedger ledger(Long userId, Long seq, BigDecimal balanceAfter) {
+        return PointLedger.append(userId, seq, TransactionType.CHARGE, BigDecimal.valueOf(1000), balanceAfter, null, "충전", null);
+    }
+}
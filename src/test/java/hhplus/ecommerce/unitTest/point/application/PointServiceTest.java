@@ -1,25 +1,25 @@
 package hhplus.ecommerce.unitTest.point.application;
 
+import hhplus.ecommerce.common.application.retry.RetryPolicy;
 import hhplus.ecommerce.common.domain.constants.BusinessConstants;
 import hhplus.ecommerce.common.domain.exception.PointException;
+import hhplus.ecommerce.point.application.service.PointLedgerStore;
 import hhplus.ecommerce.point.application.service.PointService;
+import hhplus.ecommerce.point.application.service.RedisPointEngine;
 import hhplus.ecommerce.point.domain.model.PointHistory;
 import hhplus.ecommerce.point.domain.model.TransactionType;
-import hhplus.ecommerce.point.domain.repository.PointHistoryRepository;
-import hhplus.ecommerce.user.domain.model.User;
-import hhplus.ecommerce.user.domain.model.UserRole;
-import hhplus.ecommerce.user.domain.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,20 +30,17 @@ import static org.mockito.Mockito.*;
 class PointServiceTest {
 
     @Mock
-    private PointHistoryRepository pointHistoryRepository;
+    private PointLedgerStore pointLedgerStore;
 
     @Mock
-    private UserRepository userRepository;
+    private RedisPointEngine redisPointEngine;
 
-    @InjectMocks
     private PointService pointService;
 
-    private User testUser;
-
     @BeforeEach
     void setUp() {
-        testUser = new User(1L, "testuser",
-                BigDecimal.valueOf(10000), UserRole.CUSTOMER);
+        RetryPolicy retryPolicy = new RetryPolicy(1, 5, 10, 1000, 20, 1);
+        pointService = new PointService(pointLedgerStore, redisPointEngine, retryPolicy);
     }
 
     @Test
@@ -51,12 +48,8 @@ class PointServiceTest {
     void chargePoint() {
         // given
         BigDecimal chargeAmount = BigDecimal.valueOf(5000);
-        BigDecimal expectedBalance = testUser.getPointBalance().add(chargeAmount);
-
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(pointHistoryRepository.save(any(PointHistory.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        PointHistory charged = new PointHistory(1L, 1L, chargeAmount, BigDecimal.valueOf(15000), "포인트 충전");
+        when(pointLedgerStore.append(1L, TransactionType.CHARGE, chargeAmount, null, "포인트 충전")).thenReturn(charged);
 
         // when
         PointHistory result = pointService.chargePoint(1L, chargeAmount, "포인트 충전");
@@ -64,9 +57,8 @@ class PointServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getAmount()).isEqualByComparingTo(chargeAmount);
-        verify(userRepository, times(1)).findById(1L);
-        verify(userRepository, times(1)).save(any(User.class));
-        verify(pointHistoryRepository, times(1)).save(any(PointHistory.class));
+        assertThat(result.getBalanceAfter()).isEqualByComparingTo(BigDecimal.valueOf(15000));
+        verify(pointLedgerStore, times(1)).append(1L, TransactionType.CHARGE, chargeAmount, null, "포인트 충전");
     }
 
     @Test
@@ -79,21 +71,56 @@ class PointServiceTest {
         assertThatThrownBy(() -> pointService.chargePoint(1L, lowAmount, "포인트 충전"))
                 .isInstanceOf(PointException.class);
 
-        verify(userRepository, never()).findById(any());
+        verify(pointLedgerStore, never()).append(any(), any(), any(), any(), any());
     }
 
     @Test
     @DisplayName("존재하지 않는 사용자의 포인트 충전 시 예외가 발생한다")
     void chargePointUserNotFound() {
         // given
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        BigDecimal amount = BigDecimal.valueOf(5000);
+        when(pointLedgerStore.append(999L, TransactionType.CHARGE, amount, null, "충전"))
+                .thenThrow(PointException.chargeFailed(999L, "사용자를 찾을 수 없습니다."));
 
         // when & then
-        assertThatThrownBy(() -> pointService.chargePoint(999L, BigDecimal.valueOf(5000), "충전"))
+        assertThatThrownBy(() -> pointService.chargePoint(999L, amount, "충전"))
                 .isInstanceOf(PointException.class);
 
-        verify(userRepository, times(1)).findById(999L);
-        verify(pointHistoryRepository, never()).save(any());
+        verify(pointLedgerStore, times(1)).append(999L, TransactionType.CHARGE, amount, null, "충전");
+    }
+
+    @Test
+    @DisplayName("원장 기록이 충돌하면 재시도해 충전한다")
+    void chargePointRetriesOnLedgerConflict() {
+        // given
+        BigDecimal amount = BigDecimal.valueOf(5000);
+        PointHistory charged = new PointHistory(2L, 1L, amount, BigDecimal.valueOf(15000), "충전");
+        when(pointLedgerStore.append(1L, TransactionType.CHARGE, amount, null, "충전"))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry '1-1' for key 'PRIMARY'"))
+                .thenReturn(charged);
+
+        // when
+        PointHistory result = pointService.chargePoint(1L, amount, "충전");
+
+        // then
+        assertThat(result.getPointHistoryId()).isEqualTo(2L);
+        verify(pointLedgerStore, times(2)).append(1L, TransactionType.CHARGE, amount, null, "충전");
+    }
+
+    @Test
+    @DisplayName("비동기 충전은 원장 충돌 시 타이머로 재시도하고, 한도를 넘으면 충전 실패로 완료된다")
+    void chargePointAsyncRetriesThenFails() {
+        // given
+        BigDecimal amount = BigDecimal.valueOf(5000);
+        when(pointLedgerStore.append(1L, TransactionType.CHARGE, amount, null, "충전"))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry '1-1' for key 'PRIMARY'"));
+
+        // when
+        CompletableFuture<PointHistory> result = pointService.chargePointAsync(1L, amount, "충전");
+
+        // then
+        assertThatThrownBy(result::join).hasCauseInstanceOf(PointException.class);
+        verify(pointLedgerStore, times(10)).append(1L, TransactionType.CHARGE, amount, null, "충전");
     }
 
     @Test
@@ -101,11 +128,8 @@ class PointServiceTest {
     void usePoint() {
         // given
         BigDecimal useAmount = BigDecimal.valueOf(3000);
-
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(pointHistoryRepository.save(any(PointHistory.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        PointHistory used = new PointHistory(2L, 1L, useAmount, BigDecimal.valueOf(7000), 1L, "주문 결제");
+        when(pointLedgerStore.append(1L, TransactionType.USE, useAmount, 1L, "주문 결제")).thenReturn(used);
 
         // when
         PointHistory result = pointService.usePoint(1L, useAmount, 1L, "주문 결제");
@@ -114,25 +138,41 @@ class PointServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getAmount()).isEqualByComparingTo(useAmount);
         assertThat(result.getOrderId()).isEqualTo(1L);
-        verify(userRepository, times(1)).findById(1L);
-        verify(userRepository, times(1)).save(any(User.class));
-        verify(pointHistoryRepository, times(1)).save(any(PointHistory.class));
+        verify(pointLedgerStore, times(1)).append(1L, TransactionType.USE, useAmount, 1L, "주문 결제");
+    }
+
+    @Test
+    @DisplayName("호출자 트랜잭션 안에서는 원장 충돌 시 재시도하지 않고 바로 사용 실패로 처리한다")
+    void usePointInTransactionDoesNotRetry() {
+        // given
+        BigDecimal useAmount = BigDecimal.valueOf(3000);
+        when(pointLedgerStore.append(1L, TransactionType.USE, useAmount, 10L, "주문 결제"))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when & then
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> pointService.usePoint(1L, useAmount, 10L, "주문 결제"))
+                    .isInstanceOf(PointException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verify(pointLedgerStore, times(1)).append(1L, TransactionType.USE, useAmount, 10L, "주문 결제");
     }
 
     @Test
     @DisplayName("잔액보다 많은 포인트 사용 시도 시 예외가 발생한다")
     void usePointInsufficientBalance() {
         // given
-        BigDecimal excessiveAmount = testUser.getPointBalance().add(BigDecimal.valueOf(1000));
-
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        BigDecimal excessiveAmount = BigDecimal.valueOf(11000);
+        when(pointLedgerStore.append(1L, TransactionType.USE, excessiveAmount, 1L, "주문 결제"))
+                .thenThrow(PointException.insufficientPointBalance(1L, excessiveAmount, BigDecimal.valueOf(10000)));
 
         // when & then
         assertThatThrownBy(() -> pointService.usePoint(1L, excessiveAmount, 1L, "주문 결제"))
                 .isInstanceOf(PointException.class);
 
-        verify(userRepository, times(1)).findById(1L);
-        verify(pointHistoryRepository, never()).save(any());
+        verify(pointLedgerStore, times(1)).append(1L, TransactionType.USE, excessiveAmount, 1L, "주문 결제");
     }
 
     @Test
@@ -145,7 +185,7 @@ class PointServiceTest {
         assertThatThrownBy(() -> pointService.usePoint(1L, BigDecimal.valueOf(-1000), 1L, "결제"))
                 .isInstanceOf(PointException.class);
 
-        verify(userRepository, never()).findById(any());
+        verify(pointLedgerStore, never()).append(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -153,18 +193,18 @@ class PointServiceTest {
     void getPointHistory() {
         // given
         List<PointHistory> expectedHistory = List.of(
-                new PointHistory(1L, 1L, BigDecimal.valueOf(5000), BigDecimal.valueOf(15000), "충전"),
-                new PointHistory(2L, 1L, BigDecimal.valueOf(3000), BigDecimal.valueOf(12000), 1L, "사용")
+                new PointHistory(2L, 1L, BigDecimal.valueOf(3000), BigDecimal.valueOf(12000), 1L, "사용"),
+                new PointHistory(1L, 1L, BigDecimal.valueOf(5000), BigDecimal.valueOf(15000), "충전")
         );
 
-        when(pointHistoryRepository.findByUserIdOrderByCreatedAtDesc(1L)).thenReturn(expectedHistory);
+        when(pointLedgerStore.getHistory(1L, null)).thenReturn(expectedHistory);
 
         // when
         List<PointHistory> result = pointService.getPointHistory(1L, null);
 
         // then
         assertThat(result).hasSize(2);
-        verify(pointHistoryRepository, times(1)).findByUserIdOrderByCreatedAtDesc(1L);
+        verify(pointLedgerStore, times(1)).getHistory(1L, null);
     }
 
     @Test
@@ -175,15 +215,30 @@ class PointServiceTest {
                 new PointHistory(1L, 1L, BigDecimal.valueOf(5000), BigDecimal.valueOf(15000), "충전")
         );
 
-        when(pointHistoryRepository.findByUserIdAndType(1L, TransactionType.CHARGE))
-                .thenReturn(chargeHistory);
+        when(pointLedgerStore.getHistory(1L, TransactionType.CHARGE)).thenReturn(chargeHistory);
 
         // when
         List<PointHistory> result = pointService.getPointHistory(1L, TransactionType.CHARGE);
 
         // then
         assertThat(result).hasSize(1);
-        verify(pointHistoryRepository, times(1))
-                .findByUserIdAndType(1L, TransactionType.CHARGE);
+        verify(pointLedgerStore, times(1)).getHistory(1L, TransactionType.CHARGE);
+    }
+
+    @Test
+    @DisplayName("Redis 포인트 엔진이 켜져 있으면 포인트 사용은 DB 원장에 직접 기록하지 않고 엔진에서 차감한다")
+    void usePointWithRedisEngine() {
+        // given
+        BigDecimal amount = BigDecimal.valueOf(3000);
+        PointHistory debited = new PointHistory(null, 1L, amount, BigDecimal.valueOf(7000), 10L, "주문 결제");
+        when(redisPointEngine.isEnabled()).thenReturn(true);
+        when(redisPointEngine.debit(1L, amount, 10L, "주문 결제")).thenReturn(debited);
+
+        // when
+        PointHistory result = pointService.usePoint(1L, amount, 10L, "주문 결제");
+
+        // then
+        assertThat(result.getBalanceAfter()).isEqualByComparingTo(BigDecimal.valueOf(7000));
+        verify(pointLedgerStore, never()).append(any(), any(), any(), any(), any());
     }
 }
@@ -17,17 +17,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PointController.class)
@@ -67,8 +71,8 @@ class PointControllerTest {
         );
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
-        when(pointService.chargePoint(anyLong(), any(BigDecimal.class), anyString()))
-                .thenReturn(mockHistory);
+        when(pointService.chargePointAsync(anyLong(), any(BigDecimal.class), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(mockHistory));
         // charge/use는 TransactionResponse를 사용
         when(pointMapper.toTransactionResponse(any()))
                 .thenReturn(new hhplus.ecommerce.point.presentation.dto.response.PointTransactionResponse(
@@ -81,9 +85,13 @@ class PointControllerTest {
                         LocalDateTime.now()
                 ));
 
-        mockMvc.perform(post("/api/point/charge/{userId}", userId)
+        MvcResult asyncResult = mockMvc.perform(post("/api/point/charge/{userId}", userId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.data.amount").value(10000));
     }
@@ -0,0 +1,124 @@
+package hhplus.ecommerce.unitTest.product.application;
+
+import hhplus.ecommerce.common.domain.constants.BusinessConstants;
+import hhplus.ecommerce.product.application.dto.CatalogWarmupReport;
+import hhplus.ecommerce.product.application.service.ProductCatalogWarmer;
+import hhplus.ecommerce.product.application.service.ProductService;
+import hhplus.ecommerce.product.domain.model.PeriodType;
+import hhplus.ecommerce.product.domain.model.PopularProduct;
+import hhplus.ecommerce.product.domain.repository.PopularProductRepository;
+import hhplus.ecommerce.product.presentation.dto.response.ProductDetailResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogWarmerTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private PopularProductRepository popularProductRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache detailCache;
+
+    private ProductCatalogWarmer warmer;
+
+    @BeforeEach
+    void setUp() {
+        warmer = new ProductCatalogWarmer(productService, popularProductRepository, redisTemplate, cacheManager,
+                true, 10, List.of(5), 2, 2, 5_000);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(cacheManager.getCache("productDetail")).thenReturn(detailCache);
+    }
+
+    @Test
+    @DisplayName("랭킹 ZSet과 인기 상품 스냅샷의 상품을 중복 없이 배치로 캐시에 적재하고 결과를 보고한다")
+    void warmUp() {
+        // given
+        when(zSetOperations.reverseRange(BusinessConstants.REDIS_TOP_N_DAILY_KEY, 0, 9)).thenReturn(ordered("1", "2"));
+        when(zSetOperations.reverseRange(BusinessConstants.REDIS_TOP_N_WEEKLY_KEY, 0, 9)).thenReturn(ordered("2", "3"));
+        when(zSetOperations.reverseRange(BusinessConstants.REDIS_TOP_N_MONTHLY_KEY, 0, 9)).thenReturn(Set.of());
+        when(popularProductRepository.findTopNByPeriodType(any(PeriodType.class), any(PageRequest.class)))
+                .thenReturn(List.of());
+        when(popularProductRepository.findTopNByPeriodType(eq(PeriodType.MONTHLY), any(PageRequest.class)))
+                .thenReturn(List.of(PopularProduct.create(4L, 10, LocalDate.now(), PeriodType.MONTHLY, 1)));
+        when(productService.getProductDetailsByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> mock(ProductDetailResponse.class)));
+        });
+        when(productService.getTopProducts(any(PeriodType.class), anyInt())).thenReturn(List.of());
+
+        // when
+        CatalogWarmupReport report = warmer.warmUp();
+
+        // then
+        assertThat(report.productTargets()).isEqualTo(4);
+        assertThat(report.productWarmed()).isEqualTo(4);
+        assertThat(report.rankingTargets()).isEqualTo(3);
+        assertThat(report.failedTasks()).isZero();
+        assertThat(warmer.getLastReport()).isEqualTo(report);
+        verify(productService, times(2)).getProductDetailsByIds(anyList());
+        verify(productService).getTopProducts(PeriodType.DAILY, 5);
+        verify(detailCache, times(4)).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("일부 배치가 실패해도 나머지는 적재하고 실패 건수를 보고한다")
+    void warmUp_partialFailure() {
+        // given
+        when(zSetOperations.reverseRange(any(), eq(0L), eq(9L))).thenReturn(Set.of());
+        when(zSetOperations.reverseRange(BusinessConstants.REDIS_TOP_N_DAILY_KEY, 0, 9)).thenReturn(ordered("1", "2", "3"));
+        when(popularProductRepository.findTopNByPeriodType(any(PeriodType.class), any(PageRequest.class)))
+                .thenReturn(List.of());
+        when(productService.getProductDetailsByIds(List.of(1L, 2L))).thenThrow(new RuntimeException("DB 오류"));
+        when(productService.getProductDetailsByIds(List.of(3L))).thenReturn(Map.of(3L, mock(ProductDetailResponse.class)));
+        when(productService.getTopProducts(any(PeriodType.class), anyInt())).thenReturn(List.of());
+
+        // when
+        CatalogWarmupReport report = warmer.warmUp();
+
+        // then
+        assertThat(report.productTargets()).isEqualTo(3);
+        assertThat(report.productWarmed()).isEqualTo(1);
+        assertThat(report.failedTasks()).isEqualTo(1);
+        verify(detailCache).put(eq(3L), any());
+    }
+
+    private Set<String> ordered(String... members) {
+        return new LinkedHashSet<>(List.of(members));
+    }
+}
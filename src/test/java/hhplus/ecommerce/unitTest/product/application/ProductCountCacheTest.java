@@ -0,0 +1,56 @@
+package hhplus.ecommerce.unitTest.product.application;
+
+import hhplus.ecommerce.product.application.service.ProductCountCache;
+import hhplus.ecommerce.product.domain.repository.ProductListCondition;
+import hhplus.ecommerce.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCountCacheTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("TTL 안에서는 정렬이 달라도 같은 필터면 COUNT를 다시 실행하지 않는다")
+    void count_cached() {
+        // given
+        ProductCountCache cache = new ProductCountCache(productRepository, 60_000);
+        ProductListCondition condition = ProductListCondition.exposed("latest", null, null, null);
+        when(productRepository.countSummaries(condition)).thenReturn(10L);
+
+        // when
+        long first = cache.count(condition);
+        long second = cache.count(ProductListCondition.exposed("sales", null, null, null));
+
+        // then
+        assertThat(first).isEqualTo(10L);
+        assertThat(second).isEqualTo(10L);
+        verify(productRepository, times(1)).countSummaries(any());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회한다")
+    void count_expired() {
+        // given
+        ProductCountCache cache = new ProductCountCache(productRepository, 0);
+        ProductListCondition condition = ProductListCondition.exposed("latest", "전자", null, null);
+        when(productRepository.countSummaries(condition)).thenReturn(3L, 4L);
+
+        // when
+        long first = cache.count(condition);
+        long second = cache.count(condition);
+
+        // then
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(4L);
+    }
+}
@@ -0,0 +1,71 @@
+package hhplus.ecommerce.unitTest.product.application;
+
+import hhplus.ecommerce.product.application.service.ProductIndexMigration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductIndexMigrationTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("옛 이름의 인덱스만 있는 DB는 새 인덱스를 만든 뒤 옛 인덱스를 삭제한다")
+    void plan_legacy() {
+        // given
+        ProductIndexMigration migration = new ProductIndexMigration(jdbcTemplate);
+
+        // when
+        List<String> statements = migration.plan(Set.of("PRIMARY", "idx_exposed_deleted_created", "idx_exposed_deleted_category"));
+
+        // then
+        assertThat(statements).containsExactly(
+                "ALTER TABLE products ADD INDEX idx_exposed_deleted_latest (is_exposed, is_deleted, created_at, id)",
+                "ALTER TABLE products ADD INDEX idx_exposed_deleted_category_latest (is_exposed, is_deleted, category, created_at, id)",
+                "ALTER TABLE products DROP INDEX idx_exposed_deleted_created",
+                "ALTER TABLE products DROP INDEX idx_exposed_deleted_category"
+        );
+    }
+
+    @Test
+    @DisplayName("ddl-auto가 새 인덱스를 만든 DB는 옛 인덱스만 삭제한다")
+    void plan_dropLegacyOnly() {
+        // given
+        ProductIndexMigration migration = new ProductIndexMigration(jdbcTemplate);
+
+        // when
+        List<String> statements = migration.plan(Set.of("idx_exposed_deleted_latest", "idx_exposed_deleted_category_latest",
+                "idx_exposed_deleted_category"));
+
+        // then
+        assertThat(statements).containsExactly("ALTER TABLE products DROP INDEX idx_exposed_deleted_category");
+    }
+
+    @Test
+    @DisplayName("이미 반영된 DB는 DDL을 실행하지 않는다")
+    void run_migrated() {
+        // given
+        ProductIndexMigration migration = new ProductIndexMigration(jdbcTemplate);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("products")))
+                .thenReturn(List.of("PRIMARY", "idx_exposed_deleted_latest", "idx_exposed_deleted_category_latest"));
+
+        // when
+        migration.run(null);
+
+        // then
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
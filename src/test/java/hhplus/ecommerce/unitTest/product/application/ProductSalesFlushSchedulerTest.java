@@ -0,0 +1,148 @@
+package hhplus.ecommerce.unitTest.product.application;
+
+import hhplus.ecommerce.common.domain.constants.BusinessConstants;
+import hhplus.ecommerce.product.application.scheduler.ProductSalesFlushScheduler;
+import hhplus.ecommerce.product.application.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSalesFlushSchedulerTest {
+
+    private static final String PENDING = BusinessConstants.REDIS_PRODUCT_SALES_PENDING_KEY;
+    private static final String PROCESSING = BusinessConstants.REDIS_PRODUCT_SALES_PROCESSING_KEY;
+    private static final String BATCH_ID = BusinessConstants.REDIS_PRODUCT_SALES_BATCH_ID_KEY;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    private ProductSalesFlushScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ProductSalesFlushScheduler(redisTemplate, productService, redissonClient);
+    }
+
+    @Test
+    @DisplayName("선점한 배치의 누적 판매량을 배치 ID와 함께 DB에 반영한 뒤 processing 키를 삭제한다")
+    void flush() {
+        // given
+        givenLockAcquired();
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(PENDING, PROCESSING, BATCH_ID)), any(Object[].class)))
+                .thenReturn("batch-1");
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(PROCESSING)).thenReturn(Map.of("1", "3", "2", "5"));
+        when(hashOperations.entries(PENDING)).thenReturn(Map.of());
+
+        // when
+        scheduler.flush();
+
+        // then
+        verify(productService).addSalesCounts("batch-1", Map.of(1L, 3L, 2L, 5L));
+        verify(redisTemplate).delete(List.of(PROCESSING, BATCH_ID));
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("최초 반영 후 한 번만 백필을 시도하고 DB에 아직 반영되지 않은 pending 누적분을 함께 넘긴다")
+    void flush_backfillOnce() {
+        // given
+        givenLockAcquired();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(null);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(PENDING)).thenReturn(Map.of("1", "2"));
+        when(productService.backfillSalesCounts(ProductSalesFlushScheduler.SALES_BACKFILL_BATCH_ID, Map.of(1L, 2L)))
+                .thenReturn(10);
+
+        // when
+        scheduler.flush();
+        scheduler.flush();
+
+        // then
+        verify(productService, times(1)).backfillSalesCounts(ProductSalesFlushScheduler.SALES_BACKFILL_BATCH_ID, Map.of(1L, 2L));
+        verify(productService, never()).addSalesCounts(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 processing 키를 남겨 다음 주기에 같은 배치 ID로 재시도하고 백필은 미룬다")
+    void flush_failure() {
+        // given
+        givenLockAcquired();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn("batch-1");
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(PROCESSING)).thenReturn(Map.of("1", "3"));
+        when(productService.addSalesCounts(anyString(), anyMap())).thenThrow(new RuntimeException("DB 장애"));
+
+        // when
+        scheduler.flush();
+
+        // then
+        verify(redisTemplate, never()).delete(anyCollection());
+        verify(productService, never()).backfillSalesCounts(anyString(), anyMap());
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("반영할 판매량이 없으면 DB에 반영하지 않는다")
+    void flush_empty() {
+        // given
+        givenLockAcquired();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(null);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(PENDING)).thenReturn(Map.of());
+
+        // when
+        scheduler.flush();
+
+        // then
+        verify(productService, never()).addSalesCounts(anyString(), anyMap());
+        verify(redisTemplate, never()).delete(anyCollection());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 반영 중이면 이번 주기는 건너뛴다")
+    void flush_lockNotAcquired() {
+        // given
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(false);
+
+        // when
+        scheduler.flush();
+
+        // then
+        verifyNoInteractions(redisTemplate, productService);
+    }
+
+    private void givenLockAcquired() {
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+    }
+}
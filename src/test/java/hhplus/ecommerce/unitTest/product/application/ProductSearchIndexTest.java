@@ -0,0 +1,138 @@
+package hhplus.ecommerce.unitTest.product.application;
+
+import hhplus.ecommerce.product.application.dto.ProductSearchResult;
+import hhplus.ecommerce.product.application.service.ProductSearchIndex;
+import hhplus.ecommerce.product.domain.model.Product;
+import hhplus.ecommerce.product.domain.repository.ProductRepository;
+import hhplus.ecommerce.product.domain.repository.ProductSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(productRepository, 2);
+    }
+
+    @Test
+    @DisplayName("여러 단어는 모두 포함하는 상품만 찾고 마지막 단어는 접두어로 일치한다")
+    void search_termAndPrefix() {
+        // given
+        index.upsert(product(1L, "무선 키보드", "전자", 30000));
+        index.upsert(product(2L, "무선 마우스", "전자", 20000));
+        index.upsert(product(3L, "유선 키보드", "전자", 10000));
+
+        // when
+        ProductSearchResult result = index.search("무선 키보", null, null, null, 10);
+
+        // then
+        assertThat(ids(result)).containsExactly(1L);
+        assertThat(result.totalHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카테고리 건수는 카테고리 필터 전 기준이고, 가격 범위는 결과와 건수 모두에 적용된다")
+    void search_facetsAndPriceRange() {
+        // given
+        index.upsert(product(1L, "면 티셔츠", "의류", 15000));
+        index.upsert(product(2L, "티셔츠 프린터", "전자", 200000));
+        index.upsert(product(3L, "기능성 티셔츠", "의류", 30000));
+        index.upsert(product(4L, "무지 티셔츠", "의류", 5000));
+
+        // when
+        ProductSearchResult result = index.search("티셔츠", "의류", BigDecimal.valueOf(10000), BigDecimal.valueOf(300000), 10);
+
+        // then
+        assertThat(ids(result)).containsExactly(3L, 1L);
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.categoryFacets()).containsEntry("의류", 2L).containsEntry("전자", 1L);
+    }
+
+    @Test
+    @DisplayName("수정된 상품은 새 내용으로만 검색되고, 비노출/삭제 상품은 제외된다")
+    void upsert_replacesAndRemoves() {
+        // given
+        index.upsert(product(1L, "무선 키보드", "전자", 30000));
+        index.upsert(product(2L, "무선 마우스", "전자", 20000));
+
+        // when
+        index.upsert(product(1L, "블루투스 스피커", "전자", 30000));
+        Product hidden = product(2L, "무선 마우스", "전자", 20000);
+        hidden.updateExposure(false);
+        index.upsert(hidden);
+
+        // then
+        assertThat(index.search("무선", null, null, null, 10).totalHits()).isZero();
+        assertThat(ids(index.search("블루", null, null, null, 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재구성은 ID 순 배치로 노출 상품을 읽어 인덱스를 교체하고, 검색은 DB를 조회하지 않는다")
+    void rebuild() {
+        // given
+        index.upsert(product(9L, "오래된 상품", "전자", 1000));
+        when(productRepository.findExposedAfter(eq(0L), any(PageRequest.class)))
+                .thenReturn(List.of(product(1L, "무선 키보드", "전자", 30000), product(2L, "무선 마우스", "전자", 20000)));
+        when(productRepository.findExposedAfter(eq(2L), any(PageRequest.class)))
+                .thenReturn(List.of(product(3L, "면 티셔츠", "의류", 15000)));
+
+        // when
+        int indexed = index.rebuild();
+        ProductSearchResult result = index.search("무선", null, null, null, 10);
+
+        // then
+        assertThat(indexed).isEqualTo(3);
+        assertThat(ids(result)).containsExactly(2L, 1L);
+        assertThat(index.search("오래된", null, null, null, 10).totalHits()).isZero();
+        verify(productRepository, times(2)).findExposedAfter(any(), any(PageRequest.class));
+        verifyNoMoreInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("결과 수는 limit으로 제한하지만 전체 건수는 모두 센다")
+    void search_limit() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            index.upsert(product(id, "상품 " + id, "전자", 1000));
+        }
+
+        // when
+        ProductSearchResult result = index.search("상품", null, null, null, 2);
+
+        // then
+        assertThat(ids(result)).containsExactly(5L, 4L);
+        assertThat(result.totalHits()).isEqualTo(5);
+    }
+
+    private Product product(Long productId, String name, String category, long price) {
+        Product product = Product.create(name, category, "설명", "img", BigDecimal.valueOf(price), true);
+        ReflectionTestUtils.setField(product, "productId", productId);
+        return product;
+    }
+
+    private List<Long> ids(ProductSearchResult result) {
+        return result.items().stream().map(ProductSummary::productId).toList();
+    }
+}
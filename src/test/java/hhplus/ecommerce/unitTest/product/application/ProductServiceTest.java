@@ -2,15 +2,28 @@ package hhplus.ecommerce.unitTest.product.application;
 
 import hhplus.ecommerce.common.domain.constants.BusinessConstants;
 import hhplus.ecommerce.common.domain.exception.ProductException;
+import hhplus.ecommerce.common.event.EventPublisher;
+import hhplus.ecommerce.common.presentation.response.PageResponse;
+import hhplus.ecommerce.product.application.dto.ProductCursor;
 import hhplus.ecommerce.product.application.dto.ProductRankingDto;
+import hhplus.ecommerce.product.application.dto.ProductSearchResult;
+import hhplus.ecommerce.product.domain.event.ProductChangedEvent;
+import hhplus.ecommerce.product.application.service.ProductCountCache;
+import hhplus.ecommerce.product.application.service.ProductSearchIndex;
 import hhplus.ecommerce.product.application.service.ProductService;
+import hhplus.ecommerce.product.application.service.ProductPriceVersion;
 import hhplus.ecommerce.product.domain.model.PeriodType;
 import hhplus.ecommerce.product.domain.model.PopularProduct;
 import hhplus.ecommerce.product.domain.model.Product;
 import hhplus.ecommerce.product.domain.model.ProductOption;
+import hhplus.ecommerce.product.domain.model.ProductSort;
 import hhplus.ecommerce.product.domain.repository.PopularProductRepository;
 import hhplus.ecommerce.product.domain.repository.ProductOptionRepository;
 import hhplus.ecommerce.product.domain.repository.ProductRepository;
+import hhplus.ecommerce.product.domain.repository.ProductSalesFlushBatchRepository;
+import hhplus.ecommerce.product.domain.repository.ProductListCondition;
+import hhplus.ecommerce.product.domain.repository.ProductSeek;
+import hhplus.ecommerce.product.domain.repository.ProductSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,13 +37,20 @@ import org.springframework.data.redis.core.ZSetOperations;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,12 +62,27 @@ class ProductServiceTest {
     @Mock
     private ProductOptionRepository productOptionRepository;
 
+    @Mock
+    private ProductSalesFlushBatchRepository productSalesFlushBatchRepository;
+
     @Mock
     private RedisTemplate<String, String> redisTemplate;
 
     @Mock
     private PopularProductRepository popularProductRepository;
 
+    @Mock
+    private ProductPriceVersion productPriceVersion;
+
+    @Mock
+    private ProductCountCache productCountCache;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
     @Mock
     private ZSetOperations<String, String> zSetOperations;
 
@@ -89,6 +124,47 @@ class ProductServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getProductName()).isEqualTo("테스트 상품");
         verify(productRepository, times(1)).save(any(Product.class));
+        verify(eventPublisher).publish(argThat(event -> event instanceof ProductChangedEvent changed
+                && changed.getChangeType() == ProductChangedEvent.ChangeType.CREATED));
+    }
+
+    @Test
+    @DisplayName("상품 삭제 시 검색 인덱스 갱신용 삭제 이벤트를 발행한다")
+    void deleteProduct_publishesEvent() {
+        // given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+
+        // when
+        productService.deleteProduct(1L);
+
+        // then
+        assertThat(testProduct.isDeleted()).isTrue();
+        verify(eventPublisher).publish(argThat(event -> event instanceof ProductChangedEvent changed
+                && changed.getProductId().equals(1L)
+                && changed.getChangeType() == ProductChangedEvent.ChangeType.DELETED));
+    }
+
+    @Test
+    @DisplayName("상품 검색은 인메모리 인덱스만 조회하고 빈 카테고리는 필터 없음으로 처리한다")
+    void searchProducts() {
+        // given
+        ProductSearchResult expected = new ProductSearchResult(List.of(), 0, Map.of());
+        when(productSearchIndex.search("노트북", null, null, null, 20)).thenReturn(expected);
+
+        // when
+        ProductSearchResult result = productService.searchProducts("노트북", " ", null, null, 20);
+
+        // then
+        assertThat(result).isSameAs(expected);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("상품 검색 시 최소 가격이 최대 가격보다 크면 예외가 발생한다")
+    void searchProducts_invalidPriceRange() {
+        assertThatThrownBy(() -> productService.searchProducts("노트북", null, BigDecimal.TEN, BigDecimal.ONE, 20))
+                .isInstanceOf(ProductException.class);
+        verifyNoInteractions(productSearchIndex);
     }
 
     @Test
@@ -128,6 +204,142 @@ class ProductServiceTest {
         verify(productRepository, times(1)).findById(productId);
     }
 
+    @Test
+    @DisplayName("커서 없이 조회하면 offset 첫 페이지와 마지막 상품 기준 다음 커서를 반환한다")
+    void getProducts_firstPage() {
+        // given
+        ProductListCondition condition = ProductListCondition.exposed("sales", null, null, null);
+        ProductSummary top = summary(2L, 50, BigDecimal.valueOf(20000));
+        ProductSummary second = summary(1L, 30, BigDecimal.valueOf(10000));
+        when(productRepository.findSummaries(condition, null, 0L, 2)).thenReturn(List.of(top, second));
+        when(productCountCache.count(condition)).thenReturn(5L);
+
+        // when
+        PageResponse<ProductSummary> result = productService.getProducts(condition, 0, 2, null);
+
+        // then
+        assertThat(result.getContent()).containsExactly(top, second);
+        assertThat(result.getNextCursor()).isEqualTo(new ProductCursor("sales", "30", 1L).encode());
+        assertThat(result.getTotalPages()).isEqualTo(3);
+        verify(productRepository, never()).countSummaries(any());
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 (정렬 키, ID) 이후부터 조회하고 마지막 페이지면 다음 커서가 없다")
+    void getProducts_cursor() {
+        // given
+        ProductListCondition condition = ProductListCondition.exposed("price_desc", "전자제품", null, BigDecimal.valueOf(50000));
+        String cursor = new ProductCursor("price_desc", "15000", 3L).encode();
+        ProductSummary last = summary(1L, 0, BigDecimal.valueOf(10000));
+        when(productRepository.findSummaries(condition, new ProductSeek(new BigDecimal("15000"), 3L), 20L, 2))
+                .thenReturn(List.of(last));
+        when(productCountCache.count(condition)).thenReturn(3L);
+
+        // when
+        PageResponse<ProductSummary> result = productService.getProducts(condition, 10, 2, cursor);
+
+        // then
+        assertThat(result.getContent()).containsExactly(last);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준의 커서나 잘못된 커서는 거부한다")
+    void getProducts_invalidCursor() {
+        // given
+        String salesCursor = new ProductCursor("sales", "30", 1L).encode();
+        ProductListCondition priceAsc = ProductListCondition.exposed("price_asc", null, null, null);
+        ProductListCondition sales = ProductListCondition.exposed("sales", null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> productService.getProducts(priceAsc, 0, 20, salesCursor))
+                .isInstanceOf(ProductException.class);
+        assertThatThrownBy(() -> productService.getProducts(sales, 0, 20, "abc"))
+                .isInstanceOf(ProductException.class);
+        assertThatThrownBy(() -> productService.getProducts(sales, 0, 20, new ProductCursor("sales", "x", 1L).encode()))
+                .isInstanceOf(ProductException.class);
+        verify(productRepository, never()).findSummaries(any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("최신순 조회는 카테고리 없이도 전체 노출 상품을 조회한다")
+    void getProducts_latestWithoutCategory() {
+        // given
+        ProductSummary product = summary(1L, 0, BigDecimal.valueOf(10000));
+        when(productRepository.findSummaries(any(ProductListCondition.class), isNull(), eq(0L), eq(20)))
+                .thenReturn(List.of(product));
+
+        // when
+        PageResponse<ProductSummary> result = productService.getProducts(0, 20, "latest", null);
+
+        // then
+        assertThat(result.getContent()).containsExactly(product);
+        verify(productRepository).findSummaries(argThat((ProductListCondition condition) ->
+                condition.sort() == ProductSort.LATEST && !condition.hasCategory() && condition.exposed()),
+                isNull(), eq(0L), eq(20));
+    }
+
+    @Test
+    @DisplayName("누적 판매량은 상품별 증가 쿼리로 반영하고 0인 항목은 건너뛴다")
+    void addSalesCounts() {
+        // given
+        when(productSalesFlushBatchRepository.insertIfAbsent(eq("batch-1"), any(LocalDateTime.class))).thenReturn(1);
+        when(productRepository.addSalesCount(1L, 3L)).thenReturn(1);
+        when(productRepository.addSalesCount(2L, 5L)).thenReturn(1);
+
+        // when
+        int updated = productService.addSalesCounts("batch-1", Map.of(1L, 3L, 2L, 5L, 3L, 0L));
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        verify(productRepository, never()).addSalesCount(eq(3L), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 반영된 배치 ID로 재처리하면 누적 판매량을 다시 더하지 않는다")
+    void addSalesCountsAlreadyApplied() {
+        // given
+        when(productSalesFlushBatchRepository.insertIfAbsent(eq("batch-1"), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        int updated = productService.addSalesCounts("batch-1", Map.of(1L, 3L));
+
+        // then
+        assertThat(updated).isZero();
+        verify(productRepository, never()).addSalesCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("누적 판매량 백필은 결제 완료 주문 수량 합계로 덮어쓰고 DB 미반영 누적분을 뺀다")
+    void backfillSalesCounts() {
+        // given
+        when(productSalesFlushBatchRepository.insertIfAbsent(eq("sales-count-backfill"), any(LocalDateTime.class))).thenReturn(1);
+        when(productRepository.backfillSalesCounts()).thenReturn(3);
+
+        // when
+        int updated = productService.backfillSalesCounts("sales-count-backfill", Map.of(1L, 2L, 2L, 0L));
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        verify(productRepository).addSalesCount(1L, -2L);
+        verify(productRepository, never()).addSalesCount(eq(2L), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 백필했으면 누적 판매량을 다시 덮어쓰지 않는다")
+    void backfillSalesCountsAlreadyApplied() {
+        // given
+        when(productSalesFlushBatchRepository.insertIfAbsent(eq("sales-count-backfill"), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        int updated = productService.backfillSalesCounts("sales-count-backfill", Map.of(1L, 2L));
+
+        // then
+        assertThat(updated).isZero();
+        verify(productRepository, never()).backfillSalesCounts();
+        verify(productRepository, never()).addSalesCount(anyLong(), anyLong());
+    }
+
     @Test
     @DisplayName("상품 옵션을 정상적으로 등록할 수 있다")
     void createProductOption() {
@@ -342,4 +554,9 @@ class ProductServiceTest {
         assertThatThrownBy(() -> productService.getTopProducts(period, invalidLimit))
                 .isInstanceOf(ProductException.class);
     }
+
+    private ProductSummary summary(Long productId, long salesCount, BigDecimal price) {
+        return new ProductSummary(productId, "상품" + productId, "전자제품", null, price, salesCount, true,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
 }
@@ -0,0 +1,89 @@
+package hhplus.ecommerce.unitTest.product.application;
+
+import hhplus.ecommerce.product.application.scheduler.StockChangeFlushScheduler;
+import hhplus.ecommerce.product.domain.model.ProductOption;
+import hhplus.ecommerce.product.domain.repository.ProductOptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockChangeFlushSchedulerTest {
+
+    @Mock
+    private ProductOptionRepository productOptionRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache detailCache;
+
+    private StockChangeFlushScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new StockChangeFlushScheduler(productOptionRepository, cacheManager);
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 변경된 옵션을 모아 상품별로 한 번씩 상세 캐시를 비운다")
+    void flush() {
+        // given
+        scheduler.record(1L);
+        scheduler.record(2L);
+        scheduler.record(1L);
+        when(cacheManager.getCache("productDetail")).thenReturn(detailCache);
+        when(productOptionRepository.findAllById(anyList())).thenReturn(List.of(
+                ProductOption.create(10L, "옵션1", BigDecimal.ZERO, 0, true),
+                ProductOption.create(10L, "옵션2", BigDecimal.ZERO, 5, true)));
+
+        // when
+        scheduler.flush();
+        scheduler.flush();
+
+        // then
+        verify(productOptionRepository, times(1)).findAllById(argThat(ids -> ((List<?>) ids).size() == 2));
+        verify(detailCache, times(1)).evict(10L);
+    }
+
+    @Test
+    @DisplayName("캐시 무효화에 실패하면 다음 주기에 다시 처리한다")
+    void flush_retry() {
+        // given
+        scheduler.record(1L);
+        when(cacheManager.getCache("productDetail")).thenReturn(detailCache);
+        when(productOptionRepository.findAllById(anyList()))
+                .thenThrow(new RuntimeException("DB 오류"))
+                .thenReturn(List.of(ProductOption.create(10L, "옵션1", BigDecimal.ZERO, 0, true)));
+
+        // when
+        scheduler.flush();
+        scheduler.flush();
+
+        // then
+        verify(productOptionRepository, times(2)).findAllById(anyList());
+        verify(detailCache).evict(10L);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 아무것도 조회하지 않는다")
+    void flush_empty() {
+        // when
+        scheduler.flush();
+
+        // then
+        verifyNoInteractions(productOptionRepository, cacheManager);
+    }
+}
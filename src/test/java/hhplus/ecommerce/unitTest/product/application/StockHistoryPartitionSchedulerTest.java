@@ -0,0 +1,69 @@
+package hhplus.ecommerce.unitTest.product.application;
+
+import hhplus.ecommerce.product.application.scheduler.StockHistoryPartitionScheduler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockHistoryPartitionSchedulerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("마지막 월 파티션 이후부터 ahead-months까지 pmax를 쪼개 파티션을 추가한다")
+    void plan_addAhead() {
+        // given
+        StockHistoryPartitionScheduler scheduler = new StockHistoryPartitionScheduler(jdbcTemplate, 2, 12);
+
+        // when
+        List<String> statements = scheduler.plan(List.of("p202610", "p202611", "pmax"), YearMonth.of(2026, 11));
+
+        // then
+        assertThat(statements).containsExactly(
+                "ALTER TABLE stock_histories REORGANIZE PARTITION pmax INTO (PARTITION p202612 VALUES LESS THAN ('2027-01-01'), PARTITION pmax VALUES LESS THAN (MAXVALUE))",
+                "ALTER TABLE stock_histories REORGANIZE PARTITION pmax INTO (PARTITION p202701 VALUES LESS THAN ('2027-02-01'), PARTITION pmax VALUES LESS THAN (MAXVALUE))"
+        );
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 월 파티션은 삭제한다")
+    void plan_dropExpired() {
+        // given
+        StockHistoryPartitionScheduler scheduler = new StockHistoryPartitionScheduler(jdbcTemplate, 0, 2);
+
+        // when
+        List<String> statements = scheduler.plan(List.of("p202607", "p202608", "p202609", "p202610", "pmax"), YearMonth.of(2026, 10));
+
+        // then
+        assertThat(statements).containsExactly(
+                "ALTER TABLE stock_histories DROP PARTITION p202607"
+        );
+    }
+
+    @Test
+    @DisplayName("파티션되지 않은 테이블은 건너뛴다")
+    void maintain_notPartitioned() {
+        // given
+        StockHistoryPartitionScheduler scheduler = new StockHistoryPartitionScheduler(jdbcTemplate, 3, 12);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("stock_histories"))).thenReturn(List.of());
+
+        // when
+        scheduler.maintain();
+
+        // then
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
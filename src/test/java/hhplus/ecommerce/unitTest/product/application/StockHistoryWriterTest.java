@@ -0,0 +1,137 @@
+package hhplus.ecommerce.unitTest.product.application;
+
+import hhplus.ecommerce.product.application.service.StockHistoryWriter;
+import hhplus.ecommerce.product.domain.model.StockHistory;
+import hhplus.ecommerce.product.domain.repository.StockHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockHistoryWriterTest {
+
+    @Mock
+    private StockHistoryRepository stockHistoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("모인 이력을 배치 크기만큼 다중 행 INSERT로 저장한다")
+    void flush_batches() {
+        // given
+        StockHistoryWriter writer = new StockHistoryWriter(stockHistoryRepository, 100, 2);
+        writer.append(history(1L));
+        writer.append(history(2L));
+        writer.append(history(3L));
+        when(stockHistoryRepository.insertAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        writer.flush();
+        writer.flush();
+
+        // then
+        verify(stockHistoryRepository).insertAll(argThat(batch -> batch.size() == 2));
+        verify(stockHistoryRepository).insertAll(argThat(batch -> batch.size() == 1));
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 추가한 이력은 커밋 후에만 버퍼에 들어간다")
+    void append_afterCommit() {
+        // given
+        StockHistoryWriter writer = new StockHistoryWriter(stockHistoryRepository, 100, 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        writer.append(history(1L));
+
+        // then
+        assertThat(writer.pendingCount()).isZero();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(writer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 배치는 다음 주기에 먼저 재시도한다")
+    void flush_retryFailedBatch() {
+        // given
+        StockHistoryWriter writer = new StockHistoryWriter(stockHistoryRepository, 100, 10);
+        writer.append(history(1L));
+        when(stockHistoryRepository.insertAll(anyList()))
+                .thenThrow(new RuntimeException("DB 오류"))
+                .thenReturn(1);
+
+        // when
+        writer.flush();
+        int pendingAfterFailure = writer.pendingCount();
+        writer.flush();
+
+        // then
+        assertThat(pendingAfterFailure).isEqualTo(1);
+        assertThat(writer.pendingCount()).isZero();
+        verify(stockHistoryRepository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘긴 배치는 한 건씩 저장하고 실패한 이력만 버린다")
+    void flush_splitAfterMaxAttempts() {
+        // given
+        StockHistoryWriter writer = new StockHistoryWriter(stockHistoryRepository, 100, 10);
+        StockHistory valid = history(1L);
+        StockHistory invalid = history(2L);
+        writer.append(valid);
+        writer.append(invalid);
+        when(stockHistoryRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<?> batch = invocation.getArgument(0);
+            if (batch.contains(invalid)) {
+                throw new RuntimeException("DB 오류");
+            }
+            return batch.size();
+        });
+
+        // when
+        for (int i = 0; i < StockHistoryWriter.MAX_BATCH_ATTEMPTS; i++) {
+            writer.flush();
+        }
+
+        // then
+        assertThat(writer.pendingCount()).isZero();
+        verify(stockHistoryRepository).insertAll(List.of(valid));
+        verify(stockHistoryRepository).insertAll(List.of(invalid));
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 호출 스레드에서 바로 저장한다")
+    void append_bufferFull() {
+        // given
+        StockHistoryWriter writer = new StockHistoryWriter(stockHistoryRepository, 1, 10);
+        writer.append(history(1L));
+
+        // when
+        writer.append(history(2L));
+
+        // then
+        verify(stockHistoryRepository).insertAll(argThat(batch -> batch.size() == 1));
+        assertThat(writer.pendingCount()).isEqualTo(1);
+    }
+
+    private StockHistory history(Long productOptionId) {
+        return StockHistory.forIncrease(productOptionId, 10, 10, "재입고", 1L);
+    }
+}
@@ -0,0 +1,176 @@
+package hhplus.ecommerce.unitTest.product.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hhplus.ecommerce.common.application.retry.RetryPolicy;
+import hhplus.ecommerce.common.domain.exception.StockException;
+import hhplus.ecommerce.product.application.dto.StockBatchResult;
+import hhplus.ecommerce.product.application.dto.StockImportResult;
+import hhplus.ecommerce.product.application.service.StockImportService;
+import hhplus.ecommerce.product.application.service.StockService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockImportServiceTest {
+
+    @Mock
+    private StockService stockService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RetryPolicy retryPolicy = new RetryPolicy(1, 5, 3, 1000, 20, 1);
+
+    @Test
+    @DisplayName("CSV는 헤더를 건너뛰고 같은 옵션을 합산해 배치 크기마다 반영한다")
+    void importCsv_batches() {
+        // given
+        StockImportService service = new StockImportService(stockService, objectMapper, retryPolicy, 2);
+        List<Map<Long, Integer>> batches = captureBatches();
+        String csv = """
+                productOptionId,amount
+                1,10
+                1,-3
+                2,5
+
+                3,7
+                """;
+
+        // when
+        StockImportResult result = service.importStocks(body(csv), StockImportService.Format.CSV, 1L, "창고 동기화");
+
+        // then
+        assertThat(batches).containsExactly(Map.of(1L, 7, 2L, 5), Map.of(3L, 7));
+        assertThat(result.totalLines()).isEqualTo(4);
+        assertThat(result.appliedCount()).isEqualTo(3);
+        assertThat(result.batchCount()).isEqualTo(2);
+        assertThat(result.invalidCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("NDJSON도 한 줄씩 반영하고 형식 오류 줄은 건너뛰어 요약에 남긴다")
+    void importNdjson_invalidLines() {
+        // given
+        StockImportService service = new StockImportService(stockService, objectMapper, retryPolicy, 1000);
+        List<Map<Long, Integer>> batches = captureBatches();
+        String ndjson = """
+                {"productOptionId":1,"amount":10}
+                {"productOptionId":2}
+                not-json
+                {"productOptionId":3,"amount":0}
+                {"productOptionId":4,"amount":-1}
+                """;
+
+        // when
+        StockImportResult result = service.importStocks(body(ndjson), StockImportService.Format.NDJSON, 1L, "창고 동기화");
+
+        // then
+        assertThat(batches).containsExactly(Map.of(1L, 10, 4L, -1));
+        assertThat(result.totalLines()).isEqualTo(5);
+        assertThat(result.invalidCount()).isEqualTo(3);
+        assertThat(result.errors()).hasSize(3).allMatch(error -> error.contains("형식 오류"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않거나 재고 부족으로 제외된 옵션은 요약에 집계한다")
+    void importCsv_notFoundAndRejected() {
+        // given
+        StockImportService service = new StockImportService(stockService, objectMapper, retryPolicy, 1000);
+        when(stockService.applyStockDeltas(anyMap(), eq(1L), eq("창고 동기화")))
+                .thenReturn(new StockBatchResult(1, List.of(2L), List.of(3L)));
+
+        // when
+        StockImportResult result = service.importStocks(body("1,5\n2,5\n3,-5\n"), StockImportService.Format.CSV, 1L, "창고 동기화");
+
+        // then
+        assertThat(result.appliedCount()).isEqualTo(1);
+        assertThat(result.notFoundCount()).isEqualTo(1);
+        assertThat(result.rejectedCount()).isEqualTo(1);
+        assertThat(result.errors()).containsExactly("존재하지 않는 옵션: 2", "재고 부족으로 제외된 옵션: 3");
+    }
+
+    @Test
+    @DisplayName("합산 결과가 0인 옵션만 있으면 반영하지 않는다")
+    void importCsv_zeroSum() {
+        // given
+        StockImportService service = new StockImportService(stockService, objectMapper, retryPolicy, 1000);
+
+        // when
+        StockImportResult result = service.importStocks(body("1,5\n1,-5\n"), StockImportService.Format.CSV, 1L, "창고 동기화");
+
+        // then
+        assertThat(result.batchCount()).isZero();
+        verify(stockService, never()).applyStockDeltas(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("교착으로 배치가 롤백되면 같은 배치를 다시 반영한다")
+    void importCsv_retryOnDeadlock() {
+        // given
+        StockImportService service = new StockImportService(stockService, objectMapper, retryPolicy, 1000);
+        when(stockService.applyStockDeltas(anyMap(), eq(1L), eq("창고 동기화")))
+                .thenThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"))
+                .thenReturn(new StockBatchResult(1, List.of(), List.of()));
+
+        // when
+        StockImportResult result = service.importStocks(body("1,10\n"), StockImportService.Format.CSV, 1L, "창고 동기화");
+
+        // then
+        assertThat(result.appliedCount()).isEqualTo(1);
+        verify(stockService, times(2)).applyStockDeltas(eq(Map.of(1L, 10)), eq(1L), eq("창고 동기화"));
+    }
+
+    @Test
+    @DisplayName("교착이 재시도 한도를 넘으면 재고 일괄 반영 실패 예외가 발생한다")
+    void importCsv_retryExhausted() {
+        // given
+        StockImportService service = new StockImportService(stockService, objectMapper, retryPolicy, 1000);
+        when(stockService.applyStockDeltas(anyMap(), eq(1L), eq("창고 동기화")))
+                .thenThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"));
+
+        // when & then
+        assertThatThrownBy(() -> service.importStocks(body("1,10\n"), StockImportService.Format.CSV, 1L, "창고 동기화"))
+                .isInstanceOf(StockException.class);
+        verify(stockService, times(3)).applyStockDeltas(anyMap(), eq(1L), eq("창고 동기화"));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 Content-Type이면 예외가 발생한다")
+    void format_unsupported() {
+        assertThat(StockImportService.Format.fromContentType("text/csv; charset=UTF-8")).isEqualTo(StockImportService.Format.CSV);
+        assertThatThrownBy(() -> StockImportService.Format.fromContentType("application/json"))
+                .isInstanceOf(StockException.class);
+    }
+
+    private List<Map<Long, Integer>> captureBatches() {
+        List<Map<Long, Integer>> batches = new ArrayList<>();
+        when(stockService.applyStockDeltas(anyMap(), eq(1L), eq("창고 동기화"))).thenAnswer(invocation -> {
+            Map<Long, Integer> deltas = new HashMap<>(invocation.getArgument(0));
+            batches.add(deltas);
+            return new StockBatchResult(deltas.size(), List.of(), List.of());
+        });
+        return batches;
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,7 +2,12 @@ package hhplus.ecommerce.unitTest.product.application;
 
 import hhplus.ecommerce.common.domain.exception.ProductException;
 import hhplus.ecommerce.common.domain.exception.StockException;
+import hhplus.ecommerce.common.event.EventPublisher;
+import hhplus.ecommerce.product.application.dto.StockBatchResult;
+import hhplus.ecommerce.product.application.service.StockAvailabilityCache;
+import hhplus.ecommerce.product.application.service.StockHistoryWriter;
 import hhplus.ecommerce.product.application.service.StockService;
+import hhplus.ecommerce.product.domain.event.StockChangedEvent;
 import hhplus.ecommerce.product.domain.model.ProductOption;
 import hhplus.ecommerce.product.domain.model.ReservationStatus;
 import hhplus.ecommerce.product.domain.model.StockHistory;
@@ -10,21 +15,32 @@ import hhplus.ecommerce.product.domain.model.StockReservation;
 import hhplus.ecommerce.product.domain.repository.ProductOptionRepository;
 import hhplus.ecommerce.product.domain.repository.StockHistoryRepository;
 import hhplus.ecommerce.product.domain.repository.StockReservationRepository;
+import hhplus.ecommerce.product.domain.repository.StockRow;
+import hhplus.ecommerce.product.presentation.dto.response.StockResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +55,15 @@ class StockServiceTest {
     @Mock
     private StockHistoryRepository stockHistoryRepository;
 
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private StockHistoryWriter stockHistoryWriter;
+
+    @Spy
+    private StockAvailabilityCache stockAvailabilityCache = new StockAvailabilityCache(60_000);
+
     @InjectMocks
     private StockService stockService;
 
@@ -56,12 +81,13 @@ class StockServiceTest {
     }
 
     @Test
-    @DisplayName("재고를 조회할 수 있다")
+    @DisplayName("재고는 잠금 없이 조회한다")
     void getStock() {
         // given
         Long productOptionId = 1L;
-        when(productOptionRepository.findByIdWithLock(productOptionId))
-                .thenReturn(Optional.of(testProductOption));
+        ReflectionTestUtils.setField(testProductOption, "productOptionId", productOptionId);
+        when(productOptionRepository.findAllById(any()))
+                .thenReturn(List.of(testProductOption));
 
         // when
         var result = stockService.getStock(productOptionId);
@@ -70,7 +96,87 @@ class StockServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getPhysicalQuantity()).isEqualTo(100);
         assertThat(result.getAvailableQuantity()).isEqualTo(100);
-        verify(productOptionRepository, times(1)).findByIdWithLock(productOptionId);
+        verify(productOptionRepository, never()).findByIdWithLock(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 옵션의 재고 조회 시 예외가 발생한다")
+    void getStockNotFound() {
+        // given
+        when(productOptionRepository.findAllById(any())).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> stockService.getStock(99L))
+                .isInstanceOf(ProductException.class);
+    }
+
+    @Test
+    @DisplayName("재고 일괄 조회는 TTL 안에서 캐시된 옵션을 다시 조회하지 않고, 미스난 옵션만 한 번에 조회한다")
+    void getStocks_cached() {
+        // given
+        ProductOption soldOut = ProductOption.create(1L, "품절 옵션", BigDecimal.ZERO, 0, true);
+        ReflectionTestUtils.setField(testProductOption, "productOptionId", 1L);
+        ReflectionTestUtils.setField(soldOut, "productOptionId", 2L);
+        when(productOptionRepository.findAllById(Set.of(1L))).thenReturn(List.of(testProductOption));
+        when(productOptionRepository.findAllById(Set.of(2L))).thenReturn(List.of(soldOut));
+        stockService.getStock(1L);
+
+        // when
+        Map<Long, StockResponse> result = stockService.getStocks(List.of(1L, 2L));
+
+        // then
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(result.get(2L).isSoldOut()).isTrue();
+        verify(productOptionRepository, times(1)).findAllById(Set.of(1L));
+        verify(productOptionRepository, times(1)).findAllById(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("재고 변경 후에는 캐시를 무효화해 변경된 재고를 조회한다")
+    void updateStock_evictsCache() {
+        // given
+        Long productOptionId = 1L;
+        ReflectionTestUtils.setField(testProductOption, "productOptionId", productOptionId);
+        when(productOptionRepository.findAllById(any())).thenReturn(List.of(testProductOption));
+        when(productOptionRepository.findByIdWithLock(productOptionId)).thenReturn(Optional.of(testProductOption));
+        when(productOptionRepository.save(any(ProductOption.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        stockService.getStock(productOptionId);
+
+        // when
+        stockService.updateStock(productOptionId, 20, 1L, "재고 추가");
+
+        // then
+        assertThat(stockService.getStock(productOptionId).getPhysicalQuantity()).isEqualTo(120);
+        verify(productOptionRepository, times(2)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 재고 변경은 커밋 후에 캐시를 무효화한다")
+    void updateStock_evictsCacheAfterCommit() {
+        // given
+        Long productOptionId = 1L;
+        ReflectionTestUtils.setField(testProductOption, "productOptionId", productOptionId);
+        when(productOptionRepository.findAllById(any())).thenReturn(List.of(testProductOption));
+        when(productOptionRepository.findByIdWithLock(productOptionId)).thenReturn(Optional.of(testProductOption));
+        when(productOptionRepository.save(any(ProductOption.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        stockService.getStock(productOptionId);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            stockService.updateStock(productOptionId, 20, 1L, "재고 추가");
+
+            // then
+            stockService.getStock(productOptionId);
+            verify(productOptionRepository, times(1)).findAllById(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(stockService.getStock(productOptionId).getPhysicalQuantity()).isEqualTo(120);
+        verify(productOptionRepository, times(2)).findAllById(any());
     }
 
     @Test
@@ -84,8 +190,6 @@ class StockServiceTest {
                 .thenReturn(Optional.of(testProductOption));
         when(productOptionRepository.save(any(ProductOption.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
-        when(stockHistoryRepository.save(any(StockHistory.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         StockHistory result = stockService.updateStock(productOptionId, increaseAmount, 1L, "재고 추가");
@@ -95,7 +199,8 @@ class StockServiceTest {
         assertThat(result.getAdjustmentType()).isNotNull();
         assertThat(result.getAdjustmentType().name()).isEqualTo("ADD");
         verify(productOptionRepository, times(1)).save(any(ProductOption.class));
-        verify(stockHistoryRepository, times(1)).save(any(StockHistory.class));
+        verify(stockHistoryWriter, times(1)).append(any(StockHistory.class));
+        verify(stockHistoryRepository, never()).save(any(StockHistory.class));
     }
 
     @Test
@@ -109,8 +214,6 @@ class StockServiceTest {
                 .thenReturn(Optional.of(testProductOption));
         when(productOptionRepository.save(any(ProductOption.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
-        when(stockHistoryRepository.save(any(StockHistory.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         StockHistory result = stockService.updateStock(productOptionId, decreaseAmount, 1L, "재고 차감");
@@ -120,7 +223,8 @@ class StockServiceTest {
         assertThat(result.getAdjustmentType()).isNotNull();
         assertThat(result.getAdjustmentType().name()).isEqualTo("USE");
         verify(productOptionRepository, times(1)).save(any(ProductOption.class));
-        verify(stockHistoryRepository, times(1)).save(any(StockHistory.class));
+        verify(stockHistoryWriter, times(1)).append(any(StockHistory.class));
+        verify(stockHistoryRepository, never()).save(any(StockHistory.class));
     }
 
     @Test
@@ -135,6 +239,58 @@ class StockServiceTest {
                 .isInstanceOf(StockException.class);
     }
 
+    @Test
+    @DisplayName("일괄 재고 변경은 ID 순으로 한 번에 잠그고 한 번에 UPDATE 하며 이력은 일괄로 넘긴다")
+    void applyStockDeltas() {
+        // given
+        Map<Long, Integer> deltas = Map.of(3L, -2, 1L, 10, 2L, -5, 9L, 1);
+        when(productOptionRepository.lockStocks(List.of(1L, 2L, 3L, 9L))).thenReturn(List.of(
+                new StockRow(1L, 0, true),
+                new StockRow(2L, 5, false),
+                new StockRow(3L, 1, false)));
+
+        // when
+        StockBatchResult result = stockService.applyStockDeltas(deltas, 1L, "창고 동기화");
+
+        // then
+        assertThat(result.appliedCount()).isEqualTo(2);
+        assertThat(result.notFoundIds()).containsExactly(9L);
+        assertThat(result.rejectedIds()).containsExactly(3L);
+        verify(productOptionRepository).updateStocks(List.of(
+                new StockRow(1L, 10, false),
+                new StockRow(2L, 0, true)));
+        verify(stockHistoryWriter).appendAll(argThat(histories -> histories.size() == 2
+                && histories.get(0).getAmount() == 10 && histories.get(1).getAmount() == -5));
+        verify(eventPublisher, times(2)).publish(any(StockChangedEvent.class));
+        verify(productOptionRepository, never()).findByIdWithLock(any());
+    }
+
+    @Test
+    @DisplayName("재고 이력은 옵션과 기간으로 조회한다")
+    void getStockHistories() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2026, 10, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 10, 8, 0, 0);
+        StockHistory history = StockHistory.forIncrease(1L, 10, 110, "재입고", 1L);
+        when(stockHistoryRepository.findByProductOptionIdAndPeriod(eq(1L), eq(from), eq(to), any()))
+                .thenReturn(List.of(history));
+
+        // when
+        List<StockHistory> result = stockService.getStockHistories(1L, from, to, 0, 50);
+
+        // then
+        assertThat(result).containsExactly(history);
+    }
+
+    @Test
+    @DisplayName("재고 이력 조회 시작 시각이 종료 시각보다 늦으면 예외가 발생한다")
+    void getStockHistoriesInvalidPeriod() {
+        LocalDateTime now = LocalDateTime.now();
+        assertThatThrownBy(() -> stockService.getStockHistories(1L, now, now.minusDays(1), 0, 50))
+                .isInstanceOf(StockException.class);
+        verifyNoInteractions(stockHistoryRepository);
+    }
+
     @Test
     @DisplayName("재고를 예약할 수 있다")
     void reserveStock() {
@@ -157,6 +313,9 @@ class StockServiceTest {
         assertThat(result.getOrderId()).isEqualTo(orderId);
         assertThat(result.getReservedQuantity()).isEqualTo(quantity);
         verify(stockReservationRepository, times(1)).save(any(StockReservation.class));
+        verify(eventPublisher).publish(argThat(event -> event instanceof StockChangedEvent changed
+                && changed.getProductOptionId().equals(productOptionId)
+                && changed.getChangeType() == StockChangedEvent.ChangeType.RESERVED));
     }
 
     @Test
@@ -198,6 +357,62 @@ class StockServiceTest {
         verify(stockReservationRepository, times(1)).save(any(StockReservation.class));
     }
 
+    @Test
+    @DisplayName("주문의 재고 예약을 한 번의 UPDATE로 일괄 확정할 수 있다")
+    void confirmStockReservationsByOrderId() {
+        // given
+        Long orderId = 1L;
+        List<StockReservation> reservations = List.of(
+                StockReservation.create(10L, orderId, 2),
+                StockReservation.create(20L, orderId, 3)
+        );
+
+        when(stockReservationRepository.findByOrderIdAndStatus(orderId, ReservationStatus.RESERVED))
+                .thenReturn(reservations);
+        when(stockReservationRepository.confirmAllByOrderId(
+                eq(orderId), eq(ReservationStatus.RESERVED), eq(ReservationStatus.CONFIRMED), any()))
+                .thenReturn(2);
+
+        // when
+        int confirmed = stockService.confirmStockReservationsByOrderId(orderId, List.of(10L, 20L));
+
+        // then
+        assertThat(confirmed).isEqualTo(2);
+        verify(stockReservationRepository, never()).findByIdWithLock(any());
+        verify(stockReservationRepository, never()).save(any(StockReservation.class));
+    }
+
+    @Test
+    @DisplayName("주문 항목의 재고 예약이 없으면 일괄 확정에 실패한다")
+    void confirmStockReservationsByOrderId_missingReservation() {
+        // given
+        Long orderId = 1L;
+        when(stockReservationRepository.findByOrderIdAndStatus(orderId, ReservationStatus.RESERVED))
+                .thenReturn(List.of(StockReservation.create(10L, orderId, 2)));
+
+        // when & then
+        assertThatThrownBy(() -> stockService.confirmStockReservationsByOrderId(orderId, List.of(10L, 20L)))
+                .isInstanceOf(StockException.class);
+
+        verify(stockReservationRepository, never()).confirmAllByOrderId(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("확정 건수가 조회 건수와 다르면 일괄 확정에 실패한다")
+    void confirmStockReservationsByOrderId_concurrentChange() {
+        // given
+        Long orderId = 1L;
+        when(stockReservationRepository.findByOrderIdAndStatus(orderId, ReservationStatus.RESERVED))
+                .thenReturn(List.of(StockReservation.create(10L, orderId, 2)));
+        when(stockReservationRepository.confirmAllByOrderId(
+                eq(orderId), eq(ReservationStatus.RESERVED), eq(ReservationStatus.CONFIRMED), any()))
+                .thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> stockService.confirmStockReservationsByOrderId(orderId, List.of(10L)))
+                .isInstanceOf(StockException.class);
+    }
+
     @Test
     @DisplayName("재고 예약을 해제할 수 있다")
     void releaseStockReservation() {
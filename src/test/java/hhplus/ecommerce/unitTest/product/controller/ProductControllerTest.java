@@ -6,6 +6,8 @@ import hhplus.ecommerce.product.application.dto.ProductRankingDto;
 import hhplus.ecommerce.product.application.service.ProductMapper;
 import hhplus.ecommerce.product.application.service.ProductService;
 import hhplus.ecommerce.product.domain.model.Product;
+import hhplus.ecommerce.product.domain.repository.ProductListCondition;
+import hhplus.ecommerce.product.domain.repository.ProductSummary;
 import hhplus.ecommerce.product.presentation.controller.ProductController;
 import hhplus.ecommerce.product.presentation.dto.request.ProductRegistrationRequest;
 import hhplus.ecommerce.product.presentation.dto.response.ProductDetailResponse;
@@ -58,15 +60,16 @@ class ProductControllerTest {
     @Test
     @DisplayName("상품 목록 조회 API 테스트")
     void getProducts() throws Exception {
-        PageResponse<Product> mockPageResponse = new PageResponse<>(
-                List.of(testProduct),
+        PageResponse<ProductSummary> mockPageResponse = new PageResponse<>(
+                List.of(new ProductSummary(1L, "테스트 상품", "전자제품", "http://image.url",
+                        BigDecimal.valueOf(10000), 0L, true, null, null)),
                 0,
                 20,
                 1,
                 1
         );
 
-        when(productService.getProducts(anyInt(), anyInt(), anyString(), any()))
+        when(productService.getProducts(any(ProductListCondition.class), anyInt(), anyInt(), any()))
                 .thenReturn(mockPageResponse);
 
         mockMvc.perform(get("/api/product")
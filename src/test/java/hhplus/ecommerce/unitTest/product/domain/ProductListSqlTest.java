@@ -0,0 +1,78 @@
+package hhplus.ecommerce.unitTest.product.domain;
+
+import hhplus.ecommerce.common.domain.exception.ProductException;
+import hhplus.ecommerce.product.domain.model.ProductSort;
+import hhplus.ecommerce.product.domain.repository.ProductListCondition;
+import hhplus.ecommerce.product.domain.repository.ProductListPlan;
+import hhplus.ecommerce.product.domain.repository.ProductListSql;
+import hhplus.ecommerce.product.domain.repository.ProductSeek;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductListSqlTest {
+
+    @Test
+    @DisplayName("카테고리 없는 최신순은 생성일 인덱스로 카테고리 조건 없이 조회한다")
+    void latestWithoutCategory() {
+        // given
+        ProductListCondition condition = ProductListCondition.exposed("latest", "  ", null, null);
+
+        // when
+        ProductListSql sql = ProductListSql.select(condition, null);
+
+        // then
+        assertThat(sql.plan()).isEqualTo(ProductListPlan.LATEST);
+        assertThat(sql.sql())
+                .contains("FORCE INDEX (idx_exposed_deleted_latest)")
+                .doesNotContain("category =")
+                .endsWith("ORDER BY created_at DESC, id DESC");
+        assertThat(sql.params()).containsOnlyKeys("exposed");
+    }
+
+    @Test
+    @DisplayName("카테고리 + 가격 범위 + 커서 조건을 인덱스 순서에 맞춰 조합한다")
+    void categoryPriceRangeWithSeek() {
+        // given
+        ProductListCondition condition = ProductListCondition.exposed("price_asc", "전자", BigDecimal.valueOf(1000), BigDecimal.valueOf(5000));
+
+        // when
+        ProductListSql sql = ProductListSql.select(condition, new ProductSeek(BigDecimal.valueOf(2000), 7L));
+
+        // then
+        assertThat(sql.plan()).isEqualTo(ProductListPlan.PRICE_BY_CATEGORY);
+        assertThat(sql.sql())
+                .contains("FORCE INDEX (idx_exposed_deleted_category_price)")
+                .contains("category = :category AND price >= :minPrice AND price <= :maxPrice")
+                .contains("(price > :afterKey OR (price = :afterKey AND id > :afterId))")
+                .endsWith("ORDER BY price ASC, id ASC");
+        assertThat(sql.params())
+                .containsEntry("category", "전자")
+                .containsEntry("afterId", 7L);
+    }
+
+    @Test
+    @DisplayName("건수 조회는 정렬과 무관하게 가격 범위가 있으면 가격 인덱스를 사용한다")
+    void countPlan() {
+        // given
+        ProductListCondition sales = new ProductListCondition(ProductSort.SALES, null, BigDecimal.ONE, null, true);
+
+        // when
+        ProductListSql sql = ProductListSql.count(sales);
+
+        // then
+        assertThat(sql.plan()).isEqualTo(ProductListPlan.PRICE);
+        assertThat(sql.sql()).startsWith("SELECT COUNT(*)").doesNotContain("ORDER BY");
+    }
+
+    @Test
+    @DisplayName("최소 가격이 최대 가격보다 크면 예외가 발생한다")
+    void invalidPriceRange() {
+        assertThatThrownBy(() -> ProductListCondition.exposed("latest", null, BigDecimal.TEN, BigDecimal.ONE))
+                .isInstanceOf(ProductException.class);
+    }
+}
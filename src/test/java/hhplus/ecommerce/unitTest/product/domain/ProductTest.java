@@ -65,7 +65,7 @@ public class ProductTest {
 
         // when
         product.update("newTestProduct", "newTestCategory", "newTestDescription",
-                "newTestImageUrl", BigDecimal.valueOf(20000), 100, false);
+                "newTestImageUrl", BigDecimal.valueOf(20000), false);
 
         // then
         assertThat(product.getProductName()).isEqualTo("newTestProduct");
@@ -73,7 +73,7 @@ public class ProductTest {
         assertThat(product.getDescription()).isEqualTo("newTestDescription");
         assertThat(product.getImageUrl()).isEqualTo("newTestImageUrl");
         assertThat(product.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(20000));
-        assertThat(product.getSalesCount()).isEqualTo(100);
+        assertThat(product.getSalesCount()).isZero();
         assertThat(product.isExposed()).isFalse();
     }
 
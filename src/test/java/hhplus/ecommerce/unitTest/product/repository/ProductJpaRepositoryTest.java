@@ -1,14 +1,15 @@
 package hhplus.ecommerce.unitTest.product.repository;
 
 import hhplus.ecommerce.product.domain.model.Product;
+import hhplus.ecommerce.product.domain.repository.ProductListCondition;
 import hhplus.ecommerce.product.domain.repository.ProductRepository;
+import hhplus.ecommerce.product.domain.repository.ProductSeek;
+import hhplus.ecommerce.product.domain.repository.ProductSummary;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.MySQLContainer;
@@ -16,6 +17,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -61,17 +63,47 @@ class ProductJpaRepositoryTest {
         productJpaRepository.save(Product.create("P2", "전자", "d", "img", BigDecimal.valueOf(10000), true));
         productJpaRepository.save(Product.create("P3", "의류", "d", "img", BigDecimal.valueOf(20000), true));
 
-        Page<Product> electronics = productJpaRepository.findByCategoryOrderByCreatedAtDesc("전자", PageRequest.of(0, 10));
-        assertThat(electronics.getTotalElements()).isEqualTo(2);
+        ProductListCondition electronicsLatest = ProductListCondition.exposed("latest", "전자", null, null);
+        List<ProductSummary> electronics = productJpaRepository.findSummaries(electronicsLatest, null, 0, 10);
+        assertThat(electronics).hasSize(2);
+        assertThat(productJpaRepository.countSummaries(electronicsLatest)).isEqualTo(2);
 
-        Page<Product> asc = productJpaRepository.findAllByPriceAsc(PageRequest.of(0, 10));
-        assertThat(asc.getContent()).hasSize(3);
-        assertThat(asc.getContent().get(0).getPrice()).isEqualTo(BigDecimal.valueOf(10000));
+        List<ProductSummary> asc = productJpaRepository.findSummaries(
+                ProductListCondition.exposed("price_asc", null, null, null), null, 0, 10);
+        assertThat(asc).hasSize(3);
+        assertThat(asc.get(0).price()).isEqualByComparingTo(BigDecimal.valueOf(10000));
 
-        Page<Product> desc = productJpaRepository.findAllByPriceDesc(PageRequest.of(0, 10));
-        assertThat(desc.getContent().get(0).getPrice()).isEqualTo(BigDecimal.valueOf(30000));
+        List<ProductSummary> desc = productJpaRepository.findSummaries(
+                ProductListCondition.exposed("price_desc", null, null, null), null, 0, 10);
+        assertThat(desc.get(0).price()).isEqualByComparingTo(BigDecimal.valueOf(30000));
+
+        List<ProductSummary> latest = productJpaRepository.findSummaries(
+                ProductListCondition.exposed("latest", null, null, null), null, 0, 10);
+        assertThat(latest).hasSize(3);
+
+        List<ProductSummary> ranged = productJpaRepository.findSummaries(
+                ProductListCondition.exposed("latest", null, BigDecimal.valueOf(15000), BigDecimal.valueOf(30000)), null, 0, 10);
+        assertThat(ranged).extracting(ProductSummary::productName).containsExactlyInAnyOrder("P1", "P3");
 
         long exposedCount = productJpaRepository.countAllExposed();
         assertThat(exposedCount).isEqualTo(3);
     }
+
+    @Test
+    @DisplayName("JPA: 가격순 커서 조회는 (가격, ID) 이후 상품만 반환한다")
+    void priceKeysetQueries() {
+        Product p1 = productJpaRepository.save(Product.create("P1", "전자", "d", "img", BigDecimal.valueOf(10000), true));
+        Product p2 = productJpaRepository.save(Product.create("P2", "전자", "d", "img", BigDecimal.valueOf(10000), true));
+        Product p3 = productJpaRepository.save(Product.create("P3", "전자", "d", "img", BigDecimal.valueOf(20000), true));
+
+        ProductListCondition priceAsc = ProductListCondition.exposed("price_asc", null, null, null);
+        List<ProductSummary> firstPage = productJpaRepository.findSummaries(priceAsc, null, 0, 2);
+        assertThat(firstPage).extracting(ProductSummary::productId)
+                .containsExactly(p1.getProductId(), p2.getProductId());
+
+        ProductSummary last = firstPage.get(1);
+        List<ProductSummary> nextPage = productJpaRepository.findSummaries(
+                priceAsc, new ProductSeek(last.price(), last.productId()), 0, 2);
+        assertThat(nextPage).extracting(ProductSummary::productId).containsExactly(p3.getProductId());
+    }
 }
@@ -0,0 +1,121 @@
+package hhplus.ecommerce.unitTest.product.repository;
+
+import hhplus.ecommerce.product.domain.model.Product;
+import hhplus.ecommerce.product.domain.model.ProductSort;
+import hhplus.ecommerce.product.domain.repository.ProductListCondition;
+import hhplus.ecommerce.product.domain.repository.ProductListSql;
+import hhplus.ecommerce.product.domain.repository.ProductRepository;
+import hhplus.ecommerce.product.domain.repository.ProductSeek;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 조회 계획 EXPLAIN 검증
+ * 모든 조건 조합에서 카탈로그 인덱스를 사용하고 full scan / filesort가 없어야 한다.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductListPlanExplainTest {
+
+    // EXPLAIN 결과 컬럼 위치 (MySQL 8 전통 형식)
+    private static final int TYPE = 4;
+    private static final int KEY = 6;
+    private static final int EXTRA = 11;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 30; i++) {
+            productRepository.save(Product.create("상품" + i, i % 2 == 0 ? "전자" : "의류", "설명", "img",
+                    BigDecimal.valueOf(1000L * (i + 1)), true));
+        }
+    }
+
+    @Test
+    @DisplayName("정렬 x 카테고리 x 가격 범위 x 커서 조합 모두 인덱스 순서로 읽고 filesort가 없다")
+    void allCombinationsUseCatalogIndex() {
+        for (ProductListCondition condition : conditions()) {
+            assertPlan(ProductListSql.select(condition, null), condition);
+            assertPlan(ProductListSql.select(condition, seek(condition.sort())), condition);
+        }
+    }
+
+    @Test
+    @DisplayName("건수 조회도 카탈로그 인덱스를 사용한다")
+    void countUsesCatalogIndex() {
+        for (ProductListCondition condition : conditions()) {
+            assertPlan(ProductListSql.count(condition), condition);
+        }
+    }
+
+    private void assertPlan(ProductListSql listSql, ProductListCondition condition) {
+        Query query = entityManager.createNativeQuery("EXPLAIN " + listSql.sql());
+        listSql.params().forEach(query::setParameter);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        assertThat(rows).as("%s", condition).hasSize(1);
+
+        Object[] row = rows.get(0);
+        String description = condition + " -> " + Arrays.toString(row);
+        assertThat(row[TYPE]).as(description).isNotEqualTo("ALL");
+        assertThat(row[KEY]).as(description).isEqualTo(listSql.plan().getIndexName());
+        assertThat(String.valueOf(row[EXTRA])).as(description).doesNotContain("filesort");
+    }
+
+    private List<ProductListCondition> conditions() {
+        List<ProductListCondition> conditions = new ArrayList<>();
+        for (ProductSort sort : ProductSort.values()) {
+            for (String category : new String[]{null, "전자"}) {
+                conditions.add(new ProductListCondition(sort, category, null, null, true));
+                conditions.add(new ProductListCondition(sort, category, BigDecimal.valueOf(5000), BigDecimal.valueOf(20000), true));
+                conditions.add(new ProductListCondition(sort, category, null, null, false));
+            }
+        }
+        return conditions;
+    }
+
+    private ProductSeek seek(ProductSort sort) {
+        Object sortKey = switch (sort) {
+            case LATEST -> LocalDateTime.now();
+            case SALES -> 0L;
+            case PRICE_ASC, PRICE_DESC -> BigDecimal.valueOf(10000);
+        };
+        return new ProductSeek(sortKey, 15L);
+    }
+}
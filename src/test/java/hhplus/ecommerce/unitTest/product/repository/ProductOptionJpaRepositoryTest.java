@@ -0,0 +1,83 @@
+package hhplus.ecommerce.unitTest.product.repository;
+
+import hhplus.ecommerce.product.domain.model.ProductOption;
+import hhplus.ecommerce.product.domain.repository.ProductOptionRepository;
+import hhplus.ecommerce.product.domain.repository.StockRow;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductOptionJpaRepositoryTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private ProductOptionRepository productOptionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("JPA: 조건부 차감으로 재고가 0이 되면 품절 플래그가 켜지고, 재고 복구 시 해제된다")
+    void soldOutFlagFollowsStockUpdates() {
+        ProductOption saved = productOptionRepository.save(ProductOption.create(1L, "옵션A", BigDecimal.ZERO, 3, true));
+        Long optionId = saved.getProductOptionId();
+
+        assertThat(productOptionRepository.decreaseIfEnough(optionId, 2)).isEqualTo(1);
+        assertThat(productOptionRepository.findAvailableByProductId(1L)).hasSize(1);
+
+        assertThat(productOptionRepository.decreaseIfEnough(optionId, 1)).isEqualTo(1);
+        assertThat(productOptionRepository.findAvailableByProductId(1L)).isEmpty();
+
+        assertThat(productOptionRepository.decreaseIfEnough(optionId, 1)).isZero();
+
+        assertThat(productOptionRepository.increaseStock(optionId, 1)).isEqualTo(1);
+        assertThat(productOptionRepository.findAvailableByProductId(1L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("JPA: 일괄 재고 반영은 ID 순으로 잠근 행만 CASE UPDATE 한 번으로 수량과 품절 여부를 바꾼다")
+    void lockAndUpdateStocks() {
+        Long first = productOptionRepository.save(ProductOption.create(1L, "옵션A", BigDecimal.ZERO, 5, true)).getProductOptionId();
+        Long second = productOptionRepository.save(ProductOption.create(1L, "옵션B", BigDecimal.ZERO, 2, true)).getProductOptionId();
+
+        List<StockRow> locked = productOptionRepository.lockStocks(List.of(first, second, 999_999L));
+        assertThat(locked).extracting(StockRow::productOptionId).containsExactly(first, second);
+        assertThat(locked).extracting(StockRow::stockQuantity).containsExactly(5, 2);
+
+        int updated = productOptionRepository.updateStocks(List.of(
+                new StockRow(first, 8, false),
+                new StockRow(second, 0, true)));
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(productOptionRepository.findById(first).orElseThrow().getStockQuantity()).isEqualTo(8);
+        ProductOption soldOut = productOptionRepository.findById(second).orElseThrow();
+        assertThat(soldOut.getStockQuantity()).isZero();
+        assertThat(soldOut.isSoldOut()).isTrue();
+    }
+}
@@ -2,6 +2,7 @@ package hhplus.ecommerce.unitTest.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hhplus.ecommerce.common.presentation.response.PageResponse;
+import hhplus.ecommerce.point.application.service.PointService;
 import hhplus.ecommerce.user.application.service.UserService;
 import hhplus.ecommerce.user.domain.model.User;
 import hhplus.ecommerce.user.domain.model.UserRole;
@@ -38,6 +39,9 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private PointService pointService;
+
     @Test
     @DisplayName("유저 목록 조회 API 테스트")
     void getUserListWithPage() throws Exception {
@@ -81,10 +85,8 @@ class UserControllerTest {
     @Test
     @DisplayName("유저 포인트 잔액 조회 API 테스트")
     void getUserPointBalance() throws Exception {
-        User mockUser = UserFixtures.userWithTimestamps(1L, "테스트유저", BigDecimal.valueOf(50000), UserRole.CUSTOMER);
-
-        when(userService.getUserById(anyLong()))
-                .thenReturn(mockUser);
+        when(pointService.getBalance(anyLong()))
+                .thenReturn(BigDecimal.valueOf(50000));
 
         mockMvc.perform(get("/api/user/point/{userId}", 1L))
                 .andExpect(status().isOk())